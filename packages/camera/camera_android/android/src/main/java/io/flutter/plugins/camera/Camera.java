@@ -56,6 +56,7 @@ import io.flutter.plugins.camera.features.resolution.ResolutionFeature;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamBackpressureStrategy;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
@@ -68,6 +69,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.Executors;
 
 @FunctionalInterface
@@ -130,6 +132,12 @@ class Camera
   CameraCaptureSession captureSession;
   private ImageReader pictureImageReader;
   ImageStreamReader imageStreamReader;
+  /** True when image stream frames should be sent using the compact frame layout. */
+  private boolean imageStreamCompactFrames;
+
+  private ImageStreamBackpressureStrategy imageStreamBackpressureStrategy =
+      ImageStreamBackpressureStrategy.unbounded;
+  private int imageStreamMaxFramesInFlight = 1;
   /** {@link CaptureRequest.Builder} for the camera preview */
   CaptureRequest.Builder previewRequestBuilder;
 
@@ -1139,6 +1147,45 @@ class Camera
     Log.i(TAG, "startPreviewWithImageStream");
   }
 
+  /**
+   * Sets whether image stream frames are sent to Dart as a single compact byte array instead of a
+   * map of planes. Takes effect the next time the image stream is listened to.
+   *
+   * @param useCompactFrames true to use the compact frame layout.
+   */
+  public void setImageStreamCompactFrames(boolean useCompactFrames) {
+    imageStreamCompactFrames = useCompactFrames;
+  }
+
+  /**
+   * Sets how image stream frames are handled when Dart does not keep up with the camera. Takes
+   * effect the next time the image stream is listened to.
+   *
+   * @param strategy the {@link ImageStreamBackpressureStrategy} to apply.
+   * @param maxFramesInFlight how many frames may be waiting to be sent before the strategy applies.
+   */
+  public void setImageStreamBackpressureStrategy(
+      @NonNull ImageStreamBackpressureStrategy strategy, int maxFramesInFlight) {
+    imageStreamBackpressureStrategy = strategy;
+    imageStreamMaxFramesInFlight = maxFramesInFlight;
+  }
+
+  /**
+   * Returns the delivered and dropped frame counters of the current image stream, or null when the
+   * camera has not been opened.
+   */
+  @Nullable
+  public Map<String, Object> getImageStreamStatistics() {
+    if (imageStreamReader == null) {
+      return null;
+    }
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("deliveredFrames", imageStreamReader.getDeliveredFrameCount());
+    statistics.put("droppedFrames", imageStreamReader.getDroppedFrameCount());
+    statistics.put("framesInFlight", imageStreamReader.getFramesInFlight());
+    return statistics;
+  }
+
   /**
    * This a callback object for the {@link ImageReader}. "onImageAvailable" will be called when a
    * still image is ready to be saved.
@@ -1217,6 +1264,9 @@ class Camera
       return;
     }
 
+    imageStreamReader.setUseCompactFrames(imageStreamCompactFrames);
+    imageStreamReader.setBackpressureStrategy(
+        imageStreamBackpressureStrategy, imageStreamMaxFramesInFlight);
     imageStreamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
   }
 
@@ -23,6 +23,7 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamBackpressureStrategy;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
 import java.util.Map;
@@ -254,7 +255,22 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "startImageStream":
         {
+          String strategyStr = call.argument("backpressureStrategy");
+          ImageStreamBackpressureStrategy strategy =
+              strategyStr == null
+                  ? ImageStreamBackpressureStrategy.unbounded
+                  : ImageStreamBackpressureStrategy.getValueForString(strategyStr);
+          if (strategy == null) {
+            result.error(
+                "startImageStreamFailed", "Unknown backpressure strategy " + strategyStr, null);
+            return;
+          }
+          Integer maxFramesInFlight = call.argument("maxFramesInFlight");
           try {
+            Boolean compactFrames = call.argument("compactFrames");
+            camera.setImageStreamCompactFrames(compactFrames != null && compactFrames);
+            camera.setImageStreamBackpressureStrategy(
+                strategy, maxFramesInFlight == null ? 1 : maxFramesInFlight);
             camera.startPreviewWithImageStream(imageStreamChannel);
             result.success(null);
           } catch (Exception e) {
@@ -272,6 +288,13 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
           }
           break;
         }
+      case "getImageStreamStatistics":
+        {
+          assert camera != null;
+
+          result.success(camera.getImageStreamStatistics());
+          break;
+        }
       case "getMaxZoomLevel":
         {
           assert camera != null;
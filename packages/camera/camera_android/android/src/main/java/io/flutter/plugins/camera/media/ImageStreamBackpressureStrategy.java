@@ -0,0 +1,40 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/** Decides what happens to new image stream frames while previous frames are still being sent. */
+public enum ImageStreamBackpressureStrategy {
+  /** Every frame is converted and queued for delivery, however far behind the consumer is. */
+  unbounded("unbounded"),
+  /** Frames arriving while the maximum number of frames is in flight are dropped. */
+  dropWhenBusy("dropWhenBusy"),
+  /**
+   * Frames arriving while the maximum number of frames is in flight are held back, and only the
+   * most recent one is delivered once a frame completes.
+   */
+  keepLatest("keepLatest");
+
+  private final String strValue;
+
+  ImageStreamBackpressureStrategy(String strValue) {
+    this.strValue = strValue;
+  }
+
+  @Nullable
+  public static ImageStreamBackpressureStrategy getValueForString(@NonNull String modeStr) {
+    for (ImageStreamBackpressureStrategy value : values()) {
+      if (value.strValue.equals(modeStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
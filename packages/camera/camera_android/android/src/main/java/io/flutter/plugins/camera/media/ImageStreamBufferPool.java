@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+
+/**
+ * A small pool of byte arrays used to hold image stream frames.
+ *
+ * <p>Frames of a stream have a constant size for a given resolution and format, so recycling the
+ * arrays once a frame has been handed to the platform channel avoids allocating several megabytes
+ * of garbage per second while streaming.
+ *
+ * <p>This class is thread-safe: buffers are acquired on the camera background thread and released
+ * on the main thread after the frame was sent to Dart.
+ */
+public class ImageStreamBufferPool {
+  private final ArrayDeque<byte[]> freeBuffers = new ArrayDeque<>();
+  private final int maxPooledBuffers;
+
+  /**
+   * Creates a new instance of the {@link ImageStreamBufferPool}.
+   *
+   * @param maxPooledBuffers is the maximum number of released buffers kept for reuse.
+   */
+  public ImageStreamBufferPool(int maxPooledBuffers) {
+    this.maxPooledBuffers = maxPooledBuffers;
+  }
+
+  /**
+   * Returns a buffer of exactly {@code size} bytes, reusing a released one when possible.
+   *
+   * <p>Released buffers of a different size (for example after a resolution change or for JPEG
+   * frames) are discarded.
+   *
+   * @param size is the required length of the buffer.
+   * @return a buffer whose length is {@code size}. Its contents are undefined.
+   */
+  @NonNull
+  public synchronized byte[] acquire(int size) {
+    byte[] buffer;
+    while ((buffer = freeBuffers.poll()) != null) {
+      if (buffer.length == size) {
+        return buffer;
+      }
+    }
+    return new byte[size];
+  }
+
+  /**
+   * Returns a buffer to the pool once its contents are no longer needed.
+   *
+   * @param buffer is a buffer previously returned by {@link #acquire(int)}.
+   */
+  public synchronized void release(@NonNull byte[] buffer) {
+    if (freeBuffers.size() < maxPooledBuffers) {
+      freeBuffers.push(buffer);
+    }
+  }
+
+  /** Drops all pooled buffers. */
+  public synchronized void clear() {
+    freeBuffers.clear();
+  }
+
+  /** Returns the number of buffers currently available for reuse. */
+  public synchronized int getPooledBufferCount() {
+    return freeBuffers.size();
+  }
+}
@@ -11,18 +11,37 @@ import android.os.Handler;
 import android.os.Looper;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Wraps an ImageReader to allow for testing of the image handler.
 public class ImageStreamReader {
 
+  /** Version of the layout written by {@link #encodeCompactFrame}. */
+  public static final int COMPACT_FRAME_VERSION = 1;
+
+  /** Size in bytes of the fixed header at the start of a compact frame. */
+  public static final int COMPACT_FRAME_HEADER_SIZE = 44;
+
+  /** Size in bytes of the descriptor written for each plane of a compact frame. */
+  public static final int COMPACT_FRAME_PLANE_HEADER_SIZE = 12;
+
+  /**
+   * How many frame buffers are kept for reuse. One frame is usually being filled on the background
+   * thread while another one is waiting to be sent on the main thread.
+   */
+  private static final int MAX_POOLED_FRAME_BUFFERS = 2;
+
   /**
    * The image format we are going to send back to dart. Usually it's the same as streamImageFormat
    * but in the case of NV21 we will actually request YUV frames but convert it to NV21 before
@@ -32,6 +51,29 @@ public class ImageStreamReader {
 
   private final ImageReader imageReader;
   private final ImageStreamReaderUtils imageStreamReaderUtils;
+  private final ImageStreamBufferPool bufferPool =
+      new ImageStreamBufferPool(MAX_POOLED_FRAME_BUFFERS);
+
+  /** Whether frames are sent as a single compact byte array instead of nested maps. */
+  private volatile boolean useCompactFrames;
+
+  private volatile ImageStreamBackpressureStrategy backpressureStrategy =
+      ImageStreamBackpressureStrategy.unbounded;
+  private volatile int maxFramesInFlight = 1;
+
+  /** Number of frames converted on the background thread but not yet sent on the main thread. */
+  private final AtomicInteger framesInFlight = new AtomicInteger();
+
+  private final AtomicLong deliveredFrameCount = new AtomicLong();
+  private final AtomicLong droppedFrameCount = new AtomicLong();
+
+  /**
+   * The most recent frame held back by {@link ImageStreamBackpressureStrategy#keepLatest}. Only
+   * accessed on the background handler thread.
+   */
+  @Nullable private Image pendingImage;
+
+  @Nullable private Handler backgroundHandler;
 
   /**
    * Creates a new instance of the {@link ImageStreamReader}.
@@ -81,6 +123,118 @@ public class ImageStreamReader {
     }
   }
 
+  /**
+   * Sets whether frames are sent to Dart as a single compact byte array (see {@link
+   * #encodeCompactFrame}) instead of a map of planes.
+   *
+   * @param useCompactFrames is true to enable the compact frame layout.
+   */
+  public void setUseCompactFrames(boolean useCompactFrames) {
+    this.useCompactFrames = useCompactFrames;
+  }
+
+  /** Returns whether frames are sent to Dart using the compact frame layout. */
+  public boolean getUseCompactFrames() {
+    return useCompactFrames;
+  }
+
+  /**
+   * Sets how frames are handled while previously converted frames have not been sent yet.
+   *
+   * @param strategy is the {@link ImageStreamBackpressureStrategy} to apply.
+   * @param maxFramesInFlight is how many frames may be converted and waiting to be sent at the same
+   *     time before the strategy applies. Ignored for {@link
+   *     ImageStreamBackpressureStrategy#unbounded}.
+   */
+  public void setBackpressureStrategy(
+      @NonNull ImageStreamBackpressureStrategy strategy, int maxFramesInFlight) {
+    this.backpressureStrategy = strategy;
+    this.maxFramesInFlight = Math.max(1, maxFramesInFlight);
+  }
+
+  /** Returns the number of frames sent to Dart since the listener was subscribed. */
+  public long getDeliveredFrameCount() {
+    return deliveredFrameCount.get();
+  }
+
+  /** Returns the number of frames dropped since the listener was subscribed. */
+  public long getDroppedFrameCount() {
+    return droppedFrameCount.get();
+  }
+
+  /** Returns the number of frames converted but not yet sent to Dart. */
+  public int getFramesInFlight() {
+    return framesInFlight.get();
+  }
+
+  /**
+   * Applies the backpressure strategy to a newly acquired frame, converting and sending it only if
+   * the consumer is keeping up. Frames that are dropped or held back are never converted.
+   *
+   * @param image is the image which was acquired from the image reader.
+   * @param captureProps is the capture props from the camera class as {@link
+   *     CameraCaptureProperties}
+   * @param imageStreamSink is the image stream sink from dart as a dart {@link
+   *     EventChannel.EventSink}
+   */
+  @VisibleForTesting
+  public void onImageAcquired(
+      @NonNull Image image,
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink) {
+    ImageStreamBackpressureStrategy strategy = backpressureStrategy;
+    if (strategy == ImageStreamBackpressureStrategy.unbounded
+        || framesInFlight.get() < maxFramesInFlight) {
+      onImageAvailable(image, captureProps, imageStreamSink);
+      return;
+    }
+
+    if (strategy == ImageStreamBackpressureStrategy.keepLatest) {
+      dropPendingImage();
+      pendingImage = image;
+    } else {
+      image.close();
+      droppedFrameCount.incrementAndGet();
+    }
+  }
+
+  /** Sends the frame held back by {@link ImageStreamBackpressureStrategy#keepLatest}, if any. */
+  private void sendPendingImage(
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink) {
+    if (pendingImage == null || framesInFlight.get() >= maxFramesInFlight) {
+      return;
+    }
+    Image image = pendingImage;
+    pendingImage = null;
+    onImageAvailable(image, captureProps, imageStreamSink);
+  }
+
+  private void dropPendingImage() {
+    if (pendingImage != null) {
+      pendingImage.close();
+      pendingImage = null;
+      droppedFrameCount.incrementAndGet();
+    }
+  }
+
+  /** Called on the main thread once a frame has been handed to the event sink. */
+  private void onFrameSent(
+      boolean delivered,
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink) {
+    framesInFlight.decrementAndGet();
+    if (delivered) {
+      deliveredFrameCount.incrementAndGet();
+    } else {
+      droppedFrameCount.incrementAndGet();
+    }
+    Handler handler = backgroundHandler;
+    if (backpressureStrategy == ImageStreamBackpressureStrategy.keepLatest && handler != null) {
+      handler.post(() -> sendPendingImage(captureProps, imageStreamSink));
+    }
+  }
+
   /**
    * Processes a new frame (image) from the image reader and send the frame to Dart.
    *
@@ -95,13 +249,33 @@ public class ImageStreamReader {
       @NonNull Image image,
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink) {
+    framesInFlight.incrementAndGet();
     try {
+      if (useCompactFrames) {
+        final byte[] frame = encodeCompactFrame(image, captureProps);
+        final Handler handler = new Handler(Looper.getMainLooper());
+        handler.post(
+            () -> {
+              imageStreamSink.success(frame);
+              // The event has been encoded by the platform channel at this point, so the buffer
+              // can be reused for the next frame.
+              bufferPool.release(frame);
+              onFrameSent(true, captureProps, imageStreamSink);
+            });
+        image.close();
+        return;
+      }
+
       Map<String, Object> imageBuffer = new HashMap<>();
 
       // Get plane data ready
+      final byte[] nv21Bytes;
       if (dartImageFormat == ImageFormat.NV21) {
-        imageBuffer.put("planes", parsePlanesForNv21(image));
+        List<Map<String, Object>> planes = parsePlanesForNv21(image);
+        nv21Bytes = (byte[]) planes.get(0).get("bytes");
+        imageBuffer.put("planes", planes);
       } else {
+        nv21Bytes = null;
         imageBuffer.put("planes", parsePlanesForYuvOrJpeg(image));
       }
 
@@ -115,18 +289,25 @@ public class ImageStreamReader {
           "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
 
       final Handler handler = new Handler(Looper.getMainLooper());
-      handler.post(() -> imageStreamSink.success(imageBuffer));
+      handler.post(
+          () -> {
+            imageStreamSink.success(imageBuffer);
+            if (nv21Bytes != null) {
+              bufferPool.release(nv21Bytes);
+            }
+            onFrameSent(true, captureProps, imageStreamSink);
+          });
       image.close();
 
     } catch (IllegalStateException e) {
       // Handle "buffer is inaccessible" errors that can happen on some devices from ImageStreamReaderUtils.yuv420ThreePlanesToNV21()
       final Handler handler = new Handler(Looper.getMainLooper());
       handler.post(
-          () ->
-              imageStreamSink.error(
-                  "IllegalStateException",
-                  "Caught IllegalStateException: " + e.getMessage(),
-                  null));
+          () -> {
+            imageStreamSink.error(
+                "IllegalStateException", "Caught IllegalStateException: " + e.getMessage(), null);
+            onFrameSent(false, captureProps, imageStreamSink);
+          });
       image.close();
     }
   }
@@ -164,6 +345,9 @@ public class ImageStreamReader {
   /**
    * Given an input image, will return a single-plane NV21 image. Assumes YUV420 as an input type.
    *
+   * <p>The plane bytes are taken from the reader's buffer pool, so they can be released once the
+   * frame has been sent.
+   *
    * @param image - the image to process.
    * @return parsed map describing the image planes to be sent to dart.
    */
@@ -172,18 +356,90 @@ public class ImageStreamReader {
     List<Map<String, Object>> planes = new ArrayList<>();
 
     // We will convert the YUV data to NV21 which is a single-plane image
-    ByteBuffer bytes =
-        imageStreamReaderUtils.yuv420ThreePlanesToNV21(
-            image.getPlanes(), image.getWidth(), image.getHeight());
+    byte[] bytes =
+        bufferPool.acquire(ImageStreamReaderUtils.getNV21Size(image.getWidth(), image.getHeight()));
+    imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+        image.getPlanes(), image.getWidth(), image.getHeight(), bytes, 0);
 
     Map<String, Object> planeBuffer = new HashMap<>();
     planeBuffer.put("bytesPerRow", image.getWidth());
     planeBuffer.put("bytesPerPixel", 1);
-    planeBuffer.put("bytes", bytes.array());
+    planeBuffer.put("bytes", bytes);
     planes.add(planeBuffer);
     return planes;
   }
 
+  /**
+   * Given an input image, will return a single byte array containing a fixed-layout header followed
+   * by the data of every plane.
+   *
+   * <p>All values are little-endian. The header contains, in order: the layout version (int32), the
+   * width (int32), the height (int32), the image format (int32), the plane count (int32), the lens
+   * aperture (float64, NaN if unknown), the sensor exposure time (int64, -1 if unknown) and the
+   * sensor sensitivity (float64, NaN if unknown). It is followed by one descriptor per plane made
+   * of the bytes per row (int32), the bytes per pixel (int32) and the data length (int32), and
+   * finally by the data of all planes, in order.
+   *
+   * <p>The returned array is taken from a pool and should be released once it has been sent.
+   *
+   * @param image - the image to process.
+   * @param captureProps - the capture properties of the frame.
+   * @return the encoded frame.
+   */
+  @NonNull
+  public byte[] encodeCompactFrame(
+      @NonNull Image image, @NonNull CameraCaptureProperties captureProps) {
+    Image.Plane[] planes = image.getPlanes();
+    boolean isNv21 = dartImageFormat == ImageFormat.NV21;
+    int planeCount;
+    int dataSize = 0;
+    if (isNv21) {
+      planeCount = 1;
+      dataSize = ImageStreamReaderUtils.getNV21Size(image.getWidth(), image.getHeight());
+    } else {
+      planeCount = planes.length;
+      for (Image.Plane plane : planes) {
+        dataSize += plane.getBuffer().remaining();
+      }
+    }
+
+    byte[] frame =
+        bufferPool.acquire(
+            COMPACT_FRAME_HEADER_SIZE + planeCount * COMPACT_FRAME_PLANE_HEADER_SIZE + dataSize);
+    ByteBuffer out = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+
+    Float lensAperture = captureProps.getLastLensAperture();
+    Long sensorExposureTime = captureProps.getLastSensorExposureTime();
+    Integer sensorSensitivity = captureProps.getLastSensorSensitivity();
+    out.putInt(COMPACT_FRAME_VERSION);
+    out.putInt(image.getWidth());
+    out.putInt(image.getHeight());
+    out.putInt(dartImageFormat);
+    out.putInt(planeCount);
+    out.putDouble(lensAperture == null ? Double.NaN : lensAperture);
+    out.putLong(sensorExposureTime == null ? -1 : sensorExposureTime);
+    out.putDouble(sensorSensitivity == null ? Double.NaN : sensorSensitivity);
+
+    if (isNv21) {
+      out.putInt(image.getWidth());
+      out.putInt(1);
+      out.putInt(dataSize);
+      // Convert straight into the frame to avoid an intermediate NV21 buffer.
+      imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+          planes, image.getWidth(), image.getHeight(), frame, out.position());
+    } else {
+      for (Image.Plane plane : planes) {
+        out.putInt(plane.getRowStride());
+        out.putInt(plane.getPixelStride());
+        out.putInt(plane.getBuffer().remaining());
+      }
+      for (Image.Plane plane : planes) {
+        out.put(plane.getBuffer());
+      }
+    }
+    return frame;
+  }
+
   /** Returns the image reader surface. */
   @NonNull
   public Surface getSurface() {
@@ -191,7 +447,9 @@ public class ImageStreamReader {
   }
 
   /**
-   * Subscribes the image stream reader to handle incoming images using onImageAvailable().
+   * Subscribes the image stream reader to handle incoming images using onImageAcquired().
+   *
+   * <p>The delivered and dropped frame counters are reset.
    *
    * @param captureProps is the capture props from the camera class as {@link
    *     CameraCaptureProperties}
@@ -202,12 +460,17 @@ public class ImageStreamReader {
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink,
       @NonNull Handler handler) {
+    backgroundHandler = handler;
+    deliveredFrameCount.set(0);
+    droppedFrameCount.set(0);
     imageReader.setOnImageAvailableListener(
         reader -> {
+          // The held back frame must be released first, as it counts against maxImages.
+          dropPendingImage();
           Image image = reader.acquireNextImage();
           if (image == null) return;
 
-          onImageAvailable(image, captureProps, imageStreamSink);
+          onImageAcquired(image, captureProps, imageStreamSink);
         },
         handler);
   }
@@ -219,10 +482,13 @@ public class ImageStreamReader {
    */
   public void removeListener(@NonNull Handler handler) {
     imageReader.setOnImageAvailableListener(null, handler);
+    backgroundHandler = null;
+    handler.post(this::dropPendingImage);
   }
 
   /** Closes the image reader. */
   public void close() {
     imageReader.close();
+    bufferPool.clear();
   }
 }
@@ -9,9 +9,26 @@ package io.flutter.plugins.camera.media;
 
 import android.media.Image;
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import java.nio.ByteBuffer;
 
 public class ImageStreamReaderUtils {
+  // Scratch rows used to fetch the U and V samples of a row with a single bulk get. They are
+  // resized lazily and reused across frames, so a converter must only be used from one thread.
+  private byte[] uRow = new byte[0];
+  private byte[] vRow = new byte[0];
+
+  /**
+   * Returns the size in bytes of an NV21 image with the given dimensions.
+   *
+   * @param width is the image width.
+   * @param height is the image height.
+   */
+  public static int getNV21Size(int width, int height) {
+    int imageSize = width * height;
+    return imageSize + 2 * (imageSize / 4);
+  }
+
   /**
    * Converts YUV_420_888 to NV21 bytebuffer.
    *
@@ -34,30 +51,134 @@ public class ImageStreamReaderUtils {
   @NonNull
   public ByteBuffer yuv420ThreePlanesToNV21(
       @NonNull Image.Plane[] yuv420888planes, int width, int height) {
+    byte[] out = new byte[getNV21Size(width, height)];
+    yuv420ThreePlanesToNV21(yuv420888planes, width, height, out, 0);
+    return ByteBuffer.wrap(out);
+  }
+
+  /**
+   * Converts YUV_420_888 to NV21, writing the result into an existing array.
+   *
+   * <p>This allows callers to reuse output buffers across frames instead of allocating a new array
+   * for every frame. See {@link #yuv420ThreePlanesToNV21(Image.Plane[], int, int)} for details
+   * about the formats.
+   *
+   * @param yuv420888planes are the Y, U and V planes of the image.
+   * @param width is the image width.
+   * @param height is the image height.
+   * @param out is the array receiving the NV21 data. It must have room for {@code
+   *     getNV21Size(width, height)} bytes after {@code offset}.
+   * @param offset is the position in {@code out} where the NV21 data starts.
+   */
+  public void yuv420ThreePlanesToNV21(
+      @NonNull Image.Plane[] yuv420888planes,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset)
+      throws IllegalStateException {
     int imageSize = width * height;
-    byte[] out = new byte[imageSize + 2 * (imageSize / 4)];
 
-    if (areUVPlanesNV21(yuv420888planes, width, height)) {
-      // Copy the Y values.
-      yuv420888planes[0].getBuffer().get(out, 0, imageSize);
+    copyLumaPlane(
+        yuv420888planes[0].getBuffer(),
+        yuv420888planes[0].getRowStride(),
+        width,
+        height,
+        out,
+        offset);
 
-      ByteBuffer uBuffer = yuv420888planes[1].getBuffer();
-      ByteBuffer vBuffer = yuv420888planes[2].getBuffer();
+    if (areUVPlanesNV21(yuv420888planes, width, height)) {
+      ByteBuffer uBuffer = yuv420888planes[1].getBuffer().duplicate();
+      ByteBuffer vBuffer = yuv420888planes[2].getBuffer().duplicate();
       // Get the first V value from the V buffer, since the U buffer does not contain it.
-      vBuffer.get(out, imageSize, 1);
+      vBuffer.get(out, offset + imageSize, 1);
       // Copy the first U value and the remaining VU values from the U buffer.
-      uBuffer.get(out, imageSize + 1, 2 * imageSize / 4 - 1);
+      uBuffer.get(out, offset + imageSize + 1, 2 * imageSize / 4 - 1);
     } else {
-      // Fallback to copying the UV values one by one, which is slower but also works.
-      // Unpack Y.
-      unpackPlane(yuv420888planes[0], width, height, out, 0, 1);
-      // Unpack U.
-      unpackPlane(yuv420888planes[1], width, height, out, imageSize + 1, 2);
-      // Unpack V.
-      unpackPlane(yuv420888planes[2], width, height, out, imageSize, 2);
+      // Interleave the U and V values row by row.
+      interleaveChromaPlanes(
+          yuv420888planes[1].getBuffer(),
+          yuv420888planes[2].getBuffer(),
+          yuv420888planes[1].getRowStride(),
+          yuv420888planes[1].getPixelStride(),
+          width,
+          height,
+          out,
+          offset + imageSize);
     }
+  }
 
-    return ByteBuffer.wrap(out);
+  /**
+   * Copies the Y plane into {@code out}, dropping the row padding.
+   *
+   * <p>When the rows are not padded the whole plane is copied with a single bulk get, otherwise
+   * each row is copied with its own bulk get.
+   */
+  @VisibleForTesting
+  static void copyLumaPlane(
+      @NonNull ByteBuffer yBuffer,
+      int rowStride,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset) {
+    ByteBuffer buffer = yBuffer.duplicate();
+    int start = buffer.position();
+    if (rowStride == width) {
+      buffer.get(out, offset, width * height);
+      return;
+    }
+    for (int row = 0; row < height; row++) {
+      buffer.position(start + row * rowStride);
+      buffer.get(out, offset + row * width, width);
+    }
+  }
+
+  /**
+   * Writes the U and V planes into {@code out} as interleaved VU pairs.
+   *
+   * <p>Each chroma row is fetched with one bulk get per plane into reusable scratch rows and then
+   * interleaved with a tight loop over the arrays, instead of reading the buffers one pixel at a
+   * time.
+   */
+  @VisibleForTesting
+  void interleaveChromaPlanes(
+      @NonNull ByteBuffer uPlaneBuffer,
+      @NonNull ByteBuffer vPlaneBuffer,
+      int rowStride,
+      int pixelStride,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset) {
+    ByteBuffer uBuffer = uPlaneBuffer.duplicate();
+    ByteBuffer vBuffer = vPlaneBuffer.duplicate();
+    int uStart = uBuffer.position();
+    int vStart = vBuffer.position();
+
+    int chromaWidth = width / 2;
+    int chromaHeight = height / 2;
+    if (chromaWidth == 0 || chromaHeight == 0) {
+      return;
+    }
+    // The last row of a plane is not padded and ends right after its last sample.
+    int rowLength = (chromaWidth - 1) * pixelStride + 1;
+    if (uRow.length < rowLength) {
+      uRow = new byte[rowLength];
+      vRow = new byte[rowLength];
+    }
+
+    int outputPos = offset;
+    for (int row = 0; row < chromaHeight; row++) {
+      uBuffer.position(uStart + row * rowStride);
+      vBuffer.position(vStart + row * rowStride);
+      uBuffer.get(uRow, 0, rowLength);
+      vBuffer.get(vRow, 0, rowLength);
+      for (int inputPos = 0; inputPos < rowLength; inputPos += pixelStride) {
+        out[outputPos++] = vRow[inputPos];
+        out[outputPos++] = uRow[inputPos];
+      }
+    }
   }
 
   /**
@@ -102,53 +223,4 @@ public class ImageStreamReaderUtils {
 
     return areNV21;
   }
-
-  /**
-   * Copyright 2020 Google LLC. All rights reserved.
-   *
-   * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
-   * except in compliance with the License. You may obtain a copy of the License at
-   *
-   * <p>http://www.apache.org/licenses/LICENSE-2.0
-   *
-   * <p>Unless required by applicable law or agreed to in writing, software distributed under the
-   * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
-   * either express or implied. See the License for the specific language governing permissions and
-   * limitations under the License.
-   *
-   * <p>Unpack an image plane into a byte array.
-   *
-   * <p>The input plane data will be copied in 'out', starting at 'offset' and every pixel will be
-   * spaced by 'pixelStride'. Note that there is no row padding on the output.
-   *
-   * <p>https://github.com/googlesamples/mlkit/blob/master/android/vision-quickstart/app/src/main/java/com/google/mlkit/vision/demo/BitmapUtils.java
-   */
-  private static void unpackPlane(
-      @NonNull Image.Plane plane, int width, int height, byte[] out, int offset, int pixelStride)
-      throws IllegalStateException {
-    ByteBuffer buffer = plane.getBuffer();
-    buffer.rewind();
-
-    // Compute the size of the current plane.
-    // We assume that it has the aspect ratio as the original image.
-    int numRow = (buffer.limit() + plane.getRowStride() - 1) / plane.getRowStride();
-    if (numRow == 0) {
-      return;
-    }
-    int scaleFactor = height / numRow;
-    int numCol = width / scaleFactor;
-
-    // Extract the data in the output buffer.
-    int outputPos = offset;
-    int rowStart = 0;
-    for (int row = 0; row < numRow; row++) {
-      int inputPos = rowStart;
-      for (int col = 0; col < numCol; col++) {
-        out[outputPos] = buffer.get(inputPos);
-        outputPos += pixelStride;
-        inputPos += plane.getPixelStride();
-      }
-      rowStart += plane.getRowStride();
-    }
-  }
 }
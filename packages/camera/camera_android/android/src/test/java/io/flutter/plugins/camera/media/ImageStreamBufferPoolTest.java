@@ -0,0 +1,43 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ImageStreamBufferPoolTest {
+  @Test
+  public void acquire_reusesReleasedBufferOfSameSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool(2);
+    byte[] buffer = pool.acquire(16);
+    pool.release(buffer);
+
+    assertSame(buffer, pool.acquire(16));
+  }
+
+  @Test
+  public void acquire_discardsReleasedBufferOfDifferentSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool(2);
+    byte[] buffer = pool.acquire(16);
+    pool.release(buffer);
+
+    byte[] result = pool.acquire(32);
+    assertNotSame(buffer, result);
+    assertEquals(32, result.length);
+    assertEquals(0, pool.getPooledBufferCount());
+  }
+
+  @Test
+  public void release_keepsAtMostMaxPooledBuffers() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool(1);
+    pool.release(new byte[16]);
+    pool.release(new byte[16]);
+
+    assertEquals(1, pool.getPooledBufferCount());
+  }
+}
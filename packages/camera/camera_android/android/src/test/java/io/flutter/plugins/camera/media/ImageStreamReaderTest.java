@@ -5,19 +5,26 @@
 package io.flutter.plugins.camera.media;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 import android.graphics.ImageFormat;
 import android.media.Image;
 import android.media.ImageReader;
+import android.os.Handler;
+import android.os.Looper;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
@@ -57,10 +64,6 @@ public class ImageStreamReaderTest {
     ImageStreamReader imageStreamReader =
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
-    ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
-        .thenReturn(mockBytes);
-
     // The image format as streamed from the camera
     int imageFormat = ImageFormat.YUV_420_888;
 
@@ -102,7 +105,7 @@ public class ImageStreamReaderTest {
 
     // Make sure we processed the frame with parsePlanesForNv21
     verify(mockImageStreamReaderUtils)
-        .yuv420ThreePlanesToNV21(planes, mockImage.getWidth(), mockImage.getHeight());
+        .yuv420ThreePlanesToNV21(eq(planes), eq(1280), eq(720), any(byte[].class), eq(0));
   }
 
   /** If we are requesting YUV420, then we should send the 3-plane image as it is. */
@@ -116,10 +119,6 @@ public class ImageStreamReaderTest {
     ImageStreamReader imageStreamReader =
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
-    ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
-        .thenReturn(mockBytes);
-
     // The image format as streamed from the camera
     int imageFormat = ImageFormat.YUV_420_888;
 
@@ -160,6 +159,143 @@ public class ImageStreamReaderTest {
     imageStreamReader.onImageAvailable(mockImage, mockCaptureProps, mockEventSink);
 
     // Make sure we processed the frame with parsePlanesForYuvOrJpeg
-    verify(mockImageStreamReaderUtils, never()).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+    verify(mockImageStreamReaderUtils, never())
+        .yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any(), anyInt());
+  }
+
+  /** In compact mode, the frame header and plane data should be packed into one byte array. */
+  @Test
+  public void encodeCompactFrame_packsHeaderAndPlanes() {
+    int dartImageFormat = ImageFormat.YUV_420_888;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReaderUtils mockImageStreamReaderUtils = mock(ImageStreamReaderUtils.class);
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
+
+    Image mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(2);
+
+    Image.Plane planeY = mock(Image.Plane.class);
+    Image.Plane planeU = mock(Image.Plane.class);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    when(planeY.getRowStride()).thenReturn(4);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(planeU.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {9, 10, 11}));
+    when(planeV.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {12, 13, 14}));
+    when(planeU.getRowStride()).thenReturn(4);
+    when(planeV.getRowStride()).thenReturn(4);
+    when(planeU.getPixelStride()).thenReturn(2);
+    when(planeV.getPixelStride()).thenReturn(2);
+    Image.Plane[] planes = {planeY, planeU, planeV};
+    when(mockImage.getPlanes()).thenReturn(planes);
+
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    when(mockCaptureProps.getLastLensAperture()).thenReturn(1.5f);
+    when(mockCaptureProps.getLastSensorExposureTime()).thenReturn(1000L);
+    when(mockCaptureProps.getLastSensorSensitivity()).thenReturn(null);
+
+    byte[] frame = imageStreamReader.encodeCompactFrame(mockImage, mockCaptureProps);
+
+    assertEquals(
+        ImageStreamReader.COMPACT_FRAME_HEADER_SIZE
+            + 3 * ImageStreamReader.COMPACT_FRAME_PLANE_HEADER_SIZE
+            + 14,
+        frame.length);
+    ByteBuffer result = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(ImageStreamReader.COMPACT_FRAME_VERSION, result.getInt());
+    assertEquals(4, result.getInt());
+    assertEquals(2, result.getInt());
+    assertEquals(dartImageFormat, result.getInt());
+    assertEquals(3, result.getInt());
+    assertEquals(1.5, result.getDouble(), 0);
+    assertEquals(1000L, result.getLong());
+    assertTrue(Double.isNaN(result.getDouble()));
+    // Y plane descriptor.
+    assertEquals(4, result.getInt());
+    assertEquals(1, result.getInt());
+    assertEquals(8, result.getInt());
+    // U and V plane descriptors.
+    result.position(result.position() + 2 * ImageStreamReader.COMPACT_FRAME_PLANE_HEADER_SIZE);
+    assertEquals(1, result.get());
+    result.position(frame.length - 1);
+    assertEquals(14, result.get());
+  }
+
+  private static Image createMockYuvImage() {
+    Image mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(2);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+    Image.Plane planeY = mock(Image.Plane.class);
+    Image.Plane planeU = mock(Image.Plane.class);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.allocate(8));
+    when(planeU.getBuffer()).thenReturn(ByteBuffer.allocate(3));
+    when(planeV.getBuffer()).thenReturn(ByteBuffer.allocate(3));
+    Image.Plane[] planes = {planeY, planeU, planeV};
+    when(mockImage.getPlanes()).thenReturn(planes);
+    return mockImage;
+  }
+
+  /** With dropWhenBusy, frames arriving while a frame is in flight are dropped unconverted. */
+  @Test
+  public void onImageAcquired_dropsFramesWhenBusy() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setBackpressureStrategy(ImageStreamBackpressureStrategy.dropWhenBusy, 1);
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    Image firstImage = createMockYuvImage();
+    Image secondImage = createMockYuvImage();
+    imageStreamReader.onImageAcquired(firstImage, mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAcquired(secondImage, mockCaptureProps, mockEventSink);
+
+    verify(secondImage).close();
+    verify(secondImage, never()).getPlanes();
+    assertEquals(1, imageStreamReader.getFramesInFlight());
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockEventSink, times(1)).success(any());
+    assertEquals(0, imageStreamReader.getFramesInFlight());
+    assertEquals(1, imageStreamReader.getDeliveredFrameCount());
+  }
+
+  /** With keepLatest, only the most recent held back frame is sent once the consumer catches up. */
+  @Test
+  public void onImageAcquired_keepsLatestFrameWhenBusy() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setBackpressureStrategy(ImageStreamBackpressureStrategy.keepLatest, 1);
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.subscribeListener(
+        mockCaptureProps, mockEventSink, new Handler(Looper.getMainLooper()));
+
+    Image firstImage = createMockYuvImage();
+    Image secondImage = createMockYuvImage();
+    Image thirdImage = createMockYuvImage();
+    imageStreamReader.onImageAcquired(firstImage, mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAcquired(secondImage, mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAcquired(thirdImage, mockCaptureProps, mockEventSink);
+
+    verify(secondImage).close();
+    verify(secondImage, never()).getPlanes();
+    verify(thirdImage, never()).getPlanes();
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(thirdImage).close();
+    verify(mockEventSink, times(2)).success(any());
+    assertEquals(2, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(1, imageStreamReader.getDroppedFrameCount());
+    assertEquals(0, imageStreamReader.getFramesInFlight());
   }
 }
@@ -0,0 +1,147 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the row based YUV_420_888 to NV21 conversion with the previous per-pixel conversion on
+ * synthetic planes, so the difference can be measured without a device.
+ *
+ * <p>It is ignored because it is too slow for the unit tests; remove {@link Ignore} to run it. The
+ * timings of each configuration are printed to the standard output, e.g. with {@code ./gradlew
+ * testDebugUnitTest -i}.
+ */
+@Ignore("Benchmark, run manually.")
+public class ImageStreamReaderUtilsBenchmarkTest {
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int ITERATIONS = 20;
+
+  /** Width, height, row padding and chroma pixel stride of each benchmarked configuration. */
+  private static final int[][] CONFIGURATIONS = {
+    {1280, 720, 0, 2}, {1280, 720, 256, 2}, {1280, 720, 0, 1}, {1920, 1080, 128, 2},
+  };
+
+  @Test
+  public void benchmarkConversion() {
+    for (int[] configuration : CONFIGURATIONS) {
+      runConfiguration(configuration[0], configuration[1], configuration[2], configuration[3]);
+    }
+  }
+
+  private static void runConfiguration(int width, int height, int padding, int pixelStride) {
+    Random random = new Random(width * 31 + padding);
+    int yRowStride = width + padding;
+    int chromaRowStride = (width / 2) * pixelStride + padding;
+    ByteBuffer y = createPlane(random, yRowStride, width, height);
+    ByteBuffer u =
+        createPlane(random, chromaRowStride, (width / 2 - 1) * pixelStride + 1, height / 2);
+    ByteBuffer v =
+        createPlane(random, chromaRowStride, (width / 2 - 1) * pixelStride + 1, height / 2);
+
+    ImageStreamReaderUtils utils = new ImageStreamReaderUtils();
+    byte[] expected = new byte[ImageStreamReaderUtils.getNV21Size(width, height)];
+    byte[] actual = new byte[expected.length];
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      convertPerPixel(y, u, v, yRowStride, chromaRowStride, pixelStride, width, height, expected);
+      convertRows(utils, y, u, v, yRowStride, chromaRowStride, pixelStride, width, height, actual);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      convertPerPixel(y, u, v, yRowStride, chromaRowStride, pixelStride, width, height, expected);
+    }
+    long perPixelNanos = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      convertRows(utils, y, u, v, yRowStride, chromaRowStride, pixelStride, width, height, actual);
+    }
+    long rowNanos = (System.nanoTime() - start) / ITERATIONS;
+
+    System.out.printf(
+        Locale.US,
+        "%dx%d padding=%d pixelStride=%d: per-pixel %.2f ms, rows %.2f ms%n",
+        width,
+        height,
+        padding,
+        pixelStride,
+        perPixelNanos / 1e6,
+        rowNanos / 1e6);
+    assertArrayEquals(expected, actual);
+  }
+
+  /** Creates a direct buffer holding {@code rows} rows, the last one without padding. */
+  private static ByteBuffer createPlane(Random random, int rowStride, int rowLength, int rows) {
+    byte[] bytes = new byte[rowStride * (rows - 1) + rowLength];
+    random.nextBytes(bytes);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes);
+    buffer.rewind();
+    return buffer;
+  }
+
+  private static void convertRows(
+      ImageStreamReaderUtils utils,
+      ByteBuffer y,
+      ByteBuffer u,
+      ByteBuffer v,
+      int yRowStride,
+      int chromaRowStride,
+      int pixelStride,
+      int width,
+      int height,
+      byte[] out) {
+    ImageStreamReaderUtils.copyLumaPlane(y, yRowStride, width, height, out, 0);
+    utils.interleaveChromaPlanes(
+        u, v, chromaRowStride, pixelStride, width, height, out, width * height);
+  }
+
+  /** The per-pixel conversion previously used when the U and V planes were not in NV21 layout. */
+  private static void convertPerPixel(
+      ByteBuffer y,
+      ByteBuffer u,
+      ByteBuffer v,
+      int yRowStride,
+      int chromaRowStride,
+      int pixelStride,
+      int width,
+      int height,
+      byte[] out) {
+    int imageSize = width * height;
+    unpackPlane(y, yRowStride, 1, width, height, out, 0, 1);
+    unpackPlane(u, chromaRowStride, pixelStride, width / 2, height / 2, out, imageSize + 1, 2);
+    unpackPlane(v, chromaRowStride, pixelStride, width / 2, height / 2, out, imageSize, 2);
+  }
+
+  private static void unpackPlane(
+      ByteBuffer buffer,
+      int rowStride,
+      int inputPixelStride,
+      int columns,
+      int rows,
+      byte[] out,
+      int offset,
+      int outputPixelStride) {
+    int outputPos = offset;
+    int rowStart = 0;
+    for (int row = 0; row < rows; row++) {
+      int inputPos = rowStart;
+      for (int col = 0; col < columns; col++) {
+        out[outputPos] = buffer.get(inputPos);
+        outputPos += outputPixelStride;
+        inputPos += inputPixelStride;
+      }
+      rowStart += rowStride;
+    }
+  }
+}
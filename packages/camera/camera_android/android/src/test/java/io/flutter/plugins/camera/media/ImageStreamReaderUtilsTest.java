@@ -96,4 +96,73 @@ public class ImageStreamReaderUtilsTest {
         ((long) imageWidth * imageHeight) + (2 * ((long) (imageWidth / 2) * (imageHeight / 2))),
         result.limit());
   }
+
+  Image.Plane getPlane(byte[] bytes, int rowStride, int pixelStride) {
+    Image.Plane plane = mock(Image.Plane.class);
+    when(plane.getBuffer()).thenReturn(ByteBuffer.wrap(bytes));
+    when(plane.getRowStride()).thenReturn(rowStride);
+    when(plane.getPixelStride()).thenReturn(pixelStride);
+    return plane;
+  }
+
+  /** Ensure that padded Y rows and interleaved U/V planes are converted to NV21 correctly. */
+  @Test
+  public void yuv420ThreePlanesToNV21_convertsPaddedSemiPlanarImage() {
+    // 4x2 image with 2 bytes of padding per row.
+    byte[] y = {1, 2, 3, 4, 0, 0, 5, 6, 7, 8};
+    // One chroma row with two samples, spaced by a pixel stride of 2.
+    byte[] u = {10, 0, 11};
+    byte[] v = {20, 0, 21};
+    Image.Plane[] planes = {getPlane(y, 6, 1), getPlane(u, 6, 2), getPlane(v, 6, 2)};
+
+    byte[] out = new byte[2 + ImageStreamReaderUtils.getNV21Size(4, 2)];
+    imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, 4, 2, out, 2);
+
+    Assert.assertArrayEquals(new byte[] {0, 0, 1, 2, 3, 4, 5, 6, 7, 8, 20, 10, 21, 11}, out);
+  }
+
+  /** Ensure that planar (I420-like) U/V planes are interleaved into NV21 correctly. */
+  @Test
+  public void yuv420ThreePlanesToNV21_convertsPlanarImage() {
+    byte[] y = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+    byte[] u = {30, 31, 32, 33};
+    byte[] v = {40, 41, 42, 43};
+    Image.Plane[] planes = {getPlane(y, 4, 1), getPlane(u, 2, 1), getPlane(v, 2, 1)};
+
+    ByteBuffer result = imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, 4, 4);
+
+    Assert.assertArrayEquals(
+        new byte[] {
+          1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 40, 30, 41, 31, 42, 32, 43, 33
+        },
+        result.array());
+  }
+
+  /** Ensure that planes already laid out as NV21 in memory are copied as-is. */
+  @Test
+  public void yuv420ThreePlanesToNV21_copiesPlanesAlreadyInNV21Layout() {
+    byte[] y = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16};
+    // V and U share one buffer, with U starting one byte after V.
+    ByteBuffer vu = ByteBuffer.wrap(new byte[] {40, 30, 41, 31, 42, 32, 43, 33});
+    vu.position(1);
+    ByteBuffer uBuffer = vu.slice();
+    ByteBuffer vBuffer = ByteBuffer.wrap(new byte[] {40, 30, 41, 31, 42, 32, 43});
+    Image.Plane planeU = mock(Image.Plane.class);
+    when(planeU.getBuffer()).thenReturn(uBuffer);
+    when(planeU.getRowStride()).thenReturn(4);
+    when(planeU.getPixelStride()).thenReturn(2);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeV.getBuffer()).thenReturn(vBuffer);
+    when(planeV.getRowStride()).thenReturn(4);
+    when(planeV.getPixelStride()).thenReturn(2);
+    Image.Plane[] planes = {getPlane(y, 4, 1), planeU, planeV};
+
+    ByteBuffer result = imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, 4, 4);
+
+    Assert.assertArrayEquals(
+        new byte[] {
+          1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 40, 30, 41, 31, 42, 32, 43, 33
+        },
+        result.array());
+  }
 }
@@ -11,6 +11,7 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'image_stream_options.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
 
@@ -303,7 +304,9 @@ class AndroidCamera extends CameraPlatform {
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(int cameraId,
       {CameraImageStreamOptions? options}) {
-    _installStreamController(onListen: _onFrameStreamListen);
+    _installStreamController(
+        onListen: () => _onFrameStreamListen(
+            options is AndroidCameraImageStreamOptions ? options : null));
     return _frameStreamController!.stream;
   }
 
@@ -318,12 +321,23 @@ class AndroidCamera extends CameraPlatform {
     return _frameStreamController!;
   }
 
-  void _onFrameStreamListen() {
-    _startPlatformStream();
+  void _onFrameStreamListen(AndroidCameraImageStreamOptions? options) {
+    _startPlatformStream(options);
   }
 
-  Future<void> _startPlatformStream() async {
-    await _channel.invokeMethod<void>('startImageStream');
+  Future<void> _startPlatformStream(
+      AndroidCameraImageStreamOptions? options) async {
+    await _channel.invokeMethod<void>(
+      'startImageStream',
+      options == null
+          ? null
+          : <String, dynamic>{
+              'compactFrames': options.compactFrames,
+              'backpressureStrategy':
+                  _serializeBackpressureStrategy(options.backpressureStrategy),
+              'maxFramesInFlight': options.maxFramesInFlight,
+            },
+    );
     _startStreamListener();
   }
 
@@ -332,8 +346,9 @@ class AndroidCamera extends CameraPlatform {
         EventChannel('plugins.flutter.io/camera_android/imageStream');
     _platformImageStreamSubscription =
         cameraEventChannel.receiveBroadcastStream().listen((dynamic imageData) {
-      _frameStreamController!
-          .add(cameraImageFromPlatformData(imageData as Map<dynamic, dynamic>));
+      _frameStreamController!.add(imageData is Uint8List
+          ? cameraImageFromCompactFrame(imageData)
+          : cameraImageFromPlatformData(imageData as Map<dynamic, dynamic>));
     });
   }
 
@@ -454,6 +469,27 @@ class AndroidCamera extends CameraPlatform {
     );
   }
 
+  /// Returns the frame counters of the image stream of the camera, or null if
+  /// the camera isn't initialized.
+  ///
+  /// The counters can be used to tune the options of the image stream, see
+  /// [AndroidCameraImageStreamOptions].
+  Future<ImageStreamStatistics?> getImageStreamStatistics(int cameraId) async {
+    final Map<String, dynamic>? statistics =
+        await _channel.invokeMapMethod<String, dynamic>(
+      'getImageStreamStatistics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+    if (statistics == null) {
+      return null;
+    }
+    return ImageStreamStatistics(
+      deliveredFrames: statistics['deliveredFrames']! as int,
+      droppedFrames: statistics['droppedFrames']! as int,
+      framesInFlight: statistics['framesInFlight']! as int,
+    );
+  }
+
   @override
   Future<double> getMaxZoomLevel(int cameraId) async {
     final double? maxZoomLevel = await _channel.invokeMethod<double>(
@@ -521,6 +557,19 @@ class AndroidCamera extends CameraPlatform {
     return Texture(textureId: cameraId);
   }
 
+  /// Returns the image stream backpressure strategy as a String.
+  String _serializeBackpressureStrategy(
+      ImageStreamBackpressureStrategy strategy) {
+    switch (strategy) {
+      case ImageStreamBackpressureStrategy.unbounded:
+        return 'unbounded';
+      case ImageStreamBackpressureStrategy.dropWhenBusy:
+        return 'dropWhenBusy';
+      case ImageStreamBackpressureStrategy.keepLatest:
+        return 'keepLatest';
+    }
+  }
+
   /// Returns the flash mode as a String.
   String _serializeFlashMode(FlashMode flashMode) {
     switch (flashMode) {
@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter/foundation.dart';
+
+/// What happens to the new frames of an image stream while the previous frames
+/// are still being sent to Dart.
+enum ImageStreamBackpressureStrategy {
+  /// Every frame is sent, however far behind the stream is.
+  unbounded,
+
+  /// New frames are dropped while the maximum number of frames is in flight.
+  dropWhenBusy,
+
+  /// New frames are held back while the maximum number of frames is in
+  /// flight, and only the most recent one is sent once a frame is delivered.
+  keepLatest,
+}
+
+/// Android specific options of the image stream started by
+/// [CameraPlatform.onStreamedFrameAvailable].
+class AndroidCameraImageStreamOptions extends CameraImageStreamOptions {
+  /// Creates the options of an image stream.
+  AndroidCameraImageStreamOptions({
+    this.compactFrames = false,
+    this.backpressureStrategy = ImageStreamBackpressureStrategy.unbounded,
+    this.maxFramesInFlight = 1,
+  }) : assert(maxFramesInFlight > 0);
+
+  /// Whether each frame is sent from the platform as a single byte array
+  /// instead of one array per plane and a map of metadata.
+  ///
+  /// This reduces the allocations made for every frame. The frames received
+  /// by the stream are the same either way.
+  final bool compactFrames;
+
+  /// What happens to new frames when Dart doesn't keep up with the camera.
+  final ImageStreamBackpressureStrategy backpressureStrategy;
+
+  /// How many frames may be waiting to be sent before [backpressureStrategy]
+  /// applies.
+  final int maxFramesInFlight;
+}
+
+/// The frame counters of the image stream of a camera.
+///
+/// See [AndroidCamera.getImageStreamStatistics].
+@immutable
+class ImageStreamStatistics {
+  /// Creates the frame counters of an image stream.
+  const ImageStreamStatistics({
+    required this.deliveredFrames,
+    required this.droppedFrames,
+    required this.framesInFlight,
+  });
+
+  /// The number of frames that were sent to Dart.
+  final int deliveredFrames;
+
+  /// The number of frames that were dropped by the backpressure strategy.
+  final int droppedFrames;
+
+  /// The number of frames that are waiting to be sent.
+  final int framesInFlight;
+}
@@ -22,6 +22,57 @@ CameraImageData cameraImageFromPlatformData(Map<dynamic, dynamic> data) {
                   planeData as Map<dynamic, dynamic>))));
 }
 
+/// The size in bytes of the fixed header of a compact frame.
+const int _compactFrameHeaderSize = 44;
+
+/// The size in bytes of the descriptor of each plane of a compact frame.
+const int _compactFramePlaneHeaderSize = 12;
+
+/// Converts a frame sent by `startImageStream` with `compactFrames` enabled to
+/// a [CameraImageData].
+///
+/// The little-endian layout is written by
+/// `ImageStreamReader.encodeCompactFrame` on the platform side: a header
+/// holding the layout version, the width, the height, the format and the plane
+/// count (int32), the lens aperture (float64, NaN if unknown), the sensor
+/// exposure time (int64, -1 if unknown) and the sensor sensitivity (float64,
+/// NaN if unknown), then the bytes per row, bytes per pixel and length of each
+/// plane (int32), then the data of the planes.
+CameraImageData cameraImageFromCompactFrame(Uint8List frame) {
+  final ByteData header = ByteData.sublistView(frame);
+  assert(header.getInt32(0, Endian.little) == 1,
+      'Unsupported compact frame version.');
+  final int planeCount = header.getInt32(16, Endian.little);
+  final double lensAperture = header.getFloat64(20, Endian.little);
+  final int sensorExposureTime = header.getInt64(28, Endian.little);
+  final double sensorSensitivity = header.getFloat64(36, Endian.little);
+
+  final List<CameraImagePlane> planes = <CameraImagePlane>[];
+  int dataOffset =
+      _compactFrameHeaderSize + planeCount * _compactFramePlaneHeaderSize;
+  for (int i = 0; i < planeCount; i++) {
+    final int descriptorOffset =
+        _compactFrameHeaderSize + i * _compactFramePlaneHeaderSize;
+    final int length = header.getInt32(descriptorOffset + 8, Endian.little);
+    planes.add(CameraImagePlane(
+      bytes: Uint8List.sublistView(frame, dataOffset, dataOffset + length),
+      bytesPerRow: header.getInt32(descriptorOffset, Endian.little),
+      bytesPerPixel: header.getInt32(descriptorOffset + 4, Endian.little),
+    ));
+    dataOffset += length;
+  }
+
+  return CameraImageData(
+      format: _cameraImageFormatFromPlatformData(
+          header.getInt32(12, Endian.little)),
+      height: header.getInt32(8, Endian.little),
+      width: header.getInt32(4, Endian.little),
+      lensAperture: lensAperture.isNaN ? null : lensAperture,
+      sensorExposureTime: sensorExposureTime < 0 ? null : sensorExposureTime,
+      sensorSensitivity: sensorSensitivity.isNaN ? null : sensorSensitivity,
+      planes: List<CameraImagePlane>.unmodifiable(planes));
+}
+
 CameraImageFormat _cameraImageFormatFromPlatformData(dynamic data) {
   return CameraImageFormat(_imageFormatGroupFromPlatformData(data), raw: data);
 }
@@ -7,6 +7,7 @@ import 'dart:math';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/image_stream_options.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
@@ -1122,6 +1123,84 @@ void main() {
       await subscription.cancel();
     });
 
+    test('Should start streaming with Android options', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startImageStream': null,
+          'stopImageStream': null,
+        },
+      );
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions(
+                compactFrames: true,
+                backpressureStrategy:
+                    ImageStreamBackpressureStrategy.dropWhenBusy,
+                maxFramesInFlight: 2,
+              ))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startImageStream', arguments: <String, Object?>{
+          'compactFrames': true,
+          'backpressureStrategy': 'dropWhenBusy',
+          'maxFramesInFlight': 2,
+        }),
+      ]);
+
+      await subscription.cancel();
+    });
+
+    test('Should get the image stream statistics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'getImageStreamStatistics': <String, dynamic>{
+            'deliveredFrames': 10,
+            'droppedFrames': 3,
+            'framesInFlight': 1,
+          },
+        },
+      );
+
+      // Act
+      final ImageStreamStatistics? statistics =
+          await camera.getImageStreamStatistics(cameraId);
+
+      // Assert
+      expect(statistics?.deliveredFrames, 10);
+      expect(statistics?.droppedFrames, 3);
+      expect(statistics?.framesInFlight, 1);
+      expect(channel.log, <Matcher>[
+        isMethodCall('getImageStreamStatistics',
+            arguments: <String, Object?>{
+              'cameraId': cameraId,
+            }),
+      ]);
+    });
+
+    test('Should get no image stream statistics without an image stream',
+        () async {
+      // Arrange
+      MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{'getImageStreamStatistics': null},
+      );
+
+      // Act
+      final ImageStreamStatistics? statistics =
+          await camera.getImageStreamStatistics(cameraId);
+
+      // Assert
+      expect(statistics, isNull);
+    });
+
     test('Should stop streaming', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -77,4 +77,40 @@ void main() {
     });
     expect(cameraImage.format.group, ImageFormatGroup.nv21);
   });
+
+  test('CameraImageData can be created from a compact frame', () {
+    final ByteData frame = ByteData(44 + 2 * 12 + 6);
+    frame.setInt32(0, 1, Endian.little);
+    frame.setInt32(4, 4, Endian.little);
+    frame.setInt32(8, 1, Endian.little);
+    frame.setInt32(12, 35, Endian.little);
+    frame.setInt32(16, 2, Endian.little);
+    frame.setFloat64(20, 1.8, Endian.little);
+    frame.setInt64(28, 9991324, Endian.little);
+    frame.setFloat64(36, double.nan, Endian.little);
+    frame.setInt32(44, 4, Endian.little);
+    frame.setInt32(48, 1, Endian.little);
+    frame.setInt32(52, 4, Endian.little);
+    frame.setInt32(56, 2, Endian.little);
+    frame.setInt32(60, 2, Endian.little);
+    frame.setInt32(64, 2, Endian.little);
+    final Uint8List bytes = frame.buffer.asUint8List();
+    bytes.setAll(68, <int>[1, 2, 3, 4, 5, 6]);
+
+    final CameraImageData cameraImage = cameraImageFromCompactFrame(bytes);
+
+    expect(cameraImage.width, 4);
+    expect(cameraImage.height, 1);
+    expect(cameraImage.format.group, ImageFormatGroup.yuv420);
+    expect(cameraImage.lensAperture, 1.8);
+    expect(cameraImage.sensorExposureTime, 9991324);
+    expect(cameraImage.sensorSensitivity, isNull);
+    expect(cameraImage.planes.length, 2);
+    expect(cameraImage.planes[0].bytes, <int>[1, 2, 3, 4]);
+    expect(cameraImage.planes[0].bytesPerRow, 4);
+    expect(cameraImage.planes[0].bytesPerPixel, 1);
+    expect(cameraImage.planes[1].bytes, <int>[5, 6]);
+    expect(cameraImage.planes[1].bytesPerRow, 2);
+    expect(cameraImage.planes[1].bytesPerPixel, 2);
+  });
 }
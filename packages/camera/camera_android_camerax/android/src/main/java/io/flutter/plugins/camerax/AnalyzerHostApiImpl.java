@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.camerax;
 
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageAnalysis;
@@ -42,6 +44,7 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
     private BinaryMessenger binaryMessenger;
     private InstanceManager instanceManager;
     private AnalyzerFlutterApiImpl api;
+    private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
 
     @VisibleForTesting @NonNull public ImageProxyFlutterApiImpl imageProxyApi;
 
@@ -58,14 +61,31 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
       imageProxyApi = new ImageProxyFlutterApiImpl(binaryMessenger, instanceManager);
     }
 
+    /**
+     * Sends the {@code imageProxy} to Dart.
+     *
+     * <p>This is called on the analysis executor. Only the messages to Dart, which have to be sent
+     * on the platform thread, are posted to the main thread.
+     */
     @Override
     public void analyze(@NonNull ImageProxy imageProxy) {
       Long imageFormat = Long.valueOf(imageProxy.getFormat());
       Long imageHeight = Long.valueOf(imageProxy.getHeight());
       Long imageWidth = Long.valueOf(imageProxy.getWidth());
-      imageProxyApi.create(imageProxy, imageFormat, imageHeight, imageWidth, reply -> {});
 
-      api.analyze(this, imageProxy, reply -> {});
+      runOnMainThread(
+          () -> {
+            imageProxyApi.create(imageProxy, imageFormat, imageHeight, imageWidth, reply -> {});
+            api.analyze(this, imageProxy, reply -> {});
+          });
+    }
+
+    private void runOnMainThread(@NonNull Runnable runnable) {
+      if (Looper.myLooper() == Looper.getMainLooper()) {
+        runnable.run();
+      } else {
+        mainThreadHandler.post(runnable);
+      }
     }
 
     /**
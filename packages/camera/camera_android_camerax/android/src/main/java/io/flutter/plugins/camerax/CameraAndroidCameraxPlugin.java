@@ -119,6 +119,9 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
     }
+    if (imageAnalysisHostApiImpl != null) {
+      imageAnalysisHostApiImpl.shutdownAnalysisExecutor();
+    }
   }
 
   // Activity Lifecycle methods:
@@ -180,8 +183,5 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
     if (imageCaptureHostApiImpl != null) {
       imageCaptureHostApiImpl.setContext(context);
     }
-    if (imageAnalysisHostApiImpl != null) {
-      imageAnalysisHostApiImpl.setContext(context);
-    }
   }
 }
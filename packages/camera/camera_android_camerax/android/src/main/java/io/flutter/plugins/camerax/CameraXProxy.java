@@ -17,6 +17,8 @@ import androidx.camera.video.Recorder;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ResolutionInfo;
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /** Utility class used to create CameraX-related objects primarily for testing purposes. */
 public class CameraXProxy {
@@ -93,6 +95,17 @@ public class CameraXProxy {
     return new ImageAnalysis.Builder();
   }
 
+  /**
+   * Creates the {@link ExecutorService} that {@link ImageAnalysis.Analyzer}s run on.
+   *
+   * <p>A single thread is used because CameraX delivers frames to an analyzer one at a time.
+   */
+  @NonNull
+  public ExecutorService createImageAnalysisExecutor() {
+    return Executors.newSingleThreadExecutor(
+        runnable -> new Thread(runnable, "CameraXImageAnalysis"));
+  }
+
   /** Creates an array of {@code byte}s with the size provided. */
   @NonNull
   public byte[] getBytesFromBuffer(int size) {
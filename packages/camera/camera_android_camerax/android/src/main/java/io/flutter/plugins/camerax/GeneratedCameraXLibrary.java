@@ -2401,7 +2401,12 @@ public class GeneratedCameraXLibrary {
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ImageAnalysisHostApi {
 
-    void create(@NonNull Long identifier, @Nullable Long resolutionSelectorId);
+    void create(
+        @NonNull Long identifier,
+        @Nullable Long resolutionSelectorId,
+        @Nullable Long outputImageFormat,
+        @Nullable Long backpressureStrategy,
+        @Nullable Long imageQueueDepth);
 
     void setAnalyzer(@NonNull Long identifier, @NonNull Long analyzerIdentifier);
 
@@ -2428,12 +2433,20 @@ public class GeneratedCameraXLibrary {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Number identifierArg = (Number) args.get(0);
                 Number resolutionSelectorIdArg = (Number) args.get(1);
+                Number outputImageFormatArg = (Number) args.get(2);
+                Number backpressureStrategyArg = (Number) args.get(3);
+                Number imageQueueDepthArg = (Number) args.get(4);
                 try {
                   api.create(
                       (identifierArg == null) ? null : identifierArg.longValue(),
                       (resolutionSelectorIdArg == null)
                           ? null
-                          : resolutionSelectorIdArg.longValue());
+                          : resolutionSelectorIdArg.longValue(),
+                      (outputImageFormatArg == null) ? null : outputImageFormatArg.longValue(),
+                      (backpressureStrategyArg == null)
+                          ? null
+                          : backpressureStrategyArg.longValue(),
+                      (imageQueueDepthArg == null) ? null : imageQueueDepthArg.longValue());
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   ArrayList<Object> wrappedError = wrapError(exception);
@@ -2856,6 +2869,9 @@ public class GeneratedCameraXLibrary {
     @NonNull
     List<Long> getPlanes(@NonNull Long identifier);
 
+    @NonNull
+    byte[] getPackedPlanes(@NonNull Long identifier);
+
     void close(@NonNull Long identifier);
 
     /** The codec used by ImageProxyHostApi. */
@@ -2890,6 +2906,33 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.ImageProxyHostApi.getPackedPlanes",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                try {
+                  byte[] output =
+                      api.getPackedPlanes(
+                          (identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -4,22 +4,21 @@
 
 package io.flutter.plugins.camerax;
 
-import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
-import androidx.core.content.ContextCompat;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageAnalysisHostApi;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
 
   private InstanceManager instanceManager;
   private BinaryMessenger binaryMessenger;
-  private Context context;
+  @Nullable private ExecutorService analysisExecutor;
 
   @VisibleForTesting @NonNull public CameraXProxy cameraXProxy = new CameraXProxy();
 
@@ -30,15 +29,16 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
   }
 
   /**
-   * Sets the context that will be used to run an {@link ImageAnalysis.Analyzer} on the main thread.
+   * Creates an {@link ImageAnalysis} instance with the target resolution, output image format,
+   * backpressure strategy and image queue depth if specified.
    */
-  public void setContext(@NonNull Context context) {
-    this.context = context;
-  }
-
-  /** Creates an {@link ImageAnalysis} instance with the target resolution if specified. */
   @Override
-  public void create(@NonNull Long identifier, @Nullable Long resolutionSelectorId) {
+  public void create(
+      @NonNull Long identifier,
+      @Nullable Long resolutionSelectorId,
+      @Nullable Long outputImageFormat,
+      @Nullable Long backpressureStrategy,
+      @Nullable Long imageQueueDepth) {
     ImageAnalysis.Builder imageAnalysisBuilder = cameraXProxy.createImageAnalysisBuilder();
 
     if (resolutionSelectorId != null) {
@@ -46,6 +46,15 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
           Objects.requireNonNull(instanceManager.getInstance(resolutionSelectorId));
       imageAnalysisBuilder.setResolutionSelector(resolutionSelector);
     }
+    if (outputImageFormat != null) {
+      imageAnalysisBuilder.setOutputImageFormat(outputImageFormat.intValue());
+    }
+    if (backpressureStrategy != null) {
+      imageAnalysisBuilder.setBackpressureStrategy(backpressureStrategy.intValue());
+    }
+    if (imageQueueDepth != null) {
+      imageAnalysisBuilder.setImageQueueDepth(imageQueueDepth.intValue());
+    }
 
     ImageAnalysis imageAnalysis = imageAnalysisBuilder.build();
     instanceManager.addDartCreatedInstance(imageAnalysis, identifier);
@@ -55,12 +64,14 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
    * Sets {@link ImageAnalysis.Analyzer} instance with specified {@code analyzerIdentifier} on the
    * {@link ImageAnalysis} instance with the specified {@code identifier} to receive and analyze
    * images.
+   *
+   * <p>The analyzer runs on a dedicated analysis thread instead of the main thread.
    */
   @Override
   public void setAnalyzer(@NonNull Long identifier, @NonNull Long analyzerIdentifier) {
     getImageAnalysisInstance(identifier)
         .setAnalyzer(
-            ContextCompat.getMainExecutor(context),
+            getAnalysisExecutor(),
             Objects.requireNonNull(instanceManager.getInstance(analyzerIdentifier)));
   }
 
@@ -72,6 +83,27 @@ public class ImageAnalysisHostApiImpl implements ImageAnalysisHostApi {
     imageAnalysis.clearAnalyzer();
   }
 
+  /**
+   * Shuts down the analysis thread.
+   *
+   * <p>A new thread is started if an analyzer is set afterwards.
+   */
+  public void shutdownAnalysisExecutor() {
+    if (analysisExecutor != null) {
+      analysisExecutor.shutdown();
+      analysisExecutor = null;
+    }
+  }
+
+  /** Returns the executor {@link ImageAnalysis.Analyzer}s run on, creating it if needed. */
+  @NonNull
+  private ExecutorService getAnalysisExecutor() {
+    if (analysisExecutor == null) {
+      analysisExecutor = cameraXProxy.createImageAnalysisExecutor();
+    }
+    return analysisExecutor;
+  }
+
   /**
    * Retrieives the {@link ImageAnalysis} instance associated with the specified {@code identifier}.
    */
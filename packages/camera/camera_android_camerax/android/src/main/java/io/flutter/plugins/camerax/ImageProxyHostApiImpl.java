@@ -5,6 +5,7 @@
 package io.flutter.plugins.camerax;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
@@ -28,6 +29,16 @@ public class ImageProxyHostApiImpl implements ImageProxyHostApi {
 
   @VisibleForTesting @NonNull public PlaneProxyFlutterApiImpl planeProxyFlutterApiImpl;
 
+  /** Size in bytes of the header of a packed planes payload. */
+  @VisibleForTesting static final int PACKED_PLANES_HEADER_SIZE = 16;
+
+  /** Size in bytes of the description of a single plane in a packed planes payload. */
+  @VisibleForTesting static final int PACKED_PLANE_DESCRIPTOR_SIZE = 12;
+
+  // Reused across frames. Replies are encoded synchronously on the platform thread, so the array
+  // is no longer referenced once getPackedPlanes returns.
+  @Nullable private byte[] packedPlanesBuffer;
+
   /**
    * Constructs a {@link ImageProxyHostApiImpl}.
    *
@@ -64,6 +75,64 @@ public class ImageProxyHostApiImpl implements ImageProxyHostApi {
     return planeIdentifiers;
   }
 
+  /**
+   * Returns all planes of the {@link ImageProxy} instance with the specified identifier in a single
+   * payload.
+   *
+   * <p>Unlike {@link #getPlanes(Long)}, this does not create a {@link ImageProxy.PlaneProxy}
+   * instance per plane. The payload is laid out as little-endian 32-bit integers:
+   *
+   * <ul>
+   *   <li>format, width, height and number of planes,
+   *   <li>the row stride, pixel stride and length in bytes of each plane,
+   *   <li>followed by the bytes of each plane.
+   * </ul>
+   *
+   * <p>The returned array is reused for the following frames of the same size.
+   */
+  @Override
+  @NonNull
+  public byte[] getPackedPlanes(@NonNull Long identifier) {
+    ImageProxy imageProxy = getImageProxyInstance(identifier);
+    ImageProxy.PlaneProxy[] planes = imageProxy.getPlanes();
+
+    int size = PACKED_PLANES_HEADER_SIZE + PACKED_PLANE_DESCRIPTOR_SIZE * planes.length;
+    for (ImageProxy.PlaneProxy plane : planes) {
+      size += plane.getBuffer().remaining();
+    }
+    if (packedPlanesBuffer == null || packedPlanesBuffer.length != size) {
+      packedPlanesBuffer = cameraXProxy.getBytesFromBuffer(size);
+    }
+    byte[] bytes = packedPlanesBuffer;
+
+    int offset = putInt(bytes, 0, imageProxy.getFormat());
+    offset = putInt(bytes, offset, imageProxy.getWidth());
+    offset = putInt(bytes, offset, imageProxy.getHeight());
+    offset = putInt(bytes, offset, planes.length);
+    for (ImageProxy.PlaneProxy plane : planes) {
+      offset = putInt(bytes, offset, plane.getRowStride());
+      offset = putInt(bytes, offset, plane.getPixelStride());
+      offset = putInt(bytes, offset, plane.getBuffer().remaining());
+    }
+    for (ImageProxy.PlaneProxy plane : planes) {
+      ByteBuffer byteBuffer = plane.getBuffer().duplicate();
+      int length = byteBuffer.remaining();
+      byteBuffer.get(bytes, offset, length);
+      offset += length;
+    }
+
+    return bytes;
+  }
+
+  /** Writes {@code value} as a little-endian integer and returns the offset following it. */
+  private static int putInt(@NonNull byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) value;
+    bytes[offset + 1] = (byte) (value >> 8);
+    bytes[offset + 2] = (byte) (value >> 16);
+    bytes[offset + 3] = (byte) (value >> 24);
+    return offset + 4;
+  }
+
   /**
    * Closes the {@link androidx.camera.core.Image} instance associated with the {@link ImageProxy}
    * instance with the specified identifier.
@@ -9,10 +9,10 @@ import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.WeakHashMap;
+import java.util.Arrays;
 
 /**
  * Maintains instances used to communicate with the corresponding objects in Dart.
@@ -21,6 +21,7 @@ import java.util.WeakHashMap;
  * an InstanceManager with the same identifier.
  *
  * <p>When an instance is added with an identifier, either can be used to retrieve the other.
+ * Instances are compared by identity, not by `equals`.
  *
  * <p>Added instances are added as a weak reference and a strong reference. When the strong
  * reference is removed with `{@link #remove(long)}` and the weak reference is deallocated, the
@@ -28,6 +29,9 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>The manager can be used from any thread. The `finalizationListener` is always called on the
+ * main thread.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -37,6 +41,9 @@ public class InstanceManager {
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
   private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 30000;
+  // Maximum number of garbage collected instances released each time an instance is added on the
+  // main thread, so finalization is spread over regular use instead of happening in one batch.
+  private static final int MAX_FINALIZED_INSTANCES_RELEASED_PER_ADD = 8;
   private static final String TAG = "InstanceManager";
 
   /** Interface for listening when a weak reference of an instance is removed from the manager. */
@@ -44,19 +51,18 @@ public class InstanceManager {
     void onFinalize(long identifier);
   }
 
-  private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  private final IdentifierTable instances = new IdentifierTable();
+  private final IdentityTable identifiers = new IdentityTable();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
 
   private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable releaseAllFinalizedInstancesRunnable = this::releaseAllFinalizedInstances;
 
   private final FinalizationListener finalizationListener;
 
   private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean hasFinalizationListenerStopped = false;
+  private volatile boolean hasFinalizationListenerStopped = false;
 
   /**
    * Instantiate a new manager.
@@ -74,7 +80,7 @@ public class InstanceManager {
   private InstanceManager(FinalizationListener finalizationListener) {
     this.finalizationListener = finalizationListener;
     handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+        releaseAllFinalizedInstancesRunnable, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
   }
 
   /**
@@ -89,7 +95,9 @@ public class InstanceManager {
   @Nullable
   public <T> T remove(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
-    return (T) strongInstances.remove(identifier);
+    synchronized (this) {
+      return (T) instances.removeStrongReference(identifier);
+    }
   }
 
   /**
@@ -111,12 +119,18 @@ public class InstanceManager {
   @Nullable
   public Long getIdentifierForStrongReference(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
+    if (instance == null) {
+      return null;
+    }
 
-    final Long identifier = identifiers.get(instance);
-    if (identifier != null) {
-      strongInstances.put(identifier, instance);
+    synchronized (this) {
+      final InstanceReference reference = identifiers.get(instance);
+      if (reference == null) {
+        return null;
+      }
+      instances.setStrongReference(reference.identifier, instance);
+      return reference.identifier;
     }
-    return identifier;
   }
 
   /**
@@ -132,7 +146,10 @@ public class InstanceManager {
    */
   public void addDartCreatedInstance(@NonNull Object instance, long identifier) {
     logWarningIfFinalizationListenerHasStopped();
-    addInstance(instance, identifier);
+    releaseFinalizedInstancesIfOnMainThread();
+    synchronized (this) {
+      addInstance(instance, identifier);
+    }
   }
 
   /**
@@ -143,14 +160,17 @@ public class InstanceManager {
    */
   public long addHostCreatedInstance(@NonNull Object instance) {
     logWarningIfFinalizationListenerHasStopped();
+    releaseFinalizedInstancesIfOnMainThread();
 
-    if (containsInstance(instance)) {
-      throw new IllegalArgumentException(
-          "Instance of " + instance.getClass() + " has already been added.");
+    synchronized (this) {
+      if (identifiers.get(instance) != null) {
+        throw new IllegalArgumentException(
+            "Instance of " + instance.getClass() + " has already been added.");
+      }
+      final long identifier = nextIdentifier++;
+      addInstance(instance, identifier);
+      return identifier;
     }
-    final long identifier = nextIdentifier++;
-    addInstance(instance, identifier);
-    return identifier;
   }
 
   /**
@@ -165,9 +185,12 @@ public class InstanceManager {
   public <T> T getInstance(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
 
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
-    if (instance != null) {
-      return instance.get();
+    final InstanceReference reference;
+    synchronized (this) {
+      reference = instances.getWeakReference(identifier);
+    }
+    if (reference != null) {
+      return (T) reference.get();
     }
     return null;
   }
@@ -180,7 +203,13 @@ public class InstanceManager {
    */
   public boolean containsInstance(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
-    return identifiers.containsKey(instance);
+    if (instance == null) {
+      return false;
+    }
+
+    synchronized (this) {
+      return identifiers.get(instance) != null;
+    }
   }
 
   /**
@@ -191,7 +220,7 @@ public class InstanceManager {
    * longer be called and methods will log a warning.
    */
   public void stopFinalizationListener() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
+    handler.removeCallbacks(releaseAllFinalizedInstancesRunnable);
     hasFinalizationListenerStopped = true;
   }
 
@@ -200,11 +229,9 @@ public class InstanceManager {
    *
    * <p>The manager will be empty after this call returns.
    */
-  public void clear() {
+  public synchronized void clear() {
+    instances.clear();
     identifiers.clear();
-    weakInstances.clear();
-    strongInstances.clear();
-    weakReferencesToIdentifiers.clear();
   }
 
   /**
@@ -217,37 +244,68 @@ public class InstanceManager {
     return hasFinalizationListenerStopped;
   }
 
+  /**
+   * Clears the weak reference to the instance paired with `identifier` and enqueues it, as the
+   * garbage collector does once the instance is only weakly reachable.
+   */
+  @VisibleForTesting
+  void simulateGarbageCollection(long identifier) {
+    final InstanceReference reference;
+    synchronized (this) {
+      reference = instances.getWeakReference(identifier);
+    }
+    if (reference != null) {
+      reference.clear();
+      reference.enqueue();
+    }
+  }
+
   private void releaseAllFinalizedInstances() {
     if (hasFinalizationListenerStopped()) {
       return;
     }
 
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+    releaseFinalizedInstances(Integer.MAX_VALUE);
+    handler.postDelayed(
+        releaseAllFinalizedInstancesRunnable, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+  }
+
+  private void releaseFinalizedInstancesIfOnMainThread() {
+    if (!hasFinalizationListenerStopped() && Looper.myLooper() == Looper.getMainLooper()) {
+      releaseFinalizedInstances(MAX_FINALIZED_INSTANCES_RELEASED_PER_ADD);
+    }
+  }
+
+  // Must be called on the main thread. The listener is called without holding the lock.
+  private void releaseFinalizedInstances(int maxCount) {
+    for (int i = 0; i < maxCount; i++) {
+      final InstanceReference reference = (InstanceReference) referenceQueue.poll();
+      if (reference == null) {
+        return;
+      }
+
+      final boolean removed;
+      synchronized (this) {
+        removed = instances.removeIfCurrent(reference);
+        identifiers.remove(reference);
+      }
+      if (removed) {
+        finalizationListener.onFinalize(reference.identifier);
       }
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
   }
 
   private void addInstance(Object instance, long identifier) {
     if (identifier < 0) {
       throw new IllegalArgumentException(String.format("Identifier must be >= 0: %d", identifier));
     }
-    if (weakInstances.containsKey(identifier)) {
+    if (instances.getWeakReference(identifier) != null) {
       throw new IllegalArgumentException(
           String.format("Identifier has already been added: %d", identifier));
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
-    identifiers.put(instance, identifier);
-    weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
-    strongInstances.put(identifier, instance);
+    final InstanceReference reference = new InstanceReference(instance, identifier, referenceQueue);
+    identifiers.put(reference);
+    instances.put(reference, instance);
   }
 
   private void logWarningIfFinalizationListenerHasStopped() {
@@ -255,4 +313,275 @@ public class InstanceManager {
       Log.w(TAG, "The manager was used after calls to the FinalizationListener have been stopped.");
     }
   }
+
+  /** Weak reference to an added instance that remembers the identifier it was added with. */
+  private static final class InstanceReference extends WeakReference<Object> {
+    final long identifier;
+    final int instanceHash;
+
+    InstanceReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+      this.instanceHash = System.identityHashCode(instance);
+    }
+  }
+
+  /**
+   * Open addressing table from a primitive identifier to the weak and strong reference of an
+   * instance.
+   *
+   * <p>Uses linear probing with backward shift deletion, so lookups neither box identifiers nor
+   * leave tombstones behind.
+   */
+  private static final class IdentifierTable {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final long EMPTY = -1;
+
+    private long[] keys;
+    private InstanceReference[] weakReferences;
+    private Object[] strongReferences;
+    private int size;
+
+    IdentifierTable() {
+      allocate(INITIAL_CAPACITY);
+    }
+
+    @Nullable
+    InstanceReference getWeakReference(long identifier) {
+      final int index = indexOf(identifier);
+      return index < 0 ? null : weakReferences[index];
+    }
+
+    /** Adds an entry for an identifier that is not in the table yet. */
+    void put(@NonNull InstanceReference weakReference, @NonNull Object strongReference) {
+      if ((size + 1) * 2 > keys.length) {
+        resize(keys.length * 2);
+      }
+      final int mask = keys.length - 1;
+      int index = hash(weakReference.identifier) & mask;
+      while (keys[index] != EMPTY) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = weakReference.identifier;
+      weakReferences[index] = weakReference;
+      strongReferences[index] = strongReference;
+      size++;
+    }
+
+    void setStrongReference(long identifier, @NonNull Object instance) {
+      final int index = indexOf(identifier);
+      if (index >= 0) {
+        strongReferences[index] = instance;
+      }
+    }
+
+    @Nullable
+    Object removeStrongReference(long identifier) {
+      final int index = indexOf(identifier);
+      if (index < 0) {
+        return null;
+      }
+      final Object instance = strongReferences[index];
+      strongReferences[index] = null;
+      return instance;
+    }
+
+    /**
+     * Removes the entry for the identifier of {@code weakReference} if it still belongs to it.
+     *
+     * @return whether an entry was removed.
+     */
+    boolean removeIfCurrent(@NonNull InstanceReference weakReference) {
+      final int index = indexOf(weakReference.identifier);
+      if (index < 0 || weakReferences[index] != weakReference) {
+        return false;
+      }
+      removeAt(index);
+      return true;
+    }
+
+    void clear() {
+      allocate(INITIAL_CAPACITY);
+    }
+
+    private int indexOf(long identifier) {
+      final int mask = keys.length - 1;
+      int index = hash(identifier) & mask;
+      while (true) {
+        final long key = keys[index];
+        if (key == identifier) {
+          return index;
+        } else if (key == EMPTY) {
+          return -1;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    private void removeAt(int index) {
+      final int mask = keys.length - 1;
+      int gap = index;
+      int current = index;
+      while (true) {
+        current = (current + 1) & mask;
+        final long key = keys[current];
+        if (key == EMPTY) {
+          break;
+        }
+        // Shift the entry into the gap unless its probe sequence starts after the gap.
+        final int home = hash(key) & mask;
+        if (((current - home) & mask) >= ((current - gap) & mask)) {
+          keys[gap] = key;
+          weakReferences[gap] = weakReferences[current];
+          strongReferences[gap] = strongReferences[current];
+          gap = current;
+        }
+      }
+      keys[gap] = EMPTY;
+      weakReferences[gap] = null;
+      strongReferences[gap] = null;
+      size--;
+    }
+
+    private void resize(int capacity) {
+      final long[] oldKeys = keys;
+      final InstanceReference[] oldWeakReferences = weakReferences;
+      final Object[] oldStrongReferences = strongReferences;
+      allocate(capacity);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY) {
+          put(oldWeakReferences[i], oldStrongReferences[i]);
+        }
+      }
+    }
+
+    private void allocate(int capacity) {
+      keys = new long[capacity];
+      Arrays.fill(keys, EMPTY);
+      weakReferences = new InstanceReference[capacity];
+      strongReferences = new Object[capacity];
+      size = 0;
+    }
+
+    private static int hash(long identifier) {
+      final long hash = identifier * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32));
+    }
+  }
+
+  /**
+   * Open addressing table from an instance, compared by identity, to the most recently added {@link
+   * InstanceReference} of that instance.
+   *
+   * <p>The table only holds weak references. Entries of garbage collected instances are removed
+   * when their reference is polled from the {@link ReferenceQueue}.
+   */
+  private static final class IdentityTable {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private InstanceReference[] references = new InstanceReference[INITIAL_CAPACITY];
+    private int size;
+
+    @Nullable
+    InstanceReference get(@NonNull Object instance) {
+      final int instanceHash = System.identityHashCode(instance);
+      final int mask = references.length - 1;
+      int index = mix(instanceHash) & mask;
+      InstanceReference reference;
+      while ((reference = references[index]) != null) {
+        if (reference.instanceHash == instanceHash && reference.get() == instance) {
+          return reference;
+        }
+        index = (index + 1) & mask;
+      }
+      return null;
+    }
+
+    /** Adds {@code reference}, replacing the reference of a previous addition of its instance. */
+    void put(@NonNull InstanceReference reference) {
+      final Object instance = reference.get();
+      final int mask = references.length - 1;
+      int index = mix(reference.instanceHash) & mask;
+      InstanceReference existing;
+      while ((existing = references[index]) != null) {
+        if (existing.instanceHash == reference.instanceHash && existing.get() == instance) {
+          references[index] = reference;
+          return;
+        }
+        index = (index + 1) & mask;
+      }
+
+      if ((size + 1) * 2 > references.length) {
+        resize(references.length * 2);
+        insert(reference);
+      } else {
+        references[index] = reference;
+        size++;
+      }
+    }
+
+    void remove(@NonNull InstanceReference reference) {
+      final int mask = references.length - 1;
+      int index = mix(reference.instanceHash) & mask;
+      InstanceReference current;
+      while ((current = references[index]) != null) {
+        if (current == reference) {
+          removeAt(index);
+          return;
+        }
+        index = (index + 1) & mask;
+      }
+    }
+
+    void clear() {
+      references = new InstanceReference[INITIAL_CAPACITY];
+      size = 0;
+    }
+
+    private void insert(@NonNull InstanceReference reference) {
+      final int mask = references.length - 1;
+      int index = mix(reference.instanceHash) & mask;
+      while (references[index] != null) {
+        index = (index + 1) & mask;
+      }
+      references[index] = reference;
+      size++;
+    }
+
+    private void removeAt(int index) {
+      final int mask = references.length - 1;
+      int gap = index;
+      int current = index;
+      while (true) {
+        current = (current + 1) & mask;
+        final InstanceReference reference = references[current];
+        if (reference == null) {
+          break;
+        }
+        final int home = mix(reference.instanceHash) & mask;
+        if (((current - home) & mask) >= ((current - gap) & mask)) {
+          references[gap] = reference;
+          gap = current;
+        }
+      }
+      references[gap] = null;
+      size--;
+    }
+
+    private void resize(int capacity) {
+      final InstanceReference[] oldReferences = references;
+      references = new InstanceReference[capacity];
+      size = 0;
+      for (InstanceReference reference : oldReferences) {
+        if (reference != null) {
+          insert(reference);
+        }
+      }
+    }
+
+    private static int mix(int hash) {
+      final int mixed = hash * 0x9E3779B9;
+      return mixed ^ (mixed >>> 16);
+    }
+  }
 }
@@ -5,18 +5,18 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import android.content.Context;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
-import androidx.test.core.app.ApplicationProvider;
 import io.flutter.plugin.common.BinaryMessenger;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,12 +34,10 @@ public class ImageAnalysisTest {
   @Mock public BinaryMessenger mockBinaryMessenger;
 
   InstanceManager instanceManager;
-  private Context context;
 
   @Before
   public void setUp() {
     instanceManager = InstanceManager.create(identifier -> {});
-    context = ApplicationProvider.getApplicationContext();
   }
 
   @After
@@ -63,9 +61,39 @@ public class ImageAnalysisTest {
     when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
     when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
 
-    hostApi.create(instanceIdentifier, mockResolutionSelectorId);
+    hostApi.create(instanceIdentifier, mockResolutionSelectorId, null, null, null);
 
     verify(mockImageAnalysisBuilder).setResolutionSelector(mockResolutionSelector);
+    verify(mockImageAnalysisBuilder, never()).setOutputImageFormat(anyInt());
+    verify(mockImageAnalysisBuilder, never()).setBackpressureStrategy(anyInt());
+    verify(mockImageAnalysisBuilder, never()).setImageQueueDepth(anyInt());
+    assertEquals(instanceManager.getInstance(instanceIdentifier), mockImageAnalysis);
+  }
+
+  @Test
+  public void hostApiCreate_appliesOutputImageFormatAndBackpressureOptions() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ImageAnalysis.Builder mockImageAnalysisBuilder = mock(ImageAnalysis.Builder.class);
+    final long instanceIdentifier = 3;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+
+    when(mockCameraXProxy.createImageAnalysisBuilder()).thenReturn(mockImageAnalysisBuilder);
+    when(mockImageAnalysisBuilder.build()).thenReturn(mockImageAnalysis);
+
+    hostApi.create(
+        instanceIdentifier,
+        null,
+        (long) ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888,
+        (long) ImageAnalysis.STRATEGY_BLOCK_PRODUCER,
+        4L);
+
+    verify(mockImageAnalysisBuilder)
+        .setOutputImageFormat(ImageAnalysis.OUTPUT_IMAGE_FORMAT_RGBA_8888);
+    verify(mockImageAnalysisBuilder).setBackpressureStrategy(ImageAnalysis.STRATEGY_BLOCK_PRODUCER);
+    verify(mockImageAnalysisBuilder).setImageQueueDepth(4);
     assertEquals(instanceManager.getInstance(instanceIdentifier), mockImageAnalysis);
   }
 
@@ -73,7 +101,11 @@ public class ImageAnalysisTest {
   public void setAnalyzer_makesCallToSetAnalyzerOnExpectedImageAnalysisInstance() {
     final ImageAnalysisHostApiImpl hostApi =
         new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
-    hostApi.setContext(context);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    when(mockCameraXProxy.createImageAnalysisExecutor()).thenReturn(mockExecutor);
 
     final ImageAnalysis.Analyzer mockAnalyzer = mock(ImageAnalysis.Analyzer.class);
     final long analyzerIdentifier = 10;
@@ -83,8 +115,31 @@ public class ImageAnalysisTest {
     instanceManager.addDartCreatedInstance(mockImageAnalysis, instanceIdentifier);
 
     hostApi.setAnalyzer(instanceIdentifier, analyzerIdentifier);
+    hostApi.setAnalyzer(instanceIdentifier, analyzerIdentifier);
+
+    verify(mockImageAnalysis, times(2)).setAnalyzer(eq(mockExecutor), eq(mockAnalyzer));
+    verify(mockCameraXProxy, times(1)).createImageAnalysisExecutor();
+  }
+
+  @Test
+  public void shutdownAnalysisExecutor_shutsDownExecutorUsedByAnalyzers() {
+    final ImageAnalysisHostApiImpl hostApi =
+        new ImageAnalysisHostApiImpl(mockBinaryMessenger, instanceManager);
+    final CameraXProxy mockCameraXProxy = mock(CameraXProxy.class);
+    final ExecutorService mockExecutor = mock(ExecutorService.class);
+    final ImageAnalysis.Analyzer mockAnalyzer = mock(ImageAnalysis.Analyzer.class);
+    final long analyzerIdentifier = 11;
+    final long instanceIdentifier = 95;
+
+    hostApi.cameraXProxy = mockCameraXProxy;
+    when(mockCameraXProxy.createImageAnalysisExecutor()).thenReturn(mockExecutor);
+    instanceManager.addDartCreatedInstance(mockAnalyzer, analyzerIdentifier);
+    instanceManager.addDartCreatedInstance(mockImageAnalysis, instanceIdentifier);
+
+    hostApi.setAnalyzer(instanceIdentifier, analyzerIdentifier);
+    hostApi.shutdownAnalysisExecutor();
 
-    verify(mockImageAnalysis).setAnalyzer(any(Executor.class), eq(mockAnalyzer));
+    verify(mockExecutor).shutdown();
   }
 
   @Test
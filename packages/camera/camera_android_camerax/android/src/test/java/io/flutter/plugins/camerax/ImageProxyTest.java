@@ -4,7 +4,9 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -15,6 +17,7 @@ import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.ImageProxyFlutterApi;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Objects;
 import org.junit.After;
@@ -87,6 +90,56 @@ public class ImageProxyTest {
     assertEquals(result.size(), 1);
   }
 
+  @Test
+  public void getPackedPlanes_packsAllPlanesIntoReusedPayload() {
+    final ImageProxyHostApiImpl hostApi =
+        new ImageProxyHostApiImpl(mockBinaryMessenger, instanceManager);
+    final long instanceIdentifier = 31;
+    final ImageProxy.PlaneProxy mockYPlane = mock(ImageProxy.PlaneProxy.class);
+    final ImageProxy.PlaneProxy mockUvPlane = mock(ImageProxy.PlaneProxy.class);
+    final ByteBuffer yBuffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    final ByteBuffer uvBuffer = ByteBuffer.wrap(new byte[] {5, 6});
+
+    instanceManager.addDartCreatedInstance(mockImageProxy, instanceIdentifier);
+
+    when(mockImageProxy.getPlanes())
+        .thenReturn(new ImageProxy.PlaneProxy[] {mockYPlane, mockUvPlane});
+    when(mockImageProxy.getFormat()).thenReturn(35);
+    when(mockImageProxy.getWidth()).thenReturn(2);
+    when(mockImageProxy.getHeight()).thenReturn(2);
+    when(mockYPlane.getBuffer()).thenReturn(yBuffer);
+    when(mockYPlane.getRowStride()).thenReturn(2);
+    when(mockYPlane.getPixelStride()).thenReturn(1);
+    when(mockUvPlane.getBuffer()).thenReturn(uvBuffer);
+    when(mockUvPlane.getRowStride()).thenReturn(2);
+    when(mockUvPlane.getPixelStride()).thenReturn(2);
+
+    final byte[] result = hostApi.getPackedPlanes(instanceIdentifier);
+
+    final ByteBuffer packed = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(
+        ImageProxyHostApiImpl.PACKED_PLANES_HEADER_SIZE
+            + 2 * ImageProxyHostApiImpl.PACKED_PLANE_DESCRIPTOR_SIZE
+            + 6,
+        result.length);
+    assertEquals(35, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(1, packed.getInt());
+    assertEquals(4, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(2, packed.getInt());
+    assertEquals(2, packed.getInt());
+    final byte[] planeBytes = new byte[6];
+    packed.get(planeBytes);
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6}, planeBytes);
+    assertEquals(0, yBuffer.position());
+
+    assertSame(result, hostApi.getPackedPlanes(instanceIdentifier));
+  }
+
   @Test
   public void close_makesCallToCloseExpectedImageProxyInstance() {
     final ImageProxyHostApiImpl hostApi =
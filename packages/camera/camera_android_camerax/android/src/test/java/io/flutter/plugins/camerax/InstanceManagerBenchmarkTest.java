@@ -0,0 +1,149 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.WeakHashMap;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Compares the throughput of {@link InstanceManager} with the previous map based implementation for
+ * the add, get and remove pattern of streamed image frames.
+ *
+ * <p>Run it locally by removing {@link Ignore}, which keeps it out of the unit tests. Both timings
+ * and their ratio are printed to the standard output.
+ */
+@Ignore("Benchmark, run manually.")
+public class InstanceManagerBenchmarkTest {
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int ITERATIONS = 10;
+  private static final int OPERATIONS_PER_ITERATION = 100000;
+
+  // Number of instances that stay in the manager while frames are added and removed.
+  private static final int RESIDENT_INSTANCES = 256;
+
+  @Test
+  public void benchmarkAddGetRemove() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final LegacyInstanceManager legacyInstanceManager = new LegacyInstanceManager();
+    final Object[] residents = new Object[RESIDENT_INSTANCES];
+    for (int i = 0; i < residents.length; i++) {
+      residents[i] = new Object();
+      instanceManager.addDartCreatedInstance(residents[i], i);
+      legacyInstanceManager.addDartCreatedInstance(residents[i], i);
+    }
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      runInstanceManager(instanceManager, residents);
+      runLegacyInstanceManager(legacyInstanceManager, residents);
+    }
+
+    long start = System.nanoTime();
+    long checksum = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      checksum += runLegacyInstanceManager(legacyInstanceManager, residents);
+    }
+    final long legacyNanos = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    long expectedChecksum = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      expectedChecksum += runInstanceManager(instanceManager, residents);
+    }
+    final long nanos = (System.nanoTime() - start) / ITERATIONS;
+
+    instanceManager.stopFinalizationListener();
+
+    System.out.printf(
+        Locale.US,
+        "%d add/get/remove operations: maps %.2f ms, open addressing %.2f ms (%.1fx)%n",
+        OPERATIONS_PER_ITERATION,
+        legacyNanos / 1e6,
+        nanos / 1e6,
+        (double) legacyNanos / Math.max(1, nanos));
+    assertEquals(expectedChecksum, checksum);
+  }
+
+  private static long runInstanceManager(InstanceManager instanceManager, Object[] residents) {
+    long checksum = 0;
+    for (int i = 0; i < OPERATIONS_PER_ITERATION; i++) {
+      final Object frame = new Object();
+      final long identifier = instanceManager.addHostCreatedInstance(frame);
+      final Object resident = instanceManager.getInstance(i % residents.length);
+      checksum += instanceManager.getIdentifierForStrongReference(resident);
+      instanceManager.remove(identifier);
+    }
+    return checksum;
+  }
+
+  private static long runLegacyInstanceManager(
+      LegacyInstanceManager instanceManager, Object[] residents) {
+    long checksum = 0;
+    for (int i = 0; i < OPERATIONS_PER_ITERATION; i++) {
+      final Object frame = new Object();
+      final long identifier = instanceManager.addHostCreatedInstance(frame);
+      final Object resident = instanceManager.getInstance(i % residents.length);
+      checksum += instanceManager.getIdentifierForStrongReference(resident);
+      instanceManager.remove(identifier);
+    }
+    return checksum;
+  }
+
+  /** The bookkeeping of the previous {@link InstanceManager}, without finalization. */
+  private static class LegacyInstanceManager {
+    private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
+    private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
+    private final HashMap<Long, Object> strongInstances = new HashMap<>();
+    private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers =
+        new HashMap<>();
+    private long nextIdentifier = 65536;
+
+    Object remove(long identifier) {
+      return strongInstances.remove(identifier);
+    }
+
+    Long getIdentifierForStrongReference(Object instance) {
+      final Long identifier = identifiers.get(instance);
+      if (identifier != null) {
+        strongInstances.put(identifier, instance);
+      }
+      return identifier;
+    }
+
+    void addDartCreatedInstance(Object instance, long identifier) {
+      addInstance(instance, identifier);
+    }
+
+    long addHostCreatedInstance(Object instance) {
+      if (identifiers.containsKey(instance)) {
+        throw new IllegalArgumentException();
+      }
+      final long identifier = nextIdentifier++;
+      addInstance(instance, identifier);
+      return identifier;
+    }
+
+    Object getInstance(long identifier) {
+      final WeakReference<Object> instance = weakInstances.get(identifier);
+      return instance != null ? instance.get() : null;
+    }
+
+    private void addInstance(Object instance, long identifier) {
+      if (weakInstances.containsKey(identifier)) {
+        throw new IllegalArgumentException();
+      }
+      final WeakReference<Object> weakReference = new WeakReference<>(instance);
+      identifiers.put(instance, identifier);
+      weakInstances.put(identifier, weakReference);
+      weakReferencesToIdentifiers.put(weakReference, identifier);
+      strongInstances.put(identifier, instance);
+    }
+  }
+}
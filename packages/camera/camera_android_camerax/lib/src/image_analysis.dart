@@ -24,13 +24,17 @@ class ImageAnalysis extends UseCase {
   ImageAnalysis(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      this.resolutionSelector})
+      this.resolutionSelector,
+      this.outputImageFormat,
+      this.backpressureStrategy,
+      this.imageQueueDepth})
       : super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
     _api = _ImageAnalysisHostApiImpl(
         binaryMessenger: binaryMessenger, instanceManager: instanceManager);
-    _api.createfromInstances(this, resolutionSelector);
+    _api.createfromInstances(this, resolutionSelector, outputImageFormat,
+        backpressureStrategy, imageQueueDepth);
     AndroidCameraXCameraFlutterApis.instance.ensureSetUp();
   }
 
@@ -38,7 +42,10 @@ class ImageAnalysis extends UseCase {
   ImageAnalysis.detached(
       {BinaryMessenger? binaryMessenger,
       InstanceManager? instanceManager,
-      this.resolutionSelector})
+      this.resolutionSelector,
+      this.outputImageFormat,
+      this.backpressureStrategy,
+      this.imageQueueDepth})
       : super.detached(
             binaryMessenger: binaryMessenger,
             instanceManager: instanceManager) {
@@ -55,6 +62,45 @@ class ImageAnalysis extends UseCase {
   /// https://developer.android.com/reference/androidx/camera/core/ImageAnalysis.Builder#setResolutionSelector(androidx.camera.core.resolutionselector.ResolutionSelector).
   final ResolutionSelector? resolutionSelector;
 
+  /// Format of the images sent to the [Analyzer], either
+  /// [outputImageFormatYuv420888] or [outputImageFormatRgba8888].
+  ///
+  /// If not set, images will be in [outputImageFormatYuv420888].
+  final int? outputImageFormat;
+
+  /// Strategy used to deliver images when the [Analyzer] is slower than the
+  /// camera, either [strategyKeepOnlyLatest] or [strategyBlockProducer].
+  ///
+  /// If not set, [strategyKeepOnlyLatest] will be used.
+  final int? backpressureStrategy;
+
+  /// Number of images available to the camera pipeline when
+  /// [backpressureStrategy] is [strategyBlockProducer].
+  ///
+  /// If not set, this [UseCase] will default to the behavior described in:
+  /// https://developer.android.com/reference/androidx/camera/core/ImageAnalysis.Builder#setImageQueueDepth(int).
+  final int? imageQueueDepth;
+
+  /// Constant for only delivering the latest image to the [Analyzer].
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#STRATEGY_KEEP_ONLY_LATEST().
+  static const int strategyKeepOnlyLatest = 0;
+
+  /// Constant for queueing images until the [Analyzer] is ready for them.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#STRATEGY_BLOCK_PRODUCER().
+  static const int strategyBlockProducer = 1;
+
+  /// Constant for images in YUV_420_888 format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_YUV_420_888().
+  static const int outputImageFormatYuv420888 = 1;
+
+  /// Constant for images in RGBA_8888 format.
+  ///
+  /// See https://developer.android.com/reference/androidx/camera/core/ImageAnalysis#OUTPUT_IMAGE_FORMAT_RGBA_8888().
+  static const int outputImageFormatRgba8888 = 2;
+
   /// Sets an [Analyzer] to receive and analyze images.
   Future<void> setAnalyzer(Analyzer analyzer) =>
       _api.setAnalyzerfromInstances(this, analyzer);
@@ -83,17 +129,23 @@ class _ImageAnalysisHostApiImpl extends ImageAnalysisHostApi {
 
   final InstanceManager instanceManager;
 
-  /// Creates an [ImageAnalysis] instance with the specified target resolution
-  /// on the native side.
+  /// Creates an [ImageAnalysis] instance with the specified target resolution,
+  /// output image format and backpressure configuration on the native side.
   Future<void> createfromInstances(
     ImageAnalysis instance,
     ResolutionSelector? resolutionSelector,
+    int? outputImageFormat,
+    int? backpressureStrategy,
+    int? imageQueueDepth,
   ) {
     return create(
       instanceManager.addDartCreatedInstance(
         instance,
         onCopy: (ImageAnalysis original) => ImageAnalysis.detached(
           resolutionSelector: original.resolutionSelector,
+          outputImageFormat: original.outputImageFormat,
+          backpressureStrategy: original.backpressureStrategy,
+          imageQueueDepth: original.imageQueueDepth,
           binaryMessenger: binaryMessenger,
           instanceManager: instanceManager,
         ),
@@ -101,6 +153,9 @@ class _ImageAnalysisHostApiImpl extends ImageAnalysisHostApi {
       resolutionSelector == null
           ? null
           : instanceManager.getIdentifier(resolutionSelector),
+      outputImageFormat,
+      backpressureStrategy,
+      imageQueueDepth,
     );
   }
 
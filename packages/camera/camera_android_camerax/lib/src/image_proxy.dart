@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:flutter/services.dart' show BinaryMessenger;
 import 'package:meta/meta.dart' show immutable, protected;
@@ -45,7 +46,11 @@ class ImageProxy extends JavaObject {
   late final _ImageProxyHostApiImpl _api;
 
   /// Returns the list of color planes of image data.
-  Future<List<PlaneProxy>> getPlanes() => _api.getPlanesFromInstances(this);
+  ///
+  /// All planes are transferred in a single message. The returned
+  /// [PlaneProxy]s are not attached to native objects.
+  Future<List<PlaneProxy>> getPlanes() =>
+      _api.getPackedPlanesFromInstances(this);
 
   /// Closes the underlying image.
   Future<void> close() => _api.closeFromInstances(this);
@@ -67,19 +72,41 @@ class _ImageProxyHostApiImpl extends ImageProxyHostApi {
 
   final InstanceManager instanceManager;
 
-  /// Returns the list of color planes of the image data represnted by the
-  /// [instance].
-  Future<List<PlaneProxy>> getPlanesFromInstances(
+  /// Returns the list of color planes of the image data represented by the
+  /// [instance], transferred in a single packed payload.
+  ///
+  /// See `ImageProxyHostApiImpl.getPackedPlanes` for the layout of the
+  /// payload.
+  Future<List<PlaneProxy>> getPackedPlanesFromInstances(
     ImageProxy instance,
   ) async {
-    final List<int?> planesAsObjects = await getPlanes(
+    final Uint8List packedPlanes = await getPackedPlanes(
       instanceManager.getIdentifier(instance)!,
     );
-
-    return planesAsObjects.map((int? planeIdentifier) {
-      return instanceManager
-          .getInstanceWithWeakReference<PlaneProxy>(planeIdentifier!)!;
-    }).toList();
+    final ByteData header = ByteData.sublistView(packedPlanes);
+
+    // The header starts with the format, width and height of the image.
+    final int planeCount = header.getInt32(12, Endian.little);
+    int descriptorOffset = 16;
+    int dataOffset = descriptorOffset + planeCount * 12;
+    final List<PlaneProxy> planes = <PlaneProxy>[];
+    for (int i = 0; i < planeCount; i++) {
+      final int rowStride = header.getInt32(descriptorOffset, Endian.little);
+      final int pixelStride =
+          header.getInt32(descriptorOffset + 4, Endian.little);
+      final int length = header.getInt32(descriptorOffset + 8, Endian.little);
+      planes.add(PlaneProxy.detached(
+        binaryMessenger: binaryMessenger,
+        instanceManager: instanceManager,
+        buffer: Uint8List.sublistView(
+            packedPlanes, dataOffset, dataOffset + length),
+        pixelStride: pixelStride,
+        rowStride: rowStride,
+      ));
+      descriptorOffset += 12;
+      dataOffset += length;
+    }
+    return planes;
   }
 
   /// Closes the underlying image of the [instance].
@@ -334,7 +334,8 @@ abstract class ZoomStateFlutterApi {
 
 @HostApi(dartHostTestHandler: 'TestImageAnalysisHostApi')
 abstract class ImageAnalysisHostApi {
-  void create(int identifier, int? resolutionSelectorId);
+  void create(int identifier, int? resolutionSelectorId, int? outputImageFormat,
+      int? backpressureStrategy, int? imageQueueDepth);
 
   void setAnalyzer(int identifier, int analyzerIdentifier);
 
@@ -386,6 +387,8 @@ abstract class AnalyzerFlutterApi {
 abstract class ImageProxyHostApi {
   List<int> getPlanes(int identifier);
 
+  Uint8List getPackedPlanes(int identifier);
+
   void close(int identifier);
 }
 
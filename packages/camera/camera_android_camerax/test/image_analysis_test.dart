@@ -56,7 +56,36 @@ void main() {
 
       verify(mockApi.create(
           argThat(equals(instanceManager.getIdentifier(instance))),
-          argThat(equals(mockResolutionSelectorId))));
+          argThat(equals(mockResolutionSelectorId)),
+          null,
+          null,
+          null));
+    });
+
+    test(
+        'create calls create on the Java side with output format and backpressure options',
+        () {
+      final MockTestImageAnalysisHostApi mockApi =
+          MockTestImageAnalysisHostApi();
+      TestImageAnalysisHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final ImageAnalysis instance = ImageAnalysis(
+        outputImageFormat: ImageAnalysis.outputImageFormatRgba8888,
+        backpressureStrategy: ImageAnalysis.strategyBlockProducer,
+        imageQueueDepth: 4,
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.create(
+          argThat(equals(instanceManager.getIdentifier(instance))),
+          null,
+          ImageAnalysis.outputImageFormatRgba8888,
+          ImageAnalysis.strategyBlockProducer,
+          4));
     });
 
     test('setAnalyzer makes call to set analyzer on ImageAnalysis instance',
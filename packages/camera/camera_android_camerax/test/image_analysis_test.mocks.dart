@@ -34,6 +34,9 @@ class MockTestImageAnalysisHostApi extends _i1.Mock
   void create(
     int? identifier,
     int? resolutionSelectorId,
+    int? outputImageFormat,
+    int? backpressureStrategy,
+    int? imageQueueDepth,
   ) =>
       super.noSuchMethod(
         Invocation.method(
@@ -41,6 +44,9 @@ class MockTestImageAnalysisHostApi extends _i1.Mock
           [
             identifier,
             resolutionSelectorId,
+            outputImageFormat,
+            backpressureStrategy,
+            imageQueueDepth,
           ],
         ),
         returnValueForMissingStub: null,
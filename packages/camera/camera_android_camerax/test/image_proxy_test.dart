@@ -35,7 +35,7 @@ void main() {
       );
 
       final ImageProxy instance = ImageProxy.detached(
-          instanceManager: instanceManager, format: 2, height: 7, width: 10);
+          instanceManager: instanceManager, format: 35, height: 2, width: 2);
       const int instanceIdentifier = 0;
       instanceManager.addHostCreatedInstance(instance, instanceIdentifier,
           onCopy: (ImageProxy original) => ImageProxy.detached(
@@ -43,32 +43,33 @@ void main() {
               format: original.format,
               height: original.height,
               width: original.width));
-      final PlaneProxy planeProxy = PlaneProxy.detached(
-          instanceManager: instanceManager,
-          buffer: Uint8List(3),
-          pixelStride: 3,
-          rowStride: 20);
-      const int planeProxyIdentifier = 48;
-      instanceManager.addHostCreatedInstance(planeProxy, planeProxyIdentifier,
-          onCopy: (PlaneProxy original) => PlaneProxy.detached(
-              instanceManager: instanceManager,
-              buffer: original.buffer,
-              pixelStride: original.pixelStride,
-              rowStride: original.rowStride));
 
-      final List<int> result = <int>[planeProxyIdentifier];
-      when(mockApi.getPlanes(
+      final ByteData packedPlanes = ByteData(16 + 2 * 12 + 6);
+      final List<int> header = <int>[35, 2, 2, 2, 2, 1, 4, 2, 2, 2];
+      for (int i = 0; i < header.length; i++) {
+        packedPlanes.setInt32(i * 4, header[i], Endian.little);
+      }
+      final Uint8List result = packedPlanes.buffer.asUint8List();
+      result.setAll(40, <int>[1, 2, 3, 4, 5, 6]);
+      when(mockApi.getPackedPlanes(
         instanceIdentifier,
       )).thenAnswer((_) {
         return result;
       });
 
       final List<PlaneProxy> planes = await instance.getPlanes();
-      expect(planes[0], equals(planeProxy));
-
-      verify(mockApi.getPlanes(
+      expect(planes.length, equals(2));
+      expect(planes[0].buffer, equals(<int>[1, 2, 3, 4]));
+      expect(planes[0].rowStride, equals(2));
+      expect(planes[0].pixelStride, equals(1));
+      expect(planes[1].buffer, equals(<int>[5, 6]));
+      expect(planes[1].rowStride, equals(2));
+      expect(planes[1].pixelStride, equals(2));
+
+      verify(mockApi.getPackedPlanes(
         instanceIdentifier,
       ));
+      verifyNever(mockApi.getPlanes(any));
     });
 
     test('close', () async {
@@ -5,6 +5,8 @@
 // @dart=2.19
 
 // ignore_for_file: no_leading_underscores_for_library_prefixes
+import 'dart:typed_data' as _i3;
+
 import 'package:mockito/mockito.dart' as _i1;
 
 import 'test_camerax_library.g.dart' as _i2;
@@ -38,6 +40,14 @@ class MockTestImageProxyHostApi extends _i1.Mock
         returnValue: <int?>[],
       ) as List<int?>);
   @override
+  _i3.Uint8List getPackedPlanes(int? identifier) => (super.noSuchMethod(
+        Invocation.method(
+          #getPackedPlanes,
+          [identifier],
+        ),
+        returnValue: _i3.Uint8List(0),
+      ) as _i3.Uint8List);
+  @override
   void close(int? identifier) => super.noSuchMethod(
         Invocation.method(
           #close,
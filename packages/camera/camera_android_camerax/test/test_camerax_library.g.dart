@@ -1261,7 +1261,8 @@ abstract class TestImageAnalysisHostApi {
       TestDefaultBinaryMessengerBinding.instance;
   static const MessageCodec<Object?> codec = StandardMessageCodec();
 
-  void create(int identifier, int? resolutionSelectorId);
+  void create(int identifier, int? resolutionSelectorId, int? outputImageFormat,
+      int? backpressureStrategy, int? imageQueueDepth);
 
   void setAnalyzer(int identifier, int analyzerIdentifier);
 
@@ -1287,7 +1288,11 @@ abstract class TestImageAnalysisHostApi {
           assert(arg_identifier != null,
               'Argument for dev.flutter.pigeon.ImageAnalysisHostApi.create was null, expected non-null int.');
           final int? arg_resolutionSelectorId = (args[1] as int?);
-          api.create(arg_identifier!, arg_resolutionSelectorId);
+          final int? arg_outputImageFormat = (args[2] as int?);
+          final int? arg_backpressureStrategy = (args[3] as int?);
+          final int? arg_imageQueueDepth = (args[4] as int?);
+          api.create(arg_identifier!, arg_resolutionSelectorId,
+              arg_outputImageFormat, arg_backpressureStrategy, arg_imageQueueDepth);
           return <Object?>[];
         });
       }
@@ -1529,6 +1534,8 @@ abstract class TestImageProxyHostApi {
 
   List<int?> getPlanes(int identifier);
 
+  Uint8List getPackedPlanes(int identifier);
+
   void close(int identifier);
 
   static void setup(TestImageProxyHostApi? api,
@@ -1555,6 +1562,28 @@ abstract class TestImageProxyHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.ImageProxyHostApi.getPackedPlanes', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.ImageProxyHostApi.getPackedPlanes was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.ImageProxyHostApi.getPackedPlanes was null, expected non-null int.');
+          final Uint8List output = api.getPackedPlanes(arg_identifier!);
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.ImageProxyHostApi.close', codec,
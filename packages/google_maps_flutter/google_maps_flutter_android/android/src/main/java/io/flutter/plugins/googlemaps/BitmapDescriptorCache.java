@@ -0,0 +1,114 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the {@link BitmapDescriptor}s of marker icons, so that an icon shared by many markers is
+ * only decoded once.
+ *
+ * <p>Icons are keyed by their serialized form, i.e. the asset name or the content of the image
+ * bytes. The least recently used descriptors are evicted above {@code maxSize} icons.
+ */
+class BitmapDescriptorCache {
+
+  /** Converts the serialized form of an icon to a {@link BitmapDescriptor}. */
+  interface Decoder {
+    BitmapDescriptor decode(Object icon);
+  }
+
+  static final int DEFAULT_MAX_SIZE = 64;
+
+  private final Decoder decoder;
+  private final Map<IconKey, CachedIcon> icons;
+
+  BitmapDescriptorCache() {
+    this(Convert::toBitmapDescriptor, DEFAULT_MAX_SIZE);
+  }
+
+  @VisibleForTesting
+  BitmapDescriptorCache(@NonNull Decoder decoder, final int maxSize) {
+    this.decoder = decoder;
+    this.icons =
+        new LinkedHashMap<IconKey, CachedIcon>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<IconKey, CachedIcon> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /** Returns the descriptor of {@code icon}, decoding it if it is not cached. */
+  BitmapDescriptor get(Object icon) {
+    final IconKey key = new IconKey((List<?>) icon);
+    CachedIcon cachedIcon = icons.get(key);
+    if (cachedIcon == null) {
+      cachedIcon = new CachedIcon(icon, decoder.decode(icon));
+      icons.put(key, cachedIcon);
+    }
+    return cachedIcon.descriptor;
+  }
+
+  /**
+   * Returns the cached icon with the same content as {@code icon}, or {@code icon} if it is not
+   * cached.
+   *
+   * <p>Used to keep a single copy of the image bytes of an icon shared by many markers.
+   */
+  Object intern(Object icon) {
+    final CachedIcon cachedIcon = icons.get(new IconKey((List<?>) icon));
+    return cachedIcon != null ? cachedIcon.icon : icon;
+  }
+
+  @VisibleForTesting
+  int size() {
+    return icons.size();
+  }
+
+  private static final class CachedIcon {
+    final Object icon;
+    final BitmapDescriptor descriptor;
+
+    CachedIcon(Object icon, BitmapDescriptor descriptor) {
+      this.icon = icon;
+      this.descriptor = descriptor;
+    }
+  }
+
+  /** Compares icons by content, including the content of image bytes. */
+  private static final class IconKey {
+    private final Object[] icon;
+    private final int hashCode;
+
+    IconKey(List<?> icon) {
+      this.icon = icon.toArray();
+      this.hashCode = Arrays.deepHashCode(this.icon);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof IconKey)) {
+        return false;
+      }
+      final IconKey other = (IconKey) o;
+      return hashCode == other.hashCode && Arrays.deepEquals(icon, other.icon);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.CameraPosition;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends the {@code camera#onMove} events of a map to Dart while the camera moves.
+ *
+ * <p>Only one event is in flight at a time. Positions reported while Dart has not handled the
+ * previous event, or before the minimum interval since the previous event has elapsed, replace each
+ * other and only the latest one is sent. Positions that differ from the last sent one by less than
+ * the minimum delta are not sent while the camera moves.
+ *
+ * <p>The final position is always sent when the camera becomes idle, so that the last {@code
+ * camera#onMove} event before {@code camera#onIdle} has the exact position of the camera.
+ *
+ * <p>This class must be used on the platform thread.
+ */
+class CameraMoveEventThrottler {
+  private final MethodChannel methodChannel;
+  private final Handler handler;
+  private final Runnable sendPendingPosition = this::onIntervalElapsed;
+
+  private long minIntervalMillis;
+  private double minDelta;
+
+  @Nullable private CameraPosition pendingPosition;
+  @Nullable private CameraPosition lastSentPosition;
+  private long lastSentMillis;
+  private int eventsInFlight;
+  private boolean sendScheduled;
+
+  CameraMoveEventThrottler(@NonNull MethodChannel methodChannel) {
+    this(methodChannel, new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  CameraMoveEventThrottler(@NonNull MethodChannel methodChannel, @NonNull Handler handler) {
+    this.methodChannel = methodChannel;
+    this.handler = handler;
+  }
+
+  /**
+   * Sets the limits of the events sent while the camera moves.
+   *
+   * @param maxEventsPerSecond is the maximum number of events sent per second, 0 removes the limit.
+   * @param minDelta is the change of latitude or longitude in degrees, or of zoom, tilt or bearing,
+   *     below which a new position is not sent. 0 sends every change.
+   */
+  void setLimits(int maxEventsPerSecond, double minDelta) {
+    this.minIntervalMillis = maxEventsPerSecond > 0 ? 1000 / maxEventsPerSecond : 0;
+    this.minDelta = Math.max(0, minDelta);
+  }
+
+  void onCameraMove(@NonNull CameraPosition position) {
+    pendingPosition = position;
+    sendPendingPositionIfAllowed();
+  }
+
+  /** Sends the final position of the camera if it was not sent yet. */
+  void onCameraIdle() {
+    cancelScheduledSend();
+    final CameraPosition position = pendingPosition;
+    if (position != null
+        && (lastSentPosition == null || !isWithinDelta(position, lastSentPosition, 0))) {
+      send(position);
+    }
+    pendingPosition = null;
+  }
+
+  /** Drops the pending position, for instance when camera tracking is disabled. */
+  void reset() {
+    cancelScheduledSend();
+    pendingPosition = null;
+  }
+
+  private void onIntervalElapsed() {
+    sendScheduled = false;
+    sendPendingPositionIfAllowed();
+  }
+
+  private void sendPendingPositionIfAllowed() {
+    final CameraPosition position = pendingPosition;
+    if (position == null || eventsInFlight > 0 || sendScheduled) {
+      return;
+    }
+    if (lastSentPosition != null && isWithinDelta(position, lastSentPosition, minDelta)) {
+      // Kept pending, so that it is sent when the camera becomes idle.
+      return;
+    }
+    final long delayMillis = lastSentMillis + minIntervalMillis - SystemClock.uptimeMillis();
+    if (delayMillis > 0) {
+      sendScheduled = true;
+      handler.postDelayed(sendPendingPosition, delayMillis);
+      return;
+    }
+    send(position);
+  }
+
+  private void send(CameraPosition position) {
+    pendingPosition = null;
+    lastSentPosition = position;
+    lastSentMillis = SystemClock.uptimeMillis();
+    eventsInFlight++;
+
+    final Map<String, Object> arguments = new HashMap<>(2);
+    arguments.put("position", Convert.cameraPositionToJson(position));
+    methodChannel.invokeMethod(
+        "camera#onMove",
+        arguments,
+        new MethodChannel.Result() {
+          @Override
+          public void success(Object result) {
+            onEventHandled();
+          }
+
+          @Override
+          public void error(String errorCode, String errorMessage, Object errorDetails) {
+            onEventHandled();
+          }
+
+          @Override
+          public void notImplemented() {
+            onEventHandled();
+          }
+        });
+  }
+
+  private void onEventHandled() {
+    eventsInFlight--;
+    sendPendingPositionIfAllowed();
+  }
+
+  private void cancelScheduledSend() {
+    if (sendScheduled) {
+      handler.removeCallbacks(sendPendingPosition);
+      sendScheduled = false;
+    }
+  }
+
+  private static boolean isWithinDelta(CameraPosition a, CameraPosition b, double delta) {
+    return Math.abs(a.target.latitude - b.target.latitude) <= delta
+        && Math.abs(a.target.longitude - b.target.longitude) <= delta
+        && Math.abs(a.zoom - b.zoom) <= delta
+        && Math.abs(a.tilt - b.tilt) <= delta
+        && Math.abs(a.bearing - b.bearing) <= delta;
+  }
+}
@@ -0,0 +1,78 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Draws the icons of marker clusters.
+ *
+ * <p>Icons show the number of markers of the cluster, rounded down to a bucket such as "50+" above
+ * 10 markers, so that only a few icons are drawn and they can be shared by all clusters.
+ */
+class ClusterIcons {
+  private static final int[] BUCKETS = {10, 20, 50, 100, 200, 500, 1000};
+  private static final int COLOR = 0xFF1A73E8;
+  private static final int BASE_DIAMETER_DP = 36;
+  private static final int STROKE_WIDTH_DP = 2;
+  private static final int TEXT_SIZE_DP = 14;
+
+  private final Map<String, BitmapDescriptor> labelToIcon = new HashMap<>();
+
+  /** Returns the icon of a cluster of {@code count} markers. */
+  BitmapDescriptor get(int count) {
+    final String label = getLabel(count);
+    BitmapDescriptor icon = labelToIcon.get(label);
+    if (icon == null) {
+      icon = BitmapDescriptorFactory.fromBitmap(draw(label));
+      labelToIcon.put(label, icon);
+    }
+    return icon;
+  }
+
+  @VisibleForTesting
+  static String getLabel(int count) {
+    for (int i = BUCKETS.length - 1; i >= 0; i--) {
+      if (count >= BUCKETS[i]) {
+        return BUCKETS[i] + "+";
+      }
+    }
+    return String.valueOf(count);
+  }
+
+  private static Bitmap draw(String label) {
+    final float density = Resources.getSystem().getDisplayMetrics().density;
+    // Larger clusters are drawn slightly larger.
+    final float diameter = (BASE_DIAMETER_DP + 2 * label.length()) * density;
+    final float strokeWidth = STROKE_WIDTH_DP * density;
+    final int size = (int) Math.ceil(diameter);
+    final Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+    final Canvas canvas = new Canvas(bitmap);
+    final float center = size / 2f;
+
+    final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    paint.setColor(0xFFFFFFFF);
+    canvas.drawCircle(center, center, diameter / 2, paint);
+    paint.setColor(COLOR);
+    canvas.drawCircle(center, center, diameter / 2 - strokeWidth, paint);
+
+    paint.setColor(0xFFFFFFFF);
+    paint.setTextSize(TEXT_SIZE_DP * density);
+    paint.setTypeface(Typeface.DEFAULT_BOLD);
+    paint.setTextAlign(Paint.Align.CENTER);
+    final float baseline = center - (paint.descent() + paint.ascent()) / 2;
+    canvas.drawText(label, center, baseline, paint);
+    return bitmap;
+  }
+}
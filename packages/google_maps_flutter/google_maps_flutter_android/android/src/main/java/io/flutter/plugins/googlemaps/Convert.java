@@ -7,6 +7,7 @@ package io.flutter.plugins.googlemaps;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Point;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.CameraUpdate;
 import com.google.android.gms.maps.CameraUpdateFactory;
@@ -37,7 +38,7 @@ class Convert {
   // TODO(hamdikahloun): FlutterMain has been deprecated and should be replaced with FlutterLoader
   //  when it's available in Stable channel: https://github.com/flutter/flutter/issues/70923.
   @SuppressWarnings("deprecation")
-  private static BitmapDescriptor toBitmapDescriptor(Object o) {
+  static BitmapDescriptor toBitmapDescriptor(Object o) {
     final List<?> data = toList(o);
     switch (toString(data.get(0))) {
       case "defaultMarker":
@@ -148,6 +149,10 @@ class Convert {
     return ((Number) o).intValue();
   }
 
+  private static long toLong(Object o) {
+    return ((Number) o).longValue();
+  }
+
   static Object cameraPositionToJson(CameraPosition position) {
     if (position == null) {
       return null;
@@ -176,6 +181,15 @@ class Convert {
     return data;
   }
 
+  static Object clusterToJson(MarkerClusterer.Cluster cluster) {
+    final Map<String, Object> data = new HashMap<>(4);
+    data.put("clusterId", cluster.id);
+    data.put("position", latLngToJson(cluster.position));
+    data.put("bounds", latlngBoundsToJson(cluster.bounds));
+    data.put("markerIds", cluster.markerIds);
+    return data;
+  }
+
   static Object polygonIdToJson(String polygonId) {
     if (polygonId == null) {
       return null;
@@ -381,6 +395,16 @@ class Convert {
 
   /** Returns the dartMarkerId of the interpreted marker. */
   static String interpretMarkerOptions(Object o, MarkerOptionsSink sink) {
+    return interpretMarkerOptions(o, sink, null);
+  }
+
+  /**
+   * Returns the dartMarkerId of the interpreted marker.
+   *
+   * <p>Icons are looked up in {@code bitmapDescriptorCache}, if it is not null.
+   */
+  static String interpretMarkerOptions(
+      Object o, MarkerOptionsSink sink, @Nullable BitmapDescriptorCache bitmapDescriptorCache) {
     final Map<?, ?> data = toMap(o);
     final Object alpha = data.get("alpha");
     if (alpha != null) {
@@ -405,7 +429,10 @@ class Convert {
     }
     final Object icon = data.get("icon");
     if (icon != null) {
-      sink.setIcon(toBitmapDescriptor(icon));
+      sink.setIcon(
+          bitmapDescriptorCache != null
+              ? bitmapDescriptorCache.get(icon)
+              : toBitmapDescriptor(icon));
     }
 
     final Object infoWindow = data.get("infoWindow");
@@ -436,6 +463,64 @@ class Convert {
     }
   }
 
+  /**
+   * Returns the options of {@code current} whose values differ from {@code previous}.
+   *
+   * <p>The option named {@code idKey} is always included, so that the result can be interpreted
+   * like the full options. Values are compared by content, including nested lists, maps and byte
+   * arrays.
+   */
+  static Map<Object, Object> changedOptions(Map<?, ?> previous, Map<?, ?> current, String idKey) {
+    final Map<Object, Object> changed = new HashMap<>();
+    for (Map.Entry<?, ?> entry : current.entrySet()) {
+      final Object key = entry.getKey();
+      if (idKey.equals(key) || !deepEquals(previous.get(key), entry.getValue())) {
+        changed.put(key, entry.getValue());
+      }
+    }
+    return changed;
+  }
+
+  private static boolean deepEquals(Object a, Object b) {
+    if (a == b) {
+      return true;
+    }
+    if (a == null || b == null) {
+      return false;
+    }
+    if (a instanceof byte[] && b instanceof byte[]) {
+      return Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof List && b instanceof List) {
+      final List<?> listA = (List<?>) a;
+      final List<?> listB = (List<?>) b;
+      if (listA.size() != listB.size()) {
+        return false;
+      }
+      for (int i = 0; i < listA.size(); i++) {
+        if (!deepEquals(listA.get(i), listB.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      final Map<?, ?> mapA = (Map<?, ?>) a;
+      final Map<?, ?> mapB = (Map<?, ?>) b;
+      if (mapA.size() != mapB.size()) {
+        return false;
+      }
+      for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+        if (!mapB.containsKey(entry.getKey())
+            || !deepEquals(entry.getValue(), mapB.get(entry.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return a.equals(b);
+  }
+
   private static void interpretInfoWindowOptions(
       MarkerOptionsSink sink, Map<String, Object> infoWindow) {
     String title = (String) infoWindow.get("title");
@@ -593,8 +678,17 @@ class Convert {
     }
   }
 
+  /**
+   * Returns the points of a polyline, polygon or hole.
+   *
+   * <p>Points are either a list of [latitude, longitude] lists, or packed as a double array of
+   * alternating latitudes and longitudes.
+   */
   @VisibleForTesting
   static List<LatLng> toPoints(Object o) {
+    if (o instanceof double[]) {
+      return toPackedPoints((double[]) o);
+    }
     final List<?> data = toList(o);
     final List<LatLng> points = new ArrayList<>(data.size());
 
@@ -605,6 +699,19 @@ class Convert {
     return points;
   }
 
+  private static List<LatLng> toPackedPoints(double[] data) {
+    if (data.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points should have an even number of values. Got: " + data.length);
+    }
+    final int count = data.length / 2;
+    final LatLng[] points = new LatLng[count];
+    for (int i = 0; i < count; i++) {
+      points[i] = new LatLng(data[2 * i], data[2 * i + 1]);
+    }
+    return Arrays.asList(points);
+  }
+
   private static List<List<LatLng>> toHoles(Object o) {
     final List<?> data = toList(o);
     final List<List<LatLng>> holes = new ArrayList<>(data.size());
@@ -681,6 +788,22 @@ class Convert {
     if (visible != null) {
       sink.setVisible(toBoolean(visible));
     }
+    final Object memoryCacheSizeBytes = data.get("memoryCacheSizeBytes");
+    if (memoryCacheSizeBytes != null) {
+      sink.setMemoryCacheSize(toLong(memoryCacheSizeBytes));
+    }
+    final Object diskCacheSizeBytes = data.get("diskCacheSizeBytes");
+    if (diskCacheSizeBytes != null) {
+      sink.setDiskCacheSize(toLong(diskCacheSizeBytes));
+    }
+    final Object cacheTimeToLiveMillis = data.get("cacheTimeToLiveMillis");
+    if (cacheTimeToLiveMillis != null) {
+      sink.setCacheTimeToLive(toLong(cacheTimeToLiveMillis));
+    }
+    final Object diskCacheKey = data.get("diskCacheKey");
+    if (diskCacheKey != null) {
+      sink.setDiskCacheKey(toString(diskCacheKey));
+    }
     final String tileOverlayId = (String) data.get("tileOverlayId");
     if (tileOverlayId == null) {
       throw new IllegalArgumentException("tileOverlayId was null");
@@ -689,6 +812,51 @@ class Convert {
     }
   }
 
+  static String interpretHeatmapOptions(Object o, HeatmapOptionsSink sink) {
+    final Map<?, ?> data = toMap(o);
+    final Object points = data.get("data");
+    if (points != null) {
+      sink.setData((double[]) points);
+    }
+    final Object radius = data.get("radius");
+    if (radius != null) {
+      sink.setRadius(toInt(radius));
+    }
+    final Object gradient = data.get("gradient");
+    if (gradient != null) {
+      final Map<?, ?> gradientData = toMap(gradient);
+      final List<?> colors = toList(gradientData.get("colors"));
+      final List<?> startPoints = toList(gradientData.get("startPoints"));
+      final int[] colorValues = new int[colors.size()];
+      final float[] startPointValues = new float[startPoints.size()];
+      for (int i = 0; i < colorValues.length; i++) {
+        colorValues[i] = toInt(colors.get(i));
+      }
+      for (int i = 0; i < startPointValues.length; i++) {
+        startPointValues[i] = toFloat(startPoints.get(i));
+      }
+      sink.setGradient(colorValues, startPointValues);
+    }
+    final Object opacity = data.get("opacity");
+    if (opacity != null) {
+      sink.setOpacity(toFloat(opacity));
+    }
+    final Object zIndex = data.get("zIndex");
+    if (zIndex != null) {
+      sink.setZIndex(toFloat(zIndex));
+    }
+    final Object visible = data.get("visible");
+    if (visible != null) {
+      sink.setVisible(toBoolean(visible));
+    }
+    final String heatmapId = (String) data.get("heatmapId");
+    if (heatmapId == null) {
+      throw new IllegalArgumentException("heatmapId was null");
+    } else {
+      return heatmapId;
+    }
+  }
+
   static Tile interpretTile(Map<String, ?> data) {
     int width = toInt(data.get("width"));
     int height = toInt(data.get("height"));
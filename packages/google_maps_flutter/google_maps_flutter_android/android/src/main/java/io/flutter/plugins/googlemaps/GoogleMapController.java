@@ -8,7 +8,6 @@ import android.Manifest;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.pm.PackageManager;
-import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
 import android.util.Log;
@@ -22,7 +21,6 @@ import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LifecycleOwner;
 import com.google.android.gms.maps.CameraUpdate;
 import com.google.android.gms.maps.GoogleMap;
-import com.google.android.gms.maps.GoogleMap.SnapshotReadyCallback;
 import com.google.android.gms.maps.GoogleMapOptions;
 import com.google.android.gms.maps.MapView;
 import com.google.android.gms.maps.OnMapReadyCallback;
@@ -39,7 +37,6 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.platform.PlatformView;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +54,10 @@ final class GoogleMapController
         PlatformView {
 
   private static final String TAG = "GoogleMapController";
+  // The kinds of map objects updated by map#updateObjects, in the order they are applied.
+  private static final String[] UPDATE_OBJECTS_STAGES = {
+    "markers", "polygons", "polylines", "circles", "tileOverlays"
+  };
   private final int id;
   private final MethodChannel methodChannel;
   private final GoogleMapOptions options;
@@ -79,6 +80,9 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  private final HeatmapsController heatmapsController;
+  private final CameraMoveEventThrottler cameraMoveEventThrottler;
+  private final SnapshotEncoder snapshotEncoder = new SnapshotEncoder();
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -105,7 +109,9 @@ final class GoogleMapController
     this.polygonsController = new PolygonsController(methodChannel, density);
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
-    this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.tileOverlaysController = new TileOverlaysController(methodChannel, context.getCacheDir());
+    this.heatmapsController = new HeatmapsController();
+    this.cameraMoveEventThrottler = new CameraMoveEventThrottler(methodChannel);
   }
 
   @Override
@@ -202,6 +208,7 @@ final class GoogleMapController
     polylinesController.setGoogleMap(googleMap);
     circlesController.setGoogleMap(googleMap);
     tileOverlaysController.setGoogleMap(googleMap);
+    heatmapsController.setGoogleMap(googleMap);
     updateInitialMarkers();
     updateInitialPolygons();
     updateInitialPolylines();
@@ -232,6 +239,15 @@ final class GoogleMapController
           result.success(Convert.cameraPositionToJson(getCameraPosition()));
           break;
         }
+      case "map#setCameraMoveEventLimits":
+        {
+          final Integer maxEventsPerSecond = call.argument("maxEventsPerSecond");
+          final Double minDelta = call.argument("minDelta");
+          cameraMoveEventThrottler.setLimits(
+              maxEventsPerSecond != null ? maxEventsPerSecond : 0, minDelta != null ? minDelta : 0);
+          result.success(null);
+          break;
+        }
       case "map#getVisibleRegion":
         {
           if (googleMap != null) {
@@ -274,18 +290,9 @@ final class GoogleMapController
       case "map#takeSnapshot":
         {
           if (googleMap != null) {
-            final MethodChannel.Result _result = result;
-            googleMap.snapshot(
-                new SnapshotReadyCallback() {
-                  @Override
-                  public void onSnapshotReady(Bitmap bitmap) {
-                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
-                    byte[] byteArray = stream.toByteArray();
-                    bitmap.recycle();
-                    _result.success(byteArray);
-                  }
-                });
+            final SnapshotEncoder.Options options =
+                SnapshotEncoder.Options.fromArguments((Map<?, ?>) call.arguments);
+            googleMap.snapshot(bitmap -> snapshotEncoder.encode(bitmap, options, result));
           } else {
             result.error("GoogleMap uninitialized", "takeSnapshot", null);
           }
@@ -310,12 +317,18 @@ final class GoogleMapController
       case "markers#update":
         {
           invalidateMapIfNeeded();
-          List<Object> markersToAdd = call.argument("markersToAdd");
-          markersController.addMarkers(markersToAdd);
-          List<Object> markersToChange = call.argument("markersToChange");
-          markersController.changeMarkers(markersToChange);
-          List<Object> markerIdsToRemove = call.argument("markerIdsToRemove");
-          markersController.removeMarkers(markerIdsToRemove);
+          updateMarkers(call.arguments());
+          result.success(null);
+          break;
+        }
+      case "markers#setClustering":
+        {
+          invalidateMapIfNeeded();
+          Map<String, Object> clustering = call.arguments();
+          markersController.setClustering(clustering);
+          if (googleMap != null) {
+            updateMarkerClusters();
+          }
           result.success(null);
           break;
         }
@@ -340,36 +353,21 @@ final class GoogleMapController
       case "polygons#update":
         {
           invalidateMapIfNeeded();
-          List<Object> polygonsToAdd = call.argument("polygonsToAdd");
-          polygonsController.addPolygons(polygonsToAdd);
-          List<Object> polygonsToChange = call.argument("polygonsToChange");
-          polygonsController.changePolygons(polygonsToChange);
-          List<Object> polygonIdsToRemove = call.argument("polygonIdsToRemove");
-          polygonsController.removePolygons(polygonIdsToRemove);
+          updatePolygons(call.arguments());
           result.success(null);
           break;
         }
       case "polylines#update":
         {
           invalidateMapIfNeeded();
-          List<Object> polylinesToAdd = call.argument("polylinesToAdd");
-          polylinesController.addPolylines(polylinesToAdd);
-          List<Object> polylinesToChange = call.argument("polylinesToChange");
-          polylinesController.changePolylines(polylinesToChange);
-          List<Object> polylineIdsToRemove = call.argument("polylineIdsToRemove");
-          polylinesController.removePolylines(polylineIdsToRemove);
+          updatePolylines(call.arguments());
           result.success(null);
           break;
         }
       case "circles#update":
         {
           invalidateMapIfNeeded();
-          List<Object> circlesToAdd = call.argument("circlesToAdd");
-          circlesController.addCircles(circlesToAdd);
-          List<Object> circlesToChange = call.argument("circlesToChange");
-          circlesController.changeCircles(circlesToChange);
-          List<Object> circleIdsToRemove = call.argument("circleIdsToRemove");
-          circlesController.removeCircles(circleIdsToRemove);
+          updateCircles(call.arguments());
           result.success(null);
           break;
         }
@@ -467,15 +465,28 @@ final class GoogleMapController
       case "tileOverlays#update":
         {
           invalidateMapIfNeeded();
-          List<Map<String, ?>> tileOverlaysToAdd = call.argument("tileOverlaysToAdd");
-          tileOverlaysController.addTileOverlays(tileOverlaysToAdd);
-          List<Map<String, ?>> tileOverlaysToChange = call.argument("tileOverlaysToChange");
-          tileOverlaysController.changeTileOverlays(tileOverlaysToChange);
-          List<String> tileOverlaysToRemove = call.argument("tileOverlayIdsToRemove");
-          tileOverlaysController.removeTileOverlays(tileOverlaysToRemove);
+          updateTileOverlays(call.arguments());
+          result.success(null);
+          break;
+        }
+      case "heatmaps#update":
+        {
+          invalidateMapIfNeeded();
+          List<Object> heatmapsToAdd = call.argument("heatmapsToAdd");
+          heatmapsController.addHeatmaps(heatmapsToAdd);
+          List<Object> heatmapsToChange = call.argument("heatmapsToChange");
+          heatmapsController.changeHeatmaps(heatmapsToChange);
+          List<Object> heatmapIdsToRemove = call.argument("heatmapIdsToRemove");
+          heatmapsController.removeHeatmaps(heatmapIdsToRemove);
           result.success(null);
           break;
         }
+      case "map#updateObjects":
+        {
+          invalidateMapIfNeeded();
+          result.success(updateObjects(call.arguments()));
+          break;
+        }
       case "tileOverlays#clearTileCache":
         {
           invalidateMapIfNeeded();
@@ -490,6 +501,12 @@ final class GoogleMapController
           result.success(tileOverlaysController.getTileOverlayInfo(tileOverlayId));
           break;
         }
+      case "map#getTileOverlayStatistics":
+        {
+          String tileOverlayId = call.argument("tileOverlayId");
+          result.success(tileOverlaysController.getTileOverlayStatistics(tileOverlayId));
+          break;
+        }
       default:
         result.notImplemented();
     }
@@ -527,14 +544,101 @@ final class GoogleMapController
     if (!trackCameraPosition) {
       return;
     }
-    final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
-    methodChannel.invokeMethod("camera#onMove", arguments);
+    cameraMoveEventThrottler.onCameraMove(googleMap.getCameraPosition());
   }
 
   @Override
   public void onCameraIdle() {
+    if (trackCameraPosition) {
+      cameraMoveEventThrottler.onCameraIdle();
+    }
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
+    if (markersController.isClusteringEnabled()) {
+      updateMarkerClusters();
+    }
+    if (tileOverlaysController.hasTileOverlays()) {
+      tileOverlaysController.onVisibleRegionChanged(
+          googleMap.getProjection().getVisibleRegion().latLngBounds);
+    }
+  }
+
+  /**
+   * Applies the updates of each kind of map object in {@code updates}, and returns the time spent
+   * on each kind in microseconds.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Long> updateObjects(Map<String, Object> updates) {
+    final Map<String, Long> stageMicros = new HashMap<>();
+    final long start = System.nanoTime();
+    for (String stage : UPDATE_OBJECTS_STAGES) {
+      final Map<String, Object> stageUpdates = (Map<String, Object>) updates.get(stage);
+      if (stageUpdates == null) {
+        continue;
+      }
+      final long stageStart = System.nanoTime();
+      switch (stage) {
+        case "markers":
+          updateMarkers(stageUpdates);
+          break;
+        case "polygons":
+          updatePolygons(stageUpdates);
+          break;
+        case "polylines":
+          updatePolylines(stageUpdates);
+          break;
+        case "circles":
+          updateCircles(stageUpdates);
+          break;
+        case "tileOverlays":
+          updateTileOverlays(stageUpdates);
+          break;
+      }
+      stageMicros.put(stage, (System.nanoTime() - stageStart) / 1000);
+    }
+    stageMicros.put("total", (System.nanoTime() - start) / 1000);
+    return stageMicros;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void updateMarkers(Map<String, Object> updates) {
+    markersController.addMarkers((List<Object>) updates.get("markersToAdd"));
+    markersController.changeMarkers((List<Object>) updates.get("markersToChange"));
+    markersController.removeMarkers((List<Object>) updates.get("markerIdsToRemove"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void updatePolygons(Map<String, Object> updates) {
+    polygonsController.addPolygons((List<Object>) updates.get("polygonsToAdd"));
+    polygonsController.changePolygons((List<Object>) updates.get("polygonsToChange"));
+    polygonsController.removePolygons((List<Object>) updates.get("polygonIdsToRemove"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void updatePolylines(Map<String, Object> updates) {
+    polylinesController.addPolylines((List<Object>) updates.get("polylinesToAdd"));
+    polylinesController.changePolylines((List<Object>) updates.get("polylinesToChange"));
+    polylinesController.removePolylines((List<Object>) updates.get("polylineIdsToRemove"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void updateCircles(Map<String, Object> updates) {
+    circlesController.addCircles((List<Object>) updates.get("circlesToAdd"));
+    circlesController.changeCircles((List<Object>) updates.get("circlesToChange"));
+    circlesController.removeCircles((List<Object>) updates.get("circleIdsToRemove"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void updateTileOverlays(Map<String, Object> updates) {
+    tileOverlaysController.addTileOverlays((List<Map<String, ?>>) updates.get("tileOverlaysToAdd"));
+    tileOverlaysController.changeTileOverlays(
+        (List<Map<String, ?>>) updates.get("tileOverlaysToChange"));
+    tileOverlaysController.removeTileOverlays((List<String>) updates.get("tileOverlayIdsToRemove"));
+  }
+
+  private void updateMarkerClusters() {
+    markersController.onCameraIdle(
+        googleMap.getCameraPosition().zoom,
+        googleMap.getProjection().getVisibleRegion().latLngBounds);
   }
 
   @Override
@@ -580,6 +684,7 @@ final class GoogleMapController
     disposed = true;
     methodChannel.setMethodCallHandler(null);
     setGoogleMapListener(null);
+    cameraMoveEventThrottler.reset();
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
@@ -696,6 +801,9 @@ final class GoogleMapController
   @Override
   public void setTrackCameraPosition(boolean trackCameraPosition) {
     this.trackCameraPosition = trackCameraPosition;
+    if (!trackCameraPosition) {
+      cameraMoveEventThrottler.reset();
+    }
   }
 
   @Override
@@ -0,0 +1,57 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.TileOverlayOptions;
+
+class HeatmapBuilder implements HeatmapOptionsSink {
+  private final TileOverlayOptions tileOverlayOptions;
+  private double[] data = new double[0];
+  private int radius = HeatmapTileProvider.DEFAULT_RADIUS;
+  private int[] gradientColors = HeatmapTileProvider.DEFAULT_GRADIENT_COLORS;
+  private float[] gradientStartPoints = HeatmapTileProvider.DEFAULT_GRADIENT_START_POINTS;
+  private float opacity = HeatmapTileProvider.DEFAULT_OPACITY;
+
+  HeatmapBuilder() {
+    this.tileOverlayOptions = new TileOverlayOptions();
+  }
+
+  /** Returns the options of a tile overlay that renders the heatmap. */
+  TileOverlayOptions build() {
+    return tileOverlayOptions.tileProvider(
+        new HeatmapTileProvider(data, radius, gradientColors, gradientStartPoints, opacity));
+  }
+
+  @Override
+  public void setData(double[] data) {
+    this.data = data;
+  }
+
+  @Override
+  public void setRadius(int radius) {
+    this.radius = radius;
+  }
+
+  @Override
+  public void setGradient(int[] colors, float[] startPoints) {
+    this.gradientColors = colors;
+    this.gradientStartPoints = startPoints;
+  }
+
+  @Override
+  public void setOpacity(float opacity) {
+    this.opacity = opacity;
+  }
+
+  @Override
+  public void setZIndex(float zIndex) {
+    tileOverlayOptions.zIndex(zIndex);
+  }
+
+  @Override
+  public void setVisible(boolean visible) {
+    tileOverlayOptions.visible(visible);
+  }
+}
@@ -0,0 +1,289 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders the tiles of a heatmap of weighted points.
+ *
+ * <p>The points are indexed once in a grid of world coordinates, so that rendering a tile only
+ * visits the points within the tile and its surrounding radius. The weights of the points are
+ * summed by pixel and convolved with a Gaussian kernel, and the resulting intensities are colored
+ * with a gradient relative to the maximum intensity of the zoom level.
+ *
+ * <p>Tiles are rendered on the worker threads of the Maps SDK, without any call to Dart. This class
+ * is thread-safe.
+ */
+class HeatmapTileProvider implements TileProvider {
+  static final int DEFAULT_RADIUS = 20;
+  static final float DEFAULT_OPACITY = 0.7f;
+  static final int[] DEFAULT_GRADIENT_COLORS = {0xFF66E100, 0xFFFF0000};
+  static final float[] DEFAULT_GRADIENT_START_POINTS = {0.2f, 1f};
+
+  @VisibleForTesting static final int TILE_SIZE = 256;
+  private static final int MAX_ZOOM = 22;
+  private static final int INDEX_SIZE = 512;
+  private static final int COLOR_MAP_SIZE = 1000;
+
+  // Points sorted by index cell, in world coordinates between 0 and 1.
+  private final double[] worldX;
+  private final double[] worldY;
+  private final double[] weights;
+  // Points of the cell i are in [cellStart[i], cellStart[i + 1]).
+  private final int[] cellStart;
+
+  private final int radius;
+  private final float[] kernel;
+  private final int[] colorMap;
+
+  // Guarded by this. Computed on first use, NaN until then.
+  private final double[] maxIntensities = new double[MAX_ZOOM + 1];
+
+  /**
+   * Creates the heatmap of {@code data}, whose weighted points are packed as latitude, longitude
+   * and weight triples.
+   *
+   * @param radius is the radius of the influence of each point, in pixels of 256 pixel tiles.
+   * @param gradientColors are the ARGB colors of the gradient.
+   * @param gradientStartPoints are the increasing fractions of the maximum intensity at which each
+   *     color starts, between 0 and 1.
+   * @param opacity is the opacity of the heatmap, between 0 and 1.
+   */
+  HeatmapTileProvider(
+      @NonNull double[] data,
+      int radius,
+      @NonNull int[] gradientColors,
+      @NonNull float[] gradientStartPoints,
+      float opacity) {
+    if (data.length % 3 != 0) {
+      throw new IllegalArgumentException(
+          "Heatmap data should have 3 values per point. Got: " + data.length);
+    }
+    if (gradientColors.length == 0 || gradientColors.length != gradientStartPoints.length) {
+      throw new IllegalArgumentException(
+          "Heatmap gradient should have as many colors as start points.");
+    }
+    this.radius = Math.max(1, radius);
+    this.kernel = createKernel(this.radius);
+    this.colorMap = createColorMap(gradientColors, gradientStartPoints, opacity);
+    Arrays.fill(maxIntensities, Double.NaN);
+
+    final int count = data.length / 3;
+    final int[] cells = new int[count];
+    cellStart = new int[INDEX_SIZE * INDEX_SIZE + 1];
+    for (int i = 0; i < count; i++) {
+      final double x = MarkerClusterer.longitudeToWorldX(data[3 * i + 1]);
+      final double y = MarkerClusterer.latitudeToWorldY(data[3 * i]);
+      cells[i] = toIndexCell(y) * INDEX_SIZE + toIndexCell(x);
+      cellStart[cells[i] + 1]++;
+    }
+    for (int i = 0; i < INDEX_SIZE * INDEX_SIZE; i++) {
+      cellStart[i + 1] += cellStart[i];
+    }
+
+    // Counting sort of the points by cell.
+    worldX = new double[count];
+    worldY = new double[count];
+    weights = new double[count];
+    final int[] next = Arrays.copyOf(cellStart, INDEX_SIZE * INDEX_SIZE);
+    for (int i = 0; i < count; i++) {
+      final int index = next[cells[i]]++;
+      worldX[index] = MarkerClusterer.longitudeToWorldX(data[3 * i + 1]);
+      worldY[index] = MarkerClusterer.latitudeToWorldY(data[3 * i]);
+      weights[index] = data[3 * i + 2];
+    }
+  }
+
+  @Override
+  public Tile getTile(int x, int y, int zoom) {
+    final int[] pixels = renderTile(x, y, zoom);
+    if (pixels == null) {
+      return NO_TILE;
+    }
+    final Bitmap bitmap =
+        Bitmap.createBitmap(pixels, TILE_SIZE, TILE_SIZE, Bitmap.Config.ARGB_8888);
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    bitmap.compress(Bitmap.CompressFormat.PNG, 100, stream);
+    bitmap.recycle();
+    return new Tile(TILE_SIZE, TILE_SIZE, stream.toByteArray());
+  }
+
+  /** Returns the ARGB pixels of a tile, or {@code null} if no point is drawn on it. */
+  @VisibleForTesting
+  int[] renderTile(int x, int y, int zoom) {
+    zoom = Math.max(0, Math.min(MAX_ZOOM, zoom));
+    final double tileSize = 1.0 / (1L << zoom);
+    final double pixelSize = tileSize / TILE_SIZE;
+    final double margin = radius * pixelSize;
+    final double tileX = x * tileSize;
+    final double tileY = y * tileSize;
+
+    final int minCellX = (int) Math.floor((tileX - margin) * INDEX_SIZE);
+    final int maxCellX = (int) Math.floor((tileX + tileSize + margin) * INDEX_SIZE);
+    final int minCellY = Math.max(0, toIndexCell(tileY - margin));
+    final int maxCellY = Math.min(INDEX_SIZE - 1, toIndexCell(tileY + tileSize + margin));
+
+    // Weights of the points by pixel, including the pixels within the radius around the tile.
+    final int gridSize = TILE_SIZE + 2 * radius;
+    float[] grid = null;
+    for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+      // Cells beyond the antimeridian are drawn from the other side of the world.
+      final int wrappedCellX = (cellX % INDEX_SIZE + INDEX_SIZE) % INDEX_SIZE;
+      final double offsetX = (cellX - wrappedCellX) / INDEX_SIZE - tileX;
+      for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+        final int cell = cellY * INDEX_SIZE + wrappedCellX;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+          final int gridX = (int) Math.floor((worldX[i] + offsetX) / pixelSize) + radius;
+          final int gridY = (int) Math.floor((worldY[i] - tileY) / pixelSize) + radius;
+          if (gridX < 0 || gridX >= gridSize || gridY < 0 || gridY >= gridSize) {
+            continue;
+          }
+          if (grid == null) {
+            grid = new float[gridSize * gridSize];
+          }
+          grid[gridY * gridSize + gridX] += (float) weights[i];
+        }
+      }
+    }
+    if (grid == null) {
+      return null;
+    }
+    final float[] intensities = convolve(grid, gridSize);
+
+    final double maxIntensity = getMaxIntensity(zoom);
+    final int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+    for (int i = 0; i < pixels.length; i++) {
+      final float intensity = intensities[i];
+      if (intensity > 0) {
+        final int color = (int) (intensity / maxIntensity * (COLOR_MAP_SIZE - 1));
+        pixels[i] = colorMap[Math.min(COLOR_MAP_SIZE - 1, color)];
+      }
+    }
+    return pixels;
+  }
+
+  /**
+   * Returns the intensities of the pixels of the tile, by convolving the weights of {@code grid}
+   * with the kernel.
+   *
+   * <p>The Gaussian kernel is separable, so the convolution is done as a horizontal then a vertical
+   * pass, and its cost does not depend on the number of points.
+   */
+  private float[] convolve(float[] grid, int gridSize) {
+    final int kernelSize = kernel.length;
+    final float[] rows = new float[gridSize * TILE_SIZE];
+    for (int y = 0; y < gridSize; y++) {
+      final int gridRow = y * gridSize;
+      for (int x = 0; x < TILE_SIZE; x++) {
+        float sum = 0;
+        for (int k = 0; k < kernelSize; k++) {
+          sum += grid[gridRow + x + k] * kernel[k];
+        }
+        rows[y * TILE_SIZE + x] = sum;
+      }
+    }
+    final float[] intensities = new float[TILE_SIZE * TILE_SIZE];
+    for (int y = 0; y < TILE_SIZE; y++) {
+      for (int x = 0; x < TILE_SIZE; x++) {
+        float sum = 0;
+        for (int k = 0; k < kernelSize; k++) {
+          sum += rows[(y + k) * TILE_SIZE + x] * kernel[k];
+        }
+        intensities[y * TILE_SIZE + x] = sum;
+      }
+    }
+    return intensities;
+  }
+
+  /**
+   * Returns the maximum intensity of the heatmap at {@code zoom}, estimated as the largest total
+   * weight of the points within a radius sized cell.
+   */
+  @VisibleForTesting
+  synchronized double getMaxIntensity(int zoom) {
+    if (!Double.isNaN(maxIntensities[zoom])) {
+      return maxIntensities[zoom];
+    }
+    final double cellsPerWorld = (double) TILE_SIZE * (1L << zoom) / radius;
+    final long cellsPerAxis = (long) Math.ceil(cellsPerWorld);
+    final Map<Long, Double> cellWeights = new HashMap<>();
+    double maxIntensity = 0;
+    for (int i = 0; i < weights.length; i++) {
+      final long key =
+          (long) (worldX[i] * cellsPerWorld) * cellsPerAxis + (long) (worldY[i] * cellsPerWorld);
+      final Double previous = cellWeights.get(key);
+      final double weight = (previous != null ? previous : 0) + weights[i];
+      cellWeights.put(key, weight);
+      maxIntensity = Math.max(maxIntensity, weight);
+    }
+    // Avoids dividing by zero when all weights are zero.
+    maxIntensities[zoom] = maxIntensity > 0 ? maxIntensity : 1;
+    return maxIntensities[zoom];
+  }
+
+  private static int toIndexCell(double world) {
+    return Math.max(0, Math.min(INDEX_SIZE - 1, (int) Math.floor(world * INDEX_SIZE)));
+  }
+
+  /** Returns a Gaussian kernel of {@code 2 * radius + 1} values, whose center is 1. */
+  private static float[] createKernel(int radius) {
+    final float[] kernel = new float[2 * radius + 1];
+    final double sigma = radius / 3.0;
+    for (int i = -radius; i <= radius; i++) {
+      kernel[i + radius] = (float) Math.exp(-i * i / (2 * sigma * sigma));
+    }
+    return kernel;
+  }
+
+  /**
+   * Returns the colors of the intensities from 0 to the maximum intensity.
+   *
+   * <p>Below the first start point, the first color fades in from transparent.
+   */
+  @VisibleForTesting
+  static int[] createColorMap(int[] colors, float[] startPoints, float opacity) {
+    final int[] colorMap = new int[COLOR_MAP_SIZE];
+    int stop = 0;
+    for (int i = 0; i < COLOR_MAP_SIZE; i++) {
+      final float fraction = (float) i / (COLOR_MAP_SIZE - 1);
+      while (stop < startPoints.length && fraction >= startPoints[stop]) {
+        stop++;
+      }
+      final int color;
+      if (stop == 0) {
+        color = interpolate(colors[0] & 0x00FFFFFF, colors[0], fraction / startPoints[0]);
+      } else if (stop == startPoints.length) {
+        color = colors[startPoints.length - 1];
+      } else {
+        final float start = startPoints[stop - 1];
+        color =
+            interpolate(
+                colors[stop - 1], colors[stop], (fraction - start) / (startPoints[stop] - start));
+      }
+      final int alpha = Math.round((color >>> 24) * opacity);
+      colorMap[i] = (alpha << 24) | (color & 0x00FFFFFF);
+    }
+    return colorMap;
+  }
+
+  private static int interpolate(int from, int to, float fraction) {
+    int color = 0;
+    for (int shift = 0; shift < 32; shift += 8) {
+      final int a = (from >>> shift) & 0xFF;
+      final int b = (to >>> shift) & 0xFF;
+      color |= Math.round(a + (b - a) * fraction) << shift;
+    }
+    return color;
+  }
+}
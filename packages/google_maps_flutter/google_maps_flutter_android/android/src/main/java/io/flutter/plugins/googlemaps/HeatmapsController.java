@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.TileOverlay;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows heatmaps as tile overlays whose tiles are rendered natively by {@link HeatmapTileProvider}.
+ */
+class HeatmapsController {
+
+  private final Map<String, TileOverlay> heatmapIdToTileOverlay;
+  private GoogleMap googleMap;
+
+  HeatmapsController() {
+    this.heatmapIdToTileOverlay = new HashMap<>();
+  }
+
+  void setGoogleMap(GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  void addHeatmaps(List<Object> heatmapsToAdd) {
+    if (heatmapsToAdd != null) {
+      for (Object heatmapToAdd : heatmapsToAdd) {
+        addHeatmap(heatmapToAdd);
+      }
+    }
+  }
+
+  /** Changes heatmaps by replacing them, as their tiles have to be rendered again. */
+  void changeHeatmaps(List<Object> heatmapsToChange) {
+    if (heatmapsToChange != null) {
+      for (Object heatmapToChange : heatmapsToChange) {
+        addHeatmap(heatmapToChange);
+      }
+    }
+  }
+
+  void removeHeatmaps(List<Object> heatmapIdsToRemove) {
+    if (heatmapIdsToRemove == null) {
+      return;
+    }
+    for (Object rawHeatmapId : heatmapIdsToRemove) {
+      if (rawHeatmapId == null) {
+        continue;
+      }
+      final TileOverlay tileOverlay = heatmapIdToTileOverlay.remove((String) rawHeatmapId);
+      if (tileOverlay != null) {
+        tileOverlay.remove();
+      }
+    }
+  }
+
+  private void addHeatmap(Object heatmap) {
+    if (heatmap == null) {
+      return;
+    }
+    final HeatmapBuilder heatmapBuilder = new HeatmapBuilder();
+    final String heatmapId = Convert.interpretHeatmapOptions(heatmap, heatmapBuilder);
+    final TileOverlay tileOverlay = googleMap.addTileOverlay(heatmapBuilder.build());
+    final TileOverlay previousTileOverlay = heatmapIdToTileOverlay.put(heatmapId, tileOverlay);
+    if (previousTileOverlay != null) {
+      previousTileOverlay.remove();
+    }
+  }
+}
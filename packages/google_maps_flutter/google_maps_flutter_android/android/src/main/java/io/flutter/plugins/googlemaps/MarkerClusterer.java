@@ -0,0 +1,345 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups markers that are close to each other on screen into clusters.
+ *
+ * <p>For each zoom level, the world is divided into a grid of cells of {@code gridSize} logical
+ * pixels, and the markers of each cell form a cluster. The cells of a zoom level are computed the
+ * first time its clusters are requested. Adding, moving or removing a marker then only updates the
+ * cell of that marker at each computed zoom level, and the clusters of the other cells are reused.
+ *
+ * <p>Positions are kept as world coordinates in primitive arrays, so that clustering does not
+ * depend on the Maps SDK and can be benchmarked on the JVM.
+ */
+class MarkerClusterer {
+
+  static final int DEFAULT_GRID_SIZE = 100;
+  static final int DEFAULT_MIN_CLUSTER_SIZE = 2;
+  static final int MAX_ZOOM = 22;
+
+  // Size of the world in logical pixels at zoom level 0.
+  private static final int WORLD_SIZE = 256;
+
+  private final int gridSize;
+  private final int minClusterSize;
+
+  private final Map<String, Integer> markerIdToIndex = new HashMap<>();
+  private String[] markerIds = new String[16];
+  private double[] worldX = new double[16];
+  private double[] worldY = new double[16];
+  private int size;
+
+  private final Map<Integer, ZoomLevel> zoomLevels = new HashMap<>();
+
+  MarkerClusterer(int gridSize, int minClusterSize) {
+    this.gridSize = gridSize;
+    this.minClusterSize = minClusterSize;
+  }
+
+  /** Adds a marker, or moves it if it was already added. */
+  void add(@NonNull String markerId, @NonNull LatLng position) {
+    final double x = longitudeToWorldX(position.longitude);
+    final double y = latitudeToWorldY(position.latitude);
+    Integer index = markerIdToIndex.get(markerId);
+    if (index != null) {
+      if (worldX[index] == x && worldY[index] == y) {
+        return;
+      }
+      for (ZoomLevel zoomLevel : zoomLevels.values()) {
+        zoomLevel.removeMarker(index);
+      }
+    } else {
+      if (size == markerIds.length) {
+        final int capacity = size * 2;
+        markerIds = Arrays.copyOf(markerIds, capacity);
+        worldX = Arrays.copyOf(worldX, capacity);
+        worldY = Arrays.copyOf(worldY, capacity);
+      }
+      index = size++;
+      markerIds[index] = markerId;
+      markerIdToIndex.put(markerId, index);
+    }
+    worldX[index] = x;
+    worldY[index] = y;
+    for (ZoomLevel zoomLevel : zoomLevels.values()) {
+      zoomLevel.addMarker(index);
+    }
+  }
+
+  void remove(@NonNull String markerId) {
+    final Integer index = markerIdToIndex.remove(markerId);
+    if (index == null) {
+      return;
+    }
+    for (ZoomLevel zoomLevel : zoomLevels.values()) {
+      zoomLevel.removeMarker(index);
+    }
+    // Move the last marker into the free slot.
+    final int last = --size;
+    if (index != last) {
+      for (ZoomLevel zoomLevel : zoomLevels.values()) {
+        zoomLevel.moveMarker(last, index);
+      }
+      markerIds[index] = markerIds[last];
+      worldX[index] = worldX[last];
+      worldY[index] = worldY[last];
+      markerIdToIndex.put(markerIds[index], index);
+    }
+    markerIds[last] = null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Returns the clusters of all markers at {@code zoom}, including clusters of a single marker. */
+  List<Cluster> getClusters(int zoom) {
+    zoom = Math.max(0, Math.min(MAX_ZOOM, zoom));
+    ZoomLevel zoomLevel = zoomLevels.get(zoom);
+    if (zoomLevel == null) {
+      zoomLevel = new ZoomLevel(zoom);
+      zoomLevels.put(zoom, zoomLevel);
+    }
+    return zoomLevel.getClusters();
+  }
+
+  /**
+   * Returns the clusters at {@code zoom} whose center is within {@code bounds}, extended by half of
+   * its size on each side so that markers next to the visible region are ready when panning.
+   */
+  List<Cluster> getVisibleClusters(int zoom, @NonNull LatLngBounds bounds) {
+    final double north = latitudeToWorldY(bounds.northeast.latitude);
+    final double south = latitudeToWorldY(bounds.southwest.latitude);
+    final double west = longitudeToWorldX(bounds.southwest.longitude);
+    double east = longitudeToWorldX(bounds.northeast.longitude);
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The bounds cross the antimeridian.
+      east += 1;
+    }
+    final double marginX = (east - west) / 2;
+    final double marginY = (south - north) / 2;
+    final double minX = west - marginX;
+    final double width = east - west + 2 * marginX;
+
+    final List<Cluster> visibleClusters = new ArrayList<>();
+    for (Cluster cluster : getClusters(zoom)) {
+      if (cluster.worldY < north - marginY || cluster.worldY > south + marginY) {
+        continue;
+      }
+      final double offsetX = ((cluster.worldX - minX) % 1 + 1) % 1;
+      if (width >= 1 || offsetX <= width) {
+        visibleClusters.add(cluster);
+      }
+    }
+    return visibleClusters;
+  }
+
+  static double longitudeToWorldX(double longitude) {
+    return (longitude + 180) / 360;
+  }
+
+  static double latitudeToWorldY(double latitude) {
+    final double sinLatitude = Math.sin(Math.toRadians(latitude));
+    final double y = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    return Math.max(0, Math.min(1, y));
+  }
+
+  private static double worldXToLongitude(double x) {
+    return x * 360 - 180;
+  }
+
+  private static double worldYToLatitude(double y) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+  }
+
+  /** A group of markers that are shown as a single cluster marker at a zoom level. */
+  final class Cluster {
+    final String id;
+    final LatLng position;
+    final LatLngBounds bounds;
+    final List<String> markerIds;
+    private final double worldX;
+    private final double worldY;
+
+    Cluster(String id, double worldX, double worldY, LatLngBounds bounds, List<String> markerIds) {
+      this.id = id;
+      this.worldX = worldX;
+      this.worldY = worldY;
+      this.position = new LatLng(worldYToLatitude(worldY), worldXToLongitude(worldX));
+      this.bounds = bounds;
+      this.markerIds = markerIds;
+    }
+
+    /** Returns whether the markers are shown as a cluster, rather than individually. */
+    boolean isCluster() {
+      return markerIds.size() >= minClusterSize;
+    }
+  }
+
+  /** The markers of each non-empty cell of the grid of a zoom level. */
+  private final class ZoomLevel {
+    private final int zoom;
+    private final double cellsPerWorld;
+    private final long cellsPerAxis;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    // The clusters of all cells, or null if a cell changed since they were listed.
+    @Nullable private List<Cluster> clusters;
+
+    ZoomLevel(int zoom) {
+      this.zoom = zoom;
+      this.cellsPerWorld = WORLD_SIZE * Math.pow(2, zoom) / gridSize;
+      this.cellsPerAxis = (long) Math.ceil(cellsPerWorld);
+      for (int i = 0; i < size; i++) {
+        addMarker(i);
+      }
+    }
+
+    void addMarker(int index) {
+      final long cellX = (long) (worldX[index] * cellsPerWorld);
+      final long cellY = (long) (worldY[index] * cellsPerWorld);
+      final long key = cellX * cellsPerAxis + cellY;
+      Cell cell = cells.get(key);
+      if (cell == null) {
+        cell = new Cell(zoom, cellX, cellY);
+        cells.put(key, cell);
+      }
+      cell.add(index);
+      clusters = null;
+    }
+
+    void removeMarker(int index) {
+      final long key = getCellKey(index);
+      final Cell cell = cells.get(key);
+      if (cell != null && cell.remove(index)) {
+        if (cell.count == 0) {
+          cells.remove(key);
+        }
+        clusters = null;
+      }
+    }
+
+    /** Updates the cell of the marker at {@code from}, which is moved to {@code to}. */
+    void moveMarker(int from, int to) {
+      final Cell cell = cells.get(getCellKey(from));
+      if (cell != null) {
+        cell.replace(from, to);
+      }
+    }
+
+    List<Cluster> getClusters() {
+      if (clusters == null) {
+        clusters = new ArrayList<>(cells.size());
+        for (Cell cell : cells.values()) {
+          clusters.add(cell.getCluster());
+        }
+      }
+      return clusters;
+    }
+
+    private long getCellKey(int index) {
+      final long cellX = (long) (worldX[index] * cellsPerWorld);
+      final long cellY = (long) (worldY[index] * cellsPerWorld);
+      return cellX * cellsPerAxis + cellY;
+    }
+  }
+
+  private final class Cell {
+    private final int zoom;
+    private final long cellX;
+    private final long cellY;
+    private int[] indices = new int[4];
+    private int count;
+    // The cluster of the markers, or null if they changed since it was computed.
+    @Nullable private Cluster cluster;
+
+    Cell(int zoom, long cellX, long cellY) {
+      this.zoom = zoom;
+      this.cellX = cellX;
+      this.cellY = cellY;
+    }
+
+    void add(int index) {
+      if (count == indices.length) {
+        indices = Arrays.copyOf(indices, count * 2);
+      }
+      indices[count++] = index;
+      cluster = null;
+    }
+
+    /** Removes the marker at {@code index}, and returns whether it was in this cell. */
+    boolean remove(int index) {
+      for (int i = 0; i < count; i++) {
+        if (indices[i] == index) {
+          indices[i] = indices[--count];
+          cluster = null;
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void replace(int from, int to) {
+      for (int i = 0; i < count; i++) {
+        if (indices[i] == from) {
+          // The marker keeps its identifier and position, so the cluster is unchanged.
+          indices[i] = to;
+          return;
+        }
+      }
+    }
+
+    Cluster getCluster() {
+      if (cluster == null) {
+        cluster = toCluster();
+      }
+      return cluster;
+    }
+
+    private Cluster toCluster() {
+      double sumX = 0;
+      double sumY = 0;
+      double minX = 1;
+      double maxX = 0;
+      double minY = 1;
+      double maxY = 0;
+      final String[] ids = new String[count];
+      for (int i = 0; i < count; i++) {
+        final int index = indices[i];
+        final double x = worldX[index];
+        final double y = worldY[index];
+        sumX += x;
+        sumY += y;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+        ids[i] = markerIds[index];
+      }
+      final LatLngBounds bounds =
+          new LatLngBounds(
+              new LatLng(worldYToLatitude(maxY), worldXToLongitude(minX)),
+              new LatLng(worldYToLatitude(minY), worldXToLongitude(maxX)));
+      return new Cluster(
+          zoom + "/" + cellX + "/" + cellY,
+          sumX / count,
+          sumY / count,
+          bounds,
+          Collections.unmodifiableList(Arrays.asList(ids)));
+    }
+  }
+}
@@ -4,26 +4,57 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.MethodChannel;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class MarkersController {
 
   private final Map<String, MarkerController> markerIdToController;
   private final Map<String, String> googleMapsMarkerIdToDartMarkerId;
+  // The options last applied to each marker, used to apply only the options that changed.
+  private final Map<String, Map<?, ?>> markerIdToOptions;
+  private final BitmapDescriptorCache bitmapDescriptorCache;
   private final MethodChannel methodChannel;
   private GoogleMap googleMap;
 
+  // Clustering state, only used while clustering is enabled. Markers are then only added to the map
+  // while they are visible and not part of a cluster.
+  @Nullable private MarkerClusterer markerClusterer;
+  private final ClusterIcons clusterIcons;
+  private final Map<String, Marker> clusterIdToMarker;
+  private final Map<String, MarkerClusterer.Cluster> googleMapsMarkerIdToCluster;
+  private float zoom;
+  @Nullable private LatLngBounds visibleBounds;
+
   MarkersController(MethodChannel methodChannel) {
+    this(methodChannel, new BitmapDescriptorCache(), new ClusterIcons());
+  }
+
+  @VisibleForTesting
+  MarkersController(
+      MethodChannel methodChannel,
+      BitmapDescriptorCache bitmapDescriptorCache,
+      ClusterIcons clusterIcons) {
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
+    this.markerIdToOptions = new HashMap<>();
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
     this.methodChannel = methodChannel;
+    this.clusterIcons = clusterIcons;
+    this.clusterIdToMarker = new HashMap<>();
+    this.googleMapsMarkerIdToCluster = new HashMap<>();
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -35,6 +66,7 @@ class MarkersController {
       for (Object markerToAdd : markersToAdd) {
         addMarker(markerToAdd);
       }
+      renderClusters();
     }
   }
 
@@ -43,6 +75,7 @@ class MarkersController {
       for (Object markerToChange : markersToChange) {
         changeMarker(markerToChange);
       }
+      renderClusters();
     }
   }
 
@@ -55,12 +88,61 @@ class MarkersController {
         continue;
       }
       String markerId = (String) rawMarkerId;
-      final MarkerController markerController = markerIdToController.remove(markerId);
-      if (markerController != null) {
-        markerController.remove();
-        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+      removeMarker(markerId);
+      markerIdToOptions.remove(markerId);
+      if (markerClusterer != null) {
+        markerClusterer.remove(markerId);
       }
     }
+    renderClusters();
+  }
+
+  /**
+   * Enables, disables or reconfigures clustering.
+   *
+   * <p>While clustering is enabled, markers that are close to each other on screen are shown as a
+   * single cluster marker, and only visible markers are added to the map. Clusters are updated when
+   * markers change and when the camera becomes idle.
+   */
+  void setClustering(Map<String, ?> clustering) {
+    if (!Boolean.TRUE.equals(clustering.get("enabled"))) {
+      if (markerClusterer == null) {
+        return;
+      }
+      markerClusterer = null;
+      removeClusterMarkers();
+      for (String markerId : markerIdToOptions.keySet()) {
+        if (!markerIdToController.containsKey(markerId)) {
+          addMarkerFromOptions(markerId);
+        }
+      }
+      return;
+    }
+
+    final Object gridSize = clustering.get("gridSize");
+    final Object minClusterSize = clustering.get("minClusterSize");
+    markerClusterer =
+        new MarkerClusterer(
+            gridSize != null ? ((Number) gridSize).intValue() : MarkerClusterer.DEFAULT_GRID_SIZE,
+            minClusterSize != null
+                ? ((Number) minClusterSize).intValue()
+                : MarkerClusterer.DEFAULT_MIN_CLUSTER_SIZE);
+    for (Map.Entry<String, Map<?, ?>> entry : markerIdToOptions.entrySet()) {
+      markerClusterer.add(entry.getKey(), getPosition(entry.getValue()));
+    }
+    removeClusterMarkers();
+    renderClusters();
+  }
+
+  boolean isClusteringEnabled() {
+    return markerClusterer != null;
+  }
+
+  /** Updates the clusters for the new camera position. */
+  void onCameraIdle(float zoom, LatLngBounds visibleBounds) {
+    this.zoom = zoom;
+    this.visibleBounds = visibleBounds;
+    renderClusters();
   }
 
   void showMarkerInfoWindow(String markerId, MethodChannel.Result result) {
@@ -93,6 +175,11 @@ class MarkersController {
   }
 
   boolean onMarkerTap(String googleMarkerId) {
+    final MarkerClusterer.Cluster cluster = googleMapsMarkerIdToCluster.get(googleMarkerId);
+    if (cluster != null) {
+      methodChannel.invokeMethod("cluster#onTap", Convert.clusterToJson(cluster));
+      return false;
+    }
     String markerId = googleMapsMarkerIdToDartMarkerId.get(googleMarkerId);
     if (markerId == null) {
       return false;
@@ -150,10 +237,18 @@ class MarkersController {
     if (marker == null) {
       return;
     }
+    if (markerClusterer != null) {
+      // The marker is added to the map when the clusters are rendered, if it is visible.
+      final String markerId = getMarkerId(marker);
+      rememberOptions(markerId, (Map<?, ?>) marker);
+      markerClusterer.add(markerId, getPosition((Map<?, ?>) marker));
+      return;
+    }
     MarkerBuilder markerBuilder = new MarkerBuilder();
-    String markerId = Convert.interpretMarkerOptions(marker, markerBuilder);
+    String markerId = Convert.interpretMarkerOptions(marker, markerBuilder, bitmapDescriptorCache);
     MarkerOptions options = markerBuilder.build();
     addMarker(markerId, options, markerBuilder.consumeTapEvents());
+    rememberOptions(markerId, (Map<?, ?>) marker);
   }
 
   private void addMarker(String markerId, MarkerOptions markerOptions, boolean consumeTapEvents) {
@@ -163,15 +258,135 @@ class MarkersController {
     googleMapsMarkerIdToDartMarkerId.put(marker.getId(), markerId);
   }
 
+  private void addMarkerFromOptions(String markerId) {
+    MarkerBuilder markerBuilder = new MarkerBuilder();
+    Convert.interpretMarkerOptions(
+        markerIdToOptions.get(markerId), markerBuilder, bitmapDescriptorCache);
+    addMarker(markerId, markerBuilder.build(), markerBuilder.consumeTapEvents());
+  }
+
+  private void removeMarker(String markerId) {
+    final MarkerController markerController = markerIdToController.remove(markerId);
+    if (markerController != null) {
+      markerController.remove();
+      googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+    }
+  }
+
   private void changeMarker(Object marker) {
     if (marker == null) {
       return;
     }
     String markerId = getMarkerId(marker);
+    final Map<?, ?> previousOptions = markerIdToOptions.get(markerId);
+    if (previousOptions == null) {
+      return;
+    }
+    final Map<?, ?> options = (Map<?, ?>) marker;
+    final Map<?, ?> changedOptions = Convert.changedOptions(previousOptions, options, "markerId");
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
-      Convert.interpretMarkerOptions(marker, markerController);
+      Convert.interpretMarkerOptions(changedOptions, markerController, bitmapDescriptorCache);
+    }
+    rememberOptions(markerId, options);
+    if (markerClusterer != null && changedOptions.containsKey("position")) {
+      markerClusterer.add(markerId, getPosition(options));
+    }
+  }
+
+  /**
+   * Adds the visible markers and clusters to the map, and removes the others.
+   *
+   * <p>Markers and clusters that stay visible are kept, so only the difference is applied.
+   */
+  private void renderClusters() {
+    if (markerClusterer == null || googleMap == null || visibleBounds == null) {
+      return;
+    }
+    final Set<String> visibleMarkerIds = new HashSet<>();
+    final Map<String, MarkerClusterer.Cluster> visibleClusters = new HashMap<>();
+    for (MarkerClusterer.Cluster cluster :
+        markerClusterer.getVisibleClusters((int) zoom, visibleBounds)) {
+      if (cluster.isCluster()) {
+        visibleClusters.put(cluster.id, cluster);
+      } else {
+        visibleMarkerIds.addAll(cluster.markerIds);
+      }
+    }
+
+    final Iterator<String> markerIds = markerIdToController.keySet().iterator();
+    while (markerIds.hasNext()) {
+      final String markerId = markerIds.next();
+      if (!visibleMarkerIds.contains(markerId)) {
+        final MarkerController markerController = markerIdToController.get(markerId);
+        markerIds.remove();
+        markerController.remove();
+        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+      }
+    }
+    for (String markerId : visibleMarkerIds) {
+      if (!markerIdToController.containsKey(markerId)) {
+        addMarkerFromOptions(markerId);
+      }
+    }
+
+    final Iterator<Map.Entry<String, Marker>> clusterMarkers =
+        clusterIdToMarker.entrySet().iterator();
+    while (clusterMarkers.hasNext()) {
+      final Map.Entry<String, Marker> entry = clusterMarkers.next();
+      if (!visibleClusters.containsKey(entry.getKey())) {
+        clusterMarkers.remove();
+        entry.getValue().remove();
+        googleMapsMarkerIdToCluster.remove(entry.getValue().getId());
+      }
+    }
+    for (MarkerClusterer.Cluster cluster : visibleClusters.values()) {
+      Marker marker = clusterIdToMarker.get(cluster.id);
+      if (marker == null) {
+        marker =
+            googleMap.addMarker(
+                new MarkerOptions()
+                    .position(cluster.position)
+                    .anchor(0.5f, 0.5f)
+                    .icon(clusterIcons.get(cluster.markerIds.size())));
+        clusterIdToMarker.put(cluster.id, marker);
+      } else {
+        final MarkerClusterer.Cluster previousCluster =
+            googleMapsMarkerIdToCluster.get(marker.getId());
+        if (previousCluster.markerIds.size() != cluster.markerIds.size()) {
+          marker.setIcon(clusterIcons.get(cluster.markerIds.size()));
+        }
+        if (!previousCluster.position.equals(cluster.position)) {
+          marker.setPosition(cluster.position);
+        }
+      }
+      googleMapsMarkerIdToCluster.put(marker.getId(), cluster);
+    }
+  }
+
+  private void removeClusterMarkers() {
+    for (Marker marker : clusterIdToMarker.values()) {
+      marker.remove();
+    }
+    clusterIdToMarker.clear();
+    googleMapsMarkerIdToCluster.clear();
+  }
+
+  private static LatLng getPosition(Map<?, ?> options) {
+    final Object position = options.get("position");
+    return position != null ? Convert.toLatLng(position) : new LatLng(0, 0);
+  }
+
+  private void rememberOptions(String markerId, Map<?, ?> options) {
+    final Object icon = options.get("icon");
+    if (icon == null) {
+      markerIdToOptions.put(markerId, options);
+      return;
     }
+    // Share the icon with the other markers instead of keeping a copy of its bytes per marker.
+    final Map<Object, Object> rememberedOptions = new HashMap<>(options);
+    rememberedOptions.put("icon", bitmapDescriptorCache.intern(icon));
+    markerIdToOptions.put(markerId, rememberedOptions);
   }
 
   @SuppressWarnings("unchecked")
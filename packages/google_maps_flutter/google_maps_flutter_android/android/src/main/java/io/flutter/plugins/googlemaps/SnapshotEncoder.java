@@ -0,0 +1,166 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes map snapshots on a background thread.
+ *
+ * <p>Snapshots are optionally downscaled, then compressed to PNG, JPEG or WEBP and either returned
+ * as bytes or written to a file, whose path is returned. Results are delivered on the platform
+ * thread.
+ *
+ * <p>The encoders of all maps share a background thread, which stops when it has been idle for a
+ * while.
+ */
+class SnapshotEncoder {
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  @Nullable private static Executor sharedExecutor;
+
+  /** How a snapshot is encoded, as requested by {@code map#takeSnapshot}. */
+  static final class Options {
+    final Bitmap.CompressFormat format;
+    final int quality;
+    final float scale;
+    @Nullable final String filePath;
+
+    @VisibleForTesting
+    Options(Bitmap.CompressFormat format, int quality, float scale, @Nullable String filePath) {
+      this.format = format;
+      this.quality = quality;
+      this.scale = scale;
+      this.filePath = filePath;
+    }
+
+    /**
+     * Returns the options of the arguments of {@code map#takeSnapshot}, which default to a PNG
+     * snapshot of the full size returned as bytes.
+     */
+    static Options fromArguments(@Nullable Map<?, ?> arguments) {
+      if (arguments == null) {
+        return new Options(Bitmap.CompressFormat.PNG, 100, 1, null);
+      }
+      final Object format = arguments.get("format");
+      final Object quality = arguments.get("quality");
+      final Object scale = arguments.get("scale");
+      return new Options(
+          toCompressFormat(format != null ? (String) format : "png"),
+          quality != null ? Math.max(0, Math.min(100, ((Number) quality).intValue())) : 100,
+          scale != null ? ((Number) scale).floatValue() : 1,
+          (String) arguments.get("filePath"));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Bitmap.CompressFormat toCompressFormat(String format) {
+      switch (format) {
+        case "png":
+          return Bitmap.CompressFormat.PNG;
+        case "jpeg":
+          return Bitmap.CompressFormat.JPEG;
+        case "webp":
+          // WEBP is deprecated in favor of WEBP_LOSSY and WEBP_LOSSLESS, which require API 30.
+          return Bitmap.CompressFormat.WEBP;
+        default:
+          throw new IllegalArgumentException("Unknown snapshot format: " + format);
+      }
+    }
+  }
+
+  private final Executor executor;
+  private final Handler handler;
+
+  SnapshotEncoder() {
+    this(getSharedExecutor(), new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  SnapshotEncoder(@NonNull Executor executor, @NonNull Handler handler) {
+    this.executor = executor;
+    this.handler = handler;
+  }
+
+  private static synchronized Executor getSharedExecutor() {
+    if (sharedExecutor == null) {
+      final ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              1, 1, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+      executor.allowCoreThreadTimeOut(true);
+      sharedExecutor = executor;
+    }
+    return sharedExecutor;
+  }
+
+  /**
+   * Encodes {@code bitmap} in the background and completes {@code result} with the bytes of the
+   * snapshot, or the path of the file it was written to. Any failure, including running out of
+   * memory, completes {@code result} with an error.
+   *
+   * <p>The bitmap is recycled once it is encoded.
+   */
+  void encode(
+      @NonNull Bitmap bitmap, @NonNull Options options, @NonNull MethodChannel.Result result) {
+    executor.execute(
+        () -> {
+          try {
+            final Object snapshot = encode(bitmap, options);
+            handler.post(() -> result.success(snapshot));
+          } catch (Throwable e) {
+            handler.post(() -> result.error("Snapshot encoding failed", e.toString(), null));
+          }
+        });
+  }
+
+  @VisibleForTesting
+  static Object encode(Bitmap bitmap, Options options) throws IOException {
+    final Bitmap scaled = scale(bitmap, options.scale);
+    try {
+      if (options.filePath == null) {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        scaled.compress(options.format, options.quality, stream);
+        return stream.toByteArray();
+      }
+      try (OutputStream stream =
+          new BufferedOutputStream(new FileOutputStream(new File(options.filePath)))) {
+        if (!scaled.compress(options.format, options.quality, stream)) {
+          throw new IOException("Can't compress the snapshot to " + options.filePath);
+        }
+      }
+      return options.filePath;
+    } finally {
+      if (scaled != bitmap) {
+        scaled.recycle();
+      }
+      bitmap.recycle();
+    }
+  }
+
+  private static Bitmap scale(Bitmap bitmap, float scale) {
+    if (scale <= 0 || scale >= 1) {
+      return bitmap;
+    }
+    final int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+    final int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+    return Bitmap.createScaledBitmap(bitmap, width, height, true);
+  }
+}
@@ -0,0 +1,320 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the tiles of a single tile overlay in memory and on disk.
+ *
+ * <p>The memory cache keeps the most recently used tiles up to a total size in bytes. The disk
+ * cache stores one file per tile in a directory named after the disk cache key, up to a total size
+ * in bytes, and evicts the oldest tiles first. Tiles older than the time to live are ignored in
+ * both caches.
+ *
+ * <p>The disk cache outlives the app, so the key must change when the tiles of the overlay change.
+ * The caches of overlays with the same key share their directory, but each one counts the bytes it
+ * stores on its own.
+ *
+ * <p>This class is thread-safe. Reads happen on the calling thread, which is a Maps SDK worker
+ * thread, while writes to disk happen on a background thread shared by the caches of all overlays.
+ */
+class TileCache {
+  private static final String TAG = "TileCache";
+  private static final String TILE_FILE_SUFFIX = ".tile";
+  private static final long DISK_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  // Created when the first cache is created. Its thread stops when it has been idle for
+  // DISK_THREAD_KEEP_ALIVE_SECONDS, so removed overlays don't leave a thread behind.
+  @Nullable private static Executor sharedDiskExecutor;
+
+  private final long maxMemoryBytes;
+  private final long maxDiskBytes;
+  private final long timeToLiveMillis;
+  @Nullable private final File directory;
+  private final Executor diskExecutor;
+
+  // Guarded by this.
+  private final LinkedHashMap<Long, CachedTile> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBytes;
+
+  // Only accessed on the disk executor. A negative value means it was not computed yet.
+  private long diskBytes = -1;
+
+  /**
+   * Creates a cache for the tiles of an overlay.
+   *
+   * @param maxMemoryBytes is the maximum size of the tiles kept in memory, 0 disables the memory
+   *     cache.
+   * @param maxDiskBytes is the maximum size of the tiles stored on disk, 0 disables the disk cache.
+   * @param timeToLiveMillis is the duration after which a cached tile is fetched again, 0 keeps
+   *     tiles until they are evicted or cleared.
+   * @param cacheDirectory is the directory of the application's cache files.
+   * @param diskCacheKey identifies the tiles of the overlay, and determines its cache directory.
+   */
+  TileCache(
+      long maxMemoryBytes,
+      long maxDiskBytes,
+      long timeToLiveMillis,
+      @NonNull File cacheDirectory,
+      @NonNull String diskCacheKey) {
+    this(
+        maxMemoryBytes,
+        maxDiskBytes,
+        timeToLiveMillis,
+        cacheDirectory,
+        diskCacheKey,
+        getSharedDiskExecutor());
+  }
+
+  @VisibleForTesting
+  TileCache(
+      long maxMemoryBytes,
+      long maxDiskBytes,
+      long timeToLiveMillis,
+      @NonNull File cacheDirectory,
+      @NonNull String diskCacheKey,
+      @NonNull Executor diskExecutor) {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.maxDiskBytes = maxDiskBytes;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.directory =
+        maxDiskBytes > 0 ? new File(cacheDirectory, getDirectoryName(diskCacheKey)) : null;
+    this.diskExecutor = diskExecutor;
+  }
+
+  private static synchronized Executor getSharedDiskExecutor() {
+    if (sharedDiskExecutor == null) {
+      final ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              1, 1, DISK_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+      executor.allowCoreThreadTimeOut(true);
+      sharedDiskExecutor = executor;
+    }
+    return sharedDiskExecutor;
+  }
+
+  /** Returns the cached tile, or {@code null} if it is not cached or has expired. */
+  @Nullable
+  Tile get(int x, int y, int zoom) {
+    final long key = getKey(x, y, zoom);
+    final long now = System.currentTimeMillis();
+    synchronized (this) {
+      final CachedTile cachedTile = memoryCache.get(key);
+      if (cachedTile != null) {
+        if (!isExpired(cachedTile.createdMillis, now)) {
+          return cachedTile.tile;
+        }
+        removeFromMemory(key);
+      }
+    }
+
+    final CachedTile cachedTile = readFromDisk(x, y, zoom, now);
+    if (cachedTile == null) {
+      return null;
+    }
+    putInMemory(key, cachedTile);
+    return cachedTile.tile;
+  }
+
+  /** Adds a tile to the cache. Tiles without data are not cached. */
+  void put(int x, int y, int zoom, @NonNull Tile tile) {
+    if (tile.data == null) {
+      return;
+    }
+    final CachedTile cachedTile = new CachedTile(tile, System.currentTimeMillis());
+    putInMemory(getKey(x, y, zoom), cachedTile);
+    if (directory != null) {
+      diskExecutor.execute(() -> writeToDisk(x, y, zoom, tile));
+    }
+  }
+
+  /** Removes all tiles from memory and disk. */
+  void clear() {
+    synchronized (this) {
+      memoryCache.clear();
+      memoryBytes = 0;
+    }
+    if (directory != null) {
+      diskExecutor.execute(this::clearDisk);
+    }
+  }
+
+  /** Returns the size of the tiles currently kept in memory. */
+  @VisibleForTesting
+  synchronized long getMemoryBytes() {
+    return memoryBytes;
+  }
+
+  private synchronized void putInMemory(long key, CachedTile cachedTile) {
+    if (maxMemoryBytes <= 0 || cachedTile.tile.data.length > maxMemoryBytes) {
+      return;
+    }
+    removeFromMemory(key);
+    memoryCache.put(key, cachedTile);
+    memoryBytes += cachedTile.tile.data.length;
+
+    final Iterator<Map.Entry<Long, CachedTile>> iterator = memoryCache.entrySet().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      memoryBytes -= iterator.next().getValue().tile.data.length;
+      iterator.remove();
+    }
+  }
+
+  // Must be called while holding the lock.
+  private void removeFromMemory(long key) {
+    final CachedTile removed = memoryCache.remove(key);
+    if (removed != null) {
+      memoryBytes -= removed.tile.data.length;
+    }
+  }
+
+  private boolean isExpired(long createdMillis, long now) {
+    return timeToLiveMillis > 0 && now - createdMillis > timeToLiveMillis;
+  }
+
+  @Nullable
+  private CachedTile readFromDisk(int x, int y, int zoom, long now) {
+    if (directory == null) {
+      return null;
+    }
+    final File file = getTileFile(x, y, zoom);
+    final long createdMillis = file.lastModified();
+    if (createdMillis == 0 || isExpired(createdMillis, now)) {
+      return null;
+    }
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      final int width = input.readInt();
+      final int height = input.readInt();
+      final byte[] data = new byte[input.readInt()];
+      input.readFully(data);
+      return new CachedTile(new Tile(width, height, data), createdMillis);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void writeToDisk(int x, int y, int zoom, Tile tile) {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      Log.w(TAG, "Can't create tile cache directory " + directory);
+      return;
+    }
+    ensureDiskBytesComputed();
+
+    final File file = getTileFile(x, y, zoom);
+    final File temporaryFile = new File(directory, file.getName() + ".tmp");
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+      output.writeInt(tile.width);
+      output.writeInt(tile.height);
+      output.writeInt(tile.data.length);
+      output.write(tile.data);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't write tile to the cache", e);
+      temporaryFile.delete();
+      return;
+    }
+
+    diskBytes -= file.length();
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      return;
+    }
+    diskBytes += file.length();
+    trimDisk();
+  }
+
+  private void ensureDiskBytesComputed() {
+    if (diskBytes >= 0) {
+      return;
+    }
+    diskBytes = 0;
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        diskBytes += file.length();
+      }
+    }
+  }
+
+  private void trimDisk() {
+    if (diskBytes <= maxDiskBytes) {
+      return;
+    }
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : files) {
+      if (diskBytes <= maxDiskBytes) {
+        break;
+      }
+      final long length = file.length();
+      if (file.delete()) {
+        diskBytes -= length;
+      }
+    }
+  }
+
+  private void clearDisk() {
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    diskBytes = 0;
+  }
+
+  private File getTileFile(int x, int y, int zoom) {
+    return new File(directory, zoom + "_" + x + "_" + y + TILE_FILE_SUFFIX);
+  }
+
+  private static long getKey(int x, int y, int zoom) {
+    return ((long) zoom << 58) | ((long) x << 29) | y;
+  }
+
+  /** Returns a file name that is unique for each overlay identifier. */
+  private static String getDirectoryName(String diskCacheKey) {
+    final StringBuilder name = new StringBuilder("google_maps_tiles_");
+    for (byte b : diskCacheKey.getBytes(Charset.forName("UTF-8"))) {
+      name.append(String.format("%02x", b));
+    }
+    return name.toString();
+  }
+
+  private static final class CachedTile {
+    final Tile tile;
+    final long createdMillis;
+
+    CachedTile(Tile tile, long createdMillis) {
+      this.tile = tile;
+      this.createdMillis = createdMillis;
+    }
+  }
+}
@@ -4,12 +4,19 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import com.google.android.gms.maps.model.TileProvider;
+import java.io.File;
 
 class TileOverlayBuilder implements TileOverlaySink {
 
   private final TileOverlayOptions tileOverlayOptions;
+  private long memoryCacheSizeBytes;
+  private long diskCacheSizeBytes;
+  private long cacheTimeToLiveMillis;
+  @Nullable private String diskCacheKey;
 
   TileOverlayBuilder() {
     this.tileOverlayOptions = new TileOverlayOptions();
@@ -19,6 +26,23 @@ class TileOverlayBuilder implements TileOverlaySink {
     return tileOverlayOptions;
   }
 
+  /**
+   * Returns the tile cache of the overlay, or {@code null} if no cache size was set. The disk cache
+   * key defaults to {@code tileOverlayId}.
+   */
+  @Nullable
+  TileCache buildTileCache(@NonNull File cacheDirectory, @NonNull String tileOverlayId) {
+    if (memoryCacheSizeBytes <= 0 && diskCacheSizeBytes <= 0) {
+      return null;
+    }
+    return new TileCache(
+        memoryCacheSizeBytes,
+        diskCacheSizeBytes,
+        cacheTimeToLiveMillis,
+        cacheDirectory,
+        diskCacheKey != null ? diskCacheKey : tileOverlayId);
+  }
+
   @Override
   public void setFadeIn(boolean fadeIn) {
     tileOverlayOptions.fadeIn(fadeIn);
@@ -43,4 +67,24 @@ class TileOverlayBuilder implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     tileOverlayOptions.tileProvider(tileProvider);
   }
+
+  @Override
+  public void setMemoryCacheSize(long memoryCacheSizeBytes) {
+    this.memoryCacheSizeBytes = memoryCacheSizeBytes;
+  }
+
+  @Override
+  public void setDiskCacheSize(long diskCacheSizeBytes) {
+    this.diskCacheSizeBytes = diskCacheSizeBytes;
+  }
+
+  @Override
+  public void setCacheTimeToLive(long cacheTimeToLiveMillis) {
+    this.cacheTimeToLiveMillis = cacheTimeToLiveMillis;
+  }
+
+  @Override
+  public void setDiskCacheKey(String diskCacheKey) {
+    this.diskCacheKey = diskCacheKey;
+  }
 }
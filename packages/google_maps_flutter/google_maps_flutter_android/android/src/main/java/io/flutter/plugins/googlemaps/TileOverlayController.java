@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileProvider;
 import java.util.HashMap;
@@ -12,16 +13,28 @@ import java.util.Map;
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  private final TileProviderController tileProviderController;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(TileOverlay tileOverlay, TileProviderController tileProviderController) {
     this.tileOverlay = tileOverlay;
+    this.tileProviderController = tileProviderController;
   }
 
   void remove() {
     tileOverlay.remove();
+    tileProviderController.cancelQueuedTiles();
+  }
+
+  void cancelTilesOutside(LatLngBounds bounds) {
+    tileProviderController.cancelTilesOutside(bounds);
+  }
+
+  Map<String, Object> getTileStatistics() {
+    return tileProviderController.getTileStatistics();
   }
 
   void clearTileCache() {
+    tileProviderController.clearCache();
     tileOverlay.clearTileCache();
   }
 
@@ -59,4 +72,24 @@ class TileOverlayController implements TileOverlaySink {
   public void setTileProvider(TileProvider tileProvider) {
     // You can not change tile provider after creation
   }
+
+  @Override
+  public void setMemoryCacheSize(long memoryCacheSizeBytes) {
+    // You can not change the tile cache after creation
+  }
+
+  @Override
+  public void setDiskCacheSize(long diskCacheSizeBytes) {
+    // You can not change the tile cache after creation
+  }
+
+  @Override
+  public void setCacheTimeToLive(long cacheTimeToLiveMillis) {
+    // You can not change the tile cache after creation
+  }
+
+  @Override
+  public void setDiskCacheKey(String diskCacheKey) {
+    // You can not change the tile cache after creation
+  }
 }
@@ -17,4 +17,12 @@ interface TileOverlaySink {
   void setVisible(boolean visible);
 
   void setTileProvider(TileProvider tileProvider);
+
+  void setMemoryCacheSize(long memoryCacheSizeBytes);
+
+  void setDiskCacheSize(long diskCacheSizeBytes);
+
+  void setCacheTimeToLive(long cacheTimeToLiveMillis);
+
+  void setDiskCacheKey(String diskCacheKey);
 }
@@ -5,9 +5,11 @@
 package io.flutter.plugins.googlemaps;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,11 +18,13 @@ class TileOverlaysController {
 
   private final Map<String, TileOverlayController> tileOverlayIdToController;
   private final MethodChannel methodChannel;
+  private final File cacheDirectory;
   private GoogleMap googleMap;
 
-  TileOverlaysController(MethodChannel methodChannel) {
+  TileOverlaysController(MethodChannel methodChannel, File cacheDirectory) {
     this.tileOverlayIdToController = new HashMap<>();
     this.methodChannel = methodChannel;
+    this.cacheDirectory = cacheDirectory;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -78,6 +82,28 @@ class TileOverlaysController {
     return tileOverlayController.getTileOverlayInfo();
   }
 
+  Map<String, Object> getTileOverlayStatistics(String tileOverlayId) {
+    if (tileOverlayId == null) {
+      return null;
+    }
+    TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
+    if (tileOverlayController == null) {
+      return null;
+    }
+    return tileOverlayController.getTileStatistics();
+  }
+
+  boolean hasTileOverlays() {
+    return !tileOverlayIdToController.isEmpty();
+  }
+
+  /** Cancels the queued tile requests that are no longer visible. */
+  void onVisibleRegionChanged(LatLngBounds visibleBounds) {
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      tileOverlayController.cancelTilesOutside(visibleBounds);
+    }
+  }
+
   private void addTileOverlay(Map<String, ?> tileOverlayOptions) {
     if (tileOverlayOptions == null) {
       return;
@@ -86,11 +112,15 @@ class TileOverlaysController {
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayOptionsBuilder);
     TileProviderController tileProviderController =
-        new TileProviderController(methodChannel, tileOverlayId);
+        new TileProviderController(
+            methodChannel,
+            tileOverlayId,
+            tileOverlayOptionsBuilder.buildTileCache(cacheDirectory, tileOverlayId));
     tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileProviderController);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
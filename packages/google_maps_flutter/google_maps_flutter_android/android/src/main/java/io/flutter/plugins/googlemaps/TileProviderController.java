@@ -8,76 +8,385 @@ import android.os.Handler;
 import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Provides tiles of a tile overlay by requesting them from Dart.
+ *
+ * <p>The Maps SDK calls {@link #getTile(int, int, int)} on its worker threads and blocks until the
+ * tile is returned. To keep a slow Dart tile provider from stalling the overlay:
+ *
+ * <ul>
+ *   <li>concurrent requests for the same tile share a single request to Dart,
+ *   <li>at most {@code maxInFlightTileRequests} requests are sent to Dart at a time, the others are
+ *       queued,
+ *   <li>queued requests for tiles that are no longer visible can be cancelled with {@link
+ *       #cancelTilesOutside(LatLngBounds)},
+ *   <li>a worker waits at most {@code tileRequestTimeoutMillis} before returning {@code null},
+ *       which makes the Maps SDK request the tile again later. The timed out request gives up its
+ *       place, so a Dart reply that never arrives doesn't block the other requests, and the retry
+ *       sends a new request. A late reply is still added to the cache.
+ * </ul>
+ *
+ * <p>If the overlay has a {@link TileCache}, cached tiles are returned without a request to Dart
+ * and the tiles received from Dart are added to the cache.
+ */
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
 
+  static final long DEFAULT_TILE_REQUEST_TIMEOUT_MILLIS = 5000;
+  static final int DEFAULT_MAX_IN_FLIGHT_TILE_REQUESTS = 8;
+
+  // Number of most recent tile request latencies used to compute the latency percentiles.
+  private static final int LATENCY_SAMPLE_COUNT = 256;
+
   protected final String tileOverlayId;
   protected final MethodChannel methodChannel;
-  protected final Handler handler = new Handler(Looper.getMainLooper());
+  protected final Handler handler;
+
+  private final long tileRequestTimeoutMillis;
+  private final int maxInFlightTileRequests;
+  @Nullable private final TileCache tileCache;
 
-  TileProviderController(MethodChannel methodChannel, String tileOverlayId) {
+  // All requests that have not completed yet, both queued and in flight. Guarded by this.
+  private final Map<TileKey, TileRequest> pendingRequests = new HashMap<>();
+  private final ArrayDeque<TileRequest> queuedRequests = new ArrayDeque<>();
+  private int inFlightRequestCount;
+
+  private final long[] latencySamplesMillis = new long[LATENCY_SAMPLE_COUNT];
+  private int latencySampleCount;
+  private int nextLatencySample;
+  private long completedRequestCount;
+  private long coalescedRequestCount;
+  private long cancelledRequestCount;
+  private long timedOutRequestCount;
+  private long cacheHitCount;
+
+  TileProviderController(
+      MethodChannel methodChannel, String tileOverlayId, @Nullable TileCache tileCache) {
+    this(
+        methodChannel,
+        tileOverlayId,
+        new Handler(Looper.getMainLooper()),
+        DEFAULT_TILE_REQUEST_TIMEOUT_MILLIS,
+        DEFAULT_MAX_IN_FLIGHT_TILE_REQUESTS,
+        tileCache);
+  }
+
+  @VisibleForTesting
+  TileProviderController(
+      MethodChannel methodChannel,
+      String tileOverlayId,
+      Handler handler,
+      long tileRequestTimeoutMillis,
+      int maxInFlightTileRequests,
+      @Nullable TileCache tileCache) {
     this.tileOverlayId = tileOverlayId;
     this.methodChannel = methodChannel;
+    this.handler = handler;
+    this.tileRequestTimeoutMillis = tileRequestTimeoutMillis;
+    this.maxInFlightTileRequests = maxInFlightTileRequests;
+    this.tileCache = tileCache;
   }
 
   @Override
   public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    if (tileCache != null) {
+      final Tile cachedTile = tileCache.get(x, y, zoom);
+      if (cachedTile != null) {
+        synchronized (this) {
+          cacheHitCount++;
+        }
+        return cachedTile;
+      }
+    }
+
+    final TileRequest request;
+    synchronized (this) {
+      final TileKey key = new TileKey(x, y, zoom);
+      final TileRequest pendingRequest = pendingRequests.get(key);
+      if (pendingRequest != null) {
+        coalescedRequestCount++;
+        request = pendingRequest;
+      } else {
+        request = new TileRequest(key);
+        pendingRequests.put(key, request);
+        if (inFlightRequestCount < maxInFlightTileRequests) {
+          sendRequest(request);
+        } else {
+          queuedRequests.add(request);
+        }
+      }
+    }
+
+    try {
+      if (!request.completed.await(tileRequestTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        onRequestTimedOut(request);
+        Log.w(
+            TAG,
+            String.format(
+                "Timed out waiting for tile: x = %d, y = %d, zoom = %d, tileOverlayId = %s",
+                x, y, zoom, tileOverlayId));
+        return null;
+      }
+    } catch (InterruptedException e) {
+      Log.e(
+          TAG,
+          String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
+          e);
+      return TileProvider.NO_TILE;
+    }
+    return request.tile;
+  }
+
+  /**
+   * Cancels the queued requests for tiles that are not within {@code bounds}.
+   *
+   * <p>Requests that were already sent to Dart are not affected. Tiles are kept if they are within
+   * one tile of {@code bounds}.
+   */
+  void cancelTilesOutside(@NonNull LatLngBounds bounds) {
+    final List<TileRequest> cancelledRequests = new ArrayList<>();
+    synchronized (this) {
+      final Iterator<TileRequest> iterator = queuedRequests.iterator();
+      while (iterator.hasNext()) {
+        final TileRequest request = iterator.next();
+        final TileKey key = request.key;
+        if (!isTileWithinBounds(key.x, key.y, key.zoom, bounds)) {
+          iterator.remove();
+          pendingRequests.remove(key);
+          request.released = true;
+          cancelledRequests.add(request);
+        }
+      }
+      cancelledRequestCount += cancelledRequests.size();
+    }
+    for (TileRequest request : cancelledRequests) {
+      request.complete(null);
+    }
+  }
+
+  /** Cancels all queued requests, e.g. because the tile overlay was removed. */
+  void cancelQueuedTiles() {
+    final List<TileRequest> cancelledRequests;
+    synchronized (this) {
+      cancelledRequests = new ArrayList<>(queuedRequests);
+      for (TileRequest request : queuedRequests) {
+        pendingRequests.remove(request.key);
+        request.released = true;
+      }
+      queuedRequests.clear();
+      cancelledRequestCount += cancelledRequests.size();
+    }
+    for (TileRequest request : cancelledRequests) {
+      request.complete(null);
+    }
+  }
+
+  /** Removes all tiles from the cache, if the overlay has one. */
+  void clearCache() {
+    if (tileCache != null) {
+      tileCache.clear();
+    }
+  }
+
+  /**
+   * Returns counters and latency percentiles of the tile requests sent to Dart.
+   *
+   * <p>Latencies are measured from sending the request to Dart until its result is received, over
+   * the most recent requests.
+   */
+  synchronized Map<String, Object> getTileStatistics() {
+    final Map<String, Object> statistics = new HashMap<>();
+    statistics.put("pendingTileRequests", pendingRequests.size());
+    statistics.put("inFlightTileRequests", inFlightRequestCount);
+    statistics.put("completedTileRequests", completedRequestCount);
+    statistics.put("coalescedTileRequests", coalescedRequestCount);
+    statistics.put("cancelledTileRequests", cancelledRequestCount);
+    statistics.put("timedOutTileRequests", timedOutRequestCount);
+    statistics.put("cachedTiles", cacheHitCount);
+
+    final long[] latencies = Arrays.copyOf(latencySamplesMillis, latencySampleCount);
+    Arrays.sort(latencies);
+    statistics.put("tileLatencyP50Millis", percentile(latencies, 50));
+    statistics.put("tileLatencyP90Millis", percentile(latencies, 90));
+    statistics.put("tileLatencyP99Millis", percentile(latencies, 99));
+    return statistics;
+  }
+
+  // Must be called while holding the lock.
+  private void sendRequest(final TileRequest request) {
+    inFlightRequestCount++;
+    request.inFlight = true;
+    request.sentNanos = System.nanoTime();
+    handler.post(
+        () ->
+            methodChannel.invokeMethod(
+                "tileOverlay#getTile",
+                Convert.tileOverlayArgumentsToJson(
+                    tileOverlayId, request.key.x, request.key.y, request.key.zoom),
+                request));
+  }
+
+  private void onRequestCompleted(TileRequest request, @Nullable Tile tile) {
+    synchronized (this) {
+      completedRequestCount++;
+      latencySamplesMillis[nextLatencySample] =
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.sentNanos);
+      nextLatencySample = (nextLatencySample + 1) % LATENCY_SAMPLE_COUNT;
+      latencySampleCount = Math.min(latencySampleCount + 1, LATENCY_SAMPLE_COUNT);
+      release(request);
+    }
+    request.complete(tile);
+  }
+
+  private synchronized void onRequestTimedOut(TileRequest request) {
+    timedOutRequestCount++;
+    queuedRequests.remove(request);
+    release(request);
   }
 
-  private final class Worker implements MethodChannel.Result {
+  // Removes the request from the pending requests and frees its place for the queued requests, once.
+  // Must be called while holding the lock.
+  private void release(TileRequest request) {
+    if (request.released) {
+      return;
+    }
+    request.released = true;
+    if (pendingRequests.get(request.key) == request) {
+      pendingRequests.remove(request.key);
+    }
+    if (request.inFlight) {
+      inFlightRequestCount--;
+      TileRequest nextRequest;
+      while (inFlightRequestCount < maxInFlightTileRequests
+          && (nextRequest = queuedRequests.poll()) != null) {
+        sendRequest(nextRequest);
+      }
+    }
+  }
 
-    private final CountDownLatch countDownLatch = new CountDownLatch(1);
-    private final int x;
-    private final int y;
-    private final int zoom;
-    private Map<String, ?> result;
+  private static long percentile(long[] sortedValues, int percentile) {
+    if (sortedValues.length == 0) {
+      return 0;
+    }
+    final int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+    return sortedValues[Math.max(0, rank - 1)];
+  }
+
+  /** Returns whether the tile is within, or next to, the tiles covering {@code bounds}. */
+  @VisibleForTesting
+  static boolean isTileWithinBounds(int x, int y, int zoom, @NonNull LatLngBounds bounds) {
+    final int tileCount = 1 << zoom;
+    final int northY = latitudeToTileY(bounds.northeast.latitude, tileCount) - 1;
+    final int southY = latitudeToTileY(bounds.southwest.latitude, tileCount) + 1;
+    if (y < northY || y > southY) {
+      return false;
+    }
 
-    Worker(int x, int y, int zoom) {
+    final int westX = longitudeToTileX(bounds.southwest.longitude, tileCount) - 1;
+    int eastX = longitudeToTileX(bounds.northeast.longitude, tileCount) + 1;
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The bounds cross the antimeridian.
+      eastX += tileCount;
+    }
+    if (eastX - westX + 1 >= tileCount) {
+      return true;
+    }
+    final int offset = ((x - westX) % tileCount + tileCount) % tileCount;
+    return offset <= eastX - westX;
+  }
+
+  private static int longitudeToTileX(double longitude, int tileCount) {
+    final int x = (int) Math.floor((longitude + 180) / 360 * tileCount);
+    return Math.max(0, Math.min(tileCount - 1, x));
+  }
+
+  private static int latitudeToTileY(double latitude, int tileCount) {
+    final double sinLatitude = Math.sin(Math.toRadians(latitude));
+    final double y = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    return Math.max(0, Math.min(tileCount - 1, (int) Math.floor(y * tileCount)));
+  }
+
+  private static final class TileKey {
+    final int x;
+    final int y;
+    final int zoom;
+
+    TileKey(int x, int y, int zoom) {
       this.x = x;
       this.y = y;
       this.zoom = zoom;
     }
 
-    @NonNull
-    Tile getTile() {
-      handler.post(
-          () ->
-              methodChannel.invokeMethod(
-                  "tileOverlay#getTile",
-                  Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
-                  this));
-      try {
-        // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it synchronized.
-        countDownLatch.await();
-      } catch (InterruptedException e) {
-        Log.e(
-            TAG,
-            String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
-            e);
-        return TileProvider.NO_TILE;
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
       }
-      try {
-        return Convert.interpretTile(result);
-      } catch (Exception e) {
-        Log.e(TAG, "Can't parse tile data", e);
-        return TileProvider.NO_TILE;
+      if (!(o instanceof TileKey)) {
+        return false;
       }
+      final TileKey other = (TileKey) o;
+      return x == other.x && y == other.y && zoom == other.zoom;
+    }
+
+    @Override
+    public int hashCode() {
+      return (31 * x + y) * 31 + zoom;
+    }
+  }
+
+  private final class TileRequest implements MethodChannel.Result {
+
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private final TileKey key;
+    private long sentNanos;
+    private volatile Tile tile;
+
+    // Whether the request was sent to Dart, and whether it no longer counts as pending. Guarded by
+    // the controller.
+    private boolean inFlight;
+    private boolean released;
+
+    TileRequest(TileKey key) {
+      this.key = key;
+    }
+
+    void complete(@Nullable Tile tile) {
+      this.tile = tile;
+      completed.countDown();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void success(Object data) {
-      result = (Map<String, ?>) data;
-      countDownLatch.countDown();
+      Tile tile;
+      try {
+        tile = Convert.interpretTile((Map<String, ?>) data);
+      } catch (Exception e) {
+        Log.e(TAG, "Can't parse tile data", e);
+        tile = TileProvider.NO_TILE;
+      }
+      if (tileCache != null && tile != TileProvider.NO_TILE) {
+        tileCache.put(key.x, key.y, key.zoom, tile);
+      }
+      onRequestCompleted(this, tile);
     }
 
     @Override
@@ -87,18 +396,16 @@ class TileProviderController implements TileProvider {
           "Can't get tile: errorCode = "
               + errorCode
               + ", errorMessage = "
-              + errorCode
+              + errorMessage
               + ", date = "
               + data);
-      result = null;
-      countDownLatch.countDown();
+      onRequestCompleted(this, TileProvider.NO_TILE);
     }
 
     @Override
     public void notImplemented() {
       Log.e(TAG, "Can't get tile: notImplemented");
-      result = null;
-      countDownLatch.countDown();
+      onRequestCompleted(this, TileProvider.NO_TILE);
     }
   }
 }
@@ -0,0 +1,80 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+  private final List<Object> decodedIcons = new ArrayList<>();
+
+  @Test
+  public void get_decodesIconsWithTheSameBytesOnce() {
+    final BitmapDescriptorCache cache = createCache(8);
+
+    final BitmapDescriptor first = cache.get(Arrays.asList("fromBytes", new byte[] {1, 2}));
+    final BitmapDescriptor second = cache.get(Arrays.asList("fromBytes", new byte[] {1, 2}));
+    final BitmapDescriptor other = cache.get(Arrays.asList("fromBytes", new byte[] {2, 1}));
+
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(2, decodedIcons.size());
+  }
+
+  @Test
+  public void get_keysAssetsByName() {
+    final BitmapDescriptorCache cache = createCache(8);
+
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "b.png"));
+
+    assertEquals(2, decodedIcons.size());
+  }
+
+  @Test
+  public void get_evictsLeastRecentlyUsedIcons() {
+    final BitmapDescriptorCache cache = createCache(2);
+
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "b.png"));
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+    cache.get(Arrays.asList("fromAsset", "c.png"));
+    cache.get(Arrays.asList("fromAsset", "a.png"));
+
+    assertEquals(2, cache.size());
+    assertEquals(3, decodedIcons.size());
+  }
+
+  @Test
+  public void intern_returnsTheCachedIcon() {
+    final BitmapDescriptorCache cache = createCache(8);
+    final List<Object> icon = Arrays.asList("fromBytes", new byte[] {1, 2});
+    final List<Object> sameIcon = Arrays.asList("fromBytes", new byte[] {1, 2});
+    final List<Object> otherIcon = Arrays.asList("fromBytes", new byte[] {3});
+
+    cache.get(icon);
+
+    assertSame(icon, cache.intern(sameIcon));
+    assertSame(otherIcon, cache.intern(otherIcon));
+  }
+
+  private BitmapDescriptorCache createCache(int maxSize) {
+    return new BitmapDescriptorCache(
+        icon -> {
+          decodedIcons.add(icon);
+          return mock(BitmapDescriptor.class);
+        },
+        maxSize);
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import io.flutter.plugin.common.MethodChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class CameraMoveEventThrottlerTest {
+  private final List<Map<?, ?>> sentPositions = new ArrayList<>();
+  private final List<MethodChannel.Result> pendingReplies = new ArrayList<>();
+  private CameraMoveEventThrottler throttler;
+
+  @Before
+  public void before() {
+    final MethodChannel mockMethodChannel = mock(MethodChannel.class);
+    doAnswer(
+            invocation -> {
+              final Map<?, ?> arguments = invocation.getArgument(1);
+              sentPositions.add((Map<?, ?>) arguments.get("position"));
+              pendingReplies.add(invocation.getArgument(2));
+              return null;
+            })
+        .when(mockMethodChannel)
+        .invokeMethod(eq("camera#onMove"), any(), any(MethodChannel.Result.class));
+    throttler =
+        new CameraMoveEventThrottler(mockMethodChannel, new Handler(Looper.getMainLooper()));
+  }
+
+  @Test
+  public void onCameraMove_coalescesPositionsWhileAnEventIsInFlight() {
+    throttler.onCameraMove(position(1));
+    throttler.onCameraMove(position(2));
+    throttler.onCameraMove(position(3));
+    assertEquals(1, sentPositions.size());
+
+    replyToAll();
+
+    assertEquals(2, sentPositions.size());
+    assertEquals(3.0, zoomOf(sentPositions.get(1)), 0);
+  }
+
+  @Test
+  public void onCameraMove_limitsTheEventRate() {
+    throttler.setLimits(10, 0);
+
+    throttler.onCameraMove(position(1));
+    replyToAll();
+    throttler.onCameraMove(position(2));
+    throttler.onCameraMove(position(3));
+    assertEquals(1, sentPositions.size());
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+
+    assertEquals(2, sentPositions.size());
+    assertEquals(3.0, zoomOf(sentPositions.get(1)), 0);
+  }
+
+  @Test
+  public void onCameraMove_skipsChangesBelowTheMinimumDelta() {
+    throttler.setLimits(0, 0.5);
+
+    throttler.onCameraMove(position(1));
+    replyToAll();
+    throttler.onCameraMove(position(1.25f));
+    assertEquals(1, sentPositions.size());
+
+    throttler.onCameraMove(position(2));
+    assertEquals(2, sentPositions.size());
+  }
+
+  @Test
+  public void onCameraIdle_sendsTheFinalPosition() {
+    throttler.setLimits(10, 0.5);
+
+    throttler.onCameraMove(position(1));
+    throttler.onCameraMove(position(1.25f));
+    throttler.onCameraIdle();
+
+    assertEquals(2, sentPositions.size());
+    assertEquals(1.25, zoomOf(sentPositions.get(1)), 0);
+
+    // The scheduled event is not sent after the camera became idle.
+    replyToAll();
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+    assertEquals(2, sentPositions.size());
+  }
+
+  @Test
+  public void onCameraIdle_doesNotSendTheLastSentPositionAgain() {
+    throttler.onCameraMove(position(1));
+    throttler.onCameraIdle();
+
+    assertEquals(1, sentPositions.size());
+  }
+
+  private void replyToAll() {
+    final List<MethodChannel.Result> replies = new ArrayList<>(pendingReplies);
+    pendingReplies.clear();
+    for (MethodChannel.Result reply : replies) {
+      reply.success(null);
+    }
+  }
+
+  private static CameraPosition position(float zoom) {
+    return CameraPosition.builder().target(new LatLng(10, 20)).zoom(zoom).build();
+  }
+
+  private static double zoomOf(Map<?, ?> position) {
+    return ((Number) position.get("zoom")).doubleValue();
+  }
+}
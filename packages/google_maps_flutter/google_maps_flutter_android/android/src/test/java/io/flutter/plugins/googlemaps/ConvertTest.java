@@ -26,4 +26,20 @@ public class ConvertTest {
     Assert.assertEquals(latitude, latLng.latitude, 1e-15);
     Assert.assertEquals(longitude, latLng.longitude, 1e-15);
   }
+
+  @Test
+  public void ConvertToPointsConvertsPackedPoints() {
+    double[] packedPoints = {43.03725568057, -87.90466904649, 1.5, 2.5};
+    List<LatLng> latLngs = Convert.toPoints(packedPoints);
+    Assert.assertEquals(2, latLngs.size());
+    Assert.assertEquals(43.03725568057, latLngs.get(0).latitude, 1e-15);
+    Assert.assertEquals(-87.90466904649, latLngs.get(0).longitude, 1e-15);
+    Assert.assertEquals(1.5, latLngs.get(1).latitude, 1e-15);
+    Assert.assertEquals(2.5, latLngs.get(1).longitude, 1e-15);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertToPointsRejectsAnOddNumberOfPackedValues() {
+    Convert.toPoints(new double[] {1.0, 2.0, 3.0});
+  }
 }
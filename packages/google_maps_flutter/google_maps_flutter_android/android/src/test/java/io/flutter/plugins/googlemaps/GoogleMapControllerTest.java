@@ -7,10 +7,13 @@ package io.flutter.plugins.googlemaps;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.content.Context;
 import android.os.Build;
@@ -19,9 +22,13 @@ import androidx.activity.ComponentActivity;
 import androidx.test.core.app.ApplicationProvider;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.MapView;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.HashMap;
 import org.junit.After;
 import org.junit.Assert;
@@ -39,6 +46,7 @@ import org.robolectric.annotation.Config;
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = Build.VERSION_CODES.P)
 public class GoogleMapControllerTest {
+  private static final String CHANNEL_NAME = "plugins.flutter.dev/google_maps_android_0";
 
   private Context context;
   private ComponentActivity activity;
@@ -78,6 +86,30 @@ public class GoogleMapControllerTest {
     assertNull(googleMapController.getView());
   }
 
+  @Test
+  public void DisposeDropsThePendingCameraMoveEvent() {
+    final HashMap<String, Object> limits = new HashMap<>();
+    limits.put("maxEventsPerSecond", 1);
+    googleMapController.onMethodCall(
+        new MethodCall("map#setCameraMoveEventLimits", limits), mock(MethodChannel.Result.class));
+    googleMapController.setTrackCameraPosition(true);
+    googleMapController.onMapReady(mockGoogleMap);
+    when(mockGoogleMap.getCameraPosition())
+        .thenReturn(new CameraPosition(new LatLng(0, 0), 1, 0, 0))
+        .thenReturn(new CameraPosition(new LatLng(1, 1), 1, 0, 0));
+    googleMapController.onCameraMove();
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> reply =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockMessenger).send(eq(CHANNEL_NAME), any(ByteBuffer.class), reply.capture());
+    reply.getValue().reply(null);
+    googleMapController.onCameraMove();
+
+    googleMapController.dispose();
+    Shadows.shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(1));
+
+    verify(mockMessenger).send(eq(CHANNEL_NAME), any(ByteBuffer.class), any());
+  }
+
   @Test
   public void OnDestroyReleaseTheMap() throws InterruptedException {
     googleMapController.onMapReady(mockGoogleMap);
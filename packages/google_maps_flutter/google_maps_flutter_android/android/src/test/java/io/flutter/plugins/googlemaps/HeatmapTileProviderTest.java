@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class HeatmapTileProviderTest {
+  private static final int SIZE = HeatmapTileProvider.TILE_SIZE;
+
+  @Test
+  public void renderTile_drawsPointsAtTheirPosition() {
+    // The point (0, 0) is the center of the world, the corner of the 4 tiles of zoom level 1.
+    final HeatmapTileProvider provider = createProvider(0, 0, 1);
+
+    final int[] pixels = provider.renderTile(1, 1, 1);
+
+    assertNotNull(pixels);
+    assertTrue(alpha(pixels[0]) > 0);
+    assertEquals(0, alpha(pixels[SIZE * SIZE - 1]));
+  }
+
+  @Test
+  public void renderTile_returnsNullForTilesWithoutPoints() {
+    final HeatmapTileProvider provider = createProvider(45, 90, 1);
+
+    assertNull(provider.renderTile(0, 1, 1));
+    assertNull(provider.renderTile(0, 0, 4));
+  }
+
+  @Test
+  public void renderTile_drawsPointsAcrossTheAntimeridian() {
+    // The point is at the west edge of tile x = 0, near the east edge of tile x = 3.
+    final HeatmapTileProvider provider = createProvider(0, -179.9, 1);
+
+    final int[] pixels = provider.renderTile(3, 2, 2);
+
+    assertNotNull(pixels);
+    assertTrue(alpha(pixels[SIZE - 1]) > 0);
+  }
+
+  @Test
+  public void getTile_returnsNoTileForTilesWithoutPoints() {
+    final HeatmapTileProvider provider = createProvider(45, 90, 1);
+
+    assertSame(TileProvider.NO_TILE, provider.getTile(0, 1, 1));
+    final Tile tile = provider.getTile(1, 0, 1);
+    assertNotSame(TileProvider.NO_TILE, tile);
+    assertEquals(SIZE, tile.width);
+  }
+
+  @Test
+  public void getMaxIntensity_sumsTheWeightsOfNearbyPoints() {
+    final HeatmapTileProvider provider =
+        new HeatmapTileProvider(
+            new double[] {10, 10, 2, 10, 10, 3, -50, -50, 4},
+            HeatmapTileProvider.DEFAULT_RADIUS,
+            HeatmapTileProvider.DEFAULT_GRADIENT_COLORS,
+            HeatmapTileProvider.DEFAULT_GRADIENT_START_POINTS,
+            1);
+
+    assertEquals(5, provider.getMaxIntensity(3), 0);
+  }
+
+  @Test
+  public void createColorMap_interpolatesTheGradientAndAppliesTheOpacity() {
+    final int[] colorMap =
+        HeatmapTileProvider.createColorMap(
+            new int[] {0xFF0000FF, 0xFFFF0000}, new float[] {0.5f, 1f}, 0.5f);
+
+    assertEquals(0x000000FF, colorMap[0]);
+    assertEquals(0x800000FF, colorMap[colorMap.length / 2]);
+    assertEquals(0x80FF0000, colorMap[colorMap.length - 1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_rejectsIncompletePoints() {
+    new HeatmapTileProvider(
+        new double[] {1, 2},
+        HeatmapTileProvider.DEFAULT_RADIUS,
+        HeatmapTileProvider.DEFAULT_GRADIENT_COLORS,
+        HeatmapTileProvider.DEFAULT_GRADIENT_START_POINTS,
+        1);
+  }
+
+  private static HeatmapTileProvider createProvider(
+      double latitude, double longitude, double weight) {
+    return new HeatmapTileProvider(
+        new double[] {latitude, longitude, weight},
+        HeatmapTileProvider.DEFAULT_RADIUS,
+        HeatmapTileProvider.DEFAULT_GRADIENT_COLORS,
+        HeatmapTileProvider.DEFAULT_GRADIENT_START_POINTS,
+        HeatmapTileProvider.DEFAULT_OPACITY);
+  }
+
+  private static int alpha(int color) {
+    return color >>> 24;
+  }
+}
@@ -0,0 +1,95 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Measures {@link MarkerClusterer} on synthetic point sets, clustering a city wide fleet of markers
+ * at each zoom level after one marker moved, like a map whose markers are updated every second, and
+ * compares it with clustering all markers from scratch.
+ *
+ * <p>The benchmark is skipped by the unit tests. Without {@link Ignore}, it prints the time per
+ * zoom level of both approaches for each marker count.
+ */
+@Ignore("Benchmark, run manually.")
+public class MarkerClustererBenchmarkTest {
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int ITERATIONS = 10;
+  private static final int[] MARKER_COUNTS = {1000, 10000, 100000};
+  private static final int MIN_ZOOM = 8;
+  private static final int MAX_ZOOM = 16;
+
+  @Test
+  public void benchmarkClustering() {
+    for (int markerCount : MARKER_COUNTS) {
+      final MarkerClusterer clusterer = createClusterer(markerCount);
+      final LatLngBounds bounds = new LatLngBounds(new LatLng(48.8, 2.3), new LatLng(48.9, 2.4));
+
+      for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+        cluster(clusterer, bounds, i);
+      }
+
+      final MarkerClusterer[] newClusterers = new MarkerClusterer[ITERATIONS];
+      for (int i = 0; i < ITERATIONS; i++) {
+        newClusterers[i] = createClusterer(markerCount);
+      }
+
+      long start = System.nanoTime();
+      long clusterCount = 0;
+      for (int i = 0; i < ITERATIONS; i++) {
+        clusterCount += cluster(clusterer, bounds, i);
+      }
+      final long nanosPerZoom =
+          (System.nanoTime() - start) / ITERATIONS / (MAX_ZOOM - MIN_ZOOM + 1);
+
+      start = System.nanoTime();
+      long expectedClusterCount = 0;
+      for (int i = 0; i < ITERATIONS; i++) {
+        expectedClusterCount += cluster(newClusterers[i], bounds, i);
+      }
+      final long newNanosPerZoom =
+          (System.nanoTime() - start) / ITERATIONS / (MAX_ZOOM - MIN_ZOOM + 1);
+
+      System.out.printf(
+          Locale.US,
+          "%d markers: from scratch %.2f ms, after a move %.2f ms per zoom level%n",
+          markerCount,
+          newNanosPerZoom / 1e6,
+          nanosPerZoom / 1e6);
+      assertEquals(markerCount, clusterer.size());
+      assertEquals(expectedClusterCount, clusterCount);
+    }
+  }
+
+  private static MarkerClusterer createClusterer(int markerCount) {
+    final Random random = new Random(0);
+    final MarkerClusterer clusterer =
+        new MarkerClusterer(
+            MarkerClusterer.DEFAULT_GRID_SIZE, MarkerClusterer.DEFAULT_MIN_CLUSTER_SIZE);
+    for (int i = 0; i < markerCount; i++) {
+      clusterer.add(
+          String.valueOf(i),
+          new LatLng(48.7 + random.nextDouble() * 0.3, 2.2 + random.nextDouble() * 0.3));
+    }
+    return clusterer;
+  }
+
+  private static long cluster(MarkerClusterer clusterer, LatLngBounds bounds, int iteration) {
+    clusterer.add("0", new LatLng(48.8 + iteration * 1e-4, 2.3));
+    long clusterCount = 0;
+    for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+      clusterCount += clusterer.getVisibleClusters(zoom, bounds).size();
+    }
+    return clusterCount;
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class MarkerClustererTest {
+
+  @Test
+  public void getClusters_groupsMarkersThatAreCloseOnScreen() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    clusterer.add("a", new LatLng(48.85, 2.35));
+    clusterer.add("b", new LatLng(48.86, 2.36));
+    clusterer.add("c", new LatLng(-33.86, 151.21));
+
+    final List<MarkerClusterer.Cluster> clusters = clusterer.getClusters(5);
+
+    assertEquals(2, clusters.size());
+    final MarkerClusterer.Cluster paris = findCluster(clusters, "a");
+    assertTrue(paris.isCluster());
+    assertEquals(sorted(paris.markerIds), sorted(listOf("a", "b")));
+    assertEquals(48.855, paris.position.latitude, 0.01);
+    assertEquals(2.35, paris.bounds.southwest.longitude, 1e-6);
+    assertEquals(2.36, paris.bounds.northeast.longitude, 1e-6);
+    assertFalse(findCluster(clusters, "c").isCluster());
+  }
+
+  @Test
+  public void getClusters_splitsClustersWhenZoomingIn() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    clusterer.add("a", new LatLng(48.85, 2.35));
+    clusterer.add("b", new LatLng(48.86, 2.36));
+
+    assertEquals(1, clusterer.getClusters(5).size());
+    assertEquals(2, clusterer.getClusters(18).size());
+  }
+
+  @Test
+  public void getClusters_reusesClustersUntilMarkersChange() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    clusterer.add("a", new LatLng(48.85, 2.35));
+
+    final List<MarkerClusterer.Cluster> clusters = clusterer.getClusters(5);
+    assertSame(clusters, clusterer.getClusters(5));
+
+    clusterer.add("a", new LatLng(-33.86, 151.21));
+    final List<MarkerClusterer.Cluster> movedClusters = clusterer.getClusters(5);
+
+    assertNotSame(clusters, movedClusters);
+    assertEquals(-33.86, movedClusters.get(0).position.latitude, 1e-6);
+  }
+
+  @Test
+  public void remove_removesMarkerFromClusters() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    clusterer.add("a", new LatLng(48.85, 2.35));
+    clusterer.add("b", new LatLng(48.86, 2.36));
+    clusterer.add("c", new LatLng(48.87, 2.37));
+
+    clusterer.remove("a");
+
+    assertEquals(2, clusterer.size());
+    assertEquals(sorted(listOf("b", "c")), sorted(clusterer.getClusters(5).get(0).markerIds));
+  }
+
+  @Test
+  public void add_onlyRecomputesTheClustersOfTheMovedMarker() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    clusterer.add("a", new LatLng(48.85, 2.35));
+    clusterer.add("b", new LatLng(48.86, 2.36));
+    clusterer.add("c", new LatLng(-33.86, 151.21));
+    final MarkerClusterer.Cluster sydney = findCluster(clusterer.getClusters(5), "c");
+
+    clusterer.add("a", new LatLng(40.71, -74.0));
+    final List<MarkerClusterer.Cluster> clusters = clusterer.getClusters(5);
+
+    assertEquals(3, clusters.size());
+    assertSame(sydney, findCluster(clusters, "c"));
+    assertEquals(listOf("a"), findCluster(clusters, "a").markerIds);
+    assertEquals(listOf("b"), findCluster(clusters, "b").markerIds);
+  }
+
+  @Test
+  public void getClusters_matchesANewClustererAfterChanges() {
+    final MarkerClusterer clusterer = new MarkerClusterer(100, 2);
+    final Map<String, LatLng> positions = new HashMap<>();
+    final Random random = new Random(0);
+    for (int i = 0; i < 200; i++) {
+      final String markerId = String.valueOf(i);
+      positions.put(markerId, randomPosition(random));
+      clusterer.add(markerId, positions.get(markerId));
+    }
+    for (int zoom = 0; zoom <= MarkerClusterer.MAX_ZOOM; zoom++) {
+      clusterer.getClusters(zoom);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      final String movedMarkerId = String.valueOf(random.nextInt(250));
+      positions.put(movedMarkerId, randomPosition(random));
+      clusterer.add(movedMarkerId, positions.get(movedMarkerId));
+      final String removedMarkerId = String.valueOf(random.nextInt(250));
+      positions.remove(removedMarkerId);
+      clusterer.remove(removedMarkerId);
+    }
+
+    final MarkerClusterer expectedClusterer = new MarkerClusterer(100, 2);
+    for (Map.Entry<String, LatLng> entry : positions.entrySet()) {
+      expectedClusterer.add(entry.getKey(), entry.getValue());
+    }
+    assertEquals(expectedClusterer.size(), clusterer.size());
+    for (int zoom = 0; zoom <= MarkerClusterer.MAX_ZOOM; zoom++) {
+      assertEquals(
+          getSortedMarkerIds(expectedClusterer.getClusters(zoom)),
+          getSortedMarkerIds(clusterer.getClusters(zoom)));
+    }
+  }
+
+  @Test
+  public void getVisibleClusters_returnsClustersNearTheBounds() {
+    final MarkerClusterer clusterer = new MarkerClusterer(50, 2);
+    clusterer.add("visible", new LatLng(0, 0));
+    clusterer.add("nearby", new LatLng(0, 14));
+    clusterer.add("hidden", new LatLng(0, 90));
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, -10), new LatLng(10, 10));
+
+    final List<String> markerIds = new ArrayList<>();
+    for (MarkerClusterer.Cluster cluster : clusterer.getVisibleClusters(4, bounds)) {
+      markerIds.addAll(cluster.markerIds);
+    }
+
+    assertEquals(sorted(listOf("nearby", "visible")), sorted(markerIds));
+  }
+
+  @Test
+  public void getVisibleClusters_handlesTheAntimeridian() {
+    final MarkerClusterer clusterer = new MarkerClusterer(50, 2);
+    clusterer.add("east", new LatLng(0, 175));
+    clusterer.add("west", new LatLng(0, -175));
+    clusterer.add("hidden", new LatLng(0, 0));
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, 170), new LatLng(10, -170));
+
+    final List<String> markerIds = new ArrayList<>();
+    for (MarkerClusterer.Cluster cluster : clusterer.getVisibleClusters(4, bounds)) {
+      markerIds.addAll(cluster.markerIds);
+    }
+
+    assertEquals(sorted(listOf("east", "west")), sorted(markerIds));
+  }
+
+  @Test
+  public void clusterIcons_labelsLargeClustersWithBuckets() {
+    assertEquals("9", ClusterIcons.getLabel(9));
+    assertEquals("10+", ClusterIcons.getLabel(19));
+    assertEquals("50+", ClusterIcons.getLabel(99));
+    assertEquals("1000+", ClusterIcons.getLabel(5000));
+  }
+
+  private static MarkerClusterer.Cluster findCluster(
+      List<MarkerClusterer.Cluster> clusters, String markerId) {
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      if (cluster.markerIds.contains(markerId)) {
+        return cluster;
+      }
+    }
+    throw new AssertionError("No cluster contains " + markerId);
+  }
+
+  private static LatLng randomPosition(Random random) {
+    return new LatLng(48.7 + random.nextDouble() * 0.3, 2.2 + random.nextDouble() * 0.3);
+  }
+
+  /** Returns the sorted marker identifiers of each cluster, in a set to ignore their order. */
+  private static Set<List<String>> getSortedMarkerIds(List<MarkerClusterer.Cluster> clusters) {
+    final Set<List<String>> markerIds = new HashSet<>();
+    for (MarkerClusterer.Cluster cluster : clusters) {
+      markerIds.add(sorted(cluster.markerIds));
+    }
+    return markerIds;
+  }
+
+  private static List<String> listOf(String... values) {
+    final List<String> list = new ArrayList<>();
+    Collections.addAll(list, values);
+    return list;
+  }
+
+  private static List<String> sorted(List<String> values) {
+    final List<String> sortedValues = new ArrayList<>(values);
+    Collections.sort(sortedValues);
+    return sortedValues;
+  }
+}
@@ -4,13 +4,19 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import io.flutter.plugin.common.BinaryMessenger;
@@ -21,7 +27,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 public class MarkersControllerTest {
@@ -124,4 +132,116 @@ public class MarkersControllerTest {
     data.put("position", points);
     Mockito.verify(methodChannel).invokeMethod("marker#onDrag", data);
   }
+
+  @Test
+  public void controller_changeMarkersAppliesOnlyChangedOptions() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller = new MarkersController(methodChannel);
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("abc123");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", "abc123");
+    markerOptions.put("alpha", 0.5);
+    markerOptions.put("position", Arrays.asList(1.0, 2.0));
+    controller.addMarkers(Arrays.<Object>asList(markerOptions));
+
+    final Map<String, Object> changedMarkerOptions = new HashMap<>(markerOptions);
+    changedMarkerOptions.put("position", Arrays.asList(3.0, 4.0));
+    controller.changeMarkers(Arrays.<Object>asList(changedMarkerOptions));
+
+    Mockito.verify(marker).setPosition(new LatLng(3.0, 4.0));
+    Mockito.verify(marker, never()).setAlpha(anyFloat());
+  }
+
+  @Test
+  public void controller_decodesIconsSharedByMarkersOnce() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final BitmapDescriptor bitmapDescriptor = mock(BitmapDescriptor.class);
+    final AtomicInteger decodeCount = new AtomicInteger();
+    final MarkersController controller =
+        new MarkersController(
+            methodChannel,
+            new BitmapDescriptorCache(
+                icon -> {
+                  decodeCount.incrementAndGet();
+                  return bitmapDescriptor;
+                },
+                BitmapDescriptorCache.DEFAULT_MAX_SIZE),
+            mock(ClusterIcons.class));
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+
+    final Marker first = mock(Marker.class);
+    final Marker second = mock(Marker.class);
+    when(first.getId()).thenReturn("first");
+    when(second.getId()).thenReturn("second");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(first, second);
+
+    controller.addMarkers(
+        Arrays.<Object>asList(markerWithIcon("first", 1.0), markerWithIcon("second", 1.0)));
+    controller.changeMarkers(Arrays.<Object>asList(markerWithIcon("first", 2.0)));
+
+    assertEquals(1, decodeCount.get());
+    Mockito.verify(first, never()).setIcon(any());
+    Mockito.verify(first).setAlpha(2.0f);
+  }
+
+  @Test
+  public void controller_clustersMarkersThatAreCloseOnScreen() {
+    final MethodChannel methodChannel =
+        spy(new MethodChannel(mock(BinaryMessenger.class), "no-name", mock(MethodCodec.class)));
+    final MarkersController controller =
+        new MarkersController(methodChannel, new BitmapDescriptorCache(), mock(ClusterIcons.class));
+    final GoogleMap googleMap = mock(GoogleMap.class);
+    controller.setGoogleMap(googleMap);
+    final Marker clusterMarker = mock(Marker.class);
+    final Marker singleMarker = mock(Marker.class);
+    when(clusterMarker.getId()).thenReturn("cluster");
+    when(singleMarker.getId()).thenReturn("single");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(singleMarker, clusterMarker);
+
+    final Map<String, Object> clustering = new HashMap<>();
+    clustering.put("enabled", true);
+    controller.setClustering(clustering);
+    controller.addMarkers(
+        Arrays.<Object>asList(
+            markerAt("a", 48.85, 2.35), markerAt("b", 48.86, 2.36), markerAt("c", 48.0, 5.0)));
+    Mockito.verify(googleMap, never()).addMarker(any(MarkerOptions.class));
+
+    controller.onCameraIdle(5, new LatLngBounds(new LatLng(40, -10), new LatLng(55, 20)));
+    Mockito.verify(googleMap, Mockito.times(2)).addMarker(any(MarkerOptions.class));
+
+    controller.onMarkerTap("cluster");
+    final ArgumentCaptor<Object> arguments = ArgumentCaptor.forClass(Object.class);
+    Mockito.verify(methodChannel).invokeMethod(eq("cluster#onTap"), arguments.capture());
+    final Map<?, ?> cluster = (Map<?, ?>) arguments.getValue();
+    assertEquals(2, ((List<?>) cluster.get("markerIds")).size());
+
+    controller.onCameraIdle(5, new LatLngBounds(new LatLng(-40, -80), new LatLng(-30, -70)));
+    Mockito.verify(clusterMarker).remove();
+    Mockito.verify(singleMarker).remove();
+  }
+
+  private static Map<String, Object> markerAt(String markerId, double latitude, double longitude) {
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", markerId);
+    markerOptions.put("position", Arrays.asList(latitude, longitude));
+    return markerOptions;
+  }
+
+  private static Map<String, Object> markerWithIcon(String markerId, double alpha) {
+    final Map<String, Object> markerOptions = new HashMap<>();
+    markerOptions.put("markerId", markerId);
+    markerOptions.put("alpha", alpha);
+    // Each marker has its own copy of the image bytes, like markers decoded from a message.
+    markerOptions.put("icon", Arrays.asList("fromBytes", new byte[] {1, 2, 3}));
+    return markerOptions;
+  }
 }
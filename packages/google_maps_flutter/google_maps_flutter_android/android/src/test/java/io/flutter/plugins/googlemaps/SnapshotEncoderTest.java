@@ -0,0 +1,117 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class SnapshotEncoderTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void optionsFromArguments_defaultToFullSizePng() {
+    final SnapshotEncoder.Options options = SnapshotEncoder.Options.fromArguments(null);
+
+    assertEquals(Bitmap.CompressFormat.PNG, options.format);
+    assertEquals(100, options.quality);
+    assertEquals(1, options.scale, 0);
+    assertNull(options.filePath);
+  }
+
+  @Test
+  public void optionsFromArguments_readsFormatQualityScaleAndFilePath() {
+    final Map<String, Object> arguments = new HashMap<>();
+    arguments.put("format", "jpeg");
+    arguments.put("quality", 80);
+    arguments.put("scale", 0.5);
+    arguments.put("filePath", "/tmp/snapshot.jpg");
+
+    final SnapshotEncoder.Options options = SnapshotEncoder.Options.fromArguments(arguments);
+
+    assertEquals(Bitmap.CompressFormat.JPEG, options.format);
+    assertEquals(80, options.quality);
+    assertEquals(0.5, options.scale, 0);
+    assertEquals("/tmp/snapshot.jpg", options.filePath);
+  }
+
+  @Test
+  public void encode_downscalesAndWritesToFile() throws Exception {
+    final File file = temporaryFolder.newFile("snapshot.png");
+    final Bitmap bitmap = Bitmap.createBitmap(100, 50, Bitmap.Config.ARGB_8888);
+
+    final Object snapshot =
+        SnapshotEncoder.encode(
+            bitmap,
+            new SnapshotEncoder.Options(Bitmap.CompressFormat.PNG, 100, 0.5f, file.getPath()));
+
+    assertEquals(file.getPath(), snapshot);
+    assertTrue(file.length() > 0);
+    final BitmapFactory.Options bounds = new BitmapFactory.Options();
+    bounds.inJustDecodeBounds = true;
+    BitmapFactory.decodeFile(file.getPath(), bounds);
+    assertEquals(50, bounds.outWidth);
+    assertEquals(25, bounds.outHeight);
+    assertTrue(bitmap.isRecycled());
+  }
+
+  @Test
+  public void encode_deliversBytesOnTheHandlerThread() {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    final SnapshotEncoder encoder = new SnapshotEncoder(Runnable::run, handler);
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    encoder.encode(
+        Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888),
+        SnapshotEncoder.Options.fromArguments(null),
+        result);
+    verify(result, never()).success(any());
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(result).success(any(byte[].class));
+  }
+
+  @Test
+  public void encode_reportsUnexpectedFailures() {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    final SnapshotEncoder encoder = new SnapshotEncoder(Runnable::run, handler);
+    final MethodChannel.Result result = mock(MethodChannel.Result.class);
+    final Bitmap bitmap = mock(Bitmap.class);
+    when(bitmap.compress(any(), anyInt(), any())).thenThrow(new OutOfMemoryError());
+
+    encoder.encode(bitmap, SnapshotEncoder.Options.fromArguments(null), result);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(result).error(eq("Snapshot encoding failed"), any(), isNull());
+    verify(bitmap).recycle();
+  }
+}
@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.google.android.gms.maps.model.Tile;
+import java.io.File;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void get_returnsTileFromMemory() {
+    final TileCache tileCache = createCache(1024, 0, 0);
+
+    tileCache.put(1, 2, 3, tile(new byte[] {1, 2, 3}));
+
+    assertArrayEquals(new byte[] {1, 2, 3}, tileCache.get(1, 2, 3).data);
+    assertNull(tileCache.get(2, 1, 3));
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedTilesAboveMemorySize() {
+    final TileCache tileCache = createCache(8, 0, 0);
+
+    tileCache.put(0, 0, 1, tile(new byte[4]));
+    tileCache.put(1, 0, 1, tile(new byte[4]));
+    tileCache.get(0, 0, 1);
+    tileCache.put(0, 1, 1, tile(new byte[4]));
+
+    assertNotNull(tileCache.get(0, 0, 1));
+    assertNull(tileCache.get(1, 0, 1));
+    assertNotNull(tileCache.get(0, 1, 1));
+    assertEquals(8, tileCache.getMemoryBytes());
+  }
+
+  @Test
+  public void get_returnsTileFromDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    createCache(directory, 0, 1024, 0).put(1, 2, 3, tile(new byte[] {4, 5}));
+
+    final Tile tile = createCache(directory, 0, 1024, 0).get(1, 2, 3);
+
+    assertArrayEquals(new byte[] {4, 5}, tile.data);
+    assertEquals(256, tile.width);
+  }
+
+  @Test
+  public void get_ignoresTilesOfOtherDiskCacheKeys() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    new TileCache(0, 1024, 0, directory, "tiles_v1", Runnable::run)
+        .put(1, 2, 3, tile(new byte[] {4, 5}));
+
+    assertNull(new TileCache(0, 1024, 0, directory, "tiles_v2", Runnable::run).get(1, 2, 3));
+    assertNotNull(new TileCache(0, 1024, 0, directory, "tiles_v1", Runnable::run).get(1, 2, 3));
+  }
+
+  @Test
+  public void get_ignoresExpiredTiles() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final TileCache tileCache = createCache(directory, 1024, 1024, 1);
+
+    tileCache.put(1, 2, 3, tile(new byte[] {1}));
+    Thread.sleep(10);
+
+    assertNull(tileCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void put_evictsOldestTilesAboveDiskSize() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    // Each tile file has a 12 byte header.
+    final TileCache tileCache = createCache(directory, 0, 30, 0);
+
+    tileCache.put(0, 0, 1, tile(new byte[8]));
+    new File(directory.listFiles()[0], "1_0_0.tile").setLastModified(1000);
+    tileCache.put(1, 0, 1, tile(new byte[8]));
+
+    assertNull(tileCache.get(0, 0, 1));
+    assertNotNull(tileCache.get(1, 0, 1));
+  }
+
+  @Test
+  public void clear_removesTilesFromMemoryAndDisk() throws Exception {
+    final File directory = temporaryFolder.newFolder();
+    final TileCache tileCache = createCache(directory, 1024, 1024, 0);
+    tileCache.put(1, 2, 3, tile(new byte[] {1}));
+
+    tileCache.clear();
+
+    assertNull(tileCache.get(1, 2, 3));
+    assertEquals(0, tileCache.getMemoryBytes());
+  }
+
+  @Test
+  public void put_ignoresTilesWithoutData() {
+    final TileCache tileCache = createCache(1024, 0, 0);
+
+    tileCache.put(1, 2, 3, new Tile(256, 256, null));
+
+    assertNull(tileCache.get(1, 2, 3));
+  }
+
+  private TileCache createCache(long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    return createCache(new File("unused"), memoryBytes, diskBytes, timeToLiveMillis);
+  }
+
+  private static TileCache createCache(
+      File directory, long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    return new TileCache(
+        memoryBytes, diskBytes, timeToLiveMillis, directory, "overlay", Runnable::run);
+  }
+
+  private static Tile tile(byte[] data) {
+    return new Tile(256, 256, data);
+  }
+}
@@ -0,0 +1,244 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = Build.VERSION_CODES.P)
+public class TileProviderControllerTest {
+  private final BlockingQueue<MethodChannel.Result> tileRequests = new LinkedBlockingQueue<>();
+  private MethodChannel mockMethodChannel;
+  private ExecutorService workers;
+
+  @Before
+  public void before() {
+    mockMethodChannel = mock(MethodChannel.class);
+    doAnswer(
+            invocation -> {
+              tileRequests.add(invocation.getArgument(2));
+              return null;
+            })
+        .when(mockMethodChannel)
+        .invokeMethod(eq("tileOverlay#getTile"), any(), any(MethodChannel.Result.class));
+    workers = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void after() {
+    workers.shutdownNow();
+  }
+
+  @Test
+  public void getTile_returnsTileFromDart() throws Exception {
+    final TileProviderController controller = createController(1000, 8);
+
+    final Future<Tile> tile = workers.submit(() -> controller.getTile(1, 2, 3));
+    nextTileRequest().success(tileData(new byte[] {1, 2, 3}));
+
+    assertEquals(3, tile.get(1, TimeUnit.SECONDS).data.length);
+    assertEquals(1L, controller.getTileStatistics().get("completedTileRequests"));
+  }
+
+  @Test
+  public void getTile_coalescesRequestsForTheSameTile() throws Exception {
+    final TileProviderController controller = createController(1000, 8);
+
+    final Future<Tile> first = workers.submit(() -> controller.getTile(1, 2, 3));
+    final MethodChannel.Result request = nextTileRequest();
+    final Future<Tile> second = workers.submit(() -> controller.getTile(1, 2, 3));
+    waitForStatistic(controller, "coalescedTileRequests", 1L);
+
+    request.success(tileData(new byte[] {1}));
+
+    assertSame(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS));
+    assertTrue(tileRequests.isEmpty());
+  }
+
+  @Test
+  public void getTile_limitsRequestsInFlight() throws Exception {
+    final TileProviderController controller = createController(1000, 1);
+
+    final Future<Tile> first = workers.submit(() -> controller.getTile(0, 0, 1));
+    final MethodChannel.Result firstRequest = nextTileRequest();
+    final Future<Tile> second = workers.submit(() -> controller.getTile(1, 0, 1));
+    waitForStatistic(controller, "pendingTileRequests", 2);
+    idleMainLooper();
+    assertTrue(tileRequests.isEmpty());
+
+    firstRequest.success(tileData(new byte[] {1}));
+    nextTileRequest().success(tileData(new byte[] {2}));
+
+    assertNotNull(first.get(1, TimeUnit.SECONDS));
+    assertNotNull(second.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void getTile_returnsNullWhenTimedOut() throws Exception {
+    final TileProviderController controller = createController(50, 8);
+
+    final Future<Tile> tile = workers.submit(() -> controller.getTile(1, 2, 3));
+
+    assertNull(tile.get(1, TimeUnit.SECONDS));
+    assertEquals(1L, controller.getTileStatistics().get("timedOutTileRequests"));
+  }
+
+  @Test
+  public void getTile_releasesTheRequestWhenTimedOut() throws Exception {
+    final TileProviderController controller = createController(50, 1);
+
+    final Future<Tile> first = workers.submit(() -> controller.getTile(0, 0, 1));
+    final MethodChannel.Result firstRequest = nextTileRequest();
+    assertNull(first.get(1, TimeUnit.SECONDS));
+    final Future<Tile> second = workers.submit(() -> controller.getTile(1, 0, 1));
+    nextTileRequest().success(tileData(new byte[] {2}));
+    assertNotNull(second.get(1, TimeUnit.SECONDS));
+
+    // The late reply doesn't free a second place.
+    firstRequest.success(tileData(new byte[] {1}));
+    final Map<String, Object> statistics = controller.getTileStatistics();
+    assertEquals(0, statistics.get("pendingTileRequests"));
+    assertEquals(0, statistics.get("inFlightTileRequests"));
+  }
+
+  @Test
+  public void getTile_returnsNoTileOnError() throws Exception {
+    final TileProviderController controller = createController(1000, 8);
+
+    final Future<Tile> tile = workers.submit(() -> controller.getTile(1, 2, 3));
+    nextTileRequest().error("error", "message", null);
+
+    assertSame(TileProvider.NO_TILE, tile.get(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void cancelTilesOutside_cancelsQueuedTilesThatAreNotVisible() throws Exception {
+    final TileProviderController controller = createController(5000, 1);
+    // Zoom level 4 has 16 x 16 tiles, the bounds cover tiles x = 8 and y = 7 to 8.
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, 1), new LatLng(10, 20));
+
+    workers.submit(() -> controller.getTile(8, 8, 4));
+    nextTileRequest();
+    final Future<Tile> visible = workers.submit(() -> controller.getTile(9, 8, 4));
+    final Future<Tile> hidden = workers.submit(() -> controller.getTile(0, 0, 4));
+    waitForStatistic(controller, "pendingTileRequests", 3);
+
+    controller.cancelTilesOutside(bounds);
+
+    assertNull(hidden.get(1, TimeUnit.SECONDS));
+    assertFalse(visible.isDone());
+    assertEquals(1L, controller.getTileStatistics().get("cancelledTileRequests"));
+  }
+
+  @Test
+  public void isTileWithinBounds_handlesTheAntimeridian() {
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-10, 170), new LatLng(10, -170));
+
+    assertTrue(TileProviderController.isTileWithinBounds(15, 8, 4, bounds));
+    assertTrue(TileProviderController.isTileWithinBounds(0, 8, 4, bounds));
+    assertFalse(TileProviderController.isTileWithinBounds(8, 8, 4, bounds));
+    assertFalse(TileProviderController.isTileWithinBounds(0, 0, 4, bounds));
+  }
+
+  @Test
+  public void getTile_returnsCachedTileWithoutRequestingDart() throws Exception {
+    final TileCache tileCache =
+        new TileCache(1024, 0, 0, new File("unused"), "overlay", Runnable::run);
+    final TileProviderController controller = createController(1000, 8, tileCache);
+
+    final Future<Tile> first = workers.submit(() -> controller.getTile(1, 2, 3));
+    nextTileRequest().success(tileData(new byte[] {1, 2, 3}));
+    first.get(1, TimeUnit.SECONDS);
+    final Tile second = controller.getTile(1, 2, 3);
+
+    assertEquals(3, second.data.length);
+    assertTrue(tileRequests.isEmpty());
+    assertEquals(1L, controller.getTileStatistics().get("cachedTiles"));
+  }
+
+  private TileProviderController createController(long timeoutMillis, int maxInFlight) {
+    return createController(timeoutMillis, maxInFlight, null);
+  }
+
+  private TileProviderController createController(
+      long timeoutMillis, int maxInFlight, TileCache tileCache) {
+    return new TileProviderController(
+        mockMethodChannel,
+        "overlay",
+        new Handler(Looper.getMainLooper()),
+        timeoutMillis,
+        maxInFlight,
+        tileCache);
+  }
+
+  private MethodChannel.Result nextTileRequest() throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      idleMainLooper();
+      final MethodChannel.Result request = tileRequests.poll(10, TimeUnit.MILLISECONDS);
+      if (request != null) {
+        return request;
+      }
+    }
+    throw new AssertionError("No tile was requested from Dart.");
+  }
+
+  private static void waitForStatistic(
+      TileProviderController controller, String statistic, Object expected)
+      throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      if (expected.equals(controller.getTileStatistics().get(statistic))) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    assertEquals(expected, controller.getTileStatistics().get(statistic));
+  }
+
+  private static void idleMainLooper() {
+    shadowOf(Looper.getMainLooper()).idle();
+  }
+
+  private static Map<String, Object> tileData(byte[] data) {
+    final Map<String, Object> tile = new HashMap<>();
+    tile.put("width", 256);
+    tile.put("height", 256);
+    tile.put("data", data);
+    return tile;
+  }
+}
@@ -3,3 +3,6 @@
 // found in the LICENSE file.
 
 export 'src/google_maps_flutter_android.dart';
+export 'src/heatmap.dart';
+export 'src/marker_cluster.dart';
+export 'src/tile_overlay.dart';
@@ -13,6 +13,8 @@ import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
 import 'package:stream_transform/stream_transform.dart';
 
 import 'google_map_inspector_android.dart';
+import 'heatmap.dart';
+import 'marker_cluster.dart';
 
 // TODO(stuartmorgan): Remove the dependency on platform interface toJson
 // methods. Channel serialization details should all be package-internal.
@@ -51,6 +53,18 @@ enum AndroidMapRenderer {
   platformDefault,
 }
 
+/// The image formats of map snapshots.
+enum AndroidSnapshotFormat {
+  /// Lossless PNG, the format of [GoogleMapsFlutterAndroid.takeSnapshot].
+  png,
+
+  /// JPEG, compressed with the requested quality.
+  jpeg,
+
+  /// WEBP, compressed with the requested quality.
+  webp,
+}
+
 /// An implementation of [GoogleMapsFlutterPlatform] for Android.
 class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Registers the Android implementation of GoogleMapsFlutterPlatform.
@@ -79,6 +93,10 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   final Map<int, Map<TileOverlayId, TileOverlay>> _tileOverlays =
       <int, Map<TileOverlayId, TileOverlay>>{};
 
+  // Keep a collection of mapId to a map of heatmaps by ID.
+  final Map<int, Map<String, AndroidHeatmap>> _heatmaps =
+      <int, Map<String, AndroidHeatmap>>{};
+
   /// Returns the channel for [mapId], creating it if it doesn't already exist.
   @visibleForTesting
   MethodChannel ensureChannelInitialized(int mapId) {
@@ -181,6 +199,13 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<MapLongPressEvent>();
   }
 
+  /// The taps on the cluster markers of the map with [mapId].
+  ///
+  /// See [setMarkerClustering].
+  Stream<AndroidClusterTapEvent> onClusterTap({required int mapId}) {
+    return _events(mapId).whereType<AndroidClusterTapEvent>();
+  }
+
   Future<dynamic> _handleMethodCall(MethodCall call, int mapId) async {
     switch (call.method) {
       case 'camera#onMoveStarted':
@@ -241,6 +266,20 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           PolylineId(arguments['polylineId']! as String),
         ));
         break;
+      case 'cluster#onTap':
+        final Map<String, Object?> arguments = _getArgumentDictionary(call);
+        _mapEventStreamController.add(AndroidClusterTapEvent(
+          mapId,
+          AndroidMarkerCluster(
+            clusterId: arguments['clusterId']! as String,
+            position: LatLng.fromJson(arguments['position'])!,
+            bounds: LatLngBounds.fromList(arguments['bounds'])!,
+            markerIds: (arguments['markerIds']! as List<Object?>)
+                .map((Object? markerId) => MarkerId(markerId! as String))
+                .toList(),
+          ),
+        ));
+        break;
       case 'polygon#onTap':
         final Map<String, Object?> arguments = _getArgumentDictionary(call);
         _mapEventStreamController.add(PolygonTapEvent(
@@ -323,6 +362,29 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Groups the markers of the map with [mapId] that are close to each other
+  /// on screen into clusters, or shows them individually again if [enabled]
+  /// is false.
+  ///
+  /// The map is divided into squares of [gridSize] logical pixels, and the
+  /// markers of a square are shown as a single cluster marker if there are at
+  /// least [minClusterSize] of them. Only the markers and clusters around the
+  /// visible region are added to the map. Taps on cluster markers are
+  /// reported by [onClusterTap].
+  Future<void> setMarkerClustering({
+    required int mapId,
+    bool enabled = true,
+    int gridSize = 100,
+    int minClusterSize = 2,
+  }) {
+    return _channel(mapId)
+        .invokeMethod<void>('markers#setClustering', <String, Object>{
+      'enabled': enabled,
+      'gridSize': gridSize,
+      'minClusterSize': minClusterSize,
+    });
+  }
+
   @override
   Future<void> updatePolygons(
     PolygonUpdates polygonUpdates, {
@@ -330,7 +392,8 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   }) {
     return _channel(mapId).invokeMethod<void>(
       'polygons#update',
-      polygonUpdates.toJson(),
+      _serializeMapsObjectUpdates(polygonUpdates, _serializePolygon,
+          serializeAdded: _serializeAddedPolygon),
     );
   }
 
@@ -341,7 +404,7 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   }) {
     return _channel(mapId).invokeMethod<void>(
       'polylines#update',
-      polylineUpdates.toJson(),
+      _serializeMapsObjectUpdates(polylineUpdates, _serializePolyline),
     );
   }
 
@@ -360,19 +423,97 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   Future<void> updateTileOverlays({
     required Set<TileOverlay> newTileOverlays,
     required int mapId,
+  }) {
+    return _channel(mapId).invokeMethod<void>(
+      'tileOverlays#update',
+      _tileOverlayUpdates(newTileOverlays, mapId: mapId).toJson(),
+    );
+  }
+
+  /// Sets the heatmaps of the map with [mapId] to [heatmaps].
+  ///
+  /// Heatmaps are compared by identity, so a heatmap whose points did not
+  /// change should be passed as the same object to avoid sending its points
+  /// to the platform again.
+  Future<void> updateHeatmaps({
+    required Set<AndroidHeatmap> heatmaps,
+    required int mapId,
+  }) {
+    final Map<String, AndroidHeatmap> previous =
+        _heatmaps[mapId] ?? <String, AndroidHeatmap>{};
+    final Map<String, AndroidHeatmap> current = <String, AndroidHeatmap>{
+      for (final AndroidHeatmap heatmap in heatmaps) heatmap.heatmapId: heatmap,
+    };
+    _heatmaps[mapId] = current;
+    return _channel(mapId)
+        .invokeMethod<void>('heatmaps#update', <String, Object>{
+      'heatmapsToAdd': <Object>[
+        for (final AndroidHeatmap heatmap in current.values)
+          if (!previous.containsKey(heatmap.heatmapId)) heatmap.toJson(),
+      ],
+      'heatmapsToChange': <Object>[
+        for (final AndroidHeatmap heatmap in current.values)
+          if (previous.containsKey(heatmap.heatmapId) &&
+              !identical(previous[heatmap.heatmapId], heatmap))
+            heatmap.toJson(),
+      ],
+      'heatmapIdsToRemove': <String>[
+        for (final String heatmapId in previous.keys)
+          if (!current.containsKey(heatmapId)) heatmapId,
+      ],
+    });
+  }
+
+  /// Applies the updates of several kinds of map objects to the map with
+  /// [mapId] in a single platform channel call, instead of one call per kind.
+  ///
+  /// Kinds of objects whose updates are null are left unchanged.
+  ///
+  /// Returns the time spent applying each kind of update on the platform side,
+  /// in microseconds, keyed by `markers`, `polygons`, `polylines`, `circles`
+  /// and `tileOverlays`, along with the `total` time.
+  Future<Map<String, int>> updateMapObjects({
+    required int mapId,
+    MarkerUpdates? markerUpdates,
+    PolygonUpdates? polygonUpdates,
+    PolylineUpdates? polylineUpdates,
+    CircleUpdates? circleUpdates,
+    Set<TileOverlay>? newTileOverlays,
+  }) async {
+    final Map<String, int>? stageMicros =
+        await _channel(mapId).invokeMapMethod<String, int>(
+      'map#updateObjects',
+      <String, Object>{
+        if (markerUpdates != null) 'markers': markerUpdates.toJson(),
+        if (polygonUpdates != null)
+          'polygons': _serializeMapsObjectUpdates(
+              polygonUpdates, _serializePolygon,
+              serializeAdded: _serializeAddedPolygon),
+        if (polylineUpdates != null)
+          'polylines':
+              _serializeMapsObjectUpdates(polylineUpdates, _serializePolyline),
+        if (circleUpdates != null) 'circles': circleUpdates.toJson(),
+        if (newTileOverlays != null)
+          'tileOverlays':
+              _tileOverlayUpdates(newTileOverlays, mapId: mapId).toJson(),
+      },
+    );
+    return stageMicros ?? <String, int>{};
+  }
+
+  /// Returns the updates from the current tile overlays of the map with
+  /// [mapId] to [newTileOverlays], which become its current tile overlays.
+  _TileOverlayUpdates _tileOverlayUpdates(
+    Set<TileOverlay> newTileOverlays, {
+    required int mapId,
   }) {
     final Map<TileOverlayId, TileOverlay>? currentTileOverlays =
         _tileOverlays[mapId];
     final Set<TileOverlay> previousSet = currentTileOverlays != null
         ? currentTileOverlays.values.toSet()
         : <TileOverlay>{};
-    final _TileOverlayUpdates updates =
-        _TileOverlayUpdates.from(previousSet, newTileOverlays);
     _tileOverlays[mapId] = keyTileOverlayId(newTileOverlays);
-    return _channel(mapId).invokeMethod<void>(
-      'tileOverlays#update',
-      updates.toJson(),
-    );
+    return _TileOverlayUpdates.from(previousSet, newTileOverlays);
   }
 
   @override
@@ -497,6 +638,107 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _channel(mapId).invokeMethod<Uint8List>('map#takeSnapshot');
   }
 
+  /// Returns a snapshot of the map with [mapId], encoded in [format].
+  ///
+  /// [quality] ranges from 0 to 100, and is ignored by
+  /// [AndroidSnapshotFormat.png].
+  /// A [scale] below 1 downscales the snapshot before it is encoded.
+  Future<Uint8List?> takeSnapshotWithOptions({
+    required int mapId,
+    AndroidSnapshotFormat format = AndroidSnapshotFormat.png,
+    int quality = 100,
+    double scale = 1,
+  }) {
+    return _channel(mapId).invokeMethod<Uint8List>(
+        'map#takeSnapshot',
+        _snapshotArguments(format: format, quality: quality, scale: scale));
+  }
+
+  /// Writes a snapshot of the map with [mapId] to [filePath], and returns
+  /// the path of the file.
+  ///
+  /// Avoids sending the image bytes over the platform channel when they are
+  /// only saved or shared. See [takeSnapshotWithOptions] for the other
+  /// parameters.
+  Future<String?> takeSnapshotToFile({
+    required int mapId,
+    required String filePath,
+    AndroidSnapshotFormat format = AndroidSnapshotFormat.png,
+    int quality = 100,
+    double scale = 1,
+  }) {
+    return _channel(mapId).invokeMethod<String>(
+        'map#takeSnapshot',
+        _snapshotArguments(
+            format: format,
+            quality: quality,
+            scale: scale,
+            filePath: filePath));
+  }
+
+  Map<String, Object> _snapshotArguments({
+    required AndroidSnapshotFormat format,
+    required int quality,
+    required double scale,
+    String? filePath,
+  }) {
+    return <String, Object>{
+      'format': format.name,
+      'quality': quality,
+      'scale': scale,
+      if (filePath != null) 'filePath': filePath,
+    };
+  }
+
+  /// Limits the [onCameraMove] events of the map with [mapId] while the
+  /// camera moves.
+  ///
+  /// At most [maxEventsPerSecond] events are sent per second, or as many as
+  /// can be handled if it is 0. Positions that differ from the previous event
+  /// by less than [minDelta] in latitude and longitude degrees, zoom, tilt and
+  /// bearing are skipped. Events that can't be sent yet are coalesced, and the
+  /// final camera position is always sent before [onCameraIdle].
+  Future<void> setCameraMoveEventLimits({
+    required int mapId,
+    int maxEventsPerSecond = 0,
+    double minDelta = 0,
+  }) {
+    return _channel(mapId)
+        .invokeMethod<void>('map#setCameraMoveEventLimits', <String, Object>{
+      'maxEventsPerSecond': maxEventsPerSecond,
+      'minDelta': minDelta,
+    });
+  }
+
+  /// Returns the statistics of the tile requests of the tile overlay with
+  /// [tileOverlayId], or null if the map with [mapId] doesn't have it.
+  Future<AndroidTileOverlayStatistics?> getTileOverlayStatistics({
+    required int mapId,
+    required TileOverlayId tileOverlayId,
+  }) async {
+    final Map<String, int>? statistics = await _channel(mapId)
+        .invokeMapMethod<String, int>('map#getTileOverlayStatistics',
+            <String, String>{'tileOverlayId': tileOverlayId.value});
+    if (statistics == null) {
+      return null;
+    }
+    return AndroidTileOverlayStatistics(
+      pendingTileRequests: statistics['pendingTileRequests']!,
+      inFlightTileRequests: statistics['inFlightTileRequests']!,
+      completedTileRequests: statistics['completedTileRequests']!,
+      coalescedTileRequests: statistics['coalescedTileRequests']!,
+      cancelledTileRequests: statistics['cancelledTileRequests']!,
+      timedOutTileRequests: statistics['timedOutTileRequests']!,
+      cachedTiles: statistics['cachedTiles']!,
+      tileLatencyP50:
+          Duration(milliseconds: statistics['tileLatencyP50Millis']!),
+      tileLatencyP90:
+          Duration(milliseconds: statistics['tileLatencyP90Millis']!),
+      tileLatencyP99:
+          Duration(milliseconds: statistics['tileLatencyP99Millis']!),
+    );
+  }
+
   /// Set [GoogleMapsFlutterPlatform] to use [AndroidViewSurface] to build the
   /// Google Maps widget.
   ///
@@ -564,8 +806,9 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           widgetConfiguration.initialCameraPosition.toMap(),
       'options': mapOptions,
       'markersToAdd': serializeMarkerSet(mapObjects.markers),
-      'polygonsToAdd': serializePolygonSet(mapObjects.polygons),
-      'polylinesToAdd': serializePolylineSet(mapObjects.polylines),
+      'polygonsToAdd':
+          mapObjects.polygons.map(_serializeAddedPolygon).toList(),
+      'polylinesToAdd': mapObjects.polylines.map(_serializePolyline).toList(),
       'circlesToAdd': serializeCircleSet(mapObjects.circles),
       'tileOverlaysToAdd': serializeTileOverlaySet(mapObjects.tileOverlays),
     };
@@ -744,6 +987,90 @@ Map<String, Object> _jsonForMapConfiguration(MapConfiguration config) {
   };
 }
 
+/// Serializes [updates] like [MapsObjectUpdates.toJson], using [serialize] to
+/// serialize the changed objects, and [serializeAdded], if any, to serialize
+/// the added objects.
+Map<String, Object> _serializeMapsObjectUpdates<T extends MapsObject<T>>(
+  MapsObjectUpdates<T> updates,
+  Object Function(T) serialize, {
+  Object Function(T)? serializeAdded,
+}) {
+  final String objectName = updates.objectName;
+  return <String, Object>{
+    '${objectName}sToAdd':
+        updates.objectsToAdd.map(serializeAdded ?? serialize).toList(),
+    '${objectName}sToChange': updates.objectsToChange.map(serialize).toList(),
+    '${objectName}IdsToRemove': updates.objectIdsToRemove
+        .map<String>((MapsObjectId<T> id) => id.value)
+        .toList(),
+  };
+}
+
+/// Serializes [polyline] with its points packed by [_packPoints].
+///
+/// This doesn't use [Polyline.toJson], which would build a list per point
+/// only for them to be packed again.
+Object _serializePolyline(Polyline polyline) {
+  return <String, Object>{
+    'polylineId': polyline.polylineId.value,
+    'consumeTapEvents': polyline.consumeTapEvents,
+    'color': polyline.color.value,
+    'endCap': polyline.endCap.toJson(),
+    'geodesic': polyline.geodesic,
+    'jointType': polyline.jointType.value,
+    'startCap': polyline.startCap.toJson(),
+    'visible': polyline.visible,
+    'width': polyline.width,
+    'zIndex': polyline.zIndex,
+    'points': _packPoints(polyline.points),
+    'pattern': polyline.patterns
+        .map((PatternItem patternItem) => patternItem.toJson())
+        .toList(),
+  };
+}
+
+/// Serializes [polygon] with its points and holes packed by [_packPoints].
+///
+/// Like [_serializePolyline], this doesn't use [Polygon.toJson]. The holes
+/// are always sent, so that the holes of a changed polygon can be removed.
+Object _serializePolygon(Polygon polygon) {
+  return <String, Object>{
+    ..._serializeAddedPolygon(polygon) as Map<String, Object>,
+    'holes': polygon.holes.map(_packPoints).toList(),
+  };
+}
+
+/// Serializes a [polygon] that is added to a map like [_serializePolygon],
+/// but without its holes if it has none.
+Object _serializeAddedPolygon(Polygon polygon) {
+  return <String, Object>{
+    'polygonId': polygon.polygonId.value,
+    'consumeTapEvents': polygon.consumeTapEvents,
+    'fillColor': polygon.fillColor.value,
+    'geodesic': polygon.geodesic,
+    'strokeColor': polygon.strokeColor.value,
+    'strokeWidth': polygon.strokeWidth,
+    'visible': polygon.visible,
+    'zIndex': polygon.zIndex,
+    'points': _packPoints(polygon.points),
+    if (polygon.holes.isNotEmpty)
+      'holes': polygon.holes.map(_packPoints).toList(),
+  };
+}
+
+/// Packs [points] into alternating latitudes and longitudes.
+///
+/// The platform side decodes the packed points in a single loop, instead of
+/// decoding a list per point.
+Float64List _packPoints(List<LatLng> points) {
+  final Float64List packed = Float64List(points.length * 2);
+  for (int i = 0; i < points.length; i++) {
+    packed[2 * i] = points[i].latitude;
+    packed[2 * i + 1] = points[i].longitude;
+  }
+  return packed;
+}
+
 /// Update specification for a set of [TileOverlay]s.
 // TODO(stuartmorgan): Fix the missing export of this class in the platform
 // interface, and remove this copy.
@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+import 'dart:ui' show Color;
+
+import 'package:flutter/foundation.dart' show immutable;
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// A point of an [AndroidHeatmap], with its weight.
+@immutable
+class AndroidWeightedLatLng {
+  /// Creates a point at [point] with [weight].
+  const AndroidWeightedLatLng(this.point, {this.weight = 1});
+
+  /// The position of the point.
+  final LatLng point;
+
+  /// The weight of the point, relative to the other points of the heatmap.
+  final double weight;
+}
+
+/// The colors of an [AndroidHeatmap], from low to high intensities.
+@immutable
+class AndroidHeatmapGradient {
+  /// Creates a gradient of [colors] that start at [startPoints].
+  const AndroidHeatmapGradient({
+    required this.colors,
+    required this.startPoints,
+  }) : assert(colors.length == startPoints.length);
+
+  /// The colors of the gradient.
+  final List<Color> colors;
+
+  /// The fraction of the maximum intensity at which each color starts,
+  /// increasing from 0 to 1.
+  final List<double> startPoints;
+}
+
+/// A heatmap of weighted points, whose tiles are rendered on the platform
+/// side.
+///
+/// The points are sent to the platform once when the heatmap is added or
+/// changed, rather than rendering tiles in Dart.
+@immutable
+class AndroidHeatmap {
+  /// Creates a heatmap of [data].
+  const AndroidHeatmap({
+    required this.heatmapId,
+    required this.data,
+    this.radius = 20,
+    this.gradient,
+    this.opacity = 0.7,
+    this.zIndex = 0,
+    this.visible = true,
+  });
+
+  /// Uniquely identifies the heatmap of a map.
+  final String heatmapId;
+
+  /// The weighted points of the heatmap.
+  final List<AndroidWeightedLatLng> data;
+
+  /// The radius of the influence of each point, in logical pixels.
+  final int radius;
+
+  /// The colors of the heatmap, or null for the default green to red
+  /// gradient.
+  final AndroidHeatmapGradient? gradient;
+
+  /// The opacity of the heatmap, from 0 to 1.
+  final double opacity;
+
+  /// The drawing order of the heatmap relative to other overlays.
+  final double zIndex;
+
+  /// Whether the heatmap is visible.
+  final bool visible;
+
+  /// Converts this object to something serializable in JSON.
+  ///
+  /// The points are packed as latitude, longitude and weight triples.
+  Object toJson() {
+    final Float64List packedData = Float64List(data.length * 3);
+    for (int i = 0; i < data.length; i++) {
+      packedData[3 * i] = data[i].point.latitude;
+      packedData[3 * i + 1] = data[i].point.longitude;
+      packedData[3 * i + 2] = data[i].weight;
+    }
+    final AndroidHeatmapGradient? gradient = this.gradient;
+    return <String, Object>{
+      'heatmapId': heatmapId,
+      'data': packedData,
+      'radius': radius,
+      if (gradient != null)
+        'gradient': <String, Object>{
+          'colors': gradient.colors.map((Color color) => color.value).toList(),
+          'startPoints': gradient.startPoints,
+        },
+      'opacity': opacity,
+      'zIndex': zIndex,
+      'visible': visible,
+    };
+  }
+}
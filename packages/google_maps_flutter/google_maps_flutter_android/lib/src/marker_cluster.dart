@@ -0,0 +1,41 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart' show immutable;
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// A group of markers that are shown as a single cluster marker.
+///
+/// See [GoogleMapsFlutterPlatform.updateMarkers] for the markers, and
+/// `GoogleMapsFlutterAndroid.setMarkerClustering` to enable clustering.
+@immutable
+class AndroidMarkerCluster {
+  /// Creates a cluster of [markerIds].
+  const AndroidMarkerCluster({
+    required this.clusterId,
+    required this.position,
+    required this.bounds,
+    required this.markerIds,
+  });
+
+  /// Identifies the cluster among the clusters of its zoom level.
+  final String clusterId;
+
+  /// The position of the cluster marker, at the center of its markers.
+  final LatLng position;
+
+  /// The bounds of the markers of the cluster.
+  final LatLngBounds bounds;
+
+  /// The markers of the cluster.
+  final List<MarkerId> markerIds;
+}
+
+/// An event fired when a cluster marker is tapped.
+class AndroidClusterTapEvent extends MapEvent<AndroidMarkerCluster> {
+  /// Build a ClusterTap Event triggered from the map represented by `mapId`.
+  ///
+  /// The `value` of this event is the [AndroidMarkerCluster] that was tapped.
+  AndroidClusterTapEvent(super.mapId, super.cluster);
+}
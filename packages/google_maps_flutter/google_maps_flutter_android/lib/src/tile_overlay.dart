@@ -0,0 +1,163 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart' show immutable;
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// A [TileOverlay] whose tiles are cached on the platform side.
+///
+/// Cached tiles are returned without asking the [TileOverlay.tileProvider]
+/// again. The caches are cleared by
+/// [GoogleMapsFlutterPlatform.clearTileCache]. The cache options are fixed
+/// once the overlay is added to a map.
+@immutable
+class AndroidTileOverlay extends TileOverlay {
+  /// Creates a tile overlay with a memory cache of [memoryCacheSizeBytes] and
+  /// a disk cache of [diskCacheSizeBytes].
+  const AndroidTileOverlay({
+    required super.tileOverlayId,
+    super.fadeIn,
+    super.tileProvider,
+    super.transparency,
+    super.zIndex,
+    super.visible,
+    super.tileSize,
+    this.memoryCacheSizeBytes = 0,
+    this.diskCacheSizeBytes = 0,
+    this.cacheTimeToLive = Duration.zero,
+    this.diskCacheKey,
+  })  : assert(memoryCacheSizeBytes >= 0),
+        assert(diskCacheSizeBytes >= 0);
+
+  /// The maximum size of the tiles kept in memory, 0 disables the memory
+  /// cache.
+  final int memoryCacheSizeBytes;
+
+  /// The maximum size of the tiles stored on disk, 0 disables the disk cache.
+  ///
+  /// The tiles stored on disk are kept across app runs, in a directory named
+  /// after [diskCacheKey]. Overlays with the same key share their tiles, so
+  /// give overlays whose [TileProvider]s return different tiles different
+  /// keys, and change the key when the tiles of a provider change. Only one
+  /// overlay with a given key should be on a map at a time, since each one
+  /// evicts tiles according to its own count of the stored bytes.
+  final int diskCacheSizeBytes;
+
+  /// The duration after which a cached tile is requested again.
+  ///
+  /// [Duration.zero] keeps the tiles until they are evicted or cleared.
+  final Duration cacheTimeToLive;
+
+  /// Identifies the tiles of the disk cache, e.g. a name and a version of the
+  /// [TileProvider].
+  ///
+  /// Defaults to the value of [tileOverlayId].
+  final String? diskCacheKey;
+
+  @override
+  AndroidTileOverlay copyWith({
+    bool? fadeInParam,
+    TileProvider? tileProviderParam,
+    double? transparencyParam,
+    int? zIndexParam,
+    bool? visibleParam,
+    int? tileSizeParam,
+  }) {
+    return AndroidTileOverlay(
+      tileOverlayId: tileOverlayId,
+      fadeIn: fadeInParam ?? fadeIn,
+      tileProvider: tileProviderParam ?? tileProvider,
+      transparency: transparencyParam ?? transparency,
+      zIndex: zIndexParam ?? zIndex,
+      visible: visibleParam ?? visible,
+      tileSize: tileSizeParam ?? tileSize,
+      memoryCacheSizeBytes: memoryCacheSizeBytes,
+      diskCacheSizeBytes: diskCacheSizeBytes,
+      cacheTimeToLive: cacheTimeToLive,
+      diskCacheKey: diskCacheKey,
+    );
+  }
+
+  @override
+  AndroidTileOverlay clone() => copyWith();
+
+  @override
+  Object toJson() {
+    return <String, Object>{
+      ...super.toJson() as Map<String, Object>,
+      'memoryCacheSizeBytes': memoryCacheSizeBytes,
+      'diskCacheSizeBytes': diskCacheSizeBytes,
+      'cacheTimeToLiveMillis': cacheTimeToLive.inMilliseconds,
+      if (diskCacheKey != null) 'diskCacheKey': diskCacheKey!,
+    };
+  }
+
+  @override
+  bool operator ==(Object other) {
+    return super == other &&
+        other is AndroidTileOverlay &&
+        memoryCacheSizeBytes == other.memoryCacheSizeBytes &&
+        diskCacheSizeBytes == other.diskCacheSizeBytes &&
+        cacheTimeToLive == other.cacheTimeToLive &&
+        diskCacheKey == other.diskCacheKey;
+  }
+
+  @override
+  int get hashCode => Object.hash(super.hashCode, memoryCacheSizeBytes,
+      diskCacheSizeBytes, cacheTimeToLive, diskCacheKey);
+}
+
+/// Counters and latency percentiles of the tile requests of a tile overlay.
+///
+/// See `GoogleMapsFlutterAndroid.getTileOverlayStatistics`.
+@immutable
+class AndroidTileOverlayStatistics {
+  /// Creates tile overlay statistics.
+  const AndroidTileOverlayStatistics({
+    required this.pendingTileRequests,
+    required this.inFlightTileRequests,
+    required this.completedTileRequests,
+    required this.coalescedTileRequests,
+    required this.cancelledTileRequests,
+    required this.timedOutTileRequests,
+    required this.cachedTiles,
+    required this.tileLatencyP50,
+    required this.tileLatencyP90,
+    required this.tileLatencyP99,
+  });
+
+  /// The requests that are queued or waiting for the [TileProvider].
+  final int pendingTileRequests;
+
+  /// The requests waiting for the [TileProvider].
+  final int inFlightTileRequests;
+
+  /// The requests answered by the [TileProvider].
+  final int completedTileRequests;
+
+  /// The requests for a tile that was already requested, which share its
+  /// request.
+  final int coalescedTileRequests;
+
+  /// The queued requests cancelled because their tile was no longer visible
+  /// or the overlay was removed.
+  final int cancelledTileRequests;
+
+  /// The requests the map stopped waiting for because the [TileProvider]
+  /// didn't answer in time.
+  final int timedOutTileRequests;
+
+  /// The tiles returned from the cache of an [AndroidTileOverlay].
+  final int cachedTiles;
+
+  /// The median time the [TileProvider] takes to answer, over the most
+  /// recent requests.
+  final Duration tileLatencyP50;
+
+  /// The 90th percentile of the time the [TileProvider] takes to answer.
+  final Duration tileLatencyP90;
+
+  /// The 99th percentile of the time the [TileProvider] takes to answer.
+  final Duration tileLatencyP99;
+}
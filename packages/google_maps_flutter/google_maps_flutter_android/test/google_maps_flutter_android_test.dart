@@ -129,6 +129,378 @@ void main() {
         equals('drag-end-marker'));
   });
 
+  test('setMarkerClustering sends the clustering options', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+
+    await maps.setMarkerClustering(mapId: mapId, gridSize: 60);
+    await maps.setMarkerClustering(mapId: mapId, enabled: false);
+
+    expect(calls[0].method, 'markers#setClustering');
+    expect(calls[0].arguments, <String, Object>{
+      'enabled': true,
+      'gridSize': 60,
+      'minClusterSize': 2,
+    });
+    expect((calls[1].arguments as Map<Object?, Object?>)['enabled'], false);
+  });
+
+  test('cluster taps are sent to onClusterTap', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.ensureChannelInitialized(mapId);
+    final StreamQueue<AndroidClusterTapEvent> clusterTapStream =
+        StreamQueue<AndroidClusterTapEvent>(maps.onClusterTap(mapId: mapId));
+
+    await sendPlatformMessage(mapId, 'cluster#onTap', <dynamic, dynamic>{
+      'clusterId': '12/2074/1409',
+      'position': <double>[48.85, 2.35],
+      'bounds': <Object>[
+        <double>[48.8, 2.3],
+        <double>[48.9, 2.4],
+      ],
+      'markerIds': <String>['first', 'second'],
+    });
+
+    final AndroidMarkerCluster cluster = (await clusterTapStream.next).value;
+    expect(cluster.clusterId, '12/2074/1409');
+    expect(cluster.position, const LatLng(48.85, 2.35));
+    expect(
+        cluster.bounds,
+        LatLngBounds(
+            southwest: const LatLng(48.8, 2.3),
+            northeast: const LatLng(48.9, 2.4)));
+    expect(cluster.markerIds,
+        const <MarkerId>[MarkerId('first'), MarkerId('second')]);
+  });
+
+  test('updatePolylines sends packed points', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+    const Polyline polyline = Polyline(
+      polylineId: PolylineId('route'),
+      points: <LatLng>[LatLng(1.5, 2.5), LatLng(3.5, 4.5)],
+    );
+
+    await maps.updatePolylines(
+        PolylineUpdates.from(<Polyline>{}, <Polyline>{polyline}),
+        mapId: mapId);
+
+    final Map<Object?, Object?> arguments =
+        calls.single.arguments as Map<Object?, Object?>;
+    final List<Object?> polylinesToAdd =
+        arguments['polylinesToAdd']! as List<Object?>;
+    final Map<Object?, Object?> json =
+        polylinesToAdd.single! as Map<Object?, Object?>;
+    expect(json['polylineId'], 'route');
+    expect(json['points'], Float64List.fromList(<double>[1.5, 2.5, 3.5, 4.5]));
+    expect(json['pattern'], isEmpty);
+    expect(json['jointType'], JointType.mitered.value);
+    expect(arguments['polylinesToChange'], isEmpty);
+    expect(arguments['polylineIdsToRemove'], isEmpty);
+  });
+
+  test('updatePolygons sends packed points and holes', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+    const Polygon polygon = Polygon(
+      polygonId: PolygonId('area'),
+      points: <LatLng>[LatLng(0, 0), LatLng(0, 10), LatLng(10, 0)],
+      holes: <List<LatLng>>[
+        <LatLng>[LatLng(1, 1), LatLng(1, 2), LatLng(2, 1)],
+      ],
+    );
+
+    await maps.updatePolygons(
+        PolygonUpdates.from(<Polygon>{}, <Polygon>{polygon}),
+        mapId: mapId);
+
+    final Map<Object?, Object?> arguments =
+        calls.single.arguments as Map<Object?, Object?>;
+    final Map<Object?, Object?> json =
+        (arguments['polygonsToAdd']! as List<Object?>).single!
+            as Map<Object?, Object?>;
+    expect(json['points'],
+        Float64List.fromList(<double>[0, 0, 0, 10, 10, 0]));
+    expect(json['holes'], <Float64List>[
+      Float64List.fromList(<double>[1, 1, 1, 2, 2, 1]),
+    ]);
+  });
+
+  test('updatePolygons only sends empty holes for changed polygons',
+      () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+    const Polygon polygon = Polygon(
+      polygonId: PolygonId('area'),
+      points: <LatLng>[LatLng(0, 0), LatLng(0, 10), LatLng(10, 0)],
+    );
+    const Polygon changedPolygon = Polygon(
+      polygonId: PolygonId('area'),
+      points: <LatLng>[LatLng(0, 0), LatLng(0, 20), LatLng(20, 0)],
+    );
+
+    await maps.updatePolygons(
+        PolygonUpdates.from(<Polygon>{}, <Polygon>{polygon}),
+        mapId: mapId);
+    await maps.updatePolygons(
+        PolygonUpdates.from(<Polygon>{polygon}, <Polygon>{changedPolygon}),
+        mapId: mapId);
+
+    final Map<Object?, Object?> added =
+        ((calls[0].arguments as Map<Object?, Object?>)['polygonsToAdd']!
+                as List<Object?>)
+            .single! as Map<Object?, Object?>;
+    expect(added.containsKey('holes'), isFalse);
+    expect(added['polygonId'], 'area');
+    expect(added['strokeWidth'], 10);
+    final Map<Object?, Object?> changed =
+        ((calls[1].arguments as Map<Object?, Object?>)['polygonsToChange']!
+                as List<Object?>)
+            .single! as Map<Object?, Object?>;
+    expect(changed['holes'], isEmpty);
+  });
+
+  test('updateMapObjects sends all updates in a single call', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return <String, int>{'markers': 12, 'circles': 3, 'total': 20};
+    });
+    const Marker marker = Marker(markerId: MarkerId('marker'));
+    const Circle circle = Circle(circleId: CircleId('circle'));
+
+    final Map<String, int> stageMicros = await maps.updateMapObjects(
+      mapId: mapId,
+      markerUpdates: MarkerUpdates.from(<Marker>{}, <Marker>{marker}),
+      circleUpdates: CircleUpdates.from(<Circle>{circle}, <Circle>{}),
+    );
+
+    expect(stageMicros,
+        <String, int>{'markers': 12, 'circles': 3, 'total': 20});
+    expect(calls.single.method, 'map#updateObjects');
+    final Map<Object?, Object?> arguments =
+        calls.single.arguments as Map<Object?, Object?>;
+    expect(arguments.keys, unorderedEquals(<String>['markers', 'circles']));
+    final Map<Object?, Object?> markers =
+        arguments['markers']! as Map<Object?, Object?>;
+    expect(markers['markersToAdd'], hasLength(1));
+    final Map<Object?, Object?> circles =
+        arguments['circles']! as Map<Object?, Object?>;
+    expect(circles['circleIdsToRemove'], <String>['circle']);
+  });
+
+  test('updateHeatmaps sends packed points and only changed heatmaps',
+      () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+    const AndroidHeatmap heatmap = AndroidHeatmap(
+      heatmapId: 'density',
+      data: <AndroidWeightedLatLng>[
+        AndroidWeightedLatLng(LatLng(1, 2), weight: 3),
+        AndroidWeightedLatLng(LatLng(4, 5)),
+      ],
+      gradient: AndroidHeatmapGradient(
+        colors: <Color>[Color(0xFF00FF00), Color(0xFFFF0000)],
+        startPoints: <double>[0.2, 1],
+      ),
+    );
+
+    await maps.updateHeatmaps(
+        heatmaps: <AndroidHeatmap>{heatmap}, mapId: mapId);
+    await maps.updateHeatmaps(
+        heatmaps: <AndroidHeatmap>{heatmap}, mapId: mapId);
+    await maps.updateHeatmaps(heatmaps: <AndroidHeatmap>{}, mapId: mapId);
+
+    final Map<Object?, Object?> added =
+        calls[0].arguments as Map<Object?, Object?>;
+    final Map<Object?, Object?> json =
+        (added['heatmapsToAdd']! as List<Object?>).single!
+            as Map<Object?, Object?>;
+    expect(json['data'], Float64List.fromList(<double>[1, 2, 3, 4, 5, 1]));
+    expect(json['gradient'], <String, Object>{
+      'colors': <int>[0xFF00FF00, 0xFFFF0000],
+      'startPoints': <double>[0.2, 1],
+    });
+    final Map<Object?, Object?> unchanged =
+        calls[1].arguments as Map<Object?, Object?>;
+    expect(unchanged['heatmapsToAdd'], isEmpty);
+    expect(unchanged['heatmapsToChange'], isEmpty);
+    final Map<Object?, Object?> removed =
+        calls[2].arguments as Map<Object?, Object?>;
+    expect(removed['heatmapIdsToRemove'], <String>['density']);
+  });
+
+  test('updateTileOverlays sends the tile cache options', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+    const AndroidTileOverlay tileOverlay = AndroidTileOverlay(
+      tileOverlayId: TileOverlayId('tiles'),
+      memoryCacheSizeBytes: 1024,
+      diskCacheSizeBytes: 4096,
+      cacheTimeToLive: Duration(minutes: 1),
+      diskCacheKey: 'tiles_v2',
+    );
+
+    await maps.updateTileOverlays(
+        newTileOverlays: <TileOverlay>{tileOverlay}, mapId: mapId);
+    await maps.updateTileOverlays(
+        newTileOverlays: <TileOverlay>{tileOverlay.clone()}, mapId: mapId);
+
+    final Map<Object?, Object?> added =
+        calls[0].arguments as Map<Object?, Object?>;
+    final Map<Object?, Object?> json =
+        (added['tileOverlaysToAdd']! as List<Object?>).single!
+            as Map<Object?, Object?>;
+    expect(json['tileOverlayId'], 'tiles');
+    expect(json['memoryCacheSizeBytes'], 1024);
+    expect(json['diskCacheSizeBytes'], 4096);
+    expect(json['cacheTimeToLiveMillis'], 60000);
+    expect(json['diskCacheKey'], 'tiles_v2');
+    final Map<Object?, Object?> unchanged =
+        calls[1].arguments as Map<Object?, Object?>;
+    expect(unchanged['tileOverlaysToChange'], isEmpty);
+  });
+
+  test('takeSnapshotToFile sends the snapshot options', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return '/tmp/snapshot.jpg';
+    });
+
+    final String? path = await maps.takeSnapshotToFile(
+        mapId: mapId,
+        filePath: '/tmp/snapshot.jpg',
+        format: AndroidSnapshotFormat.jpeg,
+        quality: 80,
+        scale: 0.5);
+
+    expect(path, '/tmp/snapshot.jpg');
+    expect(calls.single.method, 'map#takeSnapshot');
+    expect(calls.single.arguments, <String, Object>{
+      'format': 'jpeg',
+      'quality': 80,
+      'scale': 0.5,
+      'filePath': '/tmp/snapshot.jpg',
+    });
+  });
+
+  test('setCameraMoveEventLimits sends the limits', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return null;
+    });
+
+    await maps.setCameraMoveEventLimits(
+        mapId: mapId, maxEventsPerSecond: 30, minDelta: 0.001);
+
+    expect(calls.single.method, 'map#setCameraMoveEventLimits');
+    expect(calls.single.arguments, <String, Object>{
+      'maxEventsPerSecond': 30,
+      'minDelta': 0.001,
+    });
+  });
+
+  test('getTileOverlayStatistics decodes the statistics', () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final List<MethodCall> calls = <MethodCall>[];
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async {
+      calls.add(methodCall);
+      return <String, int>{
+        'pendingTileRequests': 3,
+        'inFlightTileRequests': 2,
+        'completedTileRequests': 40,
+        'coalescedTileRequests': 5,
+        'cancelledTileRequests': 6,
+        'timedOutTileRequests': 1,
+        'cachedTiles': 7,
+        'tileLatencyP50Millis': 12,
+        'tileLatencyP90Millis': 80,
+        'tileLatencyP99Millis': 250,
+      };
+    });
+
+    final AndroidTileOverlayStatistics? statistics =
+        await maps.getTileOverlayStatistics(
+            mapId: mapId, tileOverlayId: const TileOverlayId('overlay'));
+
+    expect(calls.single.method, 'map#getTileOverlayStatistics');
+    expect(calls.single.arguments,
+        <String, String>{'tileOverlayId': 'overlay'});
+    expect(statistics!.pendingTileRequests, 3);
+    expect(statistics.inFlightTileRequests, 2);
+    expect(statistics.completedTileRequests, 40);
+    expect(statistics.coalescedTileRequests, 5);
+    expect(statistics.cancelledTileRequests, 6);
+    expect(statistics.timedOutTileRequests, 1);
+    expect(statistics.cachedTiles, 7);
+    expect(statistics.tileLatencyP50, const Duration(milliseconds: 12));
+    expect(statistics.tileLatencyP90, const Duration(milliseconds: 80));
+    expect(statistics.tileLatencyP99, const Duration(milliseconds: 250));
+  });
+
+  test('getTileOverlayStatistics returns null for an unknown overlay',
+      () async {
+    const int mapId = 1;
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    configureMockMap(maps, mapId: mapId,
+        handler: (MethodCall methodCall) async => null);
+
+    expect(
+        await maps.getTileOverlayStatistics(
+            mapId: mapId, tileOverlayId: const TileOverlayId('overlay')),
+        isNull);
+  });
+
   test(
     'Does not use PlatformViewLink when using TLHC',
     () async {
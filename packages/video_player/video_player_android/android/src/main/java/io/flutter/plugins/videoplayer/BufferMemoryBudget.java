@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import com.google.android.exoplayer2.C;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The memory that the buffers of all the {@link VideoPlayer}s may use, split evenly between them.
+ *
+ * <p>Players register themselves while they exist, and their {@link PlayerLoadControl} reads their
+ * share on the playback thread, so a new budget or player count applies to the next load.
+ */
+final class BufferMemoryBudget {
+  private volatile long budgetBytes = 0;
+  private final AtomicInteger playerCount = new AtomicInteger();
+
+  /**
+   * Sets the memory that the buffers of all the players may use.
+   *
+   * @param budgetBytes the budget in bytes, or 0 to let each player use its default buffer size
+   */
+  void setBudgetBytes(long budgetBytes) {
+    this.budgetBytes = Math.max(budgetBytes, 0);
+  }
+
+  void addPlayer() {
+    playerCount.incrementAndGet();
+  }
+
+  void removePlayer() {
+    playerCount.decrementAndGet();
+  }
+
+  /** Returns the memory that the buffer of each player may use, or {@link C#LENGTH_UNSET}. */
+  long getPlayerShareBytes() {
+    final long budgetBytes = this.budgetBytes;
+    if (budgetBytes == 0) {
+      return C.LENGTH_UNSET;
+    }
+    return budgetBytes / Math.max(playerCount.get(), 1);
+  }
+}
@@ -0,0 +1,257 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.Player;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Keeps the {@link ExoPlayer}s of disposed {@link VideoPlayer}s, so new players reuse them.
+ *
+ * <p>A reused {@link ExoPlayer} keeps its playback thread and renderers, and ExoPlayer keeps its
+ * decoders when the new media has a compatible format. Pooled players are therefore keyed by the
+ * class of their last video format, its MIME type and resolution, and the players of the class that
+ * is expected next are reused first. The pool holds at most its maximum size, evicting the players
+ * that were pooled first, and is emptied when the system asks the app to trim its memory.
+ *
+ * <p>Players are built with the options of the moment, so the pool is invalidated when the options
+ * change: the players of a previous generation are released rather than pooled.
+ *
+ * <p>This class must only be used on the main thread.
+ */
+final class ExoPlayerPool implements ComponentCallbacks2 {
+  private static final class PooledPlayer {
+    @NonNull final ExoPlayer player;
+    @NonNull final String formatClass;
+
+    PooledPlayer(@NonNull ExoPlayer player, @NonNull String formatClass) {
+      this.player = player;
+      this.formatClass = formatClass;
+    }
+  }
+
+  // The most recently pooled players first.
+  private final ArrayDeque<PooledPlayer> pooledPlayers = new ArrayDeque<>();
+
+  @Nullable private Context applicationContext;
+  private int maxPoolSize = 0;
+  private int generation = 0;
+
+  private long hits = 0;
+  private long misses = 0;
+  private long trimCount = 0;
+  private long reusedFirstFrameCount = 0;
+  private long reusedFirstFrameMillis = 0;
+  private long newFirstFrameCount = 0;
+  private long newFirstFrameMillis = 0;
+
+  /**
+   * Returns the class of a video format, which tells whether a decoder may be reused for it.
+   *
+   * @param format the format of a video, or null if it is unknown
+   */
+  @NonNull
+  static String getFormatClass(@Nullable Format format) {
+    if (format == null) {
+      return "unknown";
+    }
+    final int lines = Math.min(format.width, format.height);
+    final String resolution;
+    if (lines <= 0) {
+      resolution = "unknown";
+    } else if (lines <= 480) {
+      resolution = "sd";
+    } else if (lines <= 720) {
+      resolution = "hd";
+    } else if (lines <= 1080) {
+      resolution = "fhd";
+    } else {
+      resolution = "uhd";
+    }
+    return format.sampleMimeType + ":" + resolution;
+  }
+
+  /**
+   * Sets the maximum number of pooled players, releasing the players above it.
+   *
+   * @param context any context of the app, whose application context reports memory pressure
+   * @param maxPoolSize the maximum number of pooled players, or 0 to not pool them
+   */
+  void setMaxPoolSize(@NonNull Context context, int maxPoolSize) {
+    if (applicationContext == null && maxPoolSize > 0) {
+      final Context appContext = context.getApplicationContext();
+      applicationContext = appContext != null ? appContext : context;
+      applicationContext.registerComponentCallbacks(this);
+    }
+    this.maxPoolSize = Math.max(maxPoolSize, 0);
+    while (pooledPlayers.size() > this.maxPoolSize) {
+      pooledPlayers.removeLast().player.release();
+    }
+  }
+
+  /**
+   * Returns a pooled player, or null if the pool is empty.
+   *
+   * @param preferredFormatClass the format class of the next video, if it can be guessed, whose
+   *     pooled players are returned first
+   */
+  @Nullable
+  ExoPlayer obtain(@Nullable String preferredFormatClass) {
+    PooledPlayer pooledPlayer = null;
+    if (preferredFormatClass != null) {
+      final Iterator<PooledPlayer> iterator = pooledPlayers.iterator();
+      while (iterator.hasNext()) {
+        final PooledPlayer candidate = iterator.next();
+        if (candidate.formatClass.equals(preferredFormatClass)) {
+          iterator.remove();
+          pooledPlayer = candidate;
+          break;
+        }
+      }
+    }
+    if (pooledPlayer == null) {
+      pooledPlayer = pooledPlayers.pollFirst();
+    }
+    if (pooledPlayer == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return pooledPlayer.player;
+  }
+
+  /** Returns the generation of the players that are obtained or created now. */
+  int getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Pools a player that is no longer used, or releases it if the pool is full, the player failed or
+   * it belongs to a previous generation.
+   *
+   * <p>The player must no longer have a video output or listeners of its previous user.
+   *
+   * @param generation the generation of the pool when the player was obtained or created
+   */
+  void release(@NonNull ExoPlayer player, int generation) {
+    if (maxPoolSize == 0 || generation != this.generation || player.getPlayerError() != null) {
+      player.release();
+      return;
+    }
+    final String formatClass = getFormatClass(player.getVideoFormat());
+    // Clearing the media, rather than stopping the player, keeps the decoders that can be reused.
+    player.setPlayWhenReady(false);
+    player.clearMediaItems();
+    player.setRepeatMode(Player.REPEAT_MODE_OFF);
+    player.setVolume(1);
+    player.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    pooledPlayers.addFirst(new PooledPlayer(player, formatClass));
+    while (pooledPlayers.size() > maxPoolSize) {
+      pooledPlayers.removeLast().player.release();
+    }
+  }
+
+  /**
+   * Records the time a player took to render its first frame.
+   *
+   * @param reused whether the player was obtained from the pool
+   * @param millis the time from the creation of the {@link VideoPlayer} to its first frame
+   */
+  void recordFirstFrame(boolean reused, long millis) {
+    if (reused) {
+      reusedFirstFrameCount++;
+      reusedFirstFrameMillis += millis;
+    } else {
+      newFirstFrameCount++;
+      newFirstFrameMillis += millis;
+    }
+  }
+
+  /** Releases the pooled players. */
+  void clear() {
+    PooledPlayer pooledPlayer;
+    while ((pooledPlayer = pooledPlayers.pollFirst()) != null) {
+      pooledPlayer.player.release();
+    }
+  }
+
+  /** Releases the pooled players, and the players in use once they are no longer used. */
+  void invalidate() {
+    generation++;
+    clear();
+  }
+
+  /** Resets the counters of the pool. */
+  void resetStats() {
+    hits = 0;
+    misses = 0;
+    trimCount = 0;
+    reusedFirstFrameCount = 0;
+    reusedFirstFrameMillis = 0;
+    newFirstFrameCount = 0;
+    newFirstFrameMillis = 0;
+  }
+
+  /** Releases the pooled players and stops listening to memory events. */
+  void dispose() {
+    clear();
+    maxPoolSize = 0;
+    if (applicationContext != null) {
+      applicationContext.unregisterComponentCallbacks(this);
+      applicationContext = null;
+    }
+  }
+
+  long getHits() {
+    return hits;
+  }
+
+  long getMisses() {
+    return misses;
+  }
+
+  long getTrimCount() {
+    return trimCount;
+  }
+
+  int getPoolSize() {
+    return pooledPlayers.size();
+  }
+
+  /** Returns the average time to the first frame of the reused players, or -1 if there is none. */
+  long getAverageReusedFirstFrameMillis() {
+    return reusedFirstFrameCount > 0 ? reusedFirstFrameMillis / reusedFirstFrameCount : -1;
+  }
+
+  /** Returns the average time to the first frame of the new players, or -1 if there is none. */
+  long getAverageNewFirstFrameMillis() {
+    return newFirstFrameCount > 0 ? newFirstFrameMillis / newFirstFrameCount : -1;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= TRIM_MEMORY_RUNNING_LOW && !pooledPlayers.isEmpty()) {
+      clear();
+      trimCount++;
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+}
@@ -0,0 +1,192 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.database.DatabaseProvider;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.HttpDataSource;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import io.flutter.Log;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A disk cache of the media downloaded by the {@link VideoPlayer}s, shared by all of them.
+ *
+ * <p>The cache is opened the first time a player uses it, and evicts the least recently used media
+ * once it holds more than its maximum size. The bytes that were read from the cache and the bytes
+ * that had to be downloaded are counted for the lifetime of this object.
+ */
+final class MediaCache {
+  private static final String TAG = "MediaCache";
+
+  /** The name of the directory of the cache directory where the media is cached. */
+  static final String DIRECTORY_NAME = "video_player_cache";
+
+  private final File directory;
+  private final long maxCacheSize;
+  private final DatabaseProvider databaseProvider;
+
+  @Nullable private Cache cache;
+  private boolean openFailed = false;
+
+  private final AtomicLong hitBytes = new AtomicLong();
+  private final AtomicLong missBytes = new AtomicLong();
+
+  private final CacheDataSource.EventListener cacheEventListener =
+      new CacheDataSource.EventListener() {
+        @Override
+        public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+          hitBytes.addAndGet(cachedBytesRead);
+        }
+
+        @Override
+        public void onCacheIgnored(int reason) {}
+      };
+
+  private final TransferListener missListener =
+      new TransferListener() {
+        @Override
+        public void onTransferInitializing(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+        @Override
+        public void onTransferStart(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+        @Override
+        public void onBytesTransferred(
+            @NonNull DataSource source,
+            @NonNull DataSpec dataSpec,
+            boolean isNetwork,
+            int bytesTransferred) {
+          if (isNetwork) {
+            missBytes.addAndGet(bytesTransferred);
+          }
+        }
+
+        @Override
+        public void onTransferEnd(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+      };
+
+  /**
+   * Creates a cache that is opened when it is first used.
+   *
+   * @param context the context of the app, whose cache directory holds the media
+   * @param maxCacheSize the size of the cached media, in bytes, above which media is evicted
+   */
+  MediaCache(@NonNull Context context, long maxCacheSize) {
+    this(
+        new File(context.getCacheDir(), DIRECTORY_NAME),
+        maxCacheSize,
+        new StandaloneDatabaseProvider(context));
+  }
+
+  @VisibleForTesting
+  MediaCache(
+      @NonNull File directory, long maxCacheSize, @NonNull DatabaseProvider databaseProvider) {
+    this.directory = directory;
+    this.maxCacheSize = maxCacheSize;
+    this.databaseProvider = databaseProvider;
+  }
+
+  /** Returns the maximum size of the cached media, in bytes. */
+  long getMaxCacheSize() {
+    return maxCacheSize;
+  }
+
+  /**
+   * Returns a factory of data sources that read the media from the cache, and download and cache
+   * the media that isn't.
+   *
+   * <p>If the cache can't be opened, {@code httpDataSourceFactory} is returned, so the media is
+   * still played without being cached.
+   *
+   * @param httpDataSourceFactory the factory of the data sources that download the media
+   */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(
+      @NonNull HttpDataSource.Factory httpDataSourceFactory) {
+    final CacheDataSource.Factory cacheDataSourceFactory =
+        createCacheDataSourceFactory(httpDataSourceFactory);
+    return cacheDataSourceFactory != null ? cacheDataSourceFactory : httpDataSourceFactory;
+  }
+
+  /**
+   * Returns a factory of data sources that read the media from the cache, and download and cache
+   * the media that isn't, or null if the cache can't be opened.
+   *
+   * @param httpDataSourceFactory the factory of the data sources that download the media
+   */
+  @Nullable
+  CacheDataSource.Factory createCacheDataSourceFactory(
+      @NonNull HttpDataSource.Factory httpDataSourceFactory) {
+    final Cache cache = getCache();
+    if (cache == null) {
+      return null;
+    }
+    final DataSource.Factory upstreamDataSourceFactory =
+        () -> {
+          final HttpDataSource dataSource = httpDataSourceFactory.createDataSource();
+          dataSource.addTransferListener(missListener);
+          return dataSource;
+        };
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(upstreamDataSourceFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(cacheEventListener);
+  }
+
+  /** Returns the number of bytes that were read from the cache. */
+  long getHitBytes() {
+    return hitBytes.get();
+  }
+
+  /** Returns the number of bytes that were downloaded because they weren't cached. */
+  long getMissBytes() {
+    return missBytes.get();
+  }
+
+  /** Returns the size of the cached media, in bytes, or 0 if the cache isn't open. */
+  long getCacheSize() {
+    return cache != null ? cache.getCacheSpace() : 0;
+  }
+
+  /** Closes the cache, which must no longer be used by any player. */
+  void release() {
+    if (cache != null) {
+      cache.release();
+      cache = null;
+    }
+  }
+
+  @Nullable
+  private Cache getCache() {
+    if (cache == null && !openFailed) {
+      try {
+        cache =
+            new SimpleCache(
+                directory, new LeastRecentlyUsedCacheEvictor(maxCacheSize), databaseProvider);
+      } catch (IllegalStateException e) {
+        // Thrown when the directory is already used by another cache, e.g. one of another engine.
+        Log.w(TAG, "Failed to open the media cache, media will not be cached.", e);
+        openFailed = true;
+      }
+    }
+    return cache;
+  }
+}
@@ -0,0 +1,201 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import io.flutter.plugin.common.EventChannel;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Downloads the beginning of videos into the {@link MediaCache} before they are played.
+ *
+ * <p>Prefetches run one at a time on a background thread, the ones with the highest priority first,
+ * and don't need a {@link VideoPlayer}. Their progress is sent to Dart through an event channel, at
+ * most every {@link #PROGRESS_INTERVAL_MS} milliseconds for each prefetch. Progressive media is
+ * prefetched from its URI, while only the manifest of adaptive media is.
+ */
+final class MediaPrefetcher implements EventChannel.StreamHandler {
+  /** The minimum time between two progress events of a prefetch. */
+  static final long PROGRESS_INTERVAL_MS = 100;
+
+  private final ThreadPoolExecutor backgroundExecutor;
+  private final Executor platformThreadExecutor;
+  private final Map<Long, Task> tasks = new ConcurrentHashMap<>();
+  private final AtomicLong nextTaskId = new AtomicLong();
+
+  @Nullable private EventChannel.EventSink eventSink;
+
+  MediaPrefetcher() {
+    this(createBackgroundExecutor(), new Handler(Looper.getMainLooper())::post);
+  }
+
+  @VisibleForTesting
+  MediaPrefetcher(
+      @NonNull ThreadPoolExecutor backgroundExecutor, @NonNull Executor platformThreadExecutor) {
+    this.backgroundExecutor = backgroundExecutor;
+    this.platformThreadExecutor = platformThreadExecutor;
+  }
+
+  private static ThreadPoolExecutor createBackgroundExecutor() {
+    // The queue orders the tasks by priority, so they must be executed rather than submitted.
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new PriorityBlockingQueue<>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Starts downloading the beginning of a video into the cache.
+   *
+   * @param cacheDataSourceFactory the factory of the data sources that write to the cache
+   * @param uri the URI of the video
+   * @param maxBytes the number of bytes to download from the start of the video
+   * @param priority the priority of the prefetch, the highest being downloaded first
+   * @return the ID of the prefetch, which identifies its events
+   */
+  long prefetch(
+      @NonNull CacheDataSource.Factory cacheDataSourceFactory,
+      @NonNull String uri,
+      long maxBytes,
+      long priority) {
+    final long taskId = nextTaskId.incrementAndGet();
+    final DataSpec dataSpec =
+        new DataSpec.Builder().setUri(Uri.parse(uri)).setLength(maxBytes).build();
+    final Task task =
+        new Task(
+            taskId, priority, cacheDataSourceFactory.createDataSourceForDownloading(), dataSpec);
+    tasks.put(taskId, task);
+    backgroundExecutor.execute(task);
+    return taskId;
+  }
+
+  /** Cancels a prefetch, which does nothing if it is already finished. */
+  void cancel(long taskId) {
+    final Task task = tasks.get(taskId);
+    if (task != null) {
+      task.cancel();
+    }
+  }
+
+  /** Cancels all the prefetches. */
+  void cancelAll() {
+    for (Task task : tasks.values()) {
+      task.cancel();
+    }
+  }
+
+  /** Returns whether no prefetch is queued or running, so the cache isn't used. */
+  boolean isIdle() {
+    return tasks.isEmpty();
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+  }
+
+  // Called on the platform thread. Events are dropped while nothing listens to them.
+  private void sendEvent(String event, long taskId, long bytesCached, long requestLength) {
+    if (eventSink == null) {
+      return;
+    }
+    final Map<String, Object> message = new HashMap<>();
+    message.put("event", event);
+    message.put("taskId", taskId);
+    message.put("bytesCached", bytesCached);
+    message.put("requestLength", requestLength);
+    eventSink.success(message);
+  }
+
+  private final class Task implements Runnable, Comparable<Task>, CacheWriter.ProgressListener {
+    final long id;
+    final long priority;
+    final CacheWriter cacheWriter;
+    volatile boolean canceled = false;
+    volatile long bytesCached = 0;
+    volatile long requestLength = C.LENGTH_UNSET;
+    long lastProgressTime = 0;
+
+    Task(long id, long priority, CacheDataSource dataSource, DataSpec dataSpec) {
+      this.id = id;
+      this.priority = priority;
+      this.cacheWriter = new CacheWriter(dataSource, dataSpec, null, this);
+    }
+
+    void cancel() {
+      canceled = true;
+      cacheWriter.cancel();
+      // A queued task is removed right away, a running one stops at its next read.
+      if (backgroundExecutor.remove(this)) {
+        finish("prefetchCanceled");
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        cacheWriter.cache();
+        finish("prefetchCompleted");
+      } catch (InterruptedIOException e) {
+        finish("prefetchCanceled");
+      } catch (Exception e) {
+        // Includes the errors of a cache that was released while the task was canceled.
+        finish(canceled ? "prefetchCanceled" : "prefetchFailed");
+      }
+    }
+
+    @Override
+    public void onProgress(long requestLength, long bytesCached, long newBytesCached) {
+      this.requestLength = requestLength;
+      this.bytesCached = bytesCached;
+      final long now = SystemClock.elapsedRealtime();
+      if (now - lastProgressTime < PROGRESS_INTERVAL_MS && bytesCached < requestLength) {
+        return;
+      }
+      lastProgressTime = now;
+      platformThreadExecutor.execute(
+          () -> sendEvent("prefetchProgress", id, bytesCached, requestLength));
+    }
+
+    private void finish(String event) {
+      tasks.remove(id);
+      final long bytesCached = this.bytesCached;
+      final long requestLength = this.requestLength;
+      platformThreadExecutor.execute(() -> sendEvent(event, id, bytesCached, requestLength));
+    }
+
+    @Override
+    public int compareTo(Task other) {
+      // The highest priority first, then the oldest task first.
+      if (priority != other.priority) {
+        return Long.compare(other.priority, priority);
+      }
+      return Long.compare(id, other.id);
+    }
+  }
+}
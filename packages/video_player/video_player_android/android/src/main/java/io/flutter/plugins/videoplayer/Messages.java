@@ -596,6 +596,830 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CacheOptionsMessage {
+    private @NonNull Long maxCacheSize;
+
+    public @NonNull Long getMaxCacheSize() {
+      return maxCacheSize;
+    }
+
+    public void setMaxCacheSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheSize\" is null.");
+      }
+      this.maxCacheSize = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CacheOptionsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxCacheSize;
+
+      public @NonNull Builder setMaxCacheSize(@NonNull Long setterArg) {
+        this.maxCacheSize = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheOptionsMessage build() {
+        CacheOptionsMessage pigeonReturn = new CacheOptionsMessage();
+        pigeonReturn.setMaxCacheSize(maxCacheSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxCacheSize);
+      return toListResult;
+    }
+
+    static @NonNull CacheOptionsMessage fromList(@NonNull ArrayList<Object> list) {
+      CacheOptionsMessage pigeonResult = new CacheOptionsMessage();
+      Object maxCacheSize = list.get(0);
+      pigeonResult.setMaxCacheSize(
+          (maxCacheSize == null)
+              ? null
+              : ((maxCacheSize instanceof Integer) ? (Integer) maxCacheSize : (Long) maxCacheSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CacheStatsMessage {
+    private @NonNull Long hitBytes;
+
+    public @NonNull Long getHitBytes() {
+      return hitBytes;
+    }
+
+    public void setHitBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitBytes\" is null.");
+      }
+      this.hitBytes = setterArg;
+    }
+
+    private @NonNull Long missBytes;
+
+    public @NonNull Long getMissBytes() {
+      return missBytes;
+    }
+
+    public void setMissBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"missBytes\" is null.");
+      }
+      this.missBytes = setterArg;
+    }
+
+    private @NonNull Long cacheSize;
+
+    public @NonNull Long getCacheSize() {
+      return cacheSize;
+    }
+
+    public void setCacheSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSize\" is null.");
+      }
+      this.cacheSize = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CacheStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long hitBytes;
+
+      public @NonNull Builder setHitBytes(@NonNull Long setterArg) {
+        this.hitBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long missBytes;
+
+      public @NonNull Builder setMissBytes(@NonNull Long setterArg) {
+        this.missBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheSize;
+
+      public @NonNull Builder setCacheSize(@NonNull Long setterArg) {
+        this.cacheSize = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setHitBytes(hitBytes);
+        pigeonReturn.setMissBytes(missBytes);
+        pigeonReturn.setCacheSize(cacheSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(hitBytes);
+      toListResult.add(missBytes);
+      toListResult.add(cacheSize);
+      return toListResult;
+    }
+
+    static @NonNull CacheStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object hitBytes = list.get(0);
+      pigeonResult.setHitBytes(
+          (hitBytes == null)
+              ? null
+              : ((hitBytes instanceof Integer) ? (Integer) hitBytes : (Long) hitBytes));
+      Object missBytes = list.get(1);
+      pigeonResult.setMissBytes(
+          (missBytes == null)
+              ? null
+              : ((missBytes instanceof Integer) ? (Integer) missBytes : (Long) missBytes));
+      Object cacheSize = list.get(2);
+      pigeonResult.setCacheSize(
+          (cacheSize == null)
+              ? null
+              : ((cacheSize instanceof Integer) ? (Integer) cacheSize : (Long) cacheSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PrefetchMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long maxBytes;
+
+    public @NonNull Long getMaxBytes() {
+      return maxBytes;
+    }
+
+    public void setMaxBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBytes\" is null.");
+      }
+      this.maxBytes = setterArg;
+    }
+
+    private @NonNull Long priority;
+
+    public @NonNull Long getPriority() {
+      return priority;
+    }
+
+    public void setPriority(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"priority\" is null.");
+      }
+      this.priority = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PrefetchMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBytes;
+
+      public @NonNull Builder setMaxBytes(@NonNull Long setterArg) {
+        this.maxBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long priority;
+
+      public @NonNull Builder setPriority(@NonNull Long setterArg) {
+        this.priority = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull PrefetchMessage build() {
+        PrefetchMessage pigeonReturn = new PrefetchMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setMaxBytes(maxBytes);
+        pigeonReturn.setPriority(priority);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(uri);
+      toListResult.add(maxBytes);
+      toListResult.add(priority);
+      toListResult.add(httpHeaders);
+      return toListResult;
+    }
+
+    static @NonNull PrefetchMessage fromList(@NonNull ArrayList<Object> list) {
+      PrefetchMessage pigeonResult = new PrefetchMessage();
+      Object uri = list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object maxBytes = list.get(1);
+      pigeonResult.setMaxBytes(
+          (maxBytes == null)
+              ? null
+              : ((maxBytes instanceof Integer) ? (Integer) maxBytes : (Long) maxBytes));
+      Object priority = list.get(2);
+      pigeonResult.setPriority(
+          (priority == null)
+              ? null
+              : ((priority instanceof Integer) ? (Integer) priority : (Long) priority));
+      Object httpHeaders = list.get(3);
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PrefetchTaskMessage {
+    private @NonNull Long taskId;
+
+    public @NonNull Long getTaskId() {
+      return taskId;
+    }
+
+    public void setTaskId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"taskId\" is null.");
+      }
+      this.taskId = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PrefetchTaskMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long taskId;
+
+      public @NonNull Builder setTaskId(@NonNull Long setterArg) {
+        this.taskId = setterArg;
+        return this;
+      }
+
+      public @NonNull PrefetchTaskMessage build() {
+        PrefetchTaskMessage pigeonReturn = new PrefetchTaskMessage();
+        pigeonReturn.setTaskId(taskId);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(taskId);
+      return toListResult;
+    }
+
+    static @NonNull PrefetchTaskMessage fromList(@NonNull ArrayList<Object> list) {
+      PrefetchTaskMessage pigeonResult = new PrefetchTaskMessage();
+      Object taskId = list.get(0);
+      pigeonResult.setTaskId(
+          (taskId == null)
+              ? null
+              : ((taskId instanceof Integer) ? (Integer) taskId : (Long) taskId));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerPoolOptionsMessage {
+    private @NonNull Long maxPoolSize;
+
+    public @NonNull Long getMaxPoolSize() {
+      return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxPoolSize\" is null.");
+      }
+      this.maxPoolSize = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerPoolOptionsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long maxPoolSize;
+
+      public @NonNull Builder setMaxPoolSize(@NonNull Long setterArg) {
+        this.maxPoolSize = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerPoolOptionsMessage build() {
+        PlayerPoolOptionsMessage pigeonReturn = new PlayerPoolOptionsMessage();
+        pigeonReturn.setMaxPoolSize(maxPoolSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(maxPoolSize);
+      return toListResult;
+    }
+
+    static @NonNull PlayerPoolOptionsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlayerPoolOptionsMessage pigeonResult = new PlayerPoolOptionsMessage();
+      Object maxPoolSize = list.get(0);
+      pigeonResult.setMaxPoolSize(
+          (maxPoolSize == null)
+              ? null
+              : ((maxPoolSize instanceof Integer) ? (Integer) maxPoolSize : (Long) maxPoolSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerPoolStatsMessage {
+    private @NonNull Long hits;
+
+    public @NonNull Long getHits() {
+      return hits;
+    }
+
+    public void setHits(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hits\" is null.");
+      }
+      this.hits = setterArg;
+    }
+
+    private @NonNull Long misses;
+
+    public @NonNull Long getMisses() {
+      return misses;
+    }
+
+    public void setMisses(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"misses\" is null.");
+      }
+      this.misses = setterArg;
+    }
+
+    private @NonNull Long poolSize;
+
+    public @NonNull Long getPoolSize() {
+      return poolSize;
+    }
+
+    public void setPoolSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"poolSize\" is null.");
+      }
+      this.poolSize = setterArg;
+    }
+
+    private @NonNull Long trimCount;
+
+    public @NonNull Long getTrimCount() {
+      return trimCount;
+    }
+
+    public void setTrimCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"trimCount\" is null.");
+      }
+      this.trimCount = setterArg;
+    }
+
+    private @NonNull Long reusedFirstFrameMillis;
+
+    public @NonNull Long getReusedFirstFrameMillis() {
+      return reusedFirstFrameMillis;
+    }
+
+    public void setReusedFirstFrameMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"reusedFirstFrameMillis\" is null.");
+      }
+      this.reusedFirstFrameMillis = setterArg;
+    }
+
+    private @NonNull Long newFirstFrameMillis;
+
+    public @NonNull Long getNewFirstFrameMillis() {
+      return newFirstFrameMillis;
+    }
+
+    public void setNewFirstFrameMillis(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"newFirstFrameMillis\" is null.");
+      }
+      this.newFirstFrameMillis = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerPoolStatsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long hits;
+
+      public @NonNull Builder setHits(@NonNull Long setterArg) {
+        this.hits = setterArg;
+        return this;
+      }
+
+      private @Nullable Long misses;
+
+      public @NonNull Builder setMisses(@NonNull Long setterArg) {
+        this.misses = setterArg;
+        return this;
+      }
+
+      private @Nullable Long poolSize;
+
+      public @NonNull Builder setPoolSize(@NonNull Long setterArg) {
+        this.poolSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long trimCount;
+
+      public @NonNull Builder setTrimCount(@NonNull Long setterArg) {
+        this.trimCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long reusedFirstFrameMillis;
+
+      public @NonNull Builder setReusedFirstFrameMillis(@NonNull Long setterArg) {
+        this.reusedFirstFrameMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable Long newFirstFrameMillis;
+
+      public @NonNull Builder setNewFirstFrameMillis(@NonNull Long setterArg) {
+        this.newFirstFrameMillis = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerPoolStatsMessage build() {
+        PlayerPoolStatsMessage pigeonReturn = new PlayerPoolStatsMessage();
+        pigeonReturn.setHits(hits);
+        pigeonReturn.setMisses(misses);
+        pigeonReturn.setPoolSize(poolSize);
+        pigeonReturn.setTrimCount(trimCount);
+        pigeonReturn.setReusedFirstFrameMillis(reusedFirstFrameMillis);
+        pigeonReturn.setNewFirstFrameMillis(newFirstFrameMillis);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(hits);
+      toListResult.add(misses);
+      toListResult.add(poolSize);
+      toListResult.add(trimCount);
+      toListResult.add(reusedFirstFrameMillis);
+      toListResult.add(newFirstFrameMillis);
+      return toListResult;
+    }
+
+    static @NonNull PlayerPoolStatsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlayerPoolStatsMessage pigeonResult = new PlayerPoolStatsMessage();
+      Object hits = list.get(0);
+      pigeonResult.setHits(
+          (hits == null) ? null : ((hits instanceof Integer) ? (Integer) hits : (Long) hits));
+      Object misses = list.get(1);
+      pigeonResult.setMisses(
+          (misses == null)
+              ? null
+              : ((misses instanceof Integer) ? (Integer) misses : (Long) misses));
+      Object poolSize = list.get(2);
+      pigeonResult.setPoolSize(
+          (poolSize == null)
+              ? null
+              : ((poolSize instanceof Integer) ? (Integer) poolSize : (Long) poolSize));
+      Object trimCount = list.get(3);
+      pigeonResult.setTrimCount(
+          (trimCount == null)
+              ? null
+              : ((trimCount instanceof Integer) ? (Integer) trimCount : (Long) trimCount));
+      Object reusedFirstFrameMillis = list.get(4);
+      pigeonResult.setReusedFirstFrameMillis(
+          (reusedFirstFrameMillis == null)
+              ? null
+              : ((reusedFirstFrameMillis instanceof Integer)
+                  ? (Integer) reusedFirstFrameMillis
+                  : (Long) reusedFirstFrameMillis));
+      Object newFirstFrameMillis = list.get(5);
+      pigeonResult.setNewFirstFrameMillis(
+          (newFirstFrameMillis == null)
+              ? null
+              : ((newFirstFrameMillis instanceof Integer)
+                  ? (Integer) newFirstFrameMillis
+                  : (Long) newFirstFrameMillis));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class BufferOptionsMessage {
+    private @NonNull Long minBufferMs;
+
+    public @NonNull Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minBufferMs\" is null.");
+      }
+      this.minBufferMs = setterArg;
+    }
+
+    private @NonNull Long maxBufferMs;
+
+    public @NonNull Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBufferMs\" is null.");
+      }
+      this.maxBufferMs = setterArg;
+    }
+
+    private @NonNull Long bufferForPlaybackMs;
+
+    public @NonNull Long getBufferForPlaybackMs() {
+      return bufferForPlaybackMs;
+    }
+
+    public void setBufferForPlaybackMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferForPlaybackMs\" is null.");
+      }
+      this.bufferForPlaybackMs = setterArg;
+    }
+
+    private @NonNull Long bufferForPlaybackAfterRebufferMs;
+
+    public @NonNull Long getBufferForPlaybackAfterRebufferMs() {
+      return bufferForPlaybackAfterRebufferMs;
+    }
+
+    public void setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"bufferForPlaybackAfterRebufferMs\" is null.");
+      }
+      this.bufferForPlaybackAfterRebufferMs = setterArg;
+    }
+
+    private @NonNull Long backBufferMs;
+
+    public @NonNull Long getBackBufferMs() {
+      return backBufferMs;
+    }
+
+    public void setBackBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"backBufferMs\" is null.");
+      }
+      this.backBufferMs = setterArg;
+    }
+
+    private @NonNull Long memoryBudgetBytes;
+
+    public @NonNull Long getMemoryBudgetBytes() {
+      return memoryBudgetBytes;
+    }
+
+    public void setMemoryBudgetBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"memoryBudgetBytes\" is null.");
+      }
+      this.memoryBudgetBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    BufferOptionsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long minBufferMs;
+
+      public @NonNull Builder setMinBufferMs(@NonNull Long setterArg) {
+        this.minBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferMs;
+
+      public @NonNull Builder setMaxBufferMs(@NonNull Long setterArg) {
+        this.maxBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackMs;
+
+      public @NonNull Builder setBufferForPlaybackMs(@NonNull Long setterArg) {
+        this.bufferForPlaybackMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+      public @NonNull Builder setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+        this.bufferForPlaybackAfterRebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferMs;
+
+      public @NonNull Builder setBackBufferMs(@NonNull Long setterArg) {
+        this.backBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long memoryBudgetBytes;
+
+      public @NonNull Builder setMemoryBudgetBytes(@NonNull Long setterArg) {
+        this.memoryBudgetBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull BufferOptionsMessage build() {
+        BufferOptionsMessage pigeonReturn = new BufferOptionsMessage();
+        pigeonReturn.setMinBufferMs(minBufferMs);
+        pigeonReturn.setMaxBufferMs(maxBufferMs);
+        pigeonReturn.setBufferForPlaybackMs(bufferForPlaybackMs);
+        pigeonReturn.setBufferForPlaybackAfterRebufferMs(bufferForPlaybackAfterRebufferMs);
+        pigeonReturn.setBackBufferMs(backBufferMs);
+        pigeonReturn.setMemoryBudgetBytes(memoryBudgetBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(6);
+      toListResult.add(minBufferMs);
+      toListResult.add(maxBufferMs);
+      toListResult.add(bufferForPlaybackMs);
+      toListResult.add(bufferForPlaybackAfterRebufferMs);
+      toListResult.add(backBufferMs);
+      toListResult.add(memoryBudgetBytes);
+      return toListResult;
+    }
+
+    static @NonNull BufferOptionsMessage fromList(@NonNull ArrayList<Object> list) {
+      BufferOptionsMessage pigeonResult = new BufferOptionsMessage();
+      Object minBufferMs = list.get(0);
+      pigeonResult.setMinBufferMs(
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+      Object maxBufferMs = list.get(1);
+      pigeonResult.setMaxBufferMs(
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+      Object bufferForPlaybackMs = list.get(2);
+      pigeonResult.setBufferForPlaybackMs(
+          (bufferForPlaybackMs == null)
+              ? null
+              : ((bufferForPlaybackMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackMs
+                  : (Long) bufferForPlaybackMs));
+      Object bufferForPlaybackAfterRebufferMs = list.get(3);
+      pigeonResult.setBufferForPlaybackAfterRebufferMs(
+          (bufferForPlaybackAfterRebufferMs == null)
+              ? null
+              : ((bufferForPlaybackAfterRebufferMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackAfterRebufferMs
+                  : (Long) bufferForPlaybackAfterRebufferMs));
+      Object backBufferMs = list.get(4);
+      pigeonResult.setBackBufferMs(
+          (backBufferMs == null)
+              ? null
+              : ((backBufferMs instanceof Integer) ? (Integer) backBufferMs : (Long) backBufferMs));
+      Object memoryBudgetBytes = list.get(5);
+      pigeonResult.setMemoryBudgetBytes(
+          (memoryBudgetBytes == null)
+              ? null
+              : ((memoryBudgetBytes instanceof Integer)
+                  ? (Integer) memoryBudgetBytes
+                  : (Long) memoryBudgetBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlaybackMetricsOptionsMessage {
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlaybackMetricsOptionsMessage() {}
+
+    public static final class Builder {
+
+      private @Nullable Long intervalMs;
+
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      public @NonNull PlaybackMetricsOptionsMessage build() {
+        PlaybackMetricsOptionsMessage pigeonReturn = new PlaybackMetricsOptionsMessage();
+        pigeonReturn.setIntervalMs(intervalMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(1);
+      toListResult.add(intervalMs);
+      return toListResult;
+    }
+
+    static @NonNull PlaybackMetricsOptionsMessage fromList(@NonNull ArrayList<Object> list) {
+      PlaybackMetricsOptionsMessage pigeonResult = new PlaybackMetricsOptionsMessage();
+      Object intervalMs = list.get(0);
+      pigeonResult.setIntervalMs(
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+      return pigeonResult;
+    }
+  }
+
   private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
     public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
@@ -605,18 +1429,34 @@ public class Messages {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return BufferOptionsMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 129:
-          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CacheOptionsMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 130:
-          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CacheStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 131:
-          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 132:
-          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return LoopingMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 133:
-          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+          return MixWithOthersMessage.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 134:
+          return PlaybackMetricsOptionsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return PlaybackSpeedMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return PlayerPoolOptionsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return PlayerPoolStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return PositionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return PrefetchMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return PrefetchTaskMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return TextureMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
           return VolumeMessage.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
@@ -625,26 +1465,50 @@ public class Messages {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof BufferOptionsMessage) {
         stream.write(128);
+        writeValue(stream, ((BufferOptionsMessage) value).toList());
+      } else if (value instanceof CacheOptionsMessage) {
+        stream.write(129);
+        writeValue(stream, ((CacheOptionsMessage) value).toList());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(130);
+        writeValue(stream, ((CacheStatsMessage) value).toList());
+      } else if (value instanceof CreateMessage) {
+        stream.write(131);
         writeValue(stream, ((CreateMessage) value).toList());
       } else if (value instanceof LoopingMessage) {
-        stream.write(129);
+        stream.write(132);
         writeValue(stream, ((LoopingMessage) value).toList());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
+        stream.write(133);
         writeValue(stream, ((MixWithOthersMessage) value).toList());
+      } else if (value instanceof PlaybackMetricsOptionsMessage) {
+        stream.write(134);
+        writeValue(stream, ((PlaybackMetricsOptionsMessage) value).toList());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
+        stream.write(135);
         writeValue(stream, ((PlaybackSpeedMessage) value).toList());
+      } else if (value instanceof PlayerPoolOptionsMessage) {
+        stream.write(136);
+        writeValue(stream, ((PlayerPoolOptionsMessage) value).toList());
+      } else if (value instanceof PlayerPoolStatsMessage) {
+        stream.write(137);
+        writeValue(stream, ((PlayerPoolStatsMessage) value).toList());
       } else if (value instanceof PositionMessage) {
-        stream.write(132);
+        stream.write(138);
         writeValue(stream, ((PositionMessage) value).toList());
+      } else if (value instanceof PrefetchMessage) {
+        stream.write(139);
+        writeValue(stream, ((PrefetchMessage) value).toList());
+      } else if (value instanceof PrefetchTaskMessage) {
+        stream.write(140);
+        writeValue(stream, ((PrefetchTaskMessage) value).toList());
       } else if (value instanceof TextureMessage) {
-        stream.write(133);
+        stream.write(141);
         writeValue(stream, ((TextureMessage) value).toList());
       } else if (value instanceof VolumeMessage) {
-        stream.write(134);
+        stream.write(142);
         writeValue(stream, ((VolumeMessage) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -679,6 +1543,25 @@ public class Messages {
 
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+    void setCacheOptions(@NonNull CacheOptionsMessage msg);
+
+    @NonNull
+    CacheStatsMessage getCacheStats();
+
+    @NonNull
+    PrefetchTaskMessage prefetch(@NonNull PrefetchMessage msg);
+
+    void cancelPrefetch(@NonNull PrefetchTaskMessage msg);
+
+    void setPlayerPoolOptions(@NonNull PlayerPoolOptionsMessage msg);
+
+    @NonNull
+    PlayerPoolStatsMessage getPlayerPoolStats();
+
+    void setBufferOptions(@NonNull BufferOptionsMessage msg);
+
+    void setPlaybackMetricsOptions(@NonNull PlaybackMetricsOptionsMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -944,6 +1827,200 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CacheOptionsMessage msgArg = (CacheOptionsMessage) args.get(0);
+                try {
+                  api.setCacheOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  CacheStatsMessage output = api.getCacheStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PrefetchMessage msgArg = (PrefetchMessage) args.get(0);
+                try {
+                  PrefetchTaskMessage output = api.prefetch(msgArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.cancelPrefetch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PrefetchTaskMessage msgArg = (PrefetchTaskMessage) args.get(0);
+                try {
+                  api.cancelPrefetch(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlayerPoolOptionsMessage msgArg = (PlayerPoolOptionsMessage) args.get(0);
+                try {
+                  api.setPlayerPoolOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getPlayerPoolStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  PlayerPoolStatsMessage output = api.getPlayerPoolStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                BufferOptionsMessage msgArg = (BufferOptionsMessage) args.get(0);
+                try {
+                  api.setBufferOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackMetricsOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlaybackMetricsOptionsMessage msgArg = (PlaybackMetricsOptionsMessage) args.get(0);
+                try {
+                  api.setPlaybackMetricsOptions(msgArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 }
@@ -0,0 +1,205 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregates the quality of experience metrics of a {@link VideoPlayer} and sends them to Dart.
+ *
+ * <p>The metrics are totals since the creation of the player. They are sent through their own event
+ * channel every {@code intervalMs} milliseconds if they changed, and once more when the player is
+ * disposed, so their frequency doesn't depend on how often ExoPlayer reports them. They are dropped
+ * while nothing listens to them.
+ *
+ * <p>This class must only be used on the main thread, where ExoPlayer calls its listeners.
+ */
+final class PlaybackMetricsCollector implements AnalyticsListener, EventChannel.StreamHandler {
+  private final EventChannel eventChannel;
+  private final long intervalMs;
+  private final long creationTime = SystemClock.elapsedRealtime();
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable flushRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          flush();
+          handler.postDelayed(this, intervalMs);
+        }
+      };
+
+  @Nullable private EventChannel.EventSink eventSink;
+  private boolean changed = false;
+
+  private long timeToFirstFrameMs = C.TIME_UNSET;
+  private boolean isReady = false;
+  private boolean isSeeking = false;
+  private long rebufferStartTime = C.TIME_UNSET;
+  private int rebufferCount = 0;
+  private long rebufferDurationMs = 0;
+  private long droppedFrames = 0;
+  private long bandwidthEstimate = C.LENGTH_UNSET;
+  private int videoBitrate = Format.NO_VALUE;
+  private int bitrateSwitchCount = 0;
+
+  /**
+   * Creates a collector that starts sending metrics once {@link #start} is called.
+   *
+   * @param eventChannel the channel of the metrics of the player
+   * @param intervalMs the minimum time between two metrics events, in milliseconds
+   */
+  PlaybackMetricsCollector(@NonNull EventChannel eventChannel, long intervalMs) {
+    this.eventChannel = eventChannel;
+    this.intervalMs = intervalMs;
+    eventChannel.setStreamHandler(this);
+  }
+
+  /** Starts sending the metrics periodically. */
+  void start() {
+    handler.postDelayed(flushRunnable, intervalMs);
+  }
+
+  /** Sends the last metrics and stops sending them. */
+  void dispose() {
+    handler.removeCallbacks(flushRunnable);
+    flush();
+    eventChannel.setStreamHandler(null);
+    eventSink = null;
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+  }
+
+  @Override
+  public void onRenderedFirstFrame(
+      @NonNull EventTime eventTime, @NonNull Object output, long renderTimeMs) {
+    // The first frame is rendered again after each seek, which ends a seek that didn't change the
+    // playback state.
+    isSeeking = false;
+    if (timeToFirstFrameMs == C.TIME_UNSET) {
+      timeToFirstFrameMs = SystemClock.elapsedRealtime() - creationTime;
+      changed = true;
+    }
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    // Buffering before the video is first ready, or right after a seek, is expected. A seek ends at
+    // the next state, since a seek within the buffered media may not buffer.
+    final boolean wasSeeking = isSeeking;
+    isSeeking = false;
+    if (state == Player.STATE_BUFFERING) {
+      if (isReady && !wasSeeking && rebufferStartTime == C.TIME_UNSET) {
+        rebufferStartTime = SystemClock.elapsedRealtime();
+        rebufferCount++;
+        changed = true;
+      }
+      return;
+    }
+    endRebuffer();
+    if (state == Player.STATE_READY) {
+      isReady = true;
+    }
+  }
+
+  @Override
+  public void onPositionDiscontinuity(
+      @NonNull EventTime eventTime,
+      @NonNull Player.PositionInfo oldPosition,
+      @NonNull Player.PositionInfo newPosition,
+      int reason) {
+    if (reason == Player.DISCONTINUITY_REASON_SEEK) {
+      isSeeking = true;
+    }
+  }
+
+  @Override
+  public void onDroppedVideoFrames(
+      @NonNull EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+    changed = true;
+  }
+
+  @Override
+  public void onBandwidthEstimate(
+      @NonNull EventTime eventTime,
+      int totalLoadTimeMs,
+      long totalBytesLoaded,
+      long bitrateEstimate) {
+    if (bandwidthEstimate != bitrateEstimate) {
+      bandwidthEstimate = bitrateEstimate;
+      changed = true;
+    }
+  }
+
+  @Override
+  public void onDownstreamFormatChanged(
+      @NonNull EventTime eventTime, @NonNull MediaLoadData mediaLoadData) {
+    final Format format = mediaLoadData.trackFormat;
+    if (format == null
+        || format.bitrate == Format.NO_VALUE
+        || (mediaLoadData.trackType != C.TRACK_TYPE_VIDEO
+            && mediaLoadData.trackType != C.TRACK_TYPE_DEFAULT)) {
+      return;
+    }
+    if (videoBitrate != format.bitrate) {
+      if (videoBitrate != Format.NO_VALUE) {
+        bitrateSwitchCount++;
+      }
+      videoBitrate = format.bitrate;
+      changed = true;
+    }
+  }
+
+  private void endRebuffer() {
+    if (rebufferStartTime != C.TIME_UNSET) {
+      rebufferDurationMs += SystemClock.elapsedRealtime() - rebufferStartTime;
+      rebufferStartTime = C.TIME_UNSET;
+      changed = true;
+    }
+  }
+
+  private void flush() {
+    // An ongoing rebuffer is reported up to now.
+    long rebufferDurationMs = this.rebufferDurationMs;
+    if (rebufferStartTime != C.TIME_UNSET) {
+      rebufferDurationMs += SystemClock.elapsedRealtime() - rebufferStartTime;
+      changed = true;
+    }
+    if (!changed || eventSink == null) {
+      return;
+    }
+    changed = false;
+    final Map<String, Object> event = new HashMap<>();
+    event.put("event", "playbackMetrics");
+    event.put("timeToFirstFrame", timeToFirstFrameMs != C.TIME_UNSET ? timeToFirstFrameMs : -1);
+    event.put("rebufferCount", rebufferCount);
+    event.put("rebufferDuration", rebufferDurationMs);
+    event.put("droppedFrames", droppedFrames);
+    event.put("bandwidthEstimate", bandwidthEstimate);
+    event.put("videoBitrate", videoBitrate);
+    event.put("bitrateSwitchCount", bitrateSwitchCount);
+    eventSink.success(event);
+  }
+}
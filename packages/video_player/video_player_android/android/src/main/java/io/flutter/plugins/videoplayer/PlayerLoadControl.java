@@ -0,0 +1,102 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.Renderer;
+import com.google.android.exoplayer2.source.TrackGroupArray;
+import com.google.android.exoplayer2.trackselection.ExoTrackSelection;
+import com.google.android.exoplayer2.upstream.Allocator;
+import com.google.android.exoplayer2.util.Util;
+
+/**
+ * The {@link LoadControl} of a {@link VideoPlayer}, which buffers media as configured by the {@link
+ * VideoPlayerOptions} and within the player's share of the {@link BufferMemoryBudget}.
+ *
+ * <p>The buffer durations are fixed when the player is created. The memory budget is checked at
+ * every load, but never stops loading below the minimum buffer duration, so a small budget shrinks
+ * the buffer without starving the playback.
+ */
+final class PlayerLoadControl implements LoadControl {
+  private final DefaultLoadControl defaultLoadControl;
+  private final BufferMemoryBudget memoryBudget;
+  private final long minBufferUs;
+
+  PlayerLoadControl(@NonNull VideoPlayerOptions options, @NonNull BufferMemoryBudget memoryBudget) {
+    this.defaultLoadControl =
+        new DefaultLoadControl.Builder()
+            .setBufferDurationsMs(
+                options.minBufferMs,
+                options.maxBufferMs,
+                options.bufferForPlaybackMs,
+                options.bufferForPlaybackAfterRebufferMs)
+            .setBackBuffer(options.backBufferMs, false)
+            .build();
+    this.memoryBudget = memoryBudget;
+    this.minBufferUs = Util.msToUs(options.minBufferMs);
+  }
+
+  @Override
+  public boolean shouldContinueLoading(
+      long playbackPositionUs, long bufferedDurationUs, float playbackSpeed) {
+    if (!defaultLoadControl.shouldContinueLoading(
+        playbackPositionUs, bufferedDurationUs, playbackSpeed)) {
+      return false;
+    }
+    final long shareBytes = memoryBudget.getPlayerShareBytes();
+    return shareBytes == C.LENGTH_UNSET
+        || bufferedDurationUs < minBufferUs
+        || getAllocator().getTotalBytesAllocated() < shareBytes;
+  }
+
+  @Override
+  public boolean shouldStartPlayback(
+      long bufferedDurationUs, float playbackSpeed, boolean rebuffering, long targetLiveOffsetUs) {
+    return defaultLoadControl.shouldStartPlayback(
+        bufferedDurationUs, playbackSpeed, rebuffering, targetLiveOffsetUs);
+  }
+
+  @Override
+  public void onPrepared() {
+    defaultLoadControl.onPrepared();
+  }
+
+  @Override
+  public void onTracksSelected(
+      @NonNull Renderer[] renderers,
+      @NonNull TrackGroupArray trackGroups,
+      @NonNull ExoTrackSelection[] trackSelections) {
+    defaultLoadControl.onTracksSelected(renderers, trackGroups, trackSelections);
+  }
+
+  @Override
+  public void onStopped() {
+    defaultLoadControl.onStopped();
+  }
+
+  @Override
+  public void onReleased() {
+    defaultLoadControl.onReleased();
+  }
+
+  @NonNull
+  @Override
+  public Allocator getAllocator() {
+    return defaultLoadControl.getAllocator();
+  }
+
+  @Override
+  public long getBackBufferDurationUs() {
+    return defaultLoadControl.getBackBufferDurationUs();
+  }
+
+  @Override
+  public boolean retainBackBufferFromKeyframe() {
+    return defaultLoadControl.retainBackBufferFromKeyframe();
+  }
+}
@@ -9,8 +9,10 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
@@ -64,6 +66,20 @@ final class VideoPlayer {
 
   private DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
 
+  private final ExoPlayerPool playerPool;
+
+  private final boolean isExoPlayerReused;
+
+  private final int playerPoolGeneration;
+
+  private final BufferMemoryBudget memoryBudget;
+
+  @Nullable private final PlaybackMetricsCollector metricsCollector;
+
+  private final long creationTime = SystemClock.elapsedRealtime();
+
+  private Listener playerListener;
+
   VideoPlayer(
       Context context,
       EventChannel eventChannel,
@@ -71,17 +87,43 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       @NonNull Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      @Nullable MediaCache mediaCache,
+      @NonNull ExoPlayerPool playerPool,
+      @Nullable String preferredFormatClass,
+      @NonNull BufferMemoryBudget memoryBudget,
+      @Nullable PlaybackMetricsCollector metricsCollector) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
-
-    ExoPlayer exoPlayer = new ExoPlayer.Builder(context).build();
+    this.playerPool = playerPool;
+    this.playerPoolGeneration = playerPool.getGeneration();
+    this.memoryBudget = memoryBudget;
+    memoryBudget.addPlayer();
+
+    ExoPlayer pooledExoPlayer = playerPool.obtain(preferredFormatClass);
+    isExoPlayerReused = pooledExoPlayer != null;
+    ExoPlayer exoPlayer =
+        pooledExoPlayer != null
+            ? pooledExoPlayer
+            : new ExoPlayer.Builder(context)
+                .setLoadControl(new PlayerLoadControl(options, memoryBudget))
+                .build();
+    this.metricsCollector = metricsCollector;
+    if (metricsCollector != null) {
+      exoPlayer.addAnalyticsListener(metricsCollector);
+      metricsCollector.start();
+    }
     Uri uri = Uri.parse(dataSource);
 
     buildHttpDataSourceFactory(httpHeaders);
+    // Only the media that is downloaded is cached, the other URIs are read directly.
+    DataSource.Factory remoteDataSourceFactory =
+        mediaCache != null
+            ? mediaCache.createDataSourceFactory(httpDataSourceFactory)
+            : httpDataSourceFactory;
     DataSource.Factory dataSourceFactory =
-        new DefaultDataSource.Factory(context, httpDataSourceFactory);
+        new DefaultDataSource.Factory(context, remoteDataSourceFactory);
 
     MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint);
 
@@ -104,12 +146,25 @@ final class VideoPlayer {
     this.textureEntry = textureEntry;
     this.options = options;
     this.httpDataSourceFactory = httpDataSourceFactory;
+    this.playerPool = new ExoPlayerPool();
+    this.isExoPlayerReused = false;
+    this.playerPoolGeneration = playerPool.getGeneration();
+    this.memoryBudget = new BufferMemoryBudget();
+    memoryBudget.addPlayer();
+    this.metricsCollector = null;
 
     setUpVideoPlayer(exoPlayer, eventSink);
   }
 
   @VisibleForTesting
   public void buildHttpDataSourceFactory(@NonNull Map<String, String> httpHeaders) {
+    configureHttpDataSourceFactory(httpDataSourceFactory, httpHeaders);
+  }
+
+  /** Sets the user agent and the headers of the requests of {@code httpDataSourceFactory}. */
+  static void configureHttpDataSourceFactory(
+      @NonNull DefaultHttpDataSource.Factory httpDataSourceFactory,
+      @NonNull Map<String, String> httpHeaders) {
     final boolean httpHeadersNotEmpty = !httpHeaders.isEmpty();
     final String userAgent =
         httpHeadersNotEmpty && httpHeaders.containsKey(USER_AGENT)
@@ -190,10 +245,12 @@ final class VideoPlayer {
     exoPlayer.setVideoSurface(surface);
     setAudioAttributes(exoPlayer, options.mixWithOthers);
 
-    exoPlayer.addListener(
+    playerListener =
         new Listener() {
           private boolean isBuffering = false;
 
+          private boolean isFirstFrameRendered = false;
+
           public void setBuffering(boolean buffering) {
             if (isBuffering != buffering) {
               isBuffering = buffering;
@@ -241,7 +298,17 @@ final class VideoPlayer {
               eventSink.success(event);
             }
           }
-        });
+
+          @Override
+          public void onRenderedFirstFrame() {
+            if (!isFirstFrameRendered) {
+              isFirstFrameRendered = true;
+              playerPool.recordFirstFrame(
+                  isExoPlayerReused, SystemClock.elapsedRealtime() - creationTime);
+            }
+          }
+        };
+    exoPlayer.addListener(playerListener);
   }
 
   void sendBufferingUpdate() {
@@ -292,6 +359,13 @@ final class VideoPlayer {
     return exoPlayer.getCurrentPosition();
   }
 
+  /** Returns the format class of the video, or null while it is unknown. */
+  @Nullable
+  String getVideoFormatClass() {
+    final Format videoFormat = exoPlayer.getVideoFormat();
+    return videoFormat != null ? ExoPlayerPool.getFormatClass(videoFormat) : null;
+  }
+
   @SuppressWarnings("SuspiciousNameCombination")
   @VisibleForTesting
   void sendInitialized() {
@@ -327,16 +401,24 @@ final class VideoPlayer {
   }
 
   void dispose() {
-    if (isInitialized) {
-      exoPlayer.stop();
+    if (exoPlayer != null) {
+      // The player may be reused by another VideoPlayer, which must not see this one's surface or
+      // receive its events.
+      exoPlayer.removeListener(playerListener);
+      if (metricsCollector != null) {
+        exoPlayer.removeAnalyticsListener(metricsCollector);
+      }
+      exoPlayer.clearVideoSurface();
+      playerPool.release(exoPlayer, playerPoolGeneration);
+    }
+    memoryBudget.removePlayer();
+    if (metricsCollector != null) {
+      metricsCollector.dispose();
     }
     textureEntry.release();
     eventChannel.setStreamHandler(null);
     if (surface != null) {
       surface.release();
     }
-    if (exoPlayer != null) {
-      exoPlayer.release();
-    }
   }
 }
@@ -4,6 +4,32 @@
 
 package io.flutter.plugins.videoplayer;
 
+import com.google.android.exoplayer2.DefaultLoadControl;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** The size of the disk cache of the downloaded media, in bytes, or 0 to not cache it. */
+  public long maxCacheSize;
+
+  /** The duration of media that players always try to keep buffered, in milliseconds. */
+  public int minBufferMs = DefaultLoadControl.DEFAULT_MIN_BUFFER_MS;
+
+  /** The duration of media above which players stop buffering, in milliseconds. */
+  public int maxBufferMs = DefaultLoadControl.DEFAULT_MAX_BUFFER_MS;
+
+  /** The duration of media that must be buffered to start playing, in milliseconds. */
+  public int bufferForPlaybackMs = DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS;
+
+  /** The duration of media that must be buffered to resume playing after a rebuffer. */
+  public int bufferForPlaybackAfterRebufferMs =
+      DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS;
+
+  /** The duration of played media that players keep to seek back quickly, in milliseconds. */
+  public int backBufferMs = DefaultLoadControl.DEFAULT_BACK_BUFFER_DURATION_MS;
+
+  /**
+   * The interval between two playback metrics events, in milliseconds, or 0 to not collect them.
+   */
+  public long playbackMetricsIntervalMs;
 }
@@ -8,17 +8,29 @@ import android.content.Context;
 import android.os.Build;
 import android.util.LongSparseArray;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.BufferOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.FlutterError;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
+import io.flutter.plugins.videoplayer.Messages.PlaybackMetricsOptionsMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PrefetchMessage;
+import io.flutter.plugins.videoplayer.Messages.PrefetchTaskMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
@@ -31,9 +43,14 @@ import javax.net.ssl.HttpsURLConnection;
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private static final String TAG = "VideoPlayerPlugin";
+  private static final String PREFETCH_EVENTS_CHANNEL = "flutter.io/videoPlayer/prefetchEvents";
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private final VideoPlayerOptions options = new VideoPlayerOptions();
+  @Nullable private MediaCache mediaCache;
+  private final MediaPrefetcher prefetcher = new MediaPrefetcher();
+  private final ExoPlayerPool playerPool = new ExoPlayerPool();
+  private final BufferMemoryBudget memoryBudget = new BufferMemoryBudget();
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -96,6 +113,35 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
     initialize();
+    prefetcher.cancelAll();
+    releaseMediaCache();
+    playerPool.dispose();
+  }
+
+  // Returns the media cache shared by the players. A cache keeps its size while players use it,
+  // so a new size is applied to the next cache, once the players are all disposed.
+  @Nullable
+  private MediaCache getMediaCache() {
+    if (options.maxCacheSize <= 0) {
+      return null;
+    }
+    if (mediaCache != null
+        && mediaCache.getMaxCacheSize() != options.maxCacheSize
+        && videoPlayers.size() == 0
+        && prefetcher.isIdle()) {
+      releaseMediaCache();
+    }
+    if (mediaCache == null) {
+      mediaCache = new MediaCache(flutterState.applicationContext, options.maxCacheSize);
+    }
+    return mediaCache;
+  }
+
+  private void releaseMediaCache() {
+    if (mediaCache != null) {
+      mediaCache.release();
+      mediaCache = null;
+    }
   }
 
   private void disposeAllPlayers() {
@@ -105,6 +151,19 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     videoPlayers.clear();
   }
 
+  // Guesses the format class of the next video from the most recently created player, since apps
+  // tend to play videos of the same kind one after the other.
+  @Nullable
+  private String getPreferredFormatClass() {
+    for (int i = videoPlayers.size() - 1; i >= 0; i--) {
+      final String formatClass = videoPlayers.valueAt(i).getVideoFormatClass();
+      if (formatClass != null) {
+        return formatClass;
+      }
+    }
+    return null;
+  }
+
   private void onDestroy() {
     // The whole FlutterView is being destroyed. Here we release resources acquired for all
     // instances
@@ -114,8 +173,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     disposeAllPlayers();
   }
 
+  // The app-facing plugin initializes the platform lazily, when its first player is created, so the
+  // prefetches started before and the media cache they fill are kept.
   public void initialize() {
     disposeAllPlayers();
+    playerPool.clear();
+    playerPool.resetStats();
   }
 
   public @NonNull TextureMessage create(@NonNull CreateMessage arg) {
@@ -124,6 +187,15 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     EventChannel eventChannel =
         new EventChannel(
             flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
+    PlaybackMetricsCollector metricsCollector = null;
+    if (options.playbackMetricsIntervalMs > 0) {
+      metricsCollector =
+          new PlaybackMetricsCollector(
+              new EventChannel(
+                  flutterState.binaryMessenger,
+                  "flutter.io/videoPlayer/metricsEvents" + handle.id()),
+              options.playbackMetricsIntervalMs);
+    }
 
     VideoPlayer player;
     if (arg.getAsset() != null) {
@@ -142,7 +214,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               "asset:///" + assetLookupKey,
               null,
               new HashMap<>(),
-              options);
+              options,
+              null,
+              playerPool,
+              getPreferredFormatClass(),
+              memoryBudget,
+              metricsCollector);
     } else {
       Map<String, String> httpHeaders = arg.getHttpHeaders();
       player =
@@ -153,7 +230,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              options,
+              getMediaCache(),
+              playerPool,
+              getPreferredFormatClass(),
+              memoryBudget,
+              metricsCollector);
     }
     videoPlayers.put(handle.id(), player);
 
@@ -212,6 +294,108 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setCacheOptions(@NonNull CacheOptionsMessage arg) {
+    options.maxCacheSize = arg.getMaxCacheSize();
+  }
+
+  @Override
+  public @NonNull PrefetchTaskMessage prefetch(@NonNull PrefetchMessage arg) {
+    final MediaCache mediaCache = getMediaCache();
+    final DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+    VideoPlayer.configureHttpDataSourceFactory(httpDataSourceFactory, arg.getHttpHeaders());
+    final CacheDataSource.Factory cacheDataSourceFactory =
+        mediaCache != null ? mediaCache.createCacheDataSourceFactory(httpDataSourceFactory) : null;
+    if (cacheDataSourceFactory == null) {
+      throw new FlutterError(
+          "cacheUnavailable",
+          "Videos can only be prefetched once the media cache is enabled with setCacheOptions.",
+          null);
+    }
+    final long taskId =
+        prefetcher.prefetch(
+            cacheDataSourceFactory, arg.getUri(), arg.getMaxBytes(), arg.getPriority());
+    return new PrefetchTaskMessage.Builder().setTaskId(taskId).build();
+  }
+
+  @Override
+  public void cancelPrefetch(@NonNull PrefetchTaskMessage arg) {
+    prefetcher.cancel(arg.getTaskId());
+  }
+
+  @Override
+  public @NonNull CacheStatsMessage getCacheStats() {
+    final CacheStatsMessage.Builder builder =
+        new CacheStatsMessage.Builder().setHitBytes(0L).setMissBytes(0L).setCacheSize(0L);
+    if (mediaCache != null) {
+      builder
+          .setHitBytes(mediaCache.getHitBytes())
+          .setMissBytes(mediaCache.getMissBytes())
+          .setCacheSize(mediaCache.getCacheSize());
+    }
+    return builder.build();
+  }
+
+  @Override
+  public void setBufferOptions(@NonNull BufferOptionsMessage arg) {
+    final int minBufferMs = arg.getMinBufferMs().intValue();
+    final int maxBufferMs = arg.getMaxBufferMs().intValue();
+    final int bufferForPlaybackMs = arg.getBufferForPlaybackMs().intValue();
+    final int bufferForPlaybackAfterRebufferMs =
+        arg.getBufferForPlaybackAfterRebufferMs().intValue();
+    final int backBufferMs = arg.getBackBufferMs().intValue();
+    if (bufferForPlaybackMs < 0
+        || bufferForPlaybackAfterRebufferMs < 0
+        || backBufferMs < 0
+        || minBufferMs < bufferForPlaybackMs
+        || minBufferMs < bufferForPlaybackAfterRebufferMs
+        || maxBufferMs < minBufferMs) {
+      throw new FlutterError(
+          "invalidBufferOptions",
+          "The buffer durations must not be negative, and must increase from the buffers for"
+              + " playback to the minimum buffer and the maximum buffer.",
+          null);
+    }
+    memoryBudget.setBudgetBytes(arg.getMemoryBudgetBytes());
+    if (options.minBufferMs == minBufferMs
+        && options.maxBufferMs == maxBufferMs
+        && options.bufferForPlaybackMs == bufferForPlaybackMs
+        && options.bufferForPlaybackAfterRebufferMs == bufferForPlaybackAfterRebufferMs
+        && options.backBufferMs == backBufferMs) {
+      return;
+    }
+    options.minBufferMs = minBufferMs;
+    options.maxBufferMs = maxBufferMs;
+    options.bufferForPlaybackMs = bufferForPlaybackMs;
+    options.bufferForPlaybackAfterRebufferMs = bufferForPlaybackAfterRebufferMs;
+    options.backBufferMs = backBufferMs;
+    // The buffer durations of a player are fixed when it is created, so the players that were
+    // created with the previous durations must not be reused.
+    playerPool.invalidate();
+  }
+
+  @Override
+  public void setPlaybackMetricsOptions(@NonNull PlaybackMetricsOptionsMessage arg) {
+    options.playbackMetricsIntervalMs = arg.getIntervalMs();
+  }
+
+  @Override
+  public void setPlayerPoolOptions(@NonNull PlayerPoolOptionsMessage arg) {
+    playerPool.setMaxPoolSize(flutterState.applicationContext, arg.getMaxPoolSize().intValue());
+  }
+
+  @Override
+  public @NonNull PlayerPoolStatsMessage getPlayerPoolStats() {
+    return new PlayerPoolStatsMessage.Builder()
+        .setHits(playerPool.getHits())
+        .setMisses(playerPool.getMisses())
+        .setPoolSize((long) playerPool.getPoolSize())
+        .setTrimCount(playerPool.getTrimCount())
+        .setReusedFirstFrameMillis(playerPool.getAverageReusedFirstFrameMillis())
+        .setNewFirstFrameMillis(playerPool.getAverageNewFirstFrameMillis())
+        .build();
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -242,10 +426,13 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
 
     void startListening(VideoPlayerPlugin methodCallHandler, BinaryMessenger messenger) {
       AndroidVideoPlayerApi.setup(messenger, methodCallHandler);
+      new EventChannel(messenger, PREFETCH_EVENTS_CHANNEL)
+          .setStreamHandler(methodCallHandler.prefetcher);
     }
 
     void stopListening(BinaryMessenger messenger) {
       AndroidVideoPlayerApi.setup(messenger, null);
+      new EventChannel(messenger, PREFETCH_EVENTS_CHANNEL).setStreamHandler(null);
     }
   }
 }
@@ -0,0 +1,130 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.ExoPlaybackException;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.PlaybackException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class ExoPlayerPoolTest {
+  private static final Format SD_FORMAT =
+      new Format.Builder().setSampleMimeType("video/avc").setWidth(640).setHeight(360).build();
+  private static final Format HD_FORMAT =
+      new Format.Builder().setSampleMimeType("video/avc").setWidth(1280).setHeight(720).build();
+
+  private ExoPlayerPool pool;
+
+  @Before
+  public void before() {
+    pool = new ExoPlayerPool();
+    pool.setMaxPoolSize(ApplicationProvider.getApplicationContext(), 2);
+  }
+
+  @After
+  public void after() {
+    pool.dispose();
+  }
+
+  private static ExoPlayer createPlayer(Format videoFormat) {
+    final ExoPlayer player = mock(ExoPlayer.class);
+    when(player.getVideoFormat()).thenReturn(videoFormat);
+    return player;
+  }
+
+  @Test
+  public void getFormatClass_groupsFormatsByMimeTypeAndResolution() {
+    assertEquals("video/avc:sd", ExoPlayerPool.getFormatClass(SD_FORMAT));
+    assertEquals("video/avc:hd", ExoPlayerPool.getFormatClass(HD_FORMAT));
+    assertEquals("unknown", ExoPlayerPool.getFormatClass(null));
+  }
+
+  @Test
+  public void obtain_prefersPlayersOfTheFormatClass() {
+    final ExoPlayer sdPlayer = createPlayer(SD_FORMAT);
+    final ExoPlayer hdPlayer = createPlayer(HD_FORMAT);
+    pool.release(sdPlayer, pool.getGeneration());
+    pool.release(hdPlayer, pool.getGeneration());
+
+    assertSame(sdPlayer, pool.obtain("video/avc:sd"));
+    assertSame(hdPlayer, pool.obtain("video/avc:sd"));
+    assertNull(pool.obtain("video/avc:sd"));
+    assertEquals(2, pool.getHits());
+    assertEquals(1, pool.getMisses());
+  }
+
+  @Test
+  public void release_evictsTheOldestPlayersAboveTheMaxPoolSize() {
+    final ExoPlayer oldestPlayer = createPlayer(SD_FORMAT);
+    final ExoPlayer player = createPlayer(SD_FORMAT);
+    final ExoPlayer newestPlayer = createPlayer(SD_FORMAT);
+
+    pool.release(oldestPlayer, pool.getGeneration());
+    pool.release(player, pool.getGeneration());
+    pool.release(newestPlayer, pool.getGeneration());
+
+    assertEquals(2, pool.getPoolSize());
+    verify(oldestPlayer).release();
+    verify(newestPlayer, never()).release();
+    verify(newestPlayer).clearMediaItems();
+  }
+
+  @Test
+  public void release_releasesFailedPlayers() {
+    final ExoPlayer player = createPlayer(SD_FORMAT);
+    when(player.getPlayerError())
+        .thenReturn(
+            ExoPlaybackException.createForUnexpected(
+                new RuntimeException(), PlaybackException.ERROR_CODE_UNSPECIFIED));
+
+    pool.release(player, pool.getGeneration());
+
+    assertEquals(0, pool.getPoolSize());
+    verify(player).release();
+  }
+
+  @Test
+  public void invalidate_releasesThePlayersOfPreviousGenerations() {
+    final ExoPlayer pooledPlayer = createPlayer(SD_FORMAT);
+    final ExoPlayer playerInUse = createPlayer(SD_FORMAT);
+    pool.release(pooledPlayer, pool.getGeneration());
+    final int generation = pool.getGeneration();
+
+    pool.invalidate();
+    pool.release(playerInUse, generation);
+
+    assertEquals(0, pool.getPoolSize());
+    verify(pooledPlayer).release();
+    verify(playerInUse).release();
+  }
+
+  @Test
+  public void onTrimMemory_releasesThePooledPlayers() {
+    final ExoPlayer player = createPlayer(SD_FORMAT);
+    pool.release(player, pool.getGeneration());
+
+    pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    assertEquals(0, pool.getPoolSize());
+    assertEquals(1, pool.getTrimCount());
+    verify(player).release();
+  }
+}
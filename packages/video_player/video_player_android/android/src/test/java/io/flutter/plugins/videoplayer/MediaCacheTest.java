@@ -0,0 +1,86 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import java.io.File;
+import java.io.IOException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MediaCacheTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+  private MediaCache mediaCache;
+
+  @Before
+  public void before() throws IOException {
+    directory = temporaryFolder.newFolder();
+    mediaCache = createMediaCache();
+  }
+
+  @After
+  public void after() {
+    mediaCache.release();
+  }
+
+  @Test
+  public void createDataSourceFactory_readsThroughTheCache() {
+    final DataSource.Factory dataSourceFactory =
+        mediaCache.createDataSourceFactory(new DefaultHttpDataSource.Factory());
+
+    assertTrue(dataSourceFactory instanceof CacheDataSource.Factory);
+    assertEquals(0, mediaCache.getHitBytes());
+    assertEquals(0, mediaCache.getMissBytes());
+    assertEquals(0, mediaCache.getCacheSize());
+  }
+
+  @Test
+  public void createDataSourceFactory_downloadsWhenTheCacheCannotBeOpened() {
+    mediaCache.createDataSourceFactory(new DefaultHttpDataSource.Factory());
+    final MediaCache otherMediaCache = createMediaCache();
+    final DefaultHttpDataSource.Factory httpDataSourceFactory = new DefaultHttpDataSource.Factory();
+
+    assertSame(
+        httpDataSourceFactory, otherMediaCache.createDataSourceFactory(httpDataSourceFactory));
+  }
+
+  @Test
+  public void release_allowsTheCacheToBeOpenedAgain() {
+    mediaCache.createDataSourceFactory(new DefaultHttpDataSource.Factory());
+    mediaCache.release();
+    final MediaCache otherMediaCache = createMediaCache();
+
+    try {
+      assertTrue(
+          otherMediaCache.createDataSourceFactory(new DefaultHttpDataSource.Factory())
+              instanceof CacheDataSource.Factory);
+    } finally {
+      otherMediaCache.release();
+    }
+  }
+
+  private MediaCache createMediaCache() {
+    return new MediaCache(
+        directory,
+        1024 * 1024,
+        new StandaloneDatabaseProvider(ApplicationProvider.getApplicationContext()));
+  }
+}
@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import io.flutter.plugin.common.EventChannel;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MediaPrefetcherTest {
+  private static final String URI = "https://example.com/video.mp4";
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private MediaCache mediaCache;
+  private CacheDataSource.Factory cacheDataSourceFactory;
+  private ThreadPoolExecutor backgroundExecutor;
+  private CountDownLatch backgroundThreadBlocked;
+  private EventChannel.EventSink eventSink;
+  private MediaPrefetcher prefetcher;
+
+  @Before
+  public void before() throws IOException {
+    mediaCache =
+        new MediaCache(
+            temporaryFolder.newFolder(),
+            1024 * 1024,
+            new StandaloneDatabaseProvider(ApplicationProvider.getApplicationContext()));
+    cacheDataSourceFactory =
+        mediaCache.createCacheDataSourceFactory(new DefaultHttpDataSource.Factory());
+
+    // Keeps the background thread busy, so the prefetches stay queued.
+    backgroundExecutor =
+        new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new PriorityBlockingQueue<>());
+    backgroundThreadBlocked = new CountDownLatch(1);
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            backgroundThreadBlocked.await();
+          } catch (InterruptedException ignored) {
+          }
+        });
+
+    eventSink = mock(EventChannel.EventSink.class);
+    prefetcher = new MediaPrefetcher(backgroundExecutor, Runnable::run);
+    prefetcher.onListen(null, eventSink);
+  }
+
+  @After
+  public void after() {
+    prefetcher.cancelAll();
+    backgroundThreadBlocked.countDown();
+    backgroundExecutor.shutdownNow();
+    mediaCache.release();
+  }
+
+  @Test
+  public void cancel_removesAQueuedPrefetch() {
+    final long taskId = prefetcher.prefetch(cacheDataSourceFactory, URI, 1024, 0);
+    assertFalse(prefetcher.isIdle());
+
+    prefetcher.cancel(taskId);
+
+    assertTrue(prefetcher.isIdle());
+    assertEquals(0, backgroundExecutor.getQueue().size());
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Map<String, Object>> eventCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(eventSink).success(eventCaptor.capture());
+    assertEquals("prefetchCanceled", eventCaptor.getValue().get("event"));
+    assertEquals(taskId, eventCaptor.getValue().get("taskId"));
+  }
+
+  @Test
+  public void cancelAll_cancelsEveryPrefetch() {
+    prefetcher.prefetch(cacheDataSourceFactory, URI, 1024, 0);
+    prefetcher.prefetch(cacheDataSourceFactory, URI, 1024, 1);
+
+    prefetcher.cancelAll();
+
+    assertTrue(prefetcher.isIdle());
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Map<String, Object>> eventCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(eventSink, times(2)).success(eventCaptor.capture());
+    final List<Map<String, Object>> events = eventCaptor.getAllValues();
+    assertEquals("prefetchCanceled", events.get(0).get("event"));
+    assertEquals("prefetchCanceled", events.get(1).get("event"));
+  }
+
+  @Test
+  public void events_areDroppedWithoutListener() {
+    prefetcher.onCancel(null);
+    final long taskId = prefetcher.prefetch(cacheDataSourceFactory, URI, 1024, 0);
+
+    prefetcher.cancel(taskId);
+
+    verify(eventSink, never()).success(any());
+  }
+}
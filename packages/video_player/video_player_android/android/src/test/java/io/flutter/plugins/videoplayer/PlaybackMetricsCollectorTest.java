@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import io.flutter.plugin.common.EventChannel;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlaybackMetricsCollectorTest {
+  private static final long INTERVAL_MS = 1000;
+
+  private EventTime eventTime;
+  private EventChannel eventChannel;
+  private EventChannel.EventSink eventSink;
+  private PlaybackMetricsCollector collector;
+
+  @Before
+  public void before() {
+    eventTime = mock(EventTime.class);
+    eventChannel = mock(EventChannel.class);
+    eventSink = mock(EventChannel.EventSink.class);
+    collector = new PlaybackMetricsCollector(eventChannel, INTERVAL_MS);
+    collector.onListen(null, eventSink);
+    collector.start();
+  }
+
+  private static MediaLoadData createVideoLoadData(int bitrate) {
+    final Format format = new Format.Builder().setAverageBitrate(bitrate).build();
+    return new MediaLoadData(
+        C.DATA_TYPE_MEDIA,
+        C.TRACK_TYPE_VIDEO,
+        format,
+        C.SELECTION_REASON_UNKNOWN,
+        null,
+        C.TIME_UNSET,
+        C.TIME_UNSET);
+  }
+
+  private static void idleFor(long millis) {
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+  }
+
+  private Map<String, Object> captureEvent() {
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Map<String, Object>> eventCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(eventSink).success(eventCaptor.capture());
+    return eventCaptor.getValue();
+  }
+
+  @Test
+  public void flushesTheAggregatedMetricsPeriodically() {
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    idleFor(500);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    collector.onDroppedVideoFrames(eventTime, 2, 100);
+    collector.onDroppedVideoFrames(eventTime, 1, 100);
+    collector.onDownstreamFormatChanged(eventTime, createVideoLoadData(1_000_000));
+    collector.onDownstreamFormatChanged(eventTime, createVideoLoadData(2_000_000));
+    collector.onBandwidthEstimate(eventTime, 100, 1000, 3_000_000);
+    verify(eventSink, never()).success(any());
+
+    idleFor(500);
+
+    final Map<String, Object> event = captureEvent();
+    assertEquals("playbackMetrics", event.get("event"));
+    assertEquals(1, event.get("rebufferCount"));
+    assertEquals(500L, event.get("rebufferDuration"));
+    assertEquals(3L, event.get("droppedFrames"));
+    assertEquals(3_000_000L, event.get("bandwidthEstimate"));
+    assertEquals(2_000_000, event.get("videoBitrate"));
+    assertEquals(1, event.get("bitrateSwitchCount"));
+
+    // Unchanged metrics aren't sent again.
+    idleFor(INTERVAL_MS);
+    verify(eventSink).success(any());
+  }
+
+  @Test
+  public void bufferingAfterASeekIsNotARebuffer() {
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    collector.onPositionDiscontinuity(
+        eventTime,
+        mock(Player.PositionInfo.class),
+        mock(Player.PositionInfo.class),
+        Player.DISCONTINUITY_REASON_SEEK);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    collector.onDroppedVideoFrames(eventTime, 1, 100);
+
+    idleFor(INTERVAL_MS);
+
+    final Map<String, Object> event = captureEvent();
+    assertEquals(0, event.get("rebufferCount"));
+    assertEquals(0L, event.get("rebufferDuration"));
+  }
+
+  @Test
+  public void bufferingAfterASeekThatDidNotBufferIsARebuffer() {
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    collector.onPositionDiscontinuity(
+        eventTime,
+        mock(Player.PositionInfo.class),
+        mock(Player.PositionInfo.class),
+        Player.DISCONTINUITY_REASON_SEEK);
+    collector.onRenderedFirstFrame(eventTime, new Object(), 0);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    idleFor(500);
+    collector.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+
+    idleFor(500);
+
+    final Map<String, Object> event = captureEvent();
+    assertEquals(1, event.get("rebufferCount"));
+    assertEquals(500L, event.get("rebufferDuration"));
+  }
+
+  @Test
+  public void dispose_sendsTheLastMetrics() {
+    collector.onDroppedVideoFrames(eventTime, 1, 100);
+
+    collector.dispose();
+
+    assertEquals(1L, captureEvent().get("droppedFrames"));
+    verify(eventChannel).setStreamHandler(null);
+    idleFor(INTERVAL_MS);
+    verify(eventSink).success(any());
+  }
+}
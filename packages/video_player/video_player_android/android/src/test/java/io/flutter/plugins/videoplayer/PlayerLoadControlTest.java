@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.exoplayer2.C;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class PlayerLoadControlTest {
+  private static final long BELOW_MIN_BUFFER_US = 5_000_000;
+  private static final long ABOVE_MIN_BUFFER_US = 20_000_000;
+
+  private BufferMemoryBudget memoryBudget;
+  private PlayerLoadControl loadControl;
+
+  @Before
+  public void before() {
+    final VideoPlayerOptions options = new VideoPlayerOptions();
+    options.minBufferMs = 10_000;
+    options.maxBufferMs = 50_000;
+    memoryBudget = new BufferMemoryBudget();
+    memoryBudget.addPlayer();
+    loadControl = new PlayerLoadControl(options, memoryBudget);
+    loadControl.onPrepared();
+    loadControl.getAllocator().allocate();
+  }
+
+  @Test
+  public void shouldContinueLoading_stopsAboveTheShareOfTheBudget() {
+    memoryBudget.setBudgetBytes(1);
+
+    assertTrue(loadControl.shouldContinueLoading(0, BELOW_MIN_BUFFER_US, 1));
+    assertFalse(loadControl.shouldContinueLoading(0, ABOVE_MIN_BUFFER_US, 1));
+  }
+
+  @Test
+  public void shouldContinueLoading_ignoresTheBudgetWhenItIsUnset() {
+    memoryBudget.setBudgetBytes(0);
+
+    assertTrue(loadControl.shouldContinueLoading(0, BELOW_MIN_BUFFER_US, 1));
+    assertTrue(loadControl.shouldContinueLoading(0, ABOVE_MIN_BUFFER_US, 1));
+  }
+
+  @Test
+  public void getPlayerShareBytes_splitsTheBudgetBetweenThePlayers() {
+    memoryBudget.setBudgetBytes(1000);
+    assertEquals(1000, memoryBudget.getPlayerShareBytes());
+
+    memoryBudget.addPlayer();
+    assertEquals(500, memoryBudget.getPlayerShareBytes());
+
+    memoryBudget.setBudgetBytes(0);
+    assertEquals(C.LENGTH_UNSET, memoryBudget.getPlayerShareBytes());
+  }
+}
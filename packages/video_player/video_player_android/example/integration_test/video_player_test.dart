@@ -37,7 +37,8 @@ String getUrlForAssetAsNetworkSource(String assetKey) {
 }
 
 void main() {
-  IntegrationTestWidgetsFlutterBinding.ensureInitialized();
+  final IntegrationTestWidgetsFlutterBinding binding =
+      IntegrationTestWidgetsFlutterBinding.ensureInitialized();
 
   late MiniController controller;
   tearDown(() async => controller.dispose());
@@ -120,6 +121,53 @@ void main() {
     });
   });
 
+  group('player pool', () {
+    const int videoCount = 5;
+
+    setUp(() {
+      controller = MiniController.asset(_videoAssetKey);
+    });
+
+    Future<PlayerPoolStats> playVideos(
+        WidgetTester tester, AndroidVideoPlayer player,
+        {required int maxPoolSize}) async {
+      // Resets the counters of the pool.
+      await player.init();
+      await player.setPlayerPoolOptions(maxPoolSize: maxPoolSize);
+      for (int i = 0; i < videoCount; i++) {
+        final MiniController videoController =
+            MiniController.asset(_videoAssetKey);
+        await videoController.initialize();
+        await videoController.play();
+        await tester.pumpAndSettle(_playDuration);
+        await videoController.dispose();
+      }
+      return player.getPlayerPoolStats();
+    }
+
+    testWidgets('measures the time to the first frame',
+        (WidgetTester tester) async {
+      final AndroidVideoPlayer player = AndroidVideoPlayer();
+
+      final PlayerPoolStats withoutPool =
+          await playVideos(tester, player, maxPoolSize: 0);
+      final PlayerPoolStats withPool =
+          await playVideos(tester, player, maxPoolSize: 1);
+      await player.setPlayerPoolOptions(maxPoolSize: 0);
+
+      expect(withoutPool.hits, 0);
+      expect(withoutPool.newFirstFrameTime, isNotNull);
+      expect(withPool.hits, videoCount - 1);
+      expect(withPool.reusedFirstFrameTime, isNotNull);
+      binding.reportData = <String, dynamic>{
+        'new_player_first_frame_millis':
+            withoutPool.newFirstFrameTime!.inMilliseconds,
+        'pooled_player_first_frame_millis':
+            withPool.reusedFirstFrameTime!.inMilliseconds,
+      };
+    });
+  });
+
   group('network videos', () {
     setUp(() {
       final String videoUrl = getUrlForAssetAsNetworkSource(_videoAssetKey);
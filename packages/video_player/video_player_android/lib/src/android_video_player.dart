@@ -170,6 +170,188 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Sets the maximum size, in bytes, of the disk cache of network videos.
+  ///
+  /// The cache is shared by all the players and disabled by default. Once it
+  /// is enabled, the videos that are played again, looped or reopened are read
+  /// from the cache instead of being downloaded again, and the least recently
+  /// used videos are evicted once the cache is full. A size of 0 disables the
+  /// cache for the players created afterwards. A cache that is used by players
+  /// keeps its size until they are all disposed.
+  Future<void> setCacheOptions({required int maxCacheSize}) {
+    assert(maxCacheSize >= 0);
+    return _api.setCacheOptions(
+        CacheOptionsMessage(maxCacheSize: maxCacheSize));
+  }
+
+  /// Returns how many bytes of the network videos were read from the disk
+  /// cache and how many were downloaded since the cache was opened.
+  Future<MediaCacheStats> getCacheStats() async {
+    final CacheStatsMessage response = await _api.getCacheStats();
+    return MediaCacheStats(
+      hitBytes: response.hitBytes,
+      missBytes: response.missBytes,
+      cacheSize: response.cacheSize,
+    );
+  }
+
+  /// Starts downloading the first [maxBytes] of a network video into the disk
+  /// cache, so it starts playing without waiting for the network.
+  ///
+  /// The cache must be enabled with [setCacheOptions]. Prefetches run one at a
+  /// time in the background, the ones with the highest [priority] first, and
+  /// their progress is reported by [prefetchEvents]. Only the manifest of HLS,
+  /// DASH and SmoothStreaming videos is prefetched. Prefetches can be started
+  /// before the first player is created: [init] doesn't cancel them, nor
+  /// clear the cache.
+  ///
+  /// Returns the ID of the prefetch, which identifies its events.
+  Future<int> prefetch(
+    String uri, {
+    required int maxBytes,
+    int priority = 0,
+    Map<String, String> httpHeaders = const <String, String>{},
+  }) async {
+    assert(maxBytes > 0);
+    final PrefetchTaskMessage response = await _api.prefetch(PrefetchMessage(
+      uri: uri,
+      maxBytes: maxBytes,
+      priority: priority,
+      httpHeaders: httpHeaders,
+    ));
+    return response.taskId;
+  }
+
+  /// Cancels a prefetch started by [prefetch].
+  Future<void> cancelPrefetch(int taskId) {
+    return _api.cancelPrefetch(PrefetchTaskMessage(taskId: taskId));
+  }
+
+  /// The progress of the prefetches started by [prefetch].
+  ///
+  /// Progress is reported at most every 100 milliseconds for each prefetch.
+  /// Events are only sent while the stream is listened to.
+  Stream<PrefetchEvent> prefetchEvents() {
+    return const EventChannel('flutter.io/videoPlayer/prefetchEvents')
+        .receiveBroadcastStream()
+        .map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      return PrefetchEvent(
+        taskId: map['taskId']! as int,
+        eventType: _prefetchEventTypeMap[map['event']] ??
+            PrefetchEventType.unknown,
+        bytesCached: map['bytesCached']! as int,
+        requestLength: map['requestLength']! as int,
+      );
+    });
+  }
+
+  /// Sets how much of the videos the players buffer, trading memory for fewer
+  /// rebuffers.
+  ///
+  /// Players buffer at least [minBuffer] of video, and stop buffering after
+  /// [maxBuffer]. A video starts playing once [bufferForPlayback] is buffered,
+  /// and resumes after a rebuffer once [bufferForPlaybackAfterRebuffer] is. The
+  /// last [backBuffer] of played video is kept to seek back quickly. The
+  /// durations apply to the players created afterwards.
+  ///
+  /// If [memoryBudgetBytes] isn't 0, the buffers of all the players use at
+  /// most that many bytes, split evenly between the players, except to buffer
+  /// the [minBuffer] of each video. The budget applies to all the players
+  /// right away.
+  Future<void> setBufferOptions({
+    Duration minBuffer = const Duration(seconds: 50),
+    Duration maxBuffer = const Duration(seconds: 50),
+    Duration bufferForPlayback = const Duration(milliseconds: 2500),
+    Duration bufferForPlaybackAfterRebuffer = const Duration(seconds: 5),
+    Duration backBuffer = Duration.zero,
+    int memoryBudgetBytes = 0,
+  }) {
+    assert(bufferForPlayback >= Duration.zero);
+    assert(bufferForPlaybackAfterRebuffer >= Duration.zero);
+    assert(backBuffer >= Duration.zero);
+    assert(minBuffer >= bufferForPlayback);
+    assert(minBuffer >= bufferForPlaybackAfterRebuffer);
+    assert(maxBuffer >= minBuffer);
+    assert(memoryBudgetBytes >= 0);
+    return _api.setBufferOptions(BufferOptionsMessage(
+      minBufferMs: minBuffer.inMilliseconds,
+      maxBufferMs: maxBuffer.inMilliseconds,
+      bufferForPlaybackMs: bufferForPlayback.inMilliseconds,
+      bufferForPlaybackAfterRebufferMs:
+          bufferForPlaybackAfterRebuffer.inMilliseconds,
+      backBufferMs: backBuffer.inMilliseconds,
+      memoryBudgetBytes: memoryBudgetBytes,
+    ));
+  }
+
+  /// Enables the [playbackMetricsFor] the players created afterwards, which
+  /// are sent at most once every [interval].
+  ///
+  /// The metrics are collected natively and disabled by default. An [interval]
+  /// of zero disables them.
+  Future<void> setPlaybackMetricsOptions({required Duration interval}) {
+    assert(interval >= Duration.zero);
+    return _api.setPlaybackMetricsOptions(
+        PlaybackMetricsOptionsMessage(intervalMs: interval.inMilliseconds));
+  }
+
+  /// The quality of experience metrics of a player, enabled with
+  /// [setPlaybackMetricsOptions].
+  ///
+  /// Each event holds the totals since the player was created. Events are
+  /// only sent when the metrics changed, and a last one when the player is
+  /// disposed.
+  Stream<PlaybackMetrics> playbackMetricsFor(int textureId) {
+    return EventChannel('flutter.io/videoPlayer/metricsEvents$textureId')
+        .receiveBroadcastStream()
+        .map((dynamic event) {
+      final Map<dynamic, dynamic> map = event as Map<dynamic, dynamic>;
+      final int timeToFirstFrame = map['timeToFirstFrame']! as int;
+      final int bandwidthEstimate = map['bandwidthEstimate']! as int;
+      final int videoBitrate = map['videoBitrate']! as int;
+      return PlaybackMetrics(
+        timeToFirstFrame: _toOptionalDuration(timeToFirstFrame),
+        rebufferCount: map['rebufferCount']! as int,
+        rebufferDuration:
+            Duration(milliseconds: map['rebufferDuration']! as int),
+        droppedFrames: map['droppedFrames']! as int,
+        bandwidthEstimate: bandwidthEstimate >= 0 ? bandwidthEstimate : null,
+        videoBitrate: videoBitrate >= 0 ? videoBitrate : null,
+        bitrateSwitchCount: map['bitrateSwitchCount']! as int,
+      );
+    });
+  }
+
+  /// Sets how many native players of disposed videos are kept to be reused by
+  /// the next videos.
+  ///
+  /// Pooling is disabled by default. A reused player starts its video faster,
+  /// especially when the video has the same codec and resolution as the one it
+  /// played before, since its decoder can then be kept. Pooled players are
+  /// released when the system is low on memory. A size of 0 releases the
+  /// pooled players and disables pooling.
+  Future<void> setPlayerPoolOptions({required int maxPoolSize}) {
+    assert(maxPoolSize >= 0);
+    return _api.setPlayerPoolOptions(
+        PlayerPoolOptionsMessage(maxPoolSize: maxPoolSize));
+  }
+
+  /// Returns how often the players were reused, and how fast the reused and
+  /// the new players rendered their first frame.
+  Future<PlayerPoolStats> getPlayerPoolStats() async {
+    final PlayerPoolStatsMessage response = await _api.getPlayerPoolStats();
+    return PlayerPoolStats(
+      hits: response.hits,
+      misses: response.misses,
+      poolSize: response.poolSize,
+      trimCount: response.trimCount,
+      reusedFirstFrameTime:
+          _toOptionalDuration(response.reusedFirstFrameMillis),
+      newFirstFrameTime: _toOptionalDuration(response.newFirstFrameMillis),
+    );
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -182,6 +364,18 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     VideoFormat.other: 'other',
   };
 
+  static const Map<String, PrefetchEventType> _prefetchEventTypeMap =
+      <String, PrefetchEventType>{
+    'prefetchProgress': PrefetchEventType.progress,
+    'prefetchCompleted': PrefetchEventType.completed,
+    'prefetchFailed': PrefetchEventType.failed,
+    'prefetchCanceled': PrefetchEventType.canceled,
+  };
+
+  Duration? _toOptionalDuration(int millis) {
+    return millis >= 0 ? Duration(milliseconds: millis) : null;
+  }
+
   DurationRange _toDurationRange(dynamic value) {
     final List<dynamic> pair = value as List<dynamic>;
     return DurationRange(
@@ -190,3 +384,186 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     );
   }
 }
+
+/// The counters of the disk cache of network videos.
+///
+/// See [AndroidVideoPlayer.setCacheOptions].
+@immutable
+class MediaCacheStats {
+  /// Creates the counters of the disk cache.
+  const MediaCacheStats({
+    required this.hitBytes,
+    required this.missBytes,
+    required this.cacheSize,
+  });
+
+  /// The number of bytes that were read from the cache.
+  final int hitBytes;
+
+  /// The number of bytes that were downloaded because they weren't cached.
+  final int missBytes;
+
+  /// The size of the cached videos, in bytes.
+  final int cacheSize;
+}
+
+/// The counters of the pool of native players.
+///
+/// See [AndroidVideoPlayer.setPlayerPoolOptions].
+@immutable
+class PlayerPoolStats {
+  /// Creates the counters of the player pool.
+  const PlayerPoolStats({
+    required this.hits,
+    required this.misses,
+    required this.poolSize,
+    required this.trimCount,
+    this.reusedFirstFrameTime,
+    this.newFirstFrameTime,
+  });
+
+  /// The number of videos that reused a pooled player.
+  final int hits;
+
+  /// The number of videos that created a player because the pool was empty.
+  final int misses;
+
+  /// The number of players in the pool.
+  final int poolSize;
+
+  /// The number of times the pool was emptied because of memory pressure.
+  final int trimCount;
+
+  /// The average time from the creation of a video that reused a player to
+  /// its first frame, or null if no such video rendered a frame.
+  final Duration? reusedFirstFrameTime;
+
+  /// The average time from the creation of a video that created a player to
+  /// its first frame, or null if no such video rendered a frame.
+  final Duration? newFirstFrameTime;
+}
+
+/// The quality of experience metrics of a player.
+///
+/// See [AndroidVideoPlayer.playbackMetricsFor].
+@immutable
+class PlaybackMetrics {
+  /// Creates the metrics of a player.
+  const PlaybackMetrics({
+    this.timeToFirstFrame,
+    required this.rebufferCount,
+    required this.rebufferDuration,
+    required this.droppedFrames,
+    this.bandwidthEstimate,
+    this.videoBitrate,
+    required this.bitrateSwitchCount,
+  });
+
+  /// The time from the creation of the player to its first frame, or null if
+  /// no frame was rendered yet.
+  final Duration? timeToFirstFrame;
+
+  /// The number of times the playback stalled to buffer, not counting the
+  /// buffering at the start and after seeks.
+  final int rebufferCount;
+
+  /// The time spent rebuffering, including an ongoing rebuffer.
+  final Duration rebufferDuration;
+
+  /// The number of video frames that were dropped.
+  final int droppedFrames;
+
+  /// The estimated network bandwidth, in bits per second, or null while it is
+  /// unknown.
+  final int? bandwidthEstimate;
+
+  /// The bitrate of the video track being loaded, in bits per second, or null
+  /// if it is unknown.
+  final int? videoBitrate;
+
+  /// The number of times the bitrate of the video track changed.
+  final int bitrateSwitchCount;
+
+  @override
+  bool operator ==(Object other) {
+    return identical(this, other) ||
+        other is PlaybackMetrics &&
+            runtimeType == other.runtimeType &&
+            timeToFirstFrame == other.timeToFirstFrame &&
+            rebufferCount == other.rebufferCount &&
+            rebufferDuration == other.rebufferDuration &&
+            droppedFrames == other.droppedFrames &&
+            bandwidthEstimate == other.bandwidthEstimate &&
+            videoBitrate == other.videoBitrate &&
+            bitrateSwitchCount == other.bitrateSwitchCount;
+  }
+
+  @override
+  int get hashCode => Object.hash(
+        timeToFirstFrame,
+        rebufferCount,
+        rebufferDuration,
+        droppedFrames,
+        bandwidthEstimate,
+        videoBitrate,
+        bitrateSwitchCount,
+      );
+}
+
+/// The type of a [PrefetchEvent].
+enum PrefetchEventType {
+  /// More of the video was downloaded.
+  progress,
+
+  /// The requested bytes of the video are cached.
+  completed,
+
+  /// The video couldn't be downloaded.
+  failed,
+
+  /// The prefetch was canceled.
+  canceled,
+
+  /// An unknown event was received.
+  unknown,
+}
+
+/// An event of a prefetch started by [AndroidVideoPlayer.prefetch].
+@immutable
+class PrefetchEvent {
+  /// Creates an event of a prefetch.
+  const PrefetchEvent({
+    required this.taskId,
+    required this.eventType,
+    required this.bytesCached,
+    required this.requestLength,
+  });
+
+  /// The ID of the prefetch, as returned by [AndroidVideoPlayer.prefetch].
+  final int taskId;
+
+  /// The type of the event.
+  final PrefetchEventType eventType;
+
+  /// The number of bytes of the request that are cached.
+  final int bytesCached;
+
+  /// The number of bytes of the request, which may be less than requested
+  /// for short videos, or -1 while it is unknown.
+  final int requestLength;
+
+  @override
+  bool operator ==(Object other) {
+    return identical(this, other) ||
+        other is PrefetchEvent &&
+            runtimeType == other.runtimeType &&
+            taskId == other.taskId &&
+            eventType == other.eventType &&
+            bytesCached == other.bytesCached &&
+            requestLength == other.requestLength;
+  }
+
+  @override
+  int get hashCode =>
+      Object.hash(taskId, eventType, bytesCached, requestLength);
+}
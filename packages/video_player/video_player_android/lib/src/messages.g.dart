@@ -199,31 +199,299 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage({
+    required this.maxCacheSize,
+  });
+
+  int maxCacheSize;
+
+  Object encode() {
+    return <Object?>[
+      maxCacheSize,
+    ];
+  }
+
+  static CacheOptionsMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheOptionsMessage(
+      maxCacheSize: result[0]! as int,
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.hitBytes,
+    required this.missBytes,
+    required this.cacheSize,
+  });
+
+  int hitBytes;
+
+  int missBytes;
+
+  int cacheSize;
+
+  Object encode() {
+    return <Object?>[
+      hitBytes,
+      missBytes,
+      cacheSize,
+    ];
+  }
+
+  static CacheStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheStatsMessage(
+      hitBytes: result[0]! as int,
+      missBytes: result[1]! as int,
+      cacheSize: result[2]! as int,
+    );
+  }
+}
+
+class PrefetchMessage {
+  PrefetchMessage({
+    required this.uri,
+    required this.maxBytes,
+    required this.priority,
+    required this.httpHeaders,
+  });
+
+  String uri;
+
+  int maxBytes;
+
+  int priority;
+
+  Map<String?, String?> httpHeaders;
+
+  Object encode() {
+    return <Object?>[
+      uri,
+      maxBytes,
+      priority,
+      httpHeaders,
+    ];
+  }
+
+  static PrefetchMessage decode(Object result) {
+    result as List<Object?>;
+    return PrefetchMessage(
+      uri: result[0]! as String,
+      maxBytes: result[1]! as int,
+      priority: result[2]! as int,
+      httpHeaders:
+          (result[3] as Map<Object?, Object?>?)!.cast<String?, String?>(),
+    );
+  }
+}
+
+class PrefetchTaskMessage {
+  PrefetchTaskMessage({
+    required this.taskId,
+  });
+
+  int taskId;
+
+  Object encode() {
+    return <Object?>[
+      taskId,
+    ];
+  }
+
+  static PrefetchTaskMessage decode(Object result) {
+    result as List<Object?>;
+    return PrefetchTaskMessage(
+      taskId: result[0]! as int,
+    );
+  }
+}
+
+class PlayerPoolOptionsMessage {
+  PlayerPoolOptionsMessage({
+    required this.maxPoolSize,
+  });
+
+  int maxPoolSize;
+
+  Object encode() {
+    return <Object?>[
+      maxPoolSize,
+    ];
+  }
+
+  static PlayerPoolOptionsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlayerPoolOptionsMessage(
+      maxPoolSize: result[0]! as int,
+    );
+  }
+}
+
+class PlayerPoolStatsMessage {
+  PlayerPoolStatsMessage({
+    required this.hits,
+    required this.misses,
+    required this.poolSize,
+    required this.trimCount,
+    required this.reusedFirstFrameMillis,
+    required this.newFirstFrameMillis,
+  });
+
+  int hits;
+
+  int misses;
+
+  int poolSize;
+
+  int trimCount;
+
+  int reusedFirstFrameMillis;
+
+  int newFirstFrameMillis;
+
+  Object encode() {
+    return <Object?>[
+      hits,
+      misses,
+      poolSize,
+      trimCount,
+      reusedFirstFrameMillis,
+      newFirstFrameMillis,
+    ];
+  }
+
+  static PlayerPoolStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlayerPoolStatsMessage(
+      hits: result[0]! as int,
+      misses: result[1]! as int,
+      poolSize: result[2]! as int,
+      trimCount: result[3]! as int,
+      reusedFirstFrameMillis: result[4]! as int,
+      newFirstFrameMillis: result[5]! as int,
+    );
+  }
+}
+
+class BufferOptionsMessage {
+  BufferOptionsMessage({
+    required this.minBufferMs,
+    required this.maxBufferMs,
+    required this.bufferForPlaybackMs,
+    required this.bufferForPlaybackAfterRebufferMs,
+    required this.backBufferMs,
+    required this.memoryBudgetBytes,
+  });
+
+  int minBufferMs;
+
+  int maxBufferMs;
+
+  int bufferForPlaybackMs;
+
+  int bufferForPlaybackAfterRebufferMs;
+
+  int backBufferMs;
+
+  int memoryBudgetBytes;
+
+  Object encode() {
+    return <Object?>[
+      minBufferMs,
+      maxBufferMs,
+      bufferForPlaybackMs,
+      bufferForPlaybackAfterRebufferMs,
+      backBufferMs,
+      memoryBudgetBytes,
+    ];
+  }
+
+  static BufferOptionsMessage decode(Object result) {
+    result as List<Object?>;
+    return BufferOptionsMessage(
+      minBufferMs: result[0]! as int,
+      maxBufferMs: result[1]! as int,
+      bufferForPlaybackMs: result[2]! as int,
+      bufferForPlaybackAfterRebufferMs: result[3]! as int,
+      backBufferMs: result[4]! as int,
+      memoryBudgetBytes: result[5]! as int,
+    );
+  }
+}
+
+class PlaybackMetricsOptionsMessage {
+  PlaybackMetricsOptionsMessage({
+    required this.intervalMs,
+  });
+
+  int intervalMs;
+
+  Object encode() {
+    return <Object?>[
+      intervalMs,
+    ];
+  }
+
+  static PlaybackMetricsOptionsMessage decode(Object result) {
+    result as List<Object?>;
+    return PlaybackMetricsOptionsMessage(
+      intervalMs: result[0]! as int,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is BufferOptionsMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is CacheOptionsMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is MixWithOthersMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is PlaybackMetricsOptionsMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolOptionsMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolStatsMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is PrefetchMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is PrefetchTaskMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -233,18 +501,34 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return BufferOptionsMessage.decode(readValue(buffer)!);
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return CacheOptionsMessage.decode(readValue(buffer)!);
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CacheStatsMessage.decode(readValue(buffer)!);
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return LoopingMessage.decode(readValue(buffer)!);
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return MixWithOthersMessage.decode(readValue(buffer)!);
       case 134:
+        return PlaybackMetricsOptionsMessage.decode(readValue(buffer)!);
+      case 135:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+      case 136:
+        return PlayerPoolOptionsMessage.decode(readValue(buffer)!);
+      case 137:
+        return PlayerPoolStatsMessage.decode(readValue(buffer)!);
+      case 138:
+        return PositionMessage.decode(readValue(buffer)!);
+      case 139:
+        return PrefetchMessage.decode(readValue(buffer)!);
+      case 140:
+        return PrefetchTaskMessage.decode(readValue(buffer)!);
+      case 141:
+        return TextureMessage.decode(readValue(buffer)!);
+      case 142:
         return VolumeMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -512,4 +796,193 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setCacheOptions(CacheOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatsMessage> getCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as CacheStatsMessage?)!;
+    }
+  }
+
+  Future<PrefetchTaskMessage> prefetch(PrefetchMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as PrefetchTaskMessage?)!;
+    }
+  }
+
+  Future<void> cancelPrefetch(PrefetchTaskMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.cancelPrefetch', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPlayerPoolOptions(PlayerPoolOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<PlayerPoolStatsMessage> getPlayerPoolStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getPlayerPoolStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as PlayerPoolStatsMessage?)!;
+    }
+  }
+
+  Future<void> setBufferOptions(BufferOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPlaybackMetricsOptions(PlaybackMetricsOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlaybackMetricsOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_msg]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
@@ -56,6 +56,61 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage(this.maxCacheSize);
+  int maxCacheSize;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(this.hitBytes, this.missBytes, this.cacheSize);
+  int hitBytes;
+  int missBytes;
+  int cacheSize;
+}
+
+class PrefetchMessage {
+  PrefetchMessage(this.uri, this.maxBytes, this.priority, this.httpHeaders);
+  String uri;
+  int maxBytes;
+  int priority;
+  Map<String?, String?> httpHeaders;
+}
+
+class PrefetchTaskMessage {
+  PrefetchTaskMessage(this.taskId);
+  int taskId;
+}
+
+class PlayerPoolOptionsMessage {
+  PlayerPoolOptionsMessage(this.maxPoolSize);
+  int maxPoolSize;
+}
+
+class PlayerPoolStatsMessage {
+  PlayerPoolStatsMessage(this.hits, this.misses, this.poolSize, this.trimCount, this.reusedFirstFrameMillis, this.newFirstFrameMillis);
+  int hits;
+  int misses;
+  int poolSize;
+  int trimCount;
+  int reusedFirstFrameMillis;
+  int newFirstFrameMillis;
+}
+
+class BufferOptionsMessage {
+  BufferOptionsMessage(this.minBufferMs, this.maxBufferMs, this.bufferForPlaybackMs, this.bufferForPlaybackAfterRebufferMs, this.backBufferMs, this.memoryBudgetBytes);
+  int minBufferMs;
+  int maxBufferMs;
+  int bufferForPlaybackMs;
+  int bufferForPlaybackAfterRebufferMs;
+  int backBufferMs;
+  int memoryBudgetBytes;
+}
+
+class PlaybackMetricsOptionsMessage {
+  PlaybackMetricsOptionsMessage(this.intervalMs);
+  int intervalMs;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +124,12 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheOptions(CacheOptionsMessage msg);
+  CacheStatsMessage getCacheStats();
+  PrefetchTaskMessage prefetch(PrefetchMessage msg);
+  void cancelPrefetch(PrefetchTaskMessage msg);
+  void setPlayerPoolOptions(PlayerPoolOptionsMessage msg);
+  PlayerPoolStatsMessage getPlayerPoolStats();
+  void setBufferOptions(BufferOptionsMessage msg);
+  void setPlaybackMetricsOptions(PlaybackMetricsOptionsMessage msg);
 }
@@ -19,6 +19,12 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheOptionsMessage? cacheOptionsMessage;
+  PrefetchMessage? prefetchMessage;
+  PrefetchTaskMessage? prefetchTaskMessage;
+  PlayerPoolOptionsMessage? playerPoolOptionsMessage;
+  BufferOptionsMessage? bufferOptionsMessage;
+  PlaybackMetricsOptionsMessage? playbackMetricsOptionsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -56,6 +62,62 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     mixWithOthersMessage = arg;
   }
 
+  @override
+  void setCacheOptions(CacheOptionsMessage arg) {
+    log.add('setCacheOptions');
+    cacheOptionsMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(hitBytes: 10, missBytes: 20, cacheSize: 30);
+  }
+
+  @override
+  PrefetchTaskMessage prefetch(PrefetchMessage arg) {
+    log.add('prefetch');
+    prefetchMessage = arg;
+    return PrefetchTaskMessage(taskId: 7);
+  }
+
+  @override
+  void cancelPrefetch(PrefetchTaskMessage arg) {
+    log.add('cancelPrefetch');
+    prefetchTaskMessage = arg;
+  }
+
+  @override
+  void setBufferOptions(BufferOptionsMessage arg) {
+    log.add('setBufferOptions');
+    bufferOptionsMessage = arg;
+  }
+
+  @override
+  void setPlaybackMetricsOptions(PlaybackMetricsOptionsMessage arg) {
+    log.add('setPlaybackMetricsOptions');
+    playbackMetricsOptionsMessage = arg;
+  }
+
+  @override
+  void setPlayerPoolOptions(PlayerPoolOptionsMessage arg) {
+    log.add('setPlayerPoolOptions');
+    playerPoolOptionsMessage = arg;
+  }
+
+  @override
+  PlayerPoolStatsMessage getPlayerPoolStats() {
+    log.add('getPlayerPoolStats');
+    return PlayerPoolStatsMessage(
+      hits: 3,
+      misses: 2,
+      poolSize: 1,
+      trimCount: 0,
+      reusedFirstFrameMillis: 150,
+      newFirstFrameMillis: -1,
+    );
+  }
+
   @override
   PositionMessage position(TextureMessage arg) {
     log.add('position');
@@ -213,6 +275,219 @@ void main() {
       expect(log.mixWithOthersMessage?.mixWithOthers, false);
     });
 
+    test('setCacheOptions', () async {
+      await player.setCacheOptions(maxCacheSize: 1024);
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheOptionsMessage?.maxCacheSize, 1024);
+    });
+
+    test('getCacheStats', () async {
+      final MediaCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats.hitBytes, 10);
+      expect(stats.missBytes, 20);
+      expect(stats.cacheSize, 30);
+    });
+
+    test('prefetch', () async {
+      final int taskId = await player.prefetch(
+        'someUri',
+        maxBytes: 1024,
+        priority: 2,
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+      );
+      expect(log.log.last, 'prefetch');
+      expect(log.prefetchMessage?.uri, 'someUri');
+      expect(log.prefetchMessage?.maxBytes, 1024);
+      expect(log.prefetchMessage?.priority, 2);
+      expect(log.prefetchMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(taskId, 7);
+    });
+
+    test('cancelPrefetch', () async {
+      await player.cancelPrefetch(7);
+      expect(log.log.last, 'cancelPrefetch');
+      expect(log.prefetchTaskMessage?.taskId, 7);
+    });
+
+    test('setBufferOptions', () async {
+      await player.setBufferOptions(
+        minBuffer: const Duration(seconds: 10),
+        maxBuffer: const Duration(seconds: 30),
+        bufferForPlayback: const Duration(seconds: 1),
+        bufferForPlaybackAfterRebuffer: const Duration(seconds: 2),
+        backBuffer: const Duration(seconds: 5),
+        memoryBudgetBytes: 1024,
+      );
+      expect(log.log.last, 'setBufferOptions');
+      expect(log.bufferOptionsMessage?.minBufferMs, 10000);
+      expect(log.bufferOptionsMessage?.maxBufferMs, 30000);
+      expect(log.bufferOptionsMessage?.bufferForPlaybackMs, 1000);
+      expect(log.bufferOptionsMessage?.bufferForPlaybackAfterRebufferMs, 2000);
+      expect(log.bufferOptionsMessage?.backBufferMs, 5000);
+      expect(log.bufferOptionsMessage?.memoryBudgetBytes, 1024);
+    });
+
+    test('setPlaybackMetricsOptions', () async {
+      await player.setPlaybackMetricsOptions(
+          interval: const Duration(seconds: 5));
+      expect(log.log.last, 'setPlaybackMetricsOptions');
+      expect(log.playbackMetricsOptionsMessage?.intervalMs, 5000);
+    });
+
+    test('playbackMetricsFor', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/metricsEvents123';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'playbackMetrics',
+                      'timeToFirstFrame': -1,
+                      'rebufferCount': 0,
+                      'rebufferDuration': 0,
+                      'droppedFrames': 0,
+                      'bandwidthEstimate': -1,
+                      'videoBitrate': -1,
+                      'bitrateSwitchCount': 0,
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'playbackMetrics',
+                      'timeToFirstFrame': 300,
+                      'rebufferCount': 2,
+                      'rebufferDuration': 1500,
+                      'droppedFrames': 4,
+                      'bandwidthEstimate': 5000000,
+                      'videoBitrate': 2000000,
+                      'bitrateSwitchCount': 1,
+                    }),
+                    (ByteData? data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      expect(
+          player.playbackMetricsFor(123),
+          emitsInOrder(<dynamic>[
+            const PlaybackMetrics(
+              rebufferCount: 0,
+              rebufferDuration: Duration.zero,
+              droppedFrames: 0,
+              bitrateSwitchCount: 0,
+            ),
+            const PlaybackMetrics(
+              timeToFirstFrame: Duration(milliseconds: 300),
+              rebufferCount: 2,
+              rebufferDuration: Duration(milliseconds: 1500),
+              droppedFrames: 4,
+              bandwidthEstimate: 5000000,
+              videoBitrate: 2000000,
+              bitrateSwitchCount: 1,
+            ),
+          ]));
+    });
+
+    test('setPlayerPoolOptions', () async {
+      await player.setPlayerPoolOptions(maxPoolSize: 2);
+      expect(log.log.last, 'setPlayerPoolOptions');
+      expect(log.playerPoolOptionsMessage?.maxPoolSize, 2);
+    });
+
+    test('getPlayerPoolStats', () async {
+      final PlayerPoolStats stats = await player.getPlayerPoolStats();
+      expect(log.log.last, 'getPlayerPoolStats');
+      expect(stats.hits, 3);
+      expect(stats.misses, 2);
+      expect(stats.poolSize, 1);
+      expect(stats.trimCount, 0);
+      expect(stats.reusedFirstFrameTime, const Duration(milliseconds: 150));
+      expect(stats.newFirstFrameTime, isNull);
+    });
+
+    test('prefetchEvents', () async {
+      const String mockChannel = 'flutter.io/videoPlayer/prefetchEvents';
+      _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+          .defaultBinaryMessenger
+          .setMockMessageHandler(
+        mockChannel,
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'prefetchProgress',
+                      'taskId': 7,
+                      'bytesCached': 512,
+                      'requestLength': 1024,
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(TestDefaultBinaryMessengerBinding.instance)!
+                .defaultBinaryMessenger
+                .handlePlatformMessage(
+                    mockChannel,
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'prefetchCompleted',
+                      'taskId': 7,
+                      'bytesCached': 1024,
+                      'requestLength': 1024,
+                    }),
+                    (ByteData? data) {});
+
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else if (methodCall.method == 'cancel') {
+            return const StandardMethodCodec().encodeSuccessEnvelope(null);
+          } else {
+            fail('Expected listen or cancel');
+          }
+        },
+      );
+      expect(
+          player.prefetchEvents(),
+          emitsInOrder(<dynamic>[
+            const PrefetchEvent(
+              taskId: 7,
+              eventType: PrefetchEventType.progress,
+              bytesCached: 512,
+              requestLength: 1024,
+            ),
+            const PrefetchEvent(
+              taskId: 7,
+              eventType: PrefetchEventType.completed,
+              bytesCached: 1024,
+              requestLength: 1024,
+            ),
+          ]));
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');
@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.IOException;
+import java.io.InputStream;
 
 /** Provides access to the assets registered as part of the App bundle. */
 @SuppressWarnings({"deprecation", "DeprecatedIsStillUsed"})
@@ -48,6 +49,18 @@ abstract class FlutterAssetManager {
     return assetManager.list(path);
   }
 
+  /**
+   * Opens the Flutter asset with the given name for reading.
+   *
+   * @param name The name of the Flutter asset, i.e., "assets/index.html".
+   * @return InputStream The content of the asset.
+   * @throws IOException Throws an IOException if the asset doesn't exist or can't be read.
+   */
+  @NonNull
+  public InputStream open(@NonNull String name) throws IOException {
+    return assetManager.open(getAssetFilePathByName(name));
+  }
+
   /**
    * Provides access to assets using the {@link PluginRegistry.Registrar} for looking up file paths
    * to Flutter assets.
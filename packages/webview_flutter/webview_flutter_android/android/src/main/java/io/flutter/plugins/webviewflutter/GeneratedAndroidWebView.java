@@ -458,6 +458,423 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class JavaScriptResultData {
+    private @Nullable String value;
+
+    public @Nullable String getValue() {
+      return value;
+    }
+
+    public void setValue(@Nullable String setterArg) {
+      this.value = setterArg;
+    }
+
+    private @Nullable String filePath;
+
+    public @Nullable String getFilePath() {
+      return filePath;
+    }
+
+    public void setFilePath(@Nullable String setterArg) {
+      this.filePath = setterArg;
+    }
+
+    public static final class Builder {
+
+      private @Nullable String value;
+
+      public @NonNull Builder setValue(@Nullable String setterArg) {
+        this.value = setterArg;
+        return this;
+      }
+
+      private @Nullable String filePath;
+
+      public @NonNull Builder setFilePath(@Nullable String setterArg) {
+        this.filePath = setterArg;
+        return this;
+      }
+
+      public @NonNull JavaScriptResultData build() {
+        JavaScriptResultData pigeonReturn = new JavaScriptResultData();
+        pigeonReturn.setValue(value);
+        pigeonReturn.setFilePath(filePath);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(2);
+      toListResult.add(value);
+      toListResult.add(filePath);
+      return toListResult;
+    }
+
+    static @NonNull JavaScriptResultData fromList(@NonNull ArrayList<Object> list) {
+      JavaScriptResultData pigeonResult = new JavaScriptResultData();
+      Object value = list.get(0);
+      pigeonResult.setValue((String) value);
+      Object filePath = list.get(1);
+      pigeonResult.setFilePath((String) filePath);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class JavaScriptChannelMessageCountsData {
+    private @NonNull Long queued;
+
+    public @NonNull Long getQueued() {
+      return queued;
+    }
+
+    public void setQueued(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queued\" is null.");
+      }
+      this.queued = setterArg;
+    }
+
+    private @NonNull Long flushed;
+
+    public @NonNull Long getFlushed() {
+      return flushed;
+    }
+
+    public void setFlushed(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"flushed\" is null.");
+      }
+      this.flushed = setterArg;
+    }
+
+    private @NonNull Long dropped;
+
+    public @NonNull Long getDropped() {
+      return dropped;
+    }
+
+    public void setDropped(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"dropped\" is null.");
+      }
+      this.dropped = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    JavaScriptChannelMessageCountsData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long queued;
+
+      public @NonNull Builder setQueued(@NonNull Long setterArg) {
+        this.queued = setterArg;
+        return this;
+      }
+
+      private @Nullable Long flushed;
+
+      public @NonNull Builder setFlushed(@NonNull Long setterArg) {
+        this.flushed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long dropped;
+
+      public @NonNull Builder setDropped(@NonNull Long setterArg) {
+        this.dropped = setterArg;
+        return this;
+      }
+
+      public @NonNull JavaScriptChannelMessageCountsData build() {
+        JavaScriptChannelMessageCountsData pigeonReturn = new JavaScriptChannelMessageCountsData();
+        pigeonReturn.setQueued(queued);
+        pigeonReturn.setFlushed(flushed);
+        pigeonReturn.setDropped(dropped);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(3);
+      toListResult.add(queued);
+      toListResult.add(flushed);
+      toListResult.add(dropped);
+      return toListResult;
+    }
+
+    static @NonNull JavaScriptChannelMessageCountsData fromList(@NonNull ArrayList<Object> list) {
+      JavaScriptChannelMessageCountsData pigeonResult = new JavaScriptChannelMessageCountsData();
+      Object queued = list.get(0);
+      pigeonResult.setQueued(
+          (queued == null)
+              ? null
+              : ((queued instanceof Integer) ? (Integer) queued : (Long) queued));
+      Object flushed = list.get(1);
+      pigeonResult.setFlushed(
+          (flushed == null)
+              ? null
+              : ((flushed instanceof Integer) ? (Integer) flushed : (Long) flushed));
+      Object dropped = list.get(2);
+      pigeonResult.setDropped(
+          (dropped == null)
+              ? null
+              : ((dropped instanceof Integer) ? (Integer) dropped : (Long) dropped));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class WebViewPoolMetricsData {
+    private @NonNull Long firstConstructionMicros;
+
+    public @NonNull Long getFirstConstructionMicros() {
+      return firstConstructionMicros;
+    }
+
+    public void setFirstConstructionMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"firstConstructionMicros\" is null.");
+      }
+      this.firstConstructionMicros = setterArg;
+    }
+
+    private @NonNull Long lastConstructionMicros;
+
+    public @NonNull Long getLastConstructionMicros() {
+      return lastConstructionMicros;
+    }
+
+    public void setLastConstructionMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastConstructionMicros\" is null.");
+      }
+      this.lastConstructionMicros = setterArg;
+    }
+
+    private @NonNull Long lastObtainMicros;
+
+    public @NonNull Long getLastObtainMicros() {
+      return lastObtainMicros;
+    }
+
+    public void setLastObtainMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastObtainMicros\" is null.");
+      }
+      this.lastObtainMicros = setterArg;
+    }
+
+    private @NonNull Long poolHits;
+
+    public @NonNull Long getPoolHits() {
+      return poolHits;
+    }
+
+    public void setPoolHits(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"poolHits\" is null.");
+      }
+      this.poolHits = setterArg;
+    }
+
+    private @NonNull Long poolMisses;
+
+    public @NonNull Long getPoolMisses() {
+      return poolMisses;
+    }
+
+    public void setPoolMisses(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"poolMisses\" is null.");
+      }
+      this.poolMisses = setterArg;
+    }
+
+    private @NonNull Long poolSize;
+
+    public @NonNull Long getPoolSize() {
+      return poolSize;
+    }
+
+    public void setPoolSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"poolSize\" is null.");
+      }
+      this.poolSize = setterArg;
+    }
+
+    private @NonNull Long maxPoolSize;
+
+    public @NonNull Long getMaxPoolSize() {
+      return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxPoolSize\" is null.");
+      }
+      this.maxPoolSize = setterArg;
+    }
+
+    private @NonNull Long trimCount;
+
+    public @NonNull Long getTrimCount() {
+      return trimCount;
+    }
+
+    public void setTrimCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"trimCount\" is null.");
+      }
+      this.trimCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    WebViewPoolMetricsData() {}
+
+    public static final class Builder {
+
+      private @Nullable Long firstConstructionMicros;
+
+      public @NonNull Builder setFirstConstructionMicros(@NonNull Long setterArg) {
+        this.firstConstructionMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastConstructionMicros;
+
+      public @NonNull Builder setLastConstructionMicros(@NonNull Long setterArg) {
+        this.lastConstructionMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastObtainMicros;
+
+      public @NonNull Builder setLastObtainMicros(@NonNull Long setterArg) {
+        this.lastObtainMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long poolHits;
+
+      public @NonNull Builder setPoolHits(@NonNull Long setterArg) {
+        this.poolHits = setterArg;
+        return this;
+      }
+
+      private @Nullable Long poolMisses;
+
+      public @NonNull Builder setPoolMisses(@NonNull Long setterArg) {
+        this.poolMisses = setterArg;
+        return this;
+      }
+
+      private @Nullable Long poolSize;
+
+      public @NonNull Builder setPoolSize(@NonNull Long setterArg) {
+        this.poolSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxPoolSize;
+
+      public @NonNull Builder setMaxPoolSize(@NonNull Long setterArg) {
+        this.maxPoolSize = setterArg;
+        return this;
+      }
+
+      private @Nullable Long trimCount;
+
+      public @NonNull Builder setTrimCount(@NonNull Long setterArg) {
+        this.trimCount = setterArg;
+        return this;
+      }
+
+      public @NonNull WebViewPoolMetricsData build() {
+        WebViewPoolMetricsData pigeonReturn = new WebViewPoolMetricsData();
+        pigeonReturn.setFirstConstructionMicros(firstConstructionMicros);
+        pigeonReturn.setLastConstructionMicros(lastConstructionMicros);
+        pigeonReturn.setLastObtainMicros(lastObtainMicros);
+        pigeonReturn.setPoolHits(poolHits);
+        pigeonReturn.setPoolMisses(poolMisses);
+        pigeonReturn.setPoolSize(poolSize);
+        pigeonReturn.setMaxPoolSize(maxPoolSize);
+        pigeonReturn.setTrimCount(trimCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(8);
+      toListResult.add(firstConstructionMicros);
+      toListResult.add(lastConstructionMicros);
+      toListResult.add(lastObtainMicros);
+      toListResult.add(poolHits);
+      toListResult.add(poolMisses);
+      toListResult.add(poolSize);
+      toListResult.add(maxPoolSize);
+      toListResult.add(trimCount);
+      return toListResult;
+    }
+
+    static @NonNull WebViewPoolMetricsData fromList(@NonNull ArrayList<Object> list) {
+      WebViewPoolMetricsData pigeonResult = new WebViewPoolMetricsData();
+      Object firstConstructionMicros = list.get(0);
+      pigeonResult.setFirstConstructionMicros(
+          (firstConstructionMicros == null)
+              ? null
+              : ((firstConstructionMicros instanceof Integer)
+                  ? (Integer) firstConstructionMicros
+                  : (Long) firstConstructionMicros));
+      Object lastConstructionMicros = list.get(1);
+      pigeonResult.setLastConstructionMicros(
+          (lastConstructionMicros == null)
+              ? null
+              : ((lastConstructionMicros instanceof Integer)
+                  ? (Integer) lastConstructionMicros
+                  : (Long) lastConstructionMicros));
+      Object lastObtainMicros = list.get(2);
+      pigeonResult.setLastObtainMicros(
+          (lastObtainMicros == null)
+              ? null
+              : ((lastObtainMicros instanceof Integer)
+                  ? (Integer) lastObtainMicros
+                  : (Long) lastObtainMicros));
+      Object poolHits = list.get(3);
+      pigeonResult.setPoolHits(
+          (poolHits == null)
+              ? null
+              : ((poolHits instanceof Integer) ? (Integer) poolHits : (Long) poolHits));
+      Object poolMisses = list.get(4);
+      pigeonResult.setPoolMisses(
+          (poolMisses == null)
+              ? null
+              : ((poolMisses instanceof Integer) ? (Integer) poolMisses : (Long) poolMisses));
+      Object poolSize = list.get(5);
+      pigeonResult.setPoolSize(
+          (poolSize == null)
+              ? null
+              : ((poolSize instanceof Integer) ? (Integer) poolSize : (Long) poolSize));
+      Object maxPoolSize = list.get(6);
+      pigeonResult.setMaxPoolSize(
+          (maxPoolSize == null)
+              ? null
+              : ((maxPoolSize instanceof Integer) ? (Integer) maxPoolSize : (Long) maxPoolSize));
+      Object trimCount = list.get(7);
+      pigeonResult.setTrimCount(
+          (trimCount == null)
+              ? null
+              : ((trimCount instanceof Integer) ? (Integer) trimCount : (Long) trimCount));
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -745,7 +1162,11 @@ public class GeneratedAndroidWebView {
     protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
+          return JavaScriptResultData.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 129:
           return WebViewPoint.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return WebViewPoolMetricsData.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -753,9 +1174,15 @@ public class GeneratedAndroidWebView {
 
     @Override
     protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof WebViewPoint) {
+      if (value instanceof JavaScriptResultData) {
         stream.write(128);
+        writeValue(stream, ((JavaScriptResultData) value).toList());
+      } else if (value instanceof WebViewPoint) {
+        stream.write(129);
         writeValue(stream, ((WebViewPoint) value).toList());
+      } else if (value instanceof WebViewPoolMetricsData) {
+        stream.write(130);
+        writeValue(stream, ((WebViewPoolMetricsData) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -806,6 +1233,12 @@ public class GeneratedAndroidWebView {
     void evaluateJavascript(
         @NonNull Long instanceId, @NonNull String javascriptString, @NonNull Result<String> result);
 
+    void evaluateJavascriptToFile(
+        @NonNull Long instanceId,
+        @NonNull String javascriptString,
+        @NonNull Long fileSizeThreshold,
+        @NonNull Result<JavaScriptResultData> result);
+
     @Nullable
     String getTitle(@NonNull Long instanceId);
 
@@ -837,6 +1270,11 @@ public class GeneratedAndroidWebView {
 
     void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
 
+    void prewarm(@NonNull Long maxPoolSize);
+
+    @NonNull
+    WebViewPoolMetricsData getPoolMetrics();
+
     /** The codec used by WebViewHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -1188,6 +1626,43 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                String javascriptStringArg = (String) args.get(1);
+                Number fileSizeThresholdArg = (Number) args.get(2);
+                Result<JavaScriptResultData> resultCallback =
+                    new Result<JavaScriptResultData>() {
+                      public void success(JavaScriptResultData result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.evaluateJavascriptToFile(
+                    (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                    javascriptStringArg,
+                    (fileSizeThresholdArg == null) ? null : fileSizeThresholdArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1538,6 +2013,50 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.prewarm", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number maxPoolSizeArg = (Number) args.get(0);
+                try {
+                  api.prewarm((maxPoolSizeArg == null) ? null : maxPoolSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewHostApi.getPoolMetrics", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                try {
+                  WebViewPoolMetricsData output = api.getPoolMetrics();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -1994,14 +2513,51 @@ public class GeneratedAndroidWebView {
       }
     }
   }
+
+  private static class JavaScriptChannelHostApiCodec extends StandardMessageCodec {
+    public static final JavaScriptChannelHostApiCodec INSTANCE =
+        new JavaScriptChannelHostApiCodec();
+
+    private JavaScriptChannelHostApiCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 128:
+          return JavaScriptChannelMessageCountsData.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof JavaScriptChannelMessageCountsData) {
+        stream.write(128);
+        writeValue(stream, ((JavaScriptChannelMessageCountsData) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface JavaScriptChannelHostApi {
 
     void create(@NonNull Long instanceId, @NonNull String channelName);
 
+    void setBatching(
+        @NonNull Long instanceId,
+        @NonNull Long maxBatchSize,
+        @NonNull Long maxBatchDelayMilliseconds,
+        @NonNull Long maxQueuedMessages);
+
+    @NonNull
+    JavaScriptChannelMessageCountsData getMessageCounts(@NonNull Long instanceId);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
-      return new StandardMessageCodec();
+      return JavaScriptChannelHostApiCodec.INSTANCE;
     }
     /**
      * Sets up an instance of `JavaScriptChannelHostApi` to handle messages through the
@@ -2034,6 +2590,67 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Number maxBatchSizeArg = (Number) args.get(1);
+                Number maxBatchDelayMillisecondsArg = (Number) args.get(2);
+                Number maxQueuedMessagesArg = (Number) args.get(3);
+                try {
+                  api.setBatching(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      (maxBatchSizeArg == null) ? null : maxBatchSizeArg.longValue(),
+                      (maxBatchDelayMillisecondsArg == null)
+                          ? null
+                          : maxBatchDelayMillisecondsArg.longValue(),
+                      (maxQueuedMessagesArg == null) ? null : maxQueuedMessagesArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.getMessageCounts",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                try {
+                  JavaScriptChannelMessageCountsData output =
+                      api.getMessageCounts(
+                          (instanceIdArg == null) ? null : instanceIdArg.longValue());
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -2065,6 +2682,20 @@ public class GeneratedAndroidWebView {
           new ArrayList<Object>(Arrays.asList(instanceIdArg, messageArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void postMessages(
+        @NonNull Long instanceIdArg,
+        @NonNull List<Object> messagesArg,
+        @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface WebViewClientHostApi {
@@ -2074,6 +2705,15 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForShouldOverrideUrlLoading(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setRequestInterception(
+        @NonNull Long instanceId,
+        @NonNull Boolean serveFlutterAssets,
+        @NonNull List<String> cachedUrlPatterns,
+        @NonNull Long memoryCacheSize,
+        @NonNull Long diskCacheSize);
+
+    void setEnabledCallbacks(@NonNull Long instanceId, @NonNull List<String> callbackNames);
+
     /** The codec used by WebViewClientHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2134,6 +2774,67 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean serveFlutterAssetsArg = (Boolean) args.get(1);
+                List<String> cachedUrlPatternsArg = (List<String>) args.get(2);
+                Number memoryCacheSizeArg = (Number) args.get(3);
+                Number diskCacheSizeArg = (Number) args.get(4);
+                try {
+                  api.setRequestInterception(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      serveFlutterAssetsArg,
+                      cachedUrlPatternsArg,
+                      (memoryCacheSizeArg == null) ? null : memoryCacheSizeArg.longValue(),
+                      (diskCacheSizeArg == null) ? null : diskCacheSizeArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                List<String> callbackNamesArg = (List<String>) args.get(1);
+                try {
+                  api.setEnabledCallbacks(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(), callbackNamesArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -2392,6 +3093,9 @@ public class GeneratedAndroidWebView {
     void setSynchronousReturnValueForOnShowFileChooser(
         @NonNull Long instanceId, @NonNull Boolean value);
 
+    void setProgressUpdates(
+        @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long granularity);
+
     /** The codec used by WebChromeClientHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -2452,6 +3156,36 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number instanceIdArg = (Number) args.get(0);
+                Boolean enabledArg = (Boolean) args.get(1);
+                Number granularityArg = (Number) args.get(2);
+                try {
+                  api.setProgressUpdates(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (granularityArg == null) ? null : granularityArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
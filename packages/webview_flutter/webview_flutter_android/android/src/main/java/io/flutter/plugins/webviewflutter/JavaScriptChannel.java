@@ -8,19 +8,51 @@ import android.os.Handler;
 import android.os.Looper;
 import android.webkit.JavascriptInterface;
 import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelMessageCountsData;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
  * up.
  *
- * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
- * code.
+ * <p>Exposes a method named `postMessage` to JavaScript, which sends a message to the Dart code,
+ * and a method named `postBinaryMessage`, which sends the bytes of a string whose characters are
+ * all in the range 0-255, e.g. `String.fromCharCode(...bytes)`, without encoding them in base64.
+ *
+ * <p>When batching is enabled with {@link #setBatching}, messages are queued on the JavaScript
+ * thread and sent to Dart together, once the batch is full or its maximum delay has passed.
  */
 public class JavaScriptChannel {
+  /** The default maximum delay of a batch, which is about one frame. */
+  public static final long DEFAULT_MAX_BATCH_DELAY_MILLISECONDS = 16;
+
+  /** The default maximum number of queued messages, after which messages are dropped. */
+  public static final int DEFAULT_MAX_QUEUED_MESSAGES = 10000;
+
   private final Handler platformThreadHandler;
   final String javaScriptChannelName;
   private final JavaScriptChannelFlutterApiImpl flutterApi;
 
+  private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final AtomicBoolean delayedFlushScheduled = new AtomicBoolean();
+  private final AtomicBoolean immediateFlushScheduled = new AtomicBoolean();
+  private final AtomicLong queuedMessageCount = new AtomicLong();
+  private final AtomicLong flushedMessageCount = new AtomicLong();
+  private final AtomicLong droppedMessageCount = new AtomicLong();
+  private final Runnable flushRunnable = this::flush;
+
+  private volatile int maxBatchSize = 0;
+  private volatile long maxBatchDelayMilliseconds = DEFAULT_MAX_BATCH_DELAY_MILLISECONDS;
+  private volatile int maxQueuedMessages = DEFAULT_MAX_QUEUED_MESSAGES;
+
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
    *
@@ -41,13 +73,112 @@ public class JavaScriptChannel {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(@NonNull final String message) {
-    final Runnable postMessageRunnable =
-        () -> flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
+    if (maxBatchSize > 0) {
+      enqueue(message);
+      return;
+    }
+
+    queuedMessageCount.incrementAndGet();
+    runOnPlatformThread(
+        () -> {
+          flushedMessageCount.incrementAndGet();
+          flutterApi.postMessage(JavaScriptChannel.this, message, reply -> {});
+        });
+  }
+
+  // Suppressing unused warning as this is invoked from JavaScript.
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postBinaryMessage(@NonNull final String message) {
+    final byte[] bytes = message.getBytes(StandardCharsets.ISO_8859_1);
+    if (maxBatchSize > 0) {
+      enqueue(bytes);
+      return;
+    }
+
+    queuedMessageCount.incrementAndGet();
+    runOnPlatformThread(
+        () -> {
+          flushedMessageCount.incrementAndGet();
+          flutterApi.postMessages(
+              JavaScriptChannel.this, Collections.singletonList(bytes), reply -> {});
+        });
+  }
+
+  /**
+   * Sets how messages are batched.
+   *
+   * @param maxBatchSize the number of queued messages that are sent immediately, or 0 to send each
+   *     message as it is received
+   * @param maxBatchDelayMilliseconds the maximum time a message is queued before it is sent
+   * @param maxQueuedMessages the maximum number of queued messages, after which new messages are
+   *     dropped
+   */
+  public void setBatching(int maxBatchSize, long maxBatchDelayMilliseconds, int maxQueuedMessages) {
+    this.maxBatchDelayMilliseconds = maxBatchDelayMilliseconds;
+    this.maxQueuedMessages = maxQueuedMessages;
+    this.maxBatchSize = maxBatchSize;
+    if (maxBatchSize <= 0 && queueSize.get() > 0) {
+      runOnPlatformThread(flushRunnable);
+    }
+  }
+
+  /**
+   * Returns the number of messages received from JavaScript, sent to Dart and dropped because too
+   * many messages were queued.
+   */
+  @NonNull
+  public JavaScriptChannelMessageCountsData getMessageCounts() {
+    return new JavaScriptChannelMessageCountsData.Builder()
+        .setQueued(queuedMessageCount.get())
+        .setFlushed(flushedMessageCount.get())
+        .setDropped(droppedMessageCount.get())
+        .build();
+  }
+
+  private void enqueue(Object message) {
+    final int size = queueSize.incrementAndGet();
+    if (size > maxQueuedMessages) {
+      queueSize.decrementAndGet();
+      droppedMessageCount.incrementAndGet();
+      return;
+    }
+    queue.offer(message);
+    queuedMessageCount.incrementAndGet();
+
+    if (size >= maxBatchSize) {
+      if (immediateFlushScheduled.compareAndSet(false, true)) {
+        platformThreadHandler.post(flushRunnable);
+      }
+    } else if (delayedFlushScheduled.compareAndSet(false, true)) {
+      platformThreadHandler.postDelayed(flushRunnable, maxBatchDelayMilliseconds);
+    }
+  }
+
+  private void flush() {
+    // Cleared before draining the queue, so messages queued meanwhile schedule another flush. A
+    // flush that is still posted then only sends them earlier.
+    immediateFlushScheduled.set(false);
+    delayedFlushScheduled.set(false);
+
+    final List<Object> messages = new ArrayList<>();
+    Object message;
+    while ((message = queue.poll()) != null) {
+      messages.add(message);
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+    queueSize.addAndGet(-messages.size());
+    flushedMessageCount.addAndGet(messages.size());
+    flutterApi.postMessages(this, messages, reply -> {});
+  }
 
+  private void runOnPlatformThread(Runnable runnable) {
     if (platformThreadHandler.getLooper() == Looper.myLooper()) {
-      postMessageRunnable.run();
+      runnable.run();
     } else {
-      platformThreadHandler.post(postMessageRunnable);
+      platformThreadHandler.post(runnable);
     }
   }
 }
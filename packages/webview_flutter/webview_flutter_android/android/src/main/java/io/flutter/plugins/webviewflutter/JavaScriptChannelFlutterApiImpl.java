@@ -7,6 +7,7 @@ package io.flutter.plugins.webviewflutter;
 import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.List;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
@@ -36,6 +37,18 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(getIdentifierForJavaScriptChannel(javaScriptChannel), messageArg, callback);
   }
 
+  /**
+   * Passes the messages batched by a {@link JavaScriptChannel} to Dart.
+   *
+   * <p>Each message is either a {@link String} or the {@code byte[]} of a binary message.
+   */
+  public void postMessages(
+      @NonNull JavaScriptChannel javaScriptChannel,
+      @NonNull List<Object> messagesArg,
+      @NonNull Reply<Void> callback) {
+    super.postMessages(getIdentifierForJavaScriptChannel(javaScriptChannel), messagesArg, callback);
+  }
+
   private long getIdentifierForJavaScriptChannel(JavaScriptChannel javaScriptChannel) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(javaScriptChannel);
     if (identifier == null) {
@@ -7,6 +7,8 @@ package io.flutter.plugins.webviewflutter;
 import android.os.Handler;
 import androidx.annotation.NonNull;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelMessageCountsData;
+import java.util.Objects;
 
 /**
  * Host api implementation for {@link JavaScriptChannel}.
@@ -74,4 +76,24 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void setBatching(
+      @NonNull Long instanceId,
+      @NonNull Long maxBatchSize,
+      @NonNull Long maxBatchDelayMilliseconds,
+      @NonNull Long maxQueuedMessages) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    javaScriptChannel.setBatching(
+        maxBatchSize.intValue(), maxBatchDelayMilliseconds, maxQueuedMessages.intValue());
+  }
+
+  @NonNull
+  @Override
+  public JavaScriptChannelMessageCountsData getMessageCounts(@NonNull Long instanceId) {
+    final JavaScriptChannel javaScriptChannel =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    return javaScriptChannel.getMessageCounts();
+  }
 }
@@ -0,0 +1,163 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultData;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passes the results of JavaScript evaluations to Dart, writing the large ones to files.
+ *
+ * <p>A result that is sent to Dart in a message is copied several times, and encoding it blocks the
+ * platform thread. A result that is at least as long as the file size threshold is instead written
+ * to a file of the cache directory on a background thread, a chunk at a time, and only the path of
+ * the file is sent. The file belongs to the Dart caller, which deletes it once it is read.
+ *
+ * <p>The files left by a previous run of the app, e.g. because it was killed before Dart read them,
+ * are deleted when the first writer of the process is created.
+ */
+public class JavaScriptResultWriter {
+  /** The name of the directory of the cache directory where the results are written. */
+  public static final String DIRECTORY_NAME = "webview_flutter_javascript_results";
+
+  // The number of characters encoded at a time, so a result is never copied in full.
+  private static final int CHUNK_LENGTH = 64 * 1024;
+
+  // How long the background thread is kept once there are no more results to write.
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  @Nullable private static Executor sharedExecutor;
+  private static boolean deletedStaleFiles = false;
+
+  private final File directory;
+  private final Executor backgroundExecutor;
+  private final Executor platformThreadExecutor;
+
+  /**
+   * Creates a writer that writes the large results to a directory of the cache directory.
+   *
+   * @param cacheDirectory the cache directory of the app
+   */
+  public JavaScriptResultWriter(@NonNull File cacheDirectory) {
+    this(
+        new File(cacheDirectory, DIRECTORY_NAME),
+        getSharedExecutor(),
+        new Handler(Looper.getMainLooper())::post);
+    if (shouldDeleteStaleFiles()) {
+      deleteStaleFiles();
+    }
+  }
+
+  @VisibleForTesting
+  JavaScriptResultWriter(
+      @NonNull File directory,
+      @NonNull Executor backgroundExecutor,
+      @NonNull Executor platformThreadExecutor) {
+    this.directory = directory;
+    this.backgroundExecutor = backgroundExecutor;
+    this.platformThreadExecutor = platformThreadExecutor;
+  }
+
+  private static synchronized Executor getSharedExecutor() {
+    if (sharedExecutor == null) {
+      final ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              1, 1, THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+      executor.allowCoreThreadTimeOut(true);
+      sharedExecutor = executor;
+    }
+    return sharedExecutor;
+  }
+
+  // The files written in this process may still be read by Dart, so only the first writer deletes
+  // the files of the directory.
+  private static synchronized boolean shouldDeleteStaleFiles() {
+    if (deletedStaleFiles) {
+      return false;
+    }
+    deletedStaleFiles = true;
+    return true;
+  }
+
+  /** Deletes the files of the directory in the background, before any result is written. */
+  @VisibleForTesting
+  void deleteStaleFiles() {
+    backgroundExecutor.execute(
+        () -> {
+          final File[] files = directory.listFiles();
+          if (files == null) {
+            return;
+          }
+          for (File file : files) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+          }
+        });
+  }
+
+  /**
+   * Passes the result of a JavaScript evaluation to Dart.
+   *
+   * @param value the JSON-encoded result, or null if there is none
+   * @param fileSizeThreshold the length of the results that are written to a file
+   * @param result the callback that sends the result, or the path of its file, to Dart
+   */
+  public void write(
+      @Nullable String value,
+      long fileSizeThreshold,
+      @NonNull GeneratedAndroidWebView.Result<JavaScriptResultData> result) {
+    if (value == null || value.length() < fileSizeThreshold) {
+      result.success(new JavaScriptResultData.Builder().setValue(value).build());
+      return;
+    }
+
+    backgroundExecutor.execute(
+        () -> {
+          try {
+            final File file = writeToFile(value);
+            platformThreadExecutor.execute(
+                () ->
+                    result.success(
+                        new JavaScriptResultData.Builder()
+                            .setFilePath(file.getAbsolutePath())
+                            .build()));
+          } catch (IOException e) {
+            platformThreadExecutor.execute(() -> result.error(e));
+          }
+        });
+  }
+
+  private File writeToFile(String value) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Failed to create " + directory);
+    }
+    final File file = File.createTempFile("result", ".json", directory);
+    try (Writer writer =
+        new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+      for (int start = 0; start < value.length(); start += CHUNK_LENGTH) {
+        writer.write(value, start, Math.min(CHUNK_LENGTH, value.length() - start));
+      }
+    } catch (IOException e) {
+      //noinspection ResultOfMethodCallIgnored
+      file.delete();
+      throw e;
+    }
+    return file;
+  }
+}
@@ -14,17 +14,51 @@ import androidx.annotation.RequiresApi;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientFlutterApi;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * Flutter Api implementation for {@link WebChromeClient}.
  *
- * <p>Passes arguments of callbacks methods from a {@link WebChromeClient} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link WebChromeClient} to Dart. The progress
+ * updates of a {@link WebChromeClient} can be disabled or coalesced with {@link
+ * #setProgressUpdates}.
  */
 public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
   private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
   private final WebViewFlutterApiImpl webViewFlutterApi;
+  private final Map<WebChromeClient, ProgressUpdates> progressUpdates = new WeakHashMap<>();
+
+  // How the progress of the WebViews of a WebChromeClient is sent to Dart.
+  private static class ProgressUpdates {
+    final boolean enabled;
+    final long granularity;
+    final Map<WebView, Long> lastSentProgress = new WeakHashMap<>();
+
+    ProgressUpdates(boolean enabled, long granularity) {
+      this.enabled = enabled;
+      this.granularity = granularity;
+    }
+
+    boolean shouldSend(WebView webView, long progress) {
+      if (!enabled) {
+        return false;
+      }
+      final Long lastProgress = lastSentProgress.get(webView);
+      // A lower progress is the start of another page load.
+      final boolean send =
+          lastProgress == null
+              || progress < lastProgress
+              || progress - lastProgress >= granularity
+              || (progress >= 100 && lastProgress < 100);
+      if (send) {
+        lastSentProgress.put(webView, progress);
+      }
+      return send;
+    }
+  }
 
   /**
    * Creates a Flutter api that sends messages to Dart.
@@ -40,12 +74,32 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
     webViewFlutterApi = new WebViewFlutterApiImpl(binaryMessenger, instanceManager);
   }
 
+  /**
+   * Sets how the progress updates of a {@link WebChromeClient} are passed to Dart.
+   *
+   * <p>Every progress update is passed to Dart until this is called.
+   *
+   * @param webChromeClient the {@link WebChromeClient} whose progress updates are set
+   * @param enabled whether the progress updates are passed to Dart
+   * @param granularity the minimum change of progress, in percent, between two updates passed to
+   *     Dart. The start and the end of each page load are always passed.
+   */
+  public void setProgressUpdates(
+      @NonNull WebChromeClient webChromeClient, boolean enabled, long granularity) {
+    progressUpdates.put(webChromeClient, new ProgressUpdates(enabled, granularity));
+  }
+
   /** Passes arguments from {@link WebChromeClient#onProgressChanged} to Dart. */
   public void onProgressChanged(
       @NonNull WebChromeClient webChromeClient,
       @NonNull WebView webView,
       @NonNull Long progress,
       @NonNull Reply<Void> callback) {
+    final ProgressUpdates updates = progressUpdates.get(webChromeClient);
+    if (updates != null && !updates.shouldSend(webView, progress)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -234,4 +234,12 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
         Objects.requireNonNull(instanceManager.getInstance(instanceId));
     webChromeClient.setReturnValueForOnShowFileChooser(value);
   }
+
+  @Override
+  public void setProgressUpdates(
+      @NonNull Long instanceId, @NonNull Boolean enabled, @NonNull Long granularity) {
+    final WebChromeClient webChromeClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    flutterApi.setProgressUpdates(webChromeClient, enabled, granularity);
+  }
 }
@@ -0,0 +1,330 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Least recently used cache of web resources, kept in memory and in a directory on disk.
+ *
+ * <p>Both levels are bounded by their total size in bytes. Entries that are evicted from memory
+ * remain available on disk until they are evicted from it too. This class is thread safe.
+ */
+public class WebResourceCache {
+  private static final String FILE_SUFFIX = ".entry";
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+  /** A cached response. */
+  public static class Entry {
+    @NonNull final String mimeType;
+    @Nullable final String encoding;
+    @NonNull final Map<String, String> responseHeaders;
+    @NonNull final byte[] data;
+    final long expirationTime;
+
+    /**
+     * Creates a cached response.
+     *
+     * @param mimeType the MIME type of the response
+     * @param encoding the character encoding of the response, or null if it isn't known
+     * @param responseHeaders the headers of the response
+     * @param data the body of the response
+     * @param expirationTime the time after which the response is stale, in milliseconds since the
+     *     epoch
+     */
+    public Entry(
+        @NonNull String mimeType,
+        @Nullable String encoding,
+        @NonNull Map<String, String> responseHeaders,
+        @NonNull byte[] data,
+        long expirationTime) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.responseHeaders = responseHeaders;
+      this.data = data;
+      this.expirationTime = expirationTime;
+    }
+
+    boolean isFresh(long now) {
+      return now < expirationTime;
+    }
+  }
+
+  private final LinkedHashMap<String, Entry> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+  @Nullable private final File directory;
+  private long maxMemorySize;
+  private long maxDiskSize;
+  private long memorySize = 0;
+  private long diskSize = -1;
+
+  /**
+   * Creates a cache.
+   *
+   * @param directory the directory where entries are stored on disk, or null to only keep them in
+   *     memory
+   * @param maxMemorySize the maximum total size of the entries kept in memory, in bytes
+   * @param maxDiskSize the maximum total size of the entries kept on disk, in bytes
+   */
+  public WebResourceCache(@Nullable File directory, long maxMemorySize, long maxDiskSize) {
+    this.directory = directory;
+    this.maxMemorySize = maxMemorySize;
+    this.maxDiskSize = directory == null ? 0 : maxDiskSize;
+  }
+
+  /**
+   * Changes the maximum sizes of the cache, evicting entries if it is now too large.
+   *
+   * @param maxMemorySize the maximum total size of the entries kept in memory, in bytes
+   * @param maxDiskSize the maximum total size of the entries kept on disk, in bytes
+   */
+  public synchronized void setMaxSizes(long maxMemorySize, long maxDiskSize) {
+    this.maxMemorySize = maxMemorySize;
+    this.maxDiskSize = directory == null ? 0 : maxDiskSize;
+    trimMemory();
+    trimDisk();
+  }
+
+  /** Whether a response of the given size in bytes can be cached. */
+  public synchronized boolean canStore(long size) {
+    return size <= Math.max(maxMemorySize, maxDiskSize);
+  }
+
+  /**
+   * Returns the fresh cached response of a URL.
+   *
+   * <p>An entry that is only found on disk is promoted to memory.
+   *
+   * @param url the URL of the resource
+   * @param now the current time, in milliseconds since the epoch
+   * @return the cached response, or null if there is none or it is stale
+   */
+  @Nullable
+  public Entry get(@NonNull String url, long now) {
+    final String key = keyOf(url);
+    synchronized (this) {
+      final Entry entry = memoryEntries.get(key);
+      if (entry != null) {
+        if (entry.isFresh(now)) {
+          return entry;
+        }
+        memorySize -= entry.data.length;
+        memoryEntries.remove(key);
+      }
+    }
+
+    final File file = fileOf(key);
+    if (file == null || !file.exists()) {
+      return null;
+    }
+    final Entry entry;
+    try {
+      entry = readEntry(file);
+    } catch (IOException e) {
+      removeFile(file);
+      return null;
+    }
+    if (!entry.isFresh(now)) {
+      removeFile(file);
+      return null;
+    }
+    // Marks the entry as recently used for the eviction of the disk cache.
+    //noinspection ResultOfMethodCallIgnored
+    file.setLastModified(System.currentTimeMillis());
+    synchronized (this) {
+      putInMemory(key, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Caches the response of a URL, replacing any previous one.
+   *
+   * @param url the URL of the resource
+   * @param entry the response to cache
+   */
+  public void put(@NonNull String url, @NonNull Entry entry) {
+    final String key = keyOf(url);
+    final boolean fitsOnDisk;
+    synchronized (this) {
+      putInMemory(key, entry);
+      fitsOnDisk = entry.data.length <= maxDiskSize;
+    }
+
+    final File file = fileOf(key);
+    if (file == null || !fitsOnDisk) {
+      return;
+    }
+    // Entries are written to a temporary file first, so readers never see a partial entry.
+    final File temporaryFile =
+        new File(directory, key + Thread.currentThread().getId() + TEMPORARY_FILE_SUFFIX);
+    try {
+      writeEntry(entry, temporaryFile);
+      synchronized (this) {
+        computeDiskSizeIfNeeded();
+        final long previousLength = file.length();
+        if (!temporaryFile.renameTo(file)) {
+          throw new IOException("Failed to move cache entry.");
+        }
+        diskSize += file.length() - previousLength;
+        trimDisk();
+      }
+    } catch (IOException e) {
+      //noinspection ResultOfMethodCallIgnored
+      temporaryFile.delete();
+    }
+  }
+
+  @VisibleForTesting
+  synchronized boolean isInMemory(@NonNull String url) {
+    return memoryEntries.containsKey(keyOf(url));
+  }
+
+  private void putInMemory(String key, Entry entry) {
+    final Entry previous = memoryEntries.remove(key);
+    if (previous != null) {
+      memorySize -= previous.data.length;
+    }
+    if (entry.data.length <= maxMemorySize) {
+      memoryEntries.put(key, entry);
+      memorySize += entry.data.length;
+      trimMemory();
+    }
+  }
+
+  private void trimMemory() {
+    final Iterator<Entry> iterator = memoryEntries.values().iterator();
+    while (memorySize > maxMemorySize && iterator.hasNext()) {
+      memorySize -= iterator.next().data.length;
+      iterator.remove();
+    }
+  }
+
+  private void computeDiskSizeIfNeeded() {
+    if (diskSize >= 0) {
+      return;
+    }
+    diskSize = 0;
+    for (File file : listEntryFiles()) {
+      diskSize += file.length();
+    }
+  }
+
+  private void trimDisk() {
+    if (directory == null) {
+      return;
+    }
+    computeDiskSizeIfNeeded();
+    if (diskSize <= maxDiskSize) {
+      return;
+    }
+    final File[] files = listEntryFiles();
+    final Map<File, Long> lastModified = new HashMap<>();
+    for (File file : files) {
+      lastModified.put(file, file.lastModified());
+    }
+    //noinspection ConstantConditions
+    Arrays.sort(
+        files, (first, second) -> Long.compare(lastModified.get(first), lastModified.get(second)));
+    for (int i = 0; i < files.length && diskSize > maxDiskSize; i++) {
+      final long length = files[i].length();
+      if (files[i].delete()) {
+        diskSize -= length;
+      }
+    }
+  }
+
+  private synchronized void removeFile(File file) {
+    computeDiskSizeIfNeeded();
+    final long length = file.length();
+    if (file.delete()) {
+      diskSize -= length;
+    }
+  }
+
+  @NonNull
+  private File[] listEntryFiles() {
+    final File[] files =
+        directory == null ? null : directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+    return files == null ? new File[0] : files;
+  }
+
+  @Nullable
+  private File fileOf(String key) {
+    if (directory == null || (!directory.isDirectory() && !directory.mkdirs())) {
+      return null;
+    }
+    return new File(directory, key + FILE_SUFFIX);
+  }
+
+  private static String keyOf(String url) {
+    final byte[] digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      // Every implementation of the Java platform supports SHA-256.
+      throw new IllegalStateException(e);
+    }
+    final StringBuilder builder = new StringBuilder(digest.length * 2);
+    for (byte value : digest) {
+      builder.append(String.format(Locale.US, "%02x", value));
+    }
+    return builder.toString();
+  }
+
+  private static void writeEntry(Entry entry, File file) throws IOException {
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      output.writeLong(entry.expirationTime);
+      output.writeUTF(entry.mimeType);
+      output.writeBoolean(entry.encoding != null);
+      if (entry.encoding != null) {
+        output.writeUTF(entry.encoding);
+      }
+      output.writeInt(entry.responseHeaders.size());
+      for (Map.Entry<String, String> header : entry.responseHeaders.entrySet()) {
+        output.writeUTF(header.getKey());
+        output.writeUTF(header.getValue());
+      }
+      output.writeInt(entry.data.length);
+      output.write(entry.data);
+    }
+  }
+
+  private static Entry readEntry(File file) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      final long expirationTime = input.readLong();
+      final String mimeType = input.readUTF();
+      final String encoding = input.readBoolean() ? input.readUTF() : null;
+      final int headerCount = input.readInt();
+      final Map<String, String> responseHeaders = new HashMap<>();
+      for (int i = 0; i < headerCount; i++) {
+        responseHeaders.put(input.readUTF(), input.readUTF());
+      }
+      final byte[] data = new byte[input.readInt()];
+      input.readFully(data);
+      return new Entry(mimeType, encoding, responseHeaders, data, expirationTime);
+    }
+  }
+}
@@ -0,0 +1,418 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the requests of a {@link android.webkit.WebView} without a round trip to Dart.
+ *
+ * <p>Flutter assets are served at {@code https://appassets.androidplatform.net/flutter_assets/},
+ * and the GET requests whose URL matches one of the cached URL patterns are fetched natively and
+ * kept in a {@link WebResourceCache} when their {@code Cache-Control} or {@code Expires} headers
+ * allow it. Any other request, and any cached request that doesn't succeed, is left to the {@link
+ * android.webkit.WebView}.
+ *
+ * <p>The cache is shared by all WebViews, so only public responses are kept in it. Requests with
+ * credentials, either an {@code Authorization} or {@code Cookie} header or cookies of the {@link
+ * CookieManager}, are left to the {@link android.webkit.WebView}, and so are responses that set
+ * cookies, since only the WebView stores them. Responses that vary on request headers other than
+ * {@code Accept-Encoding} are not cached.
+ */
+public class WebResourceInterceptor {
+  /** The host of the URLs of the Flutter assets, which is reserved for apps by Android. */
+  public static final String ASSET_HOST = "appassets.androidplatform.net";
+
+  /** The path prefix of the URLs of the Flutter assets. */
+  public static final String ASSET_PATH_PREFIX = "/flutter_assets/";
+
+  // Headers that are handled by the connection itself, or that would make the server answer
+  // without a body that can be cached.
+  private static final String[] SKIPPED_REQUEST_HEADERS = {
+    "accept-encoding", "if-modified-since", "if-none-match", "range"
+  };
+  // Headers that no longer describe the body once the connection has decoded it.
+  private static final String[] SKIPPED_RESPONSE_HEADERS = {
+    "content-encoding", "content-length", "transfer-encoding"
+  };
+
+  /** Opens the connections used to fetch the resources to cache. */
+  @VisibleForTesting
+  interface ConnectionFactory {
+    @NonNull
+    HttpURLConnection open(@NonNull URL url) throws IOException;
+  }
+
+  /** The cookies of the WebViews, which the requests with credentials have. */
+  @VisibleForTesting
+  interface CookieJar {
+    @Nullable
+    String getCookie(@NonNull String url);
+  }
+
+  @Nullable private final FlutterAssetManager flutterAssetManager;
+  @NonNull private final List<Pattern> cachedUrlPatterns;
+  @Nullable private final WebResourceCache cache;
+  @NonNull private final ConnectionFactory connectionFactory;
+  @NonNull private final CookieJar cookieJar;
+
+  /**
+   * Creates an interceptor.
+   *
+   * @param flutterAssetManager the Flutter assets to serve, or null to not serve them
+   * @param cachedUrlPatterns regular expressions matching the URLs of the resources to cache
+   * @param cache the cache of the resources, or null to not cache any
+   */
+  public WebResourceInterceptor(
+      @Nullable FlutterAssetManager flutterAssetManager,
+      @NonNull List<String> cachedUrlPatterns,
+      @Nullable WebResourceCache cache) {
+    this(
+        flutterAssetManager,
+        cachedUrlPatterns,
+        cache,
+        url -> (HttpURLConnection) url.openConnection(),
+        url -> CookieManager.getInstance().getCookie(url));
+  }
+
+  @VisibleForTesting
+  WebResourceInterceptor(
+      @Nullable FlutterAssetManager flutterAssetManager,
+      @NonNull List<String> cachedUrlPatterns,
+      @Nullable WebResourceCache cache,
+      @NonNull ConnectionFactory connectionFactory,
+      @NonNull CookieJar cookieJar) {
+    this.flutterAssetManager = flutterAssetManager;
+    this.cachedUrlPatterns = new ArrayList<>();
+    for (String pattern : cachedUrlPatterns) {
+      this.cachedUrlPatterns.add(Pattern.compile(pattern));
+    }
+    this.cache = cache;
+    this.connectionFactory = connectionFactory;
+    this.cookieJar = cookieJar;
+  }
+
+  /**
+   * Returns the response to a request, or null to let the {@link android.webkit.WebView} load it.
+   *
+   * <p>This is called on a background thread of the {@link android.webkit.WebView}.
+   *
+   * @param method the method of the request
+   * @param url the URL of the request
+   * @param requestHeaders the headers of the request
+   * @return the response to the request, or null if it isn't intercepted
+   */
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  @Nullable
+  public WebResourceResponse shouldInterceptRequest(
+      @NonNull String method, @NonNull String url, @NonNull Map<String, String> requestHeaders) {
+    if (!"GET".equals(method)) {
+      return null;
+    }
+    if (flutterAssetManager != null) {
+      final String assetKey = getAssetKey(url);
+      if (assetKey != null) {
+        return loadFlutterAsset(flutterAssetManager, assetKey);
+      }
+    }
+    if (cache != null && isCachedUrl(url)) {
+      return loadCachedResource(cache, url, requestHeaders);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the time after which a response is stale.
+   *
+   * @param cacheControl the {@code Cache-Control} header of the response
+   * @param expires the value of the {@code Expires} header of the response, in milliseconds since
+   *     the epoch, or 0 if it is missing
+   * @param now the current time, in milliseconds since the epoch
+   * @return the expiration time in milliseconds since the epoch, which is not after {@code now} if
+   *     the response can't be cached
+   */
+  @VisibleForTesting
+  static long getExpirationTime(@Nullable String cacheControl, long expires, long now) {
+    if (cacheControl == null) {
+      return expires;
+    }
+    long maxAge = -1;
+    for (String directive : cacheControl.toLowerCase(Locale.US).split(",")) {
+      directive = directive.trim();
+      if (directive.equals("no-store")
+          || directive.equals("no-cache")
+          || directive.equals("private")) {
+        return 0;
+      } else if (directive.startsWith("max-age=")) {
+        try {
+          maxAge = Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return maxAge >= 0 ? now + maxAge * 1000 : expires;
+  }
+
+  /**
+   * Returns whether a response with the {@code Vary} header can be shared by all requests.
+   *
+   * <p>Only {@code Accept-Encoding} is allowed, since the connection decodes the body before it is
+   * cached.
+   */
+  @VisibleForTesting
+  static boolean isSharedVary(@Nullable String vary) {
+    if (vary == null) {
+      return true;
+    }
+    for (String header : vary.split(",")) {
+      header = header.trim();
+      if (!header.isEmpty() && !header.equalsIgnoreCase("accept-encoding")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static String getAssetKey(String url) {
+    final URI uri;
+    try {
+      uri = new URI(url);
+    } catch (URISyntaxException e) {
+      return null;
+    }
+    final String path = uri.getPath();
+    if (!"https".equals(uri.getScheme())
+        || !ASSET_HOST.equals(uri.getHost())
+        || path == null
+        || !path.startsWith(ASSET_PATH_PREFIX)
+        || path.length() == ASSET_PATH_PREFIX.length()) {
+      return null;
+    }
+    return path.substring(ASSET_PATH_PREFIX.length());
+  }
+
+  private boolean isCachedUrl(String url) {
+    for (Pattern pattern : cachedUrlPatterns) {
+      if (pattern.matcher(url).find()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @NonNull
+  private static WebResourceResponse loadFlutterAsset(
+      FlutterAssetManager flutterAssetManager, String assetKey) {
+    final String mimeType = guessMimeType(assetKey);
+    try {
+      return new WebResourceResponse(mimeType, null, flutterAssetManager.open(assetKey));
+    } catch (IOException e) {
+      // A response without data is reported to the page as a failed request.
+      return new WebResourceResponse(mimeType, null, null);
+    }
+  }
+
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  @Nullable
+  private WebResourceResponse loadCachedResource(
+      WebResourceCache cache, String url, Map<String, String> requestHeaders) {
+    // The responses to requests with credentials may be personal, so they can't be cached, and the
+    // WebView loads them with its own network stack.
+    if (getHeader(requestHeaders, "Cookie") != null
+        || getHeader(requestHeaders, "Authorization") != null
+        || cookieJar.getCookie(url) != null) {
+      return null;
+    }
+    final long now = System.currentTimeMillis();
+    final WebResourceCache.Entry cachedEntry = cache.get(url, now);
+    if (cachedEntry != null) {
+      return createResponse(
+          cachedEntry.mimeType,
+          cachedEntry.encoding,
+          cachedEntry.responseHeaders,
+          new ByteArrayInputStream(cachedEntry.data));
+    }
+
+    HttpURLConnection connection = null;
+    try {
+      connection = connectionFactory.open(new URL(url));
+      connection.setInstanceFollowRedirects(false);
+      for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+        if (!contains(SKIPPED_REQUEST_HEADERS, header.getKey())) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      // Anything else than a plain response, like a redirect or a response that sets cookies, is
+      // handled by the WebView.
+      if (connection.getResponseCode() != HttpURLConnection.HTTP_OK
+          || getHeader(connection, "Set-Cookie") != null) {
+        connection.disconnect();
+        return null;
+      }
+
+      final String contentType = connection.getContentType();
+      final String mimeType = getMimeType(contentType, url);
+      final String encoding = getEncoding(contentType);
+      final Map<String, String> responseHeaders = getResponseHeaders(connection);
+      final InputStream input = connection.getInputStream();
+      final long expirationTime =
+          getExpirationTime(
+              connection.getHeaderField("Cache-Control"), connection.getExpiration(), now);
+      final long contentLength = connection.getContentLength();
+      if (expirationTime <= now
+          || !isSharedVary(connection.getHeaderField("Vary"))
+          || !cache.canStore(Math.max(contentLength, 0))) {
+        return createResponse(mimeType, encoding, responseHeaders, input);
+      }
+
+      final ByteArrayOutputStream output =
+          new ByteArrayOutputStream(contentLength > 0 ? (int) contentLength : 8192);
+      final byte[] buffer = new byte[8192];
+      int length;
+      while ((length = input.read(buffer)) != -1) {
+        output.write(buffer, 0, length);
+        if (!cache.canStore(output.size())) {
+          // The resource is too large to be cached, the rest of it is streamed instead.
+          return createResponse(
+              mimeType,
+              encoding,
+              responseHeaders,
+              new SequenceInputStream(new ByteArrayInputStream(output.toByteArray()), input));
+        }
+      }
+      input.close();
+
+      final WebResourceCache.Entry entry =
+          new WebResourceCache.Entry(
+              mimeType, encoding, responseHeaders, output.toByteArray(), expirationTime);
+      cache.put(url, entry);
+      return createResponse(
+          mimeType, encoding, responseHeaders, new ByteArrayInputStream(entry.data));
+    } catch (IOException e) {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      return null;
+    }
+  }
+
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  @NonNull
+  private static WebResourceResponse createResponse(
+      String mimeType, @Nullable String encoding, Map<String, String> headers, InputStream data) {
+    return new WebResourceResponse(
+        mimeType, encoding, HttpURLConnection.HTTP_OK, "OK", headers, data);
+  }
+
+  @Nullable
+  private static String getHeader(Map<String, String> headers, String name) {
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static String getHeader(HttpURLConnection connection, String name) {
+    for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, String> getResponseHeaders(HttpURLConnection connection) {
+    final Map<String, String> headers = new HashMap<>();
+    for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+      // The status line is returned with a null key.
+      if (header.getKey() != null && !contains(SKIPPED_RESPONSE_HEADERS, header.getKey())) {
+        final StringBuilder value = new StringBuilder();
+        for (String part : header.getValue()) {
+          if (value.length() > 0) {
+            value.append(", ");
+          }
+          value.append(part);
+        }
+        headers.put(header.getKey(), value.toString());
+      }
+    }
+    return headers;
+  }
+
+  @NonNull
+  private static String getMimeType(@Nullable String contentType, String url) {
+    if (contentType != null) {
+      final String mimeType = contentType.split(";")[0].trim();
+      if (!mimeType.isEmpty()) {
+        return mimeType;
+      }
+    }
+    return guessMimeType(url);
+  }
+
+  @Nullable
+  private static String getEncoding(@Nullable String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String parameter : contentType.split(";")) {
+      parameter = parameter.trim();
+      if (parameter.toLowerCase(Locale.US).startsWith("charset=")) {
+        return parameter.substring("charset=".length()).replace("\"", "");
+      }
+    }
+    return null;
+  }
+
+  @NonNull
+  private static String guessMimeType(String name) {
+    final String lowerCaseName = name.toLowerCase(Locale.US);
+    if (lowerCaseName.endsWith(".js") || lowerCaseName.endsWith(".mjs")) {
+      return "text/javascript";
+    } else if (lowerCaseName.endsWith(".css")) {
+      return "text/css";
+    } else if (lowerCaseName.endsWith(".wasm")) {
+      return "application/wasm";
+    }
+    final String mimeType = URLConnection.guessContentTypeFromName(lowerCaseName);
+    return mimeType != null ? mimeType : "application/octet-stream";
+  }
+
+  private static boolean contains(String[] lowerCaseNames, String name) {
+    for (String lowerCaseName : lowerCaseNames) {
+      if (lowerCaseName.equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -15,21 +15,49 @@ import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Flutter Api implementation for {@link WebViewClient}.
  *
- * <p>Passes arguments of callbacks methods from a {@link WebViewClient} to Dart.
+ * <p>Passes arguments of callbacks methods from a {@link WebViewClient} to Dart. Callbacks that
+ * aren't enabled with {@link #setEnabledCallbacks} are dropped before any message is created.
  */
 public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
+  /** Name of the {@link #onPageStarted} callback. */
+  public static final String ON_PAGE_STARTED = "onPageStarted";
+
+  /** Name of the {@link #onPageFinished} callback. */
+  public static final String ON_PAGE_FINISHED = "onPageFinished";
+
+  /** Name of the {@link #onReceivedRequestError} callbacks. */
+  public static final String ON_RECEIVED_REQUEST_ERROR = "onReceivedRequestError";
+
+  /** Name of the {@link #onReceivedError} callback. */
+  public static final String ON_RECEIVED_ERROR = "onReceivedError";
+
+  /** Name of the {@link #requestLoading} callback. */
+  public static final String REQUEST_LOADING = "requestLoading";
+
+  /** Name of the {@link #urlLoading} callback. */
+  public static final String URL_LOADING = "urlLoading";
+
+  /** Name of the {@link #doUpdateVisitedHistory} callback. */
+  public static final String DO_UPDATE_VISITED_HISTORY = "doUpdateVisitedHistory";
+
   // To ease adding additional methods, this value is added prematurely.
   @SuppressWarnings({"unused", "FieldCanBeLocal"})
   private final BinaryMessenger binaryMessenger;
 
   private final InstanceManager instanceManager;
   private final WebViewFlutterApiImpl webViewFlutterApi;
+  private final Map<WebViewClient, Set<String>> enabledCallbacks = new WeakHashMap<>();
 
   @RequiresApi(api = Build.VERSION_CODES.M)
   static GeneratedAndroidWebView.WebResourceErrorData createWebResourceErrorData(
@@ -83,12 +111,29 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
     webViewFlutterApi = new WebViewFlutterApiImpl(binaryMessenger, instanceManager);
   }
 
+  /**
+   * Sets the callbacks of a {@link WebViewClient} that are passed to Dart.
+   *
+   * <p>All the callbacks of a {@link WebViewClient} are passed to Dart until this is called.
+   *
+   * @param webViewClient the {@link WebViewClient} whose callbacks are enabled
+   * @param callbackNames the names of the enabled callbacks, like {@link #ON_PAGE_STARTED}
+   */
+  public void setEnabledCallbacks(
+      @NonNull WebViewClient webViewClient, @NonNull Collection<String> callbackNames) {
+    enabledCallbacks.put(webViewClient, new HashSet<>(callbackNames));
+  }
+
   /** Passes arguments from {@link WebViewClient#onPageStarted} to Dart. */
   public void onPageStarted(
       @NonNull WebViewClient webViewClient,
       @NonNull WebView webView,
       @NonNull String urlArg,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, ON_PAGE_STARTED)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -102,6 +147,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull WebView webView,
       @NonNull String urlArg,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, ON_PAGE_FINISHED)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -120,6 +169,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull WebResourceRequest request,
       @NonNull WebResourceError error,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, ON_RECEIVED_REQUEST_ERROR)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -143,6 +196,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull WebResourceRequest request,
       @NonNull WebResourceErrorCompat error,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, ON_RECEIVED_REQUEST_ERROR)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -166,6 +223,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull String descriptionArg,
       @NonNull String failingUrlArg,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, ON_RECEIVED_ERROR)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -189,6 +250,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull WebView webView,
       @NonNull WebResourceRequest request,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, REQUEST_LOADING)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -208,6 +273,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull WebView webView,
       @NonNull String urlArg,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, URL_LOADING)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -222,6 +291,10 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
       @NonNull String url,
       boolean isReload,
       @NonNull Reply<Void> callback) {
+    if (!isCallbackEnabled(webViewClient, DO_UPDATE_VISITED_HISTORY)) {
+      return;
+    }
+
     webViewFlutterApi.create(webView, reply -> {});
 
     final Long webViewIdentifier =
@@ -230,6 +303,11 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
         getIdentifierForClient(webViewClient), webViewIdentifier, url, isReload, callback);
   }
 
+  private boolean isCallbackEnabled(WebViewClient webViewClient, String callbackName) {
+    final Set<String> callbackNames = enabledCallbacks.get(webViewClient);
+    return callbackNames == null || callbackNames.contains(callbackName);
+  }
+
   private long getIdentifierForClient(WebViewClient webViewClient) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(webViewClient);
     if (identifier == null) {
@@ -11,12 +11,18 @@ import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,15 +31,35 @@ import java.util.Objects;
  * <p>Handles creating {@link WebViewClient}s that intercommunicate with a paired Dart object.
  */
 public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebViewClientHostApi {
+  private static final String WEB_RESOURCE_CACHE_NAME = "webview_flutter_resources";
+
   private final InstanceManager instanceManager;
   private final WebViewClientCreator webViewClientCreator;
   private final WebViewClientFlutterApiImpl flutterApi;
+  @Nullable private final FlutterAssetManager flutterAssetManager;
+  @Nullable private final File cacheDirectory;
+  @Nullable private WebResourceCache webResourceCache;
+
+  @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+  @Nullable
+  private static WebResourceResponse interceptRequest(
+      @Nullable WebResourceInterceptor interceptor, @NonNull WebResourceRequest request) {
+    if (interceptor == null) {
+      return null;
+    }
+    final Map<String, String> requestHeaders = request.getRequestHeaders();
+    return interceptor.shouldInterceptRequest(
+        request.getMethod(),
+        request.getUrl().toString(),
+        requestHeaders == null ? Collections.<String, String>emptyMap() : requestHeaders);
+  }
 
   /** Implementation of {@link WebViewClient} that passes arguments of callback methods to Dart. */
   @RequiresApi(Build.VERSION_CODES.N)
   public static class WebViewClientImpl extends WebViewClient {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private WebResourceInterceptor webResourceInterceptor;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -95,6 +121,13 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       flutterApi.doUpdateVisitedHistory(this, view, url, isReload, reply -> {});
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      return interceptRequest(webResourceInterceptor, request);
+    }
+
     @Override
     public void onUnhandledKeyEvent(@NonNull WebView view, @NonNull KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -106,6 +139,11 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /** Sets the interceptor of the requests, or null to not intercept them. */
+    public void setWebResourceInterceptor(@Nullable WebResourceInterceptor interceptor) {
+      webResourceInterceptor = interceptor;
+    }
   }
 
   /**
@@ -115,6 +153,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientCompatImpl extends WebViewClientCompat {
     private final WebViewClientFlutterApiImpl flutterApi;
     private boolean returnValueForShouldOverrideUrlLoading = false;
+    @Nullable private WebResourceInterceptor webResourceInterceptor;
 
     public WebViewClientCompatImpl(@NonNull WebViewClientFlutterApiImpl flutterApi) {
       this.flutterApi = flutterApi;
@@ -176,6 +215,14 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       flutterApi.doUpdateVisitedHistory(this, view, url, isReload, reply -> {});
     }
 
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      return interceptRequest(webResourceInterceptor, request);
+    }
+
     @Override
     public void onUnhandledKeyEvent(@NonNull WebView view, @NonNull KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -187,6 +234,11 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
     }
+
+    /** Sets the interceptor of the requests, or null to not intercept them. */
+    public void setWebResourceInterceptor(@Nullable WebResourceInterceptor interceptor) {
+      webResourceInterceptor = interceptor;
+    }
   }
 
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
@@ -226,9 +278,30 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       @NonNull InstanceManager instanceManager,
       @NonNull WebViewClientCreator webViewClientCreator,
       @NonNull WebViewClientFlutterApiImpl flutterApi) {
+    this(instanceManager, webViewClientCreator, flutterApi, null, null);
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebViewClient}s that can intercept requests.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param webViewClientCreator handles creating {@link WebViewClient}s
+   * @param flutterApi handles sending messages to Dart
+   * @param flutterAssetManager provides the Flutter assets served to the {@link WebView}s
+   * @param cacheDirectory the directory where the cached resources of the {@link WebView}s are
+   *     stored
+   */
+  public WebViewClientHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull WebViewClientCreator webViewClientCreator,
+      @NonNull WebViewClientFlutterApiImpl flutterApi,
+      @Nullable FlutterAssetManager flutterAssetManager,
+      @Nullable File cacheDirectory) {
     this.instanceManager = instanceManager;
     this.webViewClientCreator = webViewClientCreator;
     this.flutterApi = flutterApi;
+    this.flutterAssetManager = flutterAssetManager;
+    this.cacheDirectory = cacheDirectory;
   }
 
   @Override
@@ -252,4 +325,51 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
           "This WebViewClient doesn't support setting the returnValueForShouldOverrideUrlLoading.");
     }
   }
+
+  @Override
+  public void setRequestInterception(
+      @NonNull Long instanceId,
+      @NonNull Boolean serveFlutterAssets,
+      @NonNull List<String> cachedUrlPatterns,
+      @NonNull Long memoryCacheSize,
+      @NonNull Long diskCacheSize) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+
+    WebResourceCache cache = null;
+    if (!cachedUrlPatterns.isEmpty()) {
+      // The cache is shared by all the WebViews, so their resources are only fetched once.
+      if (webResourceCache == null) {
+        webResourceCache =
+            new WebResourceCache(
+                cacheDirectory == null ? null : new File(cacheDirectory, WEB_RESOURCE_CACHE_NAME),
+                memoryCacheSize,
+                diskCacheSize);
+      } else {
+        webResourceCache.setMaxSizes(memoryCacheSize, diskCacheSize);
+      }
+      cache = webResourceCache;
+    }
+    final WebResourceInterceptor interceptor =
+        serveFlutterAssets || cache != null
+            ? new WebResourceInterceptor(
+                serveFlutterAssets ? flutterAssetManager : null, cachedUrlPatterns, cache)
+            : null;
+
+    if (webViewClient instanceof WebViewClientCompatImpl) {
+      ((WebViewClientCompatImpl) webViewClient).setWebResourceInterceptor(interceptor);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+        && webViewClient instanceof WebViewClientImpl) {
+      ((WebViewClientImpl) webViewClient).setWebResourceInterceptor(interceptor);
+    } else {
+      throw new IllegalStateException("This WebViewClient doesn't support intercepting requests.");
+    }
+  }
+
+  @Override
+  public void setEnabledCallbacks(@NonNull Long instanceId, @NonNull List<String> callbackNames) {
+    final WebViewClient webViewClient =
+        Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    flutterApi.setEnabledCallbacks(webViewClient, callbackNames);
+  }
 }
@@ -40,6 +40,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
+  private WebViewPool webViewPool;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
 
   /**
@@ -91,9 +92,11 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
+    final WebViewHostApiImpl.WebViewProxy webViewProxy = new WebViewHostApiImpl.WebViewProxy();
+    webViewPool = new WebViewPool(webViewProxy, binaryMessenger, instanceManager);
     webViewHostApi =
         new WebViewHostApiImpl(
-            instanceManager, binaryMessenger, new WebViewHostApiImpl.WebViewProxy(), context);
+            instanceManager, binaryMessenger, webViewProxy, context, webViewPool);
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -109,7 +112,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         new WebViewClientHostApiImpl(
             instanceManager,
             new WebViewClientHostApiImpl.WebViewClientCreator(),
-            new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
+            new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager),
+            flutterAssetManager,
+            context.getCacheDir()));
     WebChromeClientHostApi.setup(
         binaryMessenger,
         new WebChromeClientHostApiImpl(
@@ -156,6 +161,10 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    if (webViewPool != null) {
+      webViewPool.dispose();
+      webViewPool = null;
+    }
     if (instanceManager != null) {
       instanceManager.stopFinalizationListener();
       instanceManager = null;
@@ -6,7 +6,6 @@ package io.flutter.plugins.webviewflutter;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.hardware.display.DisplayManager;
 import android.os.Build;
 import android.view.View;
 import android.view.ViewParent;
@@ -21,6 +20,7 @@ import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolMetricsData;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,8 +33,10 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   private final InstanceManager instanceManager;
   private final WebViewProxy webViewProxy;
   private final BinaryMessenger binaryMessenger;
+  private final WebViewPool webViewPool;
 
   private Context context;
+  @Nullable private JavaScriptResultWriter javaScriptResultWriter;
 
   /** Handles creating and calling static methods for {@link WebView}s. */
   public static class WebViewProxy {
@@ -205,10 +207,34 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull WebViewProxy webViewProxy,
       @Nullable Context context) {
+    this(
+        instanceManager,
+        binaryMessenger,
+        webViewProxy,
+        context,
+        new WebViewPool(webViewProxy, binaryMessenger, instanceManager));
+  }
+
+  /**
+   * Creates a host API that handles creating {@link WebView}s and invoking its methods.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param webViewProxy handles creating {@link WebView}s and calling its static methods
+   * @param context an Activity Context to access application assets. This value cannot be null.
+   * @param webViewPool constructs the {@link WebView}s, or provides prewarmed ones
+   */
+  public WebViewHostApiImpl(
+      @NonNull InstanceManager instanceManager,
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull WebViewProxy webViewProxy,
+      @Nullable Context context,
+      @NonNull WebViewPool webViewPool) {
     this.instanceManager = instanceManager;
     this.binaryMessenger = binaryMessenger;
     this.webViewProxy = webViewProxy;
     this.context = context;
+    this.webViewPool = webViewPool;
   }
 
   /**
@@ -222,14 +248,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
   @Override
   public void create(@NonNull Long instanceId) {
-    DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
-    DisplayManager displayManager =
-        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
-    displayListenerProxy.onPreWebViewInitialization(displayManager);
-
-    final WebView webView = webViewProxy.createWebView(context, binaryMessenger, instanceManager);
-
-    displayListenerProxy.onPostWebViewInitialization(displayManager);
+    final WebView webView = webViewPool.obtain(context);
     instanceManager.addDartCreatedInstance(webView, instanceId);
   }
 
@@ -322,6 +341,22 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptToFile(
+      @NonNull Long instanceId,
+      @NonNull String javascriptString,
+      @NonNull Long fileSizeThreshold,
+      @NonNull
+          GeneratedAndroidWebView.Result<GeneratedAndroidWebView.JavaScriptResultData> result) {
+    final WebView webView = Objects.requireNonNull(instanceManager.getInstance(instanceId));
+    if (javaScriptResultWriter == null) {
+      javaScriptResultWriter = new JavaScriptResultWriter(webView.getContext().getCacheDir());
+    }
+    final JavaScriptResultWriter writer = javaScriptResultWriter;
+    webView.evaluateJavascript(
+        javascriptString, value -> writer.write(value, fileSizeThreshold, result));
+  }
+
   @Nullable
   @Override
   public String getTitle(@NonNull Long instanceId) {
@@ -415,6 +450,17 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.setBackgroundColor(color.intValue());
   }
 
+  @Override
+  public void prewarm(@NonNull Long maxPoolSize) {
+    webViewPool.prewarm(context, maxPoolSize.intValue());
+  }
+
+  @NonNull
+  @Override
+  public WebViewPoolMetricsData getPoolMetrics() {
+    return webViewPool.getMetrics();
+  }
+
   /** Maintains instances used to communicate with the corresponding WebView Dart object. */
   @NonNull
   public InstanceManager getInstanceManager() {
@@ -0,0 +1,228 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.content.res.Configuration;
+import android.hardware.display.DisplayManager;
+import android.os.Looper;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolMetricsData;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewProxy;
+import java.util.ArrayDeque;
+
+/**
+ * Constructs {@link WebViewPlatformView}s, and keeps a few of them constructed ahead of time.
+ *
+ * <p>Constructing the first {@link WebView} of a process loads the WebView provider, which can
+ * block the main thread for hundreds of milliseconds. Once {@link #prewarm} is called, the provider
+ * is loaded and the pool is filled one {@link WebView} at a time, whenever the main thread is idle.
+ * Pooled {@link WebView}s are constructed with the application context, which is replaced by the
+ * current context when they are obtained. They are destroyed when the system asks the app to trim
+ * its memory.
+ *
+ * <p>This class must only be used on the main thread.
+ */
+public class WebViewPool implements ComponentCallbacks2 {
+  private static class PooledWebView {
+    @NonNull final WebViewPlatformView webView;
+    @NonNull final MutableContextWrapper context;
+
+    PooledWebView(@NonNull WebViewPlatformView webView, @NonNull MutableContextWrapper context) {
+      this.webView = webView;
+      this.context = context;
+    }
+  }
+
+  private final WebViewProxy webViewProxy;
+  private final BinaryMessenger binaryMessenger;
+  private final InstanceManager instanceManager;
+  private final ArrayDeque<PooledWebView> pooledWebViews = new ArrayDeque<>();
+
+  @Nullable private Context applicationContext;
+  private int maxPoolSize = 0;
+  private boolean prewarmed = false;
+  private boolean fillScheduled = false;
+
+  private long constructionCount = 0;
+  private long firstConstructionMicros = 0;
+  private long lastConstructionMicros = 0;
+  private long lastObtainMicros = 0;
+  private long poolHits = 0;
+  private long poolMisses = 0;
+  private long trimCount = 0;
+
+  /**
+   * Creates an empty pool.
+   *
+   * @param webViewProxy handles creating {@link WebView}s
+   * @param binaryMessenger used to communicate with Dart over asynchronous messages
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public WebViewPool(
+      @NonNull WebViewProxy webViewProxy,
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull InstanceManager instanceManager) {
+    this.webViewProxy = webViewProxy;
+    this.binaryMessenger = binaryMessenger;
+    this.instanceManager = instanceManager;
+  }
+
+  /**
+   * Loads the WebView provider and fills the pool when the main thread is idle.
+   *
+   * @param context any context of the app, whose application context is used to construct the
+   *     pooled {@link WebView}s
+   * @param maxPoolSize the maximum number of pooled {@link WebView}s, or 0 to only load the
+   *     provider
+   */
+  public void prewarm(@NonNull Context context, int maxPoolSize) {
+    if (applicationContext == null) {
+      final Context appContext = context.getApplicationContext();
+      applicationContext = appContext != null ? appContext : context;
+      applicationContext.registerComponentCallbacks(this);
+    }
+    prewarmed = true;
+    this.maxPoolSize = Math.max(maxPoolSize, 0);
+    while (pooledWebViews.size() > this.maxPoolSize) {
+      pooledWebViews.removeLast().webView.destroy();
+    }
+    scheduleFill();
+  }
+
+  /**
+   * Returns a pooled {@link WebView} whose context is replaced by {@code context}, or constructs a
+   * new one with {@code context} if the pool is empty.
+   */
+  @NonNull
+  public WebViewPlatformView obtain(@NonNull Context context) {
+    final long start = System.nanoTime();
+    final WebViewPlatformView webView;
+    final PooledWebView pooledWebView = pooledWebViews.pollFirst();
+    if (pooledWebView != null) {
+      pooledWebView.context.setBaseContext(context);
+      webView = pooledWebView.webView;
+      poolHits++;
+    } else {
+      webView = construct(context);
+      poolMisses++;
+    }
+    lastObtainMicros = (System.nanoTime() - start) / 1000;
+    scheduleFill();
+    return webView;
+  }
+
+  /** Destroys the pooled {@link WebView}s. */
+  public void clear() {
+    PooledWebView pooledWebView;
+    while ((pooledWebView = pooledWebViews.pollFirst()) != null) {
+      pooledWebView.webView.destroy();
+    }
+  }
+
+  /** Destroys the pooled {@link WebView}s and stops listening to memory events. */
+  public void dispose() {
+    clear();
+    maxPoolSize = 0;
+    if (applicationContext != null) {
+      applicationContext.unregisterComponentCallbacks(this);
+      applicationContext = null;
+    }
+  }
+
+  /** Returns the startup timings, in microseconds, and the counters of this pool. */
+  @NonNull
+  public WebViewPoolMetricsData getMetrics() {
+    return new WebViewPoolMetricsData.Builder()
+        .setFirstConstructionMicros(firstConstructionMicros)
+        .setLastConstructionMicros(lastConstructionMicros)
+        .setLastObtainMicros(lastObtainMicros)
+        .setPoolHits(poolHits)
+        .setPoolMisses(poolMisses)
+        .setPoolSize((long) pooledWebViews.size())
+        .setMaxPoolSize((long) maxPoolSize)
+        .setTrimCount(trimCount)
+        .build();
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level >= TRIM_MEMORY_RUNNING_LOW && !pooledWebViews.isEmpty()) {
+      clear();
+      trimCount++;
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  /**
+   * Constructs one {@link WebView}, either to load the provider or to add it to the pool.
+   *
+   * @return whether another {@link WebView} should be constructed
+   */
+  @VisibleForTesting
+  boolean fillOnce() {
+    if (applicationContext == null) {
+      return false;
+    }
+    if (pooledWebViews.size() < maxPoolSize) {
+      final MutableContextWrapper context = new MutableContextWrapper(applicationContext);
+      pooledWebViews.addLast(new PooledWebView(construct(context), context));
+    } else if (prewarmed && constructionCount == 0) {
+      construct(applicationContext).destroy();
+    }
+    return pooledWebViews.size() < maxPoolSize;
+  }
+
+  private void scheduleFill() {
+    if (fillScheduled || applicationContext == null) {
+      return;
+    }
+    // WebViews are constructed on the thread that calls this, which is the main thread in the
+    // app. Unit tests don't have a looper to schedule the construction on.
+    if (Looper.myLooper() == null) {
+      return;
+    }
+    fillScheduled = true;
+    Looper.myQueue()
+        .addIdleHandler(
+            () -> {
+              fillScheduled = fillOnce();
+              return fillScheduled;
+            });
+  }
+
+  private WebViewPlatformView construct(Context context) {
+    final long start = System.nanoTime();
+    final DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
+    final DisplayManager displayManager =
+        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+    displayListenerProxy.onPreWebViewInitialization(displayManager);
+
+    final WebViewPlatformView webView =
+        webViewProxy.createWebView(context, binaryMessenger, instanceManager);
+
+    displayListenerProxy.onPostWebViewInitialization(displayManager);
+    lastConstructionMicros = (System.nanoTime() - start) / 1000;
+    if (constructionCount == 0) {
+      firstConstructionMicros = lastConstructionMicros;
+    }
+    constructionCount++;
+    return webView;
+  }
+}
@@ -6,10 +6,17 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -137,4 +144,96 @@ public class InstanceManagerTest {
     assertEquals(instanceManager.getIdentifierForStrongReference(instance), (Long) identifier);
     assertTrue(instanceManager.containsInstance(instance));
   }
+
+  @Test
+  public void instancesAreComparedByIdentity() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final List<Object> first = new ArrayList<>();
+    final List<Object> second = new ArrayList<>();
+    assertEquals(first, second);
+
+    final long firstIdentifier = instanceManager.addHostCreatedInstance(first);
+    final long secondIdentifier = instanceManager.addHostCreatedInstance(second);
+
+    assertNotEquals(firstIdentifier, secondIdentifier);
+    assertEquals((Long) firstIdentifier, instanceManager.getIdentifierForStrongReference(first));
+    assertEquals((Long) secondIdentifier, instanceManager.getIdentifierForStrongReference(second));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void retrievesInstancesAfterGrowing() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    final Object[] instances = new Object[1000];
+    for (int i = 0; i < instances.length; i++) {
+      instances[i] = new Object();
+      instanceManager.addDartCreatedInstance(instances[i], i);
+    }
+
+    for (int i = 0; i < instances.length; i++) {
+      assertEquals(instances[i], instanceManager.getInstance(i));
+      assertEquals((Long) (long) i, instanceManager.getIdentifierForStrongReference(instances[i]));
+    }
+    assertNull(instanceManager.getInstance(instances.length));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void releasesGarbageCollectedInstancesWhenAddingInstances() {
+    final List<Long> finalizedIdentifiers = new ArrayList<>();
+    final InstanceManager instanceManager = InstanceManager.create(finalizedIdentifiers::add);
+
+    final Object retained = new Object();
+    instanceManager.addDartCreatedInstance(retained, 0);
+    instanceManager.addDartCreatedInstance(new Object(), 1);
+    instanceManager.remove(1);
+    instanceManager.simulateGarbageCollection(1);
+    assertTrue(finalizedIdentifiers.isEmpty());
+
+    instanceManager.addDartCreatedInstance(new Object(), 2);
+
+    assertEquals(Collections.singletonList(1L), finalizedIdentifiers);
+    assertNull(instanceManager.getInstance(1));
+    assertEquals(retained, instanceManager.getInstance(0));
+    assertEquals((Long) 0L, instanceManager.getIdentifierForStrongReference(retained));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void canAddInstancesFromMultipleThreads() throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final int threadCount = 4;
+    final int instancesPerThread = 500;
+    final Object[] instances = new Object[threadCount * instancesPerThread];
+    final long[] identifiers = new long[instances.length];
+    final CountDownLatch done = new CountDownLatch(threadCount);
+
+    for (int t = 0; t < threadCount; t++) {
+      final int start = t * instancesPerThread;
+      new Thread(
+              () -> {
+                for (int i = start; i < start + instancesPerThread; i++) {
+                  instances[i] = new Object();
+                  identifiers[i] = instanceManager.addHostCreatedInstance(instances[i]);
+                }
+                done.countDown();
+              })
+          .start();
+    }
+    done.await();
+
+    final Set<Long> uniqueIdentifiers = ConcurrentHashMap.newKeySet();
+    for (int i = 0; i < instances.length; i++) {
+      uniqueIdentifiers.add(identifiers[i]);
+      assertEquals(instances[i], instanceManager.getInstance(identifiers[i]));
+    }
+    assertEquals(instances.length, uniqueIdentifiers.size());
+
+    instanceManager.stopFinalizationListener();
+  }
 }
@@ -4,13 +4,20 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.os.Handler;
 import android.os.Looper;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelMessageCountsData;
 import io.flutter.plugins.webviewflutter.JavaScriptChannelHostApiImpl.JavaScriptChannelCreator;
+import java.util.Arrays;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -65,4 +72,61 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("A message post.");
     verify(mockFlutterApi).postMessage(eq(javaScriptChannel), eq("A message post."), any());
   }
+
+  @Test
+  public void postBinaryMessage() {
+    javaScriptChannel.postBinaryMessage("\u0000\u0080\u00ff");
+    verify(mockFlutterApi)
+        .postMessages(
+            eq(javaScriptChannel),
+            argThat(
+                messages ->
+                    messages.size() == 1
+                        && Arrays.equals(
+                            new byte[] {0, (byte) 0x80, (byte) 0xff}, (byte[]) messages.get(0))),
+            any());
+  }
+
+  @Test
+  public void postMessagesInBatches() {
+    final Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    final JavaScriptChannel batchingChannel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mockHandler);
+    batchingChannel.setBatching(3, 16, 100);
+
+    batchingChannel.postMessage("1");
+    batchingChannel.postMessage("2");
+    verify(mockHandler).postDelayed(any(), eq(16L));
+    verify(mockFlutterApi, never()).postMessages(any(JavaScriptChannel.class), any(), any());
+
+    batchingChannel.postMessage("3");
+    verify(mockFlutterApi)
+        .postMessages(eq(batchingChannel), eq(Arrays.<Object>asList("1", "2", "3")), any());
+    final JavaScriptChannelMessageCountsData counts = batchingChannel.getMessageCounts();
+    assertEquals(3L, (long) counts.getQueued());
+    assertEquals(3L, (long) counts.getFlushed());
+    assertEquals(0L, (long) counts.getDropped());
+  }
+
+  @Test
+  public void dropsMessagesWhenTooManyAreQueued() {
+    final JavaScriptChannel batchingChannel =
+        new JavaScriptChannel(mockFlutterApi, "aChannelName", mock(Handler.class));
+    batchingChannel.setBatching(10, 16, 2);
+
+    batchingChannel.postMessage("1");
+    batchingChannel.postMessage("2");
+    batchingChannel.postMessage("3");
+
+    final JavaScriptChannelMessageCountsData counts = batchingChannel.getMessageCounts();
+    assertEquals(2L, (long) counts.getQueued());
+    assertEquals(0L, (long) counts.getFlushed());
+    assertEquals(1L, (long) counts.getDropped());
+  }
 }
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptResultData;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JavaScriptResultWriterTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void shortResultsAreReturned() throws IOException {
+    final JavaScriptResultWriter writer =
+        new JavaScriptResultWriter(temporaryFolder.newFolder(), Runnable::run, Runnable::run);
+    final CapturingResult result = new CapturingResult();
+
+    writer.write("\"short\"", 10, result);
+
+    assertNotNull(result.data);
+    assertEquals("\"short\"", result.data.getValue());
+    assertNull(result.data.getFilePath());
+  }
+
+  @Test
+  public void nullResultsAreReturned() throws IOException {
+    final JavaScriptResultWriter writer =
+        new JavaScriptResultWriter(temporaryFolder.newFolder(), Runnable::run, Runnable::run);
+    final CapturingResult result = new CapturingResult();
+
+    writer.write(null, 0, result);
+
+    assertNotNull(result.data);
+    assertNull(result.data.getValue());
+    assertNull(result.data.getFilePath());
+  }
+
+  @Test
+  public void largeResultsAreWrittenToFiles() throws IOException {
+    final File directory = new File(temporaryFolder.getRoot(), "results");
+    final JavaScriptResultWriter writer =
+        new JavaScriptResultWriter(directory, Runnable::run, Runnable::run);
+    final StringBuilder value = new StringBuilder("\"");
+    for (int i = 0; i < 100000; i++) {
+      value.append(i % 2 == 0 ? 'a' : '\u00e9');
+    }
+    value.append('"');
+    final CapturingResult result = new CapturingResult();
+
+    writer.write(value.toString(), 10, result);
+
+    assertNotNull(result.data);
+    assertNull(result.data.getValue());
+    final File file = new File(result.data.getFilePath());
+    assertEquals(directory, file.getParentFile());
+    assertEquals(
+        value.toString(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void deleteStaleFiles_deletesTheFilesOfThePreviousRuns() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+    final File staleFile = new File(directory, "result.json");
+    assertTrue(staleFile.createNewFile());
+    final JavaScriptResultWriter writer =
+        new JavaScriptResultWriter(directory, Runnable::run, Runnable::run);
+
+    writer.deleteStaleFiles();
+
+    assertFalse(staleFile.exists());
+    assertTrue(directory.isDirectory());
+  }
+
+  private static class CapturingResult
+      implements GeneratedAndroidWebView.Result<JavaScriptResultData> {
+    JavaScriptResultData data;
+
+    @Override
+    public void success(JavaScriptResultData result) {
+      data = result;
+    }
+
+    @Override
+    public void error(@NonNull Throwable error) {}
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +23,7 @@ import android.webkit.WebView;
 import android.webkit.WebView.WebViewTransport;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientCreator;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientImpl;
 import org.junit.After;
@@ -141,4 +143,38 @@ public class WebChromeClientTest {
     webChromeClient.onGeolocationPermissionsHidePrompt();
     verify(mockFlutterApi).onGeolocationPermissionsHidePrompt(eq(webChromeClient), any());
   }
+
+  @Test
+  public void setProgressUpdates() {
+    hostApiImpl.setProgressUpdates(2L, true, 10L);
+    verify(mockFlutterApi).setProgressUpdates(webChromeClient, true, 10L);
+  }
+
+  @Test
+  public void progressIsCoalescedByGranularity() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final WebChromeClientFlutterApiImpl flutterApi =
+        new WebChromeClientFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    flutterApi.setProgressUpdates(webChromeClient, true, 25L);
+
+    for (long progress : new long[] {10, 20, 30, 40, 60, 99, 100, 100}) {
+      flutterApi.onProgressChanged(webChromeClient, mockWebView, progress, reply -> {});
+    }
+
+    // 10, 40, 99 and the first 100.
+    verify(mockBinaryMessenger, times(4))
+        .send(eq("dev.flutter.pigeon.WebChromeClientFlutterApi.onProgressChanged"), any(), any());
+  }
+
+  @Test
+  public void disabledProgressIsNotSentToDart() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final WebChromeClientFlutterApiImpl flutterApi =
+        new WebChromeClientFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    flutterApi.setProgressUpdates(webChromeClient, false, 0L);
+
+    flutterApi.onProgressChanged(webChromeClient, mockWebView, 50L, reply -> {});
+
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+  }
 }
@@ -0,0 +1,260 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebResourceInterceptorTest {
+  private static final String SCRIPT_URL = "https://example.com/static/main.js";
+  private static final WebResourceInterceptor.CookieJar NO_COOKIES =
+      mock(WebResourceInterceptor.CookieJar.class);
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void getExpirationTime() {
+    assertEquals(61000, WebResourceInterceptor.getExpirationTime("public, max-age=60", 0, 1000));
+    assertEquals(5000, WebResourceInterceptor.getExpirationTime(null, 5000, 1000));
+    assertEquals(0, WebResourceInterceptor.getExpirationTime("max-age=60, no-store", 5000, 1000));
+    assertEquals(0, WebResourceInterceptor.getExpirationTime("no-cache", 5000, 1000));
+  }
+
+  @Test
+  public void cacheEvictsLeastRecentlyUsedEntriesFromMemory() {
+    final WebResourceCache cache = new WebResourceCache(null, 10, 0);
+
+    cache.put("a", createEntry(new byte[4]));
+    cache.put("b", createEntry(new byte[4]));
+    assertNotNull(cache.get("a", 0));
+    cache.put("c", createEntry(new byte[4]));
+
+    assertTrue(cache.isInMemory("a"));
+    assertFalse(cache.isInMemory("b"));
+    assertTrue(cache.isInMemory("c"));
+  }
+
+  @Test
+  public void cacheKeepsEntriesOnDisk() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+    new WebResourceCache(directory, 0, 100).put("a", createEntry(new byte[] {1, 2, 3}));
+
+    final WebResourceCache.Entry entry = new WebResourceCache(directory, 10, 100).get("a", 0);
+
+    assertNotNull(entry);
+    assertArrayEquals(new byte[] {1, 2, 3}, entry.data);
+    assertEquals("text/javascript", entry.mimeType);
+  }
+
+  @Test
+  public void cacheDoesNotReturnStaleEntries() throws IOException {
+    final WebResourceCache cache = new WebResourceCache(temporaryFolder.newFolder(), 10, 100);
+
+    cache.put("a", createEntry(new byte[4]));
+
+    assertNull(cache.get("a", 2000));
+  }
+
+  @Test
+  public void cachedResourcesAreOnlyFetchedOnce() throws IOException {
+    final HttpURLConnection connection = mockConnection(200, "max-age=60");
+    final WebResourceInterceptor.ConnectionFactory connectionFactory =
+        mock(WebResourceInterceptor.ConnectionFactory.class);
+    when(connectionFactory.open(any())).thenReturn(connection);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            connectionFactory,
+            NO_COOKIES);
+
+    assertNotNull(interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap()));
+    assertNotNull(interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap()));
+
+    verify(connectionFactory, times(1)).open(any());
+  }
+
+  @Test
+  public void uncacheableResourcesAreFetchedEachTime() throws IOException {
+    final HttpURLConnection connection = mockConnection(200, "no-store");
+    final WebResourceInterceptor.ConnectionFactory connectionFactory =
+        mock(WebResourceInterceptor.ConnectionFactory.class);
+    when(connectionFactory.open(any())).thenReturn(connection);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            connectionFactory,
+            NO_COOKIES);
+
+    interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap());
+    interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap());
+
+    verify(connectionFactory, times(2)).open(any());
+  }
+
+  @Test
+  public void isSharedVary() {
+    assertTrue(WebResourceInterceptor.isSharedVary(null));
+    assertTrue(WebResourceInterceptor.isSharedVary("Accept-Encoding"));
+    assertFalse(WebResourceInterceptor.isSharedVary("Accept-Encoding, Cookie"));
+    assertFalse(WebResourceInterceptor.isSharedVary("*"));
+  }
+
+  @Test
+  public void resourcesThatVaryAreNotCached() throws IOException {
+    final HttpURLConnection connection = mockConnection(200, "max-age=60");
+    when(connection.getHeaderField("Vary")).thenReturn("User-Agent");
+    final WebResourceInterceptor.ConnectionFactory connectionFactory =
+        mock(WebResourceInterceptor.ConnectionFactory.class);
+    when(connectionFactory.open(any())).thenReturn(connection);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            connectionFactory,
+            NO_COOKIES);
+
+    interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap());
+    interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap());
+
+    verify(connectionFactory, times(2)).open(any());
+  }
+
+  @Test
+  public void requestsWithCredentialsAreLeftToTheWebView() throws IOException {
+    final WebResourceInterceptor.ConnectionFactory connectionFactory =
+        mock(WebResourceInterceptor.ConnectionFactory.class);
+    final WebResourceInterceptor.CookieJar cookieJar = mock(WebResourceInterceptor.CookieJar.class);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            connectionFactory,
+            cookieJar);
+
+    assertNull(
+        interceptor.shouldInterceptRequest(
+            "GET", SCRIPT_URL, Collections.singletonMap("Authorization", "Bearer token")));
+    assertNull(
+        interceptor.shouldInterceptRequest(
+            "GET", SCRIPT_URL, Collections.singletonMap("cookie", "a=1")));
+    when(cookieJar.getCookie(SCRIPT_URL)).thenReturn("a=1");
+    assertNull(interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap()));
+
+    verify(connectionFactory, never()).open(any());
+  }
+
+  @Test
+  public void responsesThatSetCookiesAreLeftToTheWebView() throws IOException {
+    final HttpURLConnection connection = mockConnection(200, "max-age=60");
+    when(connection.getHeaderFields())
+        .thenReturn(Collections.singletonMap("Set-Cookie", Collections.singletonList("b=2")));
+    final WebResourceCache cache = new WebResourceCache(null, 100, 0);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null, Collections.singletonList("\\.js$"), cache, url -> connection, NO_COOKIES);
+
+    assertNull(interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap()));
+
+    verify(connection).disconnect();
+    assertNull(cache.get(SCRIPT_URL, 0));
+  }
+
+  @Test
+  public void unsuccessfulResponsesAreLeftToTheWebView() throws IOException {
+    final HttpURLConnection connection = mockConnection(302, "max-age=60");
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            url -> connection,
+            NO_COOKIES);
+
+    assertNull(interceptor.shouldInterceptRequest("GET", SCRIPT_URL, Collections.emptyMap()));
+    verify(connection).disconnect();
+  }
+
+  @Test
+  public void otherRequestsAreNotIntercepted() throws IOException {
+    final WebResourceInterceptor.ConnectionFactory connectionFactory =
+        mock(WebResourceInterceptor.ConnectionFactory.class);
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(
+            null,
+            Collections.singletonList("\\.js$"),
+            new WebResourceCache(null, 100, 0),
+            connectionFactory,
+            NO_COOKIES);
+
+    assertNull(
+        interceptor.shouldInterceptRequest(
+            "GET", "https://example.com/index.html", Collections.emptyMap()));
+    assertNull(interceptor.shouldInterceptRequest("POST", SCRIPT_URL, Collections.emptyMap()));
+
+    verify(connectionFactory, never()).open(any());
+  }
+
+  @Test
+  public void flutterAssetsAreServed() throws IOException {
+    final FlutterAssetManager flutterAssetManager = mock(FlutterAssetManager.class);
+    when(flutterAssetManager.open("assets/index.html"))
+        .thenReturn(new ByteArrayInputStream(new byte[0]));
+    final WebResourceInterceptor interceptor =
+        new WebResourceInterceptor(flutterAssetManager, Collections.emptyList(), null);
+
+    assertNotNull(
+        interceptor.shouldInterceptRequest(
+            "GET",
+            "https://appassets.androidplatform.net/flutter_assets/assets/index.html",
+            Collections.emptyMap()));
+    assertNull(
+        interceptor.shouldInterceptRequest(
+            "GET", "https://example.com/flutter_assets/assets/index.html", Collections.emptyMap()));
+
+    verify(flutterAssetManager).open("assets/index.html");
+  }
+
+  private static WebResourceCache.Entry createEntry(byte[] data) {
+    return new WebResourceCache.Entry(
+        "text/javascript", "utf-8", Collections.emptyMap(), data, 1000);
+  }
+
+  private static HttpURLConnection mockConnection(int responseCode, String cacheControl)
+      throws IOException {
+    final HttpURLConnection connection = mock(HttpURLConnection.class);
+    when(connection.getResponseCode()).thenReturn(responseCode);
+    when(connection.getContentType()).thenReturn("text/javascript; charset=utf-8");
+    when(connection.getHeaderField("Cache-Control")).thenReturn(cacheControl);
+    when(connection.getContentLength()).thenReturn(3);
+    when(connection.getInputStream())
+        .thenAnswer(invocation -> new ByteArrayInputStream(new byte[] {1, 2, 3}));
+    return connection;
+  }
+}
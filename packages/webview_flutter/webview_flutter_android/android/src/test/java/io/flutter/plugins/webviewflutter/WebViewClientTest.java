@@ -8,6 +8,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -16,8 +17,11 @@ import android.webkit.WebResourceRequest;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCompatImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientCreator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import org.junit.After;
 import org.junit.Before;
@@ -129,6 +133,25 @@ public class WebViewClientTest {
     verify(mockWebViewClient).setReturnValueForShouldOverrideUrlLoading(false);
   }
 
+  @Test
+  public void setRequestInterception() {
+    final WebViewClientHostApiImpl webViewClientHostApi =
+        new WebViewClientHostApiImpl(
+            instanceManager,
+            new WebViewClientCreator(),
+            mockFlutterApi,
+            mock(FlutterAssetManager.class),
+            null);
+
+    instanceManager.addDartCreatedInstance(mockWebViewClient, 2);
+    webViewClientHostApi.setRequestInterception(
+        2L, true, Collections.singletonList("\\.js$"), 1024L, 0L);
+    webViewClientHostApi.setRequestInterception(2L, false, Collections.emptyList(), 0L, 0L);
+
+    verify(mockWebViewClient).setWebResourceInterceptor(any(WebResourceInterceptor.class));
+    verify(mockWebViewClient).setWebResourceInterceptor(null);
+  }
+
   @Test
   public void doUpdateVisitedHistory() {
     webViewClient.doUpdateVisitedHistory(mockWebView, "https://www.google.com", true);
@@ -136,4 +159,33 @@ public class WebViewClientTest {
         .doUpdateVisitedHistory(
             eq(webViewClient), eq(mockWebView), eq("https://www.google.com"), eq(true), any());
   }
+
+  @Test
+  public void setEnabledCallbacks() {
+    instanceManager.addDartCreatedInstance(mockWebViewClient, 2);
+    hostApiImpl.setEnabledCallbacks(2L, Collections.singletonList("onPageFinished"));
+
+    verify(mockFlutterApi)
+        .setEnabledCallbacks(mockWebViewClient, Collections.singletonList("onPageFinished"));
+  }
+
+  @Test
+  public void disabledCallbacksAreNotSentToDart() {
+    final BinaryMessenger mockBinaryMessenger = mock(BinaryMessenger.class);
+    final WebViewClientFlutterApiImpl flutterApi =
+        new WebViewClientFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    flutterApi.setEnabledCallbacks(
+        webViewClient,
+        Arrays.asList(
+            WebViewClientFlutterApiImpl.ON_PAGE_FINISHED, WebViewClientFlutterApiImpl.URL_LOADING));
+
+    flutterApi.onPageStarted(webViewClient, mockWebView, "https://www.google.com", reply -> {});
+    flutterApi.doUpdateVisitedHistory(
+        webViewClient, mockWebView, "https://www.google.com", false, reply -> {});
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+
+    flutterApi.onPageFinished(webViewClient, mockWebView, "https://www.google.com", reply -> {});
+    verify(mockBinaryMessenger)
+        .send(eq("dev.flutter.pigeon.WebViewClientFlutterApi.onPageFinished"), any(), any());
+  }
 }
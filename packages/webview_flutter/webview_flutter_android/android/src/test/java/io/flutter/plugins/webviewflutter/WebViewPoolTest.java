@@ -0,0 +1,136 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolMetricsData;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewProxy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebViewProxy mockWebViewProxy;
+
+  @Mock Context mockContext;
+
+  @Mock Context mockApplicationContext;
+
+  @Mock BinaryMessenger mockBinaryMessenger;
+
+  @Mock WebViewPlatformView mockWebView;
+
+  InstanceManager testInstanceManager;
+  WebViewPool testWebViewPool;
+
+  @Before
+  public void setUp() {
+    testInstanceManager = InstanceManager.create(identifier -> {});
+    when(mockContext.getApplicationContext()).thenReturn(mockApplicationContext);
+    when(mockWebViewProxy.createWebView(any(), eq(mockBinaryMessenger), eq(testInstanceManager)))
+        .thenReturn(mockWebView);
+    testWebViewPool = new WebViewPool(mockWebViewProxy, mockBinaryMessenger, testInstanceManager);
+  }
+
+  @After
+  public void tearDown() {
+    testInstanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void obtainReturnsPooledWebView() {
+    testWebViewPool.prewarm(mockContext, 1);
+    assertFalse(testWebViewPool.fillOnce());
+    verify(mockWebViewProxy)
+        .createWebView(
+            any(MutableContextWrapper.class), eq(mockBinaryMessenger), eq(testInstanceManager));
+
+    assertEquals(mockWebView, testWebViewPool.obtain(mockContext));
+
+    verify(mockWebViewProxy, times(1)).createWebView(any(), any(), any());
+    final WebViewPoolMetricsData metrics = testWebViewPool.getMetrics();
+    assertEquals(1L, (long) metrics.getPoolHits());
+    assertEquals(0L, (long) metrics.getPoolMisses());
+    assertEquals(0L, (long) metrics.getPoolSize());
+  }
+
+  @Test
+  public void obtainConstructsWebViewWhenPoolIsEmpty() {
+    assertEquals(mockWebView, testWebViewPool.obtain(mockContext));
+
+    verify(mockWebViewProxy).createWebView(mockContext, mockBinaryMessenger, testInstanceManager);
+    final WebViewPoolMetricsData metrics = testWebViewPool.getMetrics();
+    assertEquals(0L, (long) metrics.getPoolHits());
+    assertEquals(1L, (long) metrics.getPoolMisses());
+  }
+
+  @Test
+  public void prewarmWithoutPoolLoadsProviderOnce() {
+    testWebViewPool.prewarm(mockContext, 0);
+    assertFalse(testWebViewPool.fillOnce());
+    assertFalse(testWebViewPool.fillOnce());
+
+    verify(mockWebViewProxy, times(1))
+        .createWebView(mockApplicationContext, mockBinaryMessenger, testInstanceManager);
+    verify(mockWebView).destroy();
+  }
+
+  @Test
+  public void prewarmRegistersForMemoryEvents() {
+    testWebViewPool.prewarm(mockContext, 1);
+    verify(mockApplicationContext).registerComponentCallbacks(testWebViewPool);
+
+    testWebViewPool.dispose();
+    verify(mockApplicationContext).unregisterComponentCallbacks(testWebViewPool);
+  }
+
+  @Test
+  public void prewarmDestroysWebViewsAboveMaxPoolSize() {
+    testWebViewPool.prewarm(mockContext, 2);
+    assertTrue(testWebViewPool.fillOnce());
+    assertFalse(testWebViewPool.fillOnce());
+
+    testWebViewPool.prewarm(mockContext, 1);
+
+    verify(mockWebView, times(1)).destroy();
+    assertEquals(1L, (long) testWebViewPool.getMetrics().getPoolSize());
+  }
+
+  @Test
+  public void trimMemoryDestroysPooledWebViews() {
+    testWebViewPool.prewarm(mockContext, 2);
+    testWebViewPool.fillOnce();
+    testWebViewPool.fillOnce();
+
+    testWebViewPool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+    verify(mockWebView, never()).destroy();
+
+    testWebViewPool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+    verify(mockWebView, times(2)).destroy();
+    final WebViewPoolMetricsData metrics = testWebViewPool.getMetrics();
+    assertEquals(0L, (long) metrics.getPoolSize());
+    assertEquals(1L, (long) metrics.getTrimCount());
+  }
+}
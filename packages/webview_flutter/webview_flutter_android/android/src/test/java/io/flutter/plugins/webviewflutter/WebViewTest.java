@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -26,6 +27,7 @@ import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewFlutterApi;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.io.File;
 import java.util.HashMap;
 import java.util.Objects;
 import org.junit.After;
@@ -187,6 +189,37 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @Test
+  public void evaluateJavascriptToFileReturnsShortResults() {
+    when(mockWebView.getContext()).thenReturn(mockContext);
+    when(mockContext.getCacheDir()).thenReturn(new File("cache"));
+
+    final GeneratedAndroidWebView.JavaScriptResultData[] successValue =
+        new GeneratedAndroidWebView.JavaScriptResultData[1];
+    testHostApiImpl.evaluateJavascriptToFile(
+        0L,
+        "2 + 2",
+        1024L,
+        new GeneratedAndroidWebView.Result<GeneratedAndroidWebView.JavaScriptResultData>() {
+          @Override
+          public void success(GeneratedAndroidWebView.JavaScriptResultData result) {
+            successValue[0] = result;
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {}
+        });
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("2 + 2"), callbackCaptor.capture());
+
+    callbackCaptor.getValue().onReceiveValue("4");
+    assertEquals("4", successValue[0].getValue());
+    assertNull(successValue[0].getFilePath());
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -341,6 +374,38 @@ public class WebViewTest {
     instanceManager.stopFinalizationListener();
   }
 
+  @Test
+  public void prewarm() {
+    final WebViewPool mockWebViewPool = mock(WebViewPool.class);
+    final WebViewHostApiImpl hostApiImpl =
+        new WebViewHostApiImpl(
+            testInstanceManager,
+            mockBinaryMessenger,
+            mockWebViewProxy,
+            mockContext,
+            mockWebViewPool);
+
+    hostApiImpl.prewarm(2L);
+    verify(mockWebViewPool).prewarm(mockContext, 2);
+  }
+
+  @Test
+  public void createObtainsWebViewFromPool() {
+    final WebViewPool mockWebViewPool = mock(WebViewPool.class);
+    final WebViewPlatformView pooledWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewPool.obtain(mockContext)).thenReturn(pooledWebView);
+    final WebViewHostApiImpl hostApiImpl =
+        new WebViewHostApiImpl(
+            testInstanceManager,
+            mockBinaryMessenger,
+            mockWebViewProxy,
+            mockContext,
+            mockWebViewPool);
+
+    hostApiImpl.create(1L);
+    assertEquals(pooledWebView, testInstanceManager.getInstance(1L));
+  }
+
   @Test
   public void setImportantForAutofillForParentFlutterView() {
     final WebViewPlatformView webView =
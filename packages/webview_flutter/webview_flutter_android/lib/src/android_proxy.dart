@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'android_webview.dart' as android_webview;
 
 /// Handles constructing objects and calling static methods for the Android
@@ -78,6 +80,7 @@ class AndroidWebViewProxy {
   final android_webview.JavaScriptChannel Function(
     String channelName, {
     required void Function(String) postMessage,
+    void Function(Uint8List)? postBinaryMessage,
   }) createJavaScriptChannel;
 
   /// Constructs a [android_webview.DownloadListener].
@@ -102,4 +105,19 @@ class AndroidWebViewProxy {
   Future<void> setWebContentsDebuggingEnabled(bool enabled) {
     return android_webview.WebView.setWebContentsDebuggingEnabled(enabled);
   }
+
+  /// Loads the WebView provider and constructs up to [maxPoolSize] WebViews
+  /// ahead of time.
+  ///
+  /// See [android_webview.WebView.prewarm].
+  Future<void> prewarm({int maxPoolSize = 1}) {
+    return android_webview.WebView.prewarm(maxPoolSize: maxPoolSize);
+  }
+
+  /// Returns the startup timings of the WebViews and the state of their pool.
+  ///
+  /// See [android_webview.WebView.getPoolMetrics].
+  Future<android_webview.WebViewPoolMetrics> getPoolMetrics() {
+    return android_webview.WebView.getPoolMetrics();
+  }
 }
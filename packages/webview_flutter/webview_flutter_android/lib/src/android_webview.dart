@@ -168,6 +168,26 @@ class WebView extends JavaObject {
     return api.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Loads the WebView provider and constructs up to [maxPoolSize] WebViews
+  /// ahead of time, while the main thread is idle.
+  ///
+  /// The first WebView of an app loads the WebView provider, which can block
+  /// the main thread for hundreds of milliseconds. Calling this at startup
+  /// moves that cost out of the creation of the first [WebView]. The pooled
+  /// WebViews are used by the next created [WebView]s, and are destroyed when
+  /// the system asks the app to trim its memory.
+  ///
+  /// A [maxPoolSize] of 0 only loads the WebView provider.
+  static Future<void> prewarm({int maxPoolSize = 1}) {
+    return api.prewarm(maxPoolSize);
+  }
+
+  /// Returns the startup timings of the WebViews and the state of the pool of
+  /// WebViews created by [prewarm].
+  static Future<WebViewPoolMetrics> getPoolMetrics() {
+    return api.getWebViewPoolMetrics();
+  }
+
   /// Loads the given data into this WebView using a 'data' scheme URL.
   ///
   /// Note that JavaScript's same origin policy means that script running in a
@@ -336,6 +356,30 @@ class WebView extends JavaObject {
     );
   }
 
+  /// The default length of the results that [evaluateJavascriptToFile] writes
+  /// to a file.
+  static const int defaultFileSizeThreshold = 1024 * 1024;
+
+  /// Asynchronously evaluates JavaScript in the context of the currently
+  /// displayed page, writing a large result to a file.
+  ///
+  /// A result whose JSON encoding is at least [fileSizeThreshold] characters
+  /// long is written to a UTF-8 file of the cache directory of the app, on a
+  /// background thread, and only the path of the file is returned. Shorter
+  /// results are returned like with [evaluateJavascript].
+  ///
+  /// The caller owns the file, and should delete it once it's read.
+  Future<JavaScriptResult> evaluateJavascriptToFile(
+    String javascriptString, {
+    int fileSizeThreshold = defaultFileSizeThreshold,
+  }) {
+    return api.evaluateJavascriptToFileFromInstance(
+      this,
+      javascriptString,
+      fileSizeThreshold,
+    );
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -711,6 +755,7 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel(
     this.channelName, {
     required this.postMessage,
+    this.postBinaryMessage,
     @visibleForTesting super.binaryMessenger,
     @visibleForTesting super.instanceManager,
   }) : super.detached() {
@@ -727,6 +772,7 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel.detached(
     this.channelName, {
     required this.postMessage,
+    this.postBinaryMessage,
     super.binaryMessenger,
     super.instanceManager,
   }) : super.detached();
@@ -741,17 +787,158 @@ class JavaScriptChannel extends JavaObject {
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   final void Function(String message) postMessage;
 
+  /// Callback method when javaScript calls `postBinaryMessage` on the object
+  /// instance passed.
+  ///
+  /// JavaScript passes the bytes as a string whose characters are all in the
+  /// range 0-255, e.g. `String.fromCharCode(...bytes)`, so they are not
+  /// encoded in base64. If this is null, the string is sent to [postMessage].
+  final void Function(Uint8List message)? postBinaryMessage;
+
+  /// Sets how the messages of this channel are batched.
+  ///
+  /// Messages are queued on the platform side and sent to Dart together once
+  /// [maxBatchSize] messages are queued or the first one was queued
+  /// [maxBatchDelay] ago, which defaults to about one frame. Messages received
+  /// while [maxQueuedMessages] messages are queued are dropped.
+  ///
+  /// A [maxBatchSize] of 0 sends each message as it is received, which is the
+  /// default.
+  Future<void> setBatching({
+    required int maxBatchSize,
+    Duration maxBatchDelay = const Duration(milliseconds: 16),
+    int maxQueuedMessages = 10000,
+  }) {
+    return api.setBatchingFromInstance(
+      this,
+      maxBatchSize: maxBatchSize,
+      maxBatchDelay: maxBatchDelay,
+      maxQueuedMessages: maxQueuedMessages,
+    );
+  }
+
+  /// Returns the number of messages received, sent to Dart and dropped by
+  /// this channel.
+  Future<JavaScriptChannelMessageCounts> getMessageCounts() {
+    return api.getMessageCountsFromInstance(this);
+  }
+
   @override
   JavaScriptChannel copy() {
     return JavaScriptChannel.detached(
       channelName,
       postMessage: postMessage,
+      postBinaryMessage: postBinaryMessage,
       binaryMessenger: _api.binaryMessenger,
       instanceManager: _api.instanceManager,
     );
   }
 }
 
+/// The startup timings of the WebViews and the state of the pool of WebViews
+/// created by [WebView.prewarm].
+@immutable
+class WebViewPoolMetrics {
+  /// Constructs a [WebViewPoolMetrics].
+  const WebViewPoolMetrics({
+    required this.firstConstruction,
+    required this.lastConstruction,
+    required this.lastCreation,
+    required this.poolHits,
+    required this.poolMisses,
+    required this.poolSize,
+    required this.maxPoolSize,
+    required this.trimCount,
+  });
+
+  /// How long the construction of the first WebView took, which includes
+  /// loading the WebView provider.
+  final Duration firstConstruction;
+
+  /// How long the construction of the last WebView took.
+  final Duration lastConstruction;
+
+  /// How long the creation of the last [WebView] blocked the main thread,
+  /// whether or not it was pooled.
+  final Duration lastCreation;
+
+  /// The number of [WebView]s that used a pooled WebView.
+  final int poolHits;
+
+  /// The number of [WebView]s that had to construct their WebView.
+  final int poolMisses;
+
+  /// The number of WebViews currently pooled.
+  final int poolSize;
+
+  /// The maximum number of pooled WebViews.
+  final int maxPoolSize;
+
+  /// The number of times the pool was emptied to trim memory.
+  final int trimCount;
+}
+
+/// The result of [WebView.evaluateJavascriptToFile].
+///
+/// At most one of [value] and [filePath] is non-null.
+@immutable
+class JavaScriptResult {
+  /// Constructs a [JavaScriptResult].
+  const JavaScriptResult({this.value, this.filePath});
+
+  /// The JSON-encoded result, when it is shorter than the file size threshold.
+  final String? value;
+
+  /// The path of the UTF-8 file containing the JSON-encoded result, when it
+  /// is at least as long as the file size threshold.
+  final String? filePath;
+}
+
+/// The number of messages handled by a [JavaScriptChannel].
+@immutable
+class JavaScriptChannelMessageCounts {
+  /// Constructs a [JavaScriptChannelMessageCounts].
+  const JavaScriptChannelMessageCounts({
+    required this.queued,
+    required this.flushed,
+    required this.dropped,
+  });
+
+  /// The number of messages received from JavaScript.
+  final int queued;
+
+  /// The number of messages sent to Dart.
+  final int flushed;
+
+  /// The number of messages dropped because too many messages were queued.
+  final int dropped;
+}
+
+/// The callbacks of a [WebViewClient] that can be enabled with
+/// [WebViewClient.setEnabledCallbacks].
+enum WebViewClientCallback {
+  /// [WebViewClient.onPageStarted].
+  onPageStarted,
+
+  /// [WebViewClient.onPageFinished].
+  onPageFinished,
+
+  /// [WebViewClient.onReceivedRequestError].
+  onReceivedRequestError,
+
+  /// [WebViewClient.onReceivedError].
+  onReceivedError,
+
+  /// [WebViewClient.requestLoading].
+  requestLoading,
+
+  /// [WebViewClient.urlLoading].
+  urlLoading,
+
+  /// [WebViewClient.doUpdateVisitedHistory].
+  doUpdateVisitedHistory,
+}
+
 /// Receive various notifications and requests for [WebView].
 class WebViewClient extends JavaObject {
   /// Constructs a [WebViewClient].
@@ -949,6 +1136,43 @@ class WebViewClient extends JavaObject {
     return api.setShouldOverrideUrlLoadingReturnValueFromInstance(this, value);
   }
 
+  /// Configures how the requests of the current [WebView] are served.
+  ///
+  /// When [serveFlutterAssets] is true, the Flutter assets of the app are
+  /// served at `https://appassets.androidplatform.net/flutter_assets/<key>`,
+  /// so pages can load them from a secure origin.
+  ///
+  /// GET requests whose URL matches one of the [cachedUrlPatterns] regular
+  /// expressions are fetched by the platform and, when their `Cache-Control`
+  /// or `Expires` headers allow it, kept in a least recently used cache of
+  /// [memoryCacheSize] bytes in memory and [diskCacheSize] bytes on disk. The
+  /// cache is shared by all the [WebViewClient]s of the app.
+  ///
+  /// Requests are not intercepted by default.
+  Future<void> setRequestInterception({
+    bool serveFlutterAssets = false,
+    List<String> cachedUrlPatterns = const <String>[],
+    int memoryCacheSize = 0,
+    int diskCacheSize = 0,
+  }) {
+    return api.setRequestInterceptionFromInstance(
+      this,
+      serveFlutterAssets: serveFlutterAssets,
+      cachedUrlPatterns: cachedUrlPatterns,
+      memoryCacheSize: memoryCacheSize,
+      diskCacheSize: diskCacheSize,
+    );
+  }
+
+  /// Sets the callbacks of this client that are sent from the native
+  /// `WebViewClient`.
+  ///
+  /// The other callbacks are dropped natively, before any message is sent.
+  /// All the callbacks are sent until this is called.
+  Future<void> setEnabledCallbacks(Set<WebViewClientCallback> callbacks) {
+    return api.setEnabledCallbacksFromInstance(this, callbacks);
+  }
+
   @override
   WebViewClient copy() {
     return WebViewClient.detached(
@@ -1125,6 +1349,25 @@ class WebChromeClient extends JavaObject {
     );
   }
 
+  /// Sets how the native `WebChromeClient` sends [onProgressChanged].
+  ///
+  /// When [enabled] is false, no progress is sent. Otherwise, a progress is
+  /// only sent once it changed by at least [granularity] percent since the last
+  /// one sent for the same [WebView]. The start and the end of each page load
+  /// are always sent.
+  ///
+  /// Every progress is sent until this is called.
+  Future<void> setProgressUpdates({
+    required bool enabled,
+    int granularity = 0,
+  }) {
+    return api.setProgressUpdatesFromInstance(
+      this,
+      enabled: enabled,
+      granularity: granularity,
+    );
+  }
+
   @override
   WebChromeClient copy() {
     return WebChromeClient.detached(
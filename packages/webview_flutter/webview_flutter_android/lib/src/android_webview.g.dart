@@ -152,6 +152,119 @@ class WebViewPoint {
   }
 }
 
+class JavaScriptResultData {
+  JavaScriptResultData({
+    this.value,
+    this.filePath,
+  });
+
+  String? value;
+
+  String? filePath;
+
+  Object encode() {
+    return <Object?>[
+      value,
+      filePath,
+    ];
+  }
+
+  static JavaScriptResultData decode(Object result) {
+    result as List<Object?>;
+    return JavaScriptResultData(
+      value: result[0] as String?,
+      filePath: result[1] as String?,
+    );
+  }
+}
+
+class JavaScriptChannelMessageCountsData {
+  JavaScriptChannelMessageCountsData({
+    required this.queued,
+    required this.flushed,
+    required this.dropped,
+  });
+
+  int queued;
+
+  int flushed;
+
+  int dropped;
+
+  Object encode() {
+    return <Object?>[
+      queued,
+      flushed,
+      dropped,
+    ];
+  }
+
+  static JavaScriptChannelMessageCountsData decode(Object result) {
+    result as List<Object?>;
+    return JavaScriptChannelMessageCountsData(
+      queued: result[0]! as int,
+      flushed: result[1]! as int,
+      dropped: result[2]! as int,
+    );
+  }
+}
+
+class WebViewPoolMetricsData {
+  WebViewPoolMetricsData({
+    required this.firstConstructionMicros,
+    required this.lastConstructionMicros,
+    required this.lastObtainMicros,
+    required this.poolHits,
+    required this.poolMisses,
+    required this.poolSize,
+    required this.maxPoolSize,
+    required this.trimCount,
+  });
+
+  int firstConstructionMicros;
+
+  int lastConstructionMicros;
+
+  int lastObtainMicros;
+
+  int poolHits;
+
+  int poolMisses;
+
+  int poolSize;
+
+  int maxPoolSize;
+
+  int trimCount;
+
+  Object encode() {
+    return <Object?>[
+      firstConstructionMicros,
+      lastConstructionMicros,
+      lastObtainMicros,
+      poolHits,
+      poolMisses,
+      poolSize,
+      maxPoolSize,
+      trimCount,
+    ];
+  }
+
+  static WebViewPoolMetricsData decode(Object result) {
+    result as List<Object?>;
+    return WebViewPoolMetricsData(
+      firstConstructionMicros: result[0]! as int,
+      lastConstructionMicros: result[1]! as int,
+      lastObtainMicros: result[2]! as int,
+      poolHits: result[3]! as int,
+      poolMisses: result[4]! as int,
+      poolSize: result[5]! as int,
+      maxPoolSize: result[6]! as int,
+      trimCount: result[7]! as int,
+    );
+  }
+}
+
 /// Host API for managing the native `InstanceManager`.
 class InstanceManagerHostApi {
   /// Constructor for [InstanceManagerHostApi].  The [binaryMessenger] named argument is
@@ -380,9 +493,15 @@ class _WebViewHostApiCodec extends StandardMessageCodec {
 
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebViewPoint) {
+    if (value is JavaScriptResultData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
+    } else if (value is WebViewPoint) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is WebViewPoolMetricsData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -392,7 +511,11 @@ class _WebViewHostApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
+        return JavaScriptResultData.decode(readValue(buffer)!);
+      case 129:
         return WebViewPoint.decode(readValue(buffer)!);
+      case 130:
+        return WebViewPoolMetricsData.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -725,6 +848,37 @@ class WebViewHostApi {
     }
   }
 
+  Future<JavaScriptResultData> evaluateJavascriptToFile(int arg_instanceId,
+      String arg_javascriptString, int arg_fileSizeThreshold) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_javascriptString,
+      arg_fileSizeThreshold
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as JavaScriptResultData?)!;
+    }
+  }
+
   Future<String?> getTitle(int arg_instanceId) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -1036,6 +1190,54 @@ class WebViewHostApi {
       return;
     }
   }
+
+  Future<void> prewarm(int arg_maxPoolSize) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.prewarm', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_maxPoolSize]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<WebViewPoolMetricsData> getPoolMetrics() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewHostApi.getPoolMetrics', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(null) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as WebViewPoolMetricsData?)!;
+    }
+  }
 }
 
 /// Flutter API for `WebView`.
@@ -1405,6 +1607,30 @@ class WebSettingsHostApi {
   }
 }
 
+class _JavaScriptChannelHostApiCodec extends StandardMessageCodec {
+  const _JavaScriptChannelHostApiCodec();
+
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is JavaScriptChannelMessageCountsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return JavaScriptChannelMessageCountsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 class JavaScriptChannelHostApi {
   /// Constructor for [JavaScriptChannelHostApi].  The [binaryMessenger] named argument is
   /// available for dependency injection.  If it is left null, the default
@@ -1413,7 +1639,7 @@ class JavaScriptChannelHostApi {
       : _binaryMessenger = binaryMessenger;
   final BinaryMessenger? _binaryMessenger;
 
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec = _JavaScriptChannelHostApiCodec();
 
   Future<void> create(int arg_instanceId, String arg_channelName) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
@@ -1436,6 +1662,61 @@ class JavaScriptChannelHostApi {
       return;
     }
   }
+
+  Future<void> setBatching(int arg_instanceId, int arg_maxBatchSize,
+      int arg_maxBatchDelayMilliseconds, int arg_maxQueuedMessages) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_maxBatchSize,
+      arg_maxBatchDelayMilliseconds,
+      arg_maxQueuedMessages
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<JavaScriptChannelMessageCountsData> getMessageCounts(
+      int arg_instanceId) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.JavaScriptChannelHostApi.getMessageCounts', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_instanceId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as JavaScriptChannelMessageCountsData?)!;
+    }
+  }
 }
 
 abstract class JavaScriptChannelFlutterApi {
@@ -1443,6 +1724,8 @@ abstract class JavaScriptChannelFlutterApi {
 
   void postMessage(int instanceId, String message);
 
+  void postMessages(int instanceId, List<Object?> messages);
+
   static void setup(JavaScriptChannelFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1467,6 +1750,29 @@ abstract class JavaScriptChannelFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null int.');
+          final List<Object?>? arg_messages =
+              (args[1] as List<Object?>?)?.cast<Object?>();
+          assert(arg_messages != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages was null, expected non-null List<Object?>.');
+          api.postMessages(arg_instanceId!, arg_messages!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -1525,6 +1831,61 @@ class WebViewClientHostApi {
       return;
     }
   }
+
+  Future<void> setRequestInterception(
+      int arg_instanceId,
+      bool arg_serveFlutterAssets,
+      List<String?> arg_cachedUrlPatterns,
+      int arg_memoryCacheSize,
+      int arg_diskCacheSize) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_instanceId,
+      arg_serveFlutterAssets,
+      arg_cachedUrlPatterns,
+      arg_memoryCacheSize,
+      arg_diskCacheSize
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setEnabledCallbacks(
+      int arg_instanceId, List<String?> arg_callbackNames) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel
+        .send(<Object?>[arg_instanceId, arg_callbackNames]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class _WebViewClientFlutterApiCodec extends StandardMessageCodec {
@@ -1913,6 +2274,30 @@ class WebChromeClientHostApi {
       return;
     }
   }
+
+  Future<void> setProgressUpdates(
+      int arg_instanceId, bool arg_enabled, int arg_granularity) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList = await channel.send(
+            <Object?>[arg_instanceId, arg_enabled, arg_granularity])
+        as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class FlutterAssetManagerHostApi {
@@ -272,6 +272,20 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<JavaScriptResult> evaluateJavascriptToFileFromInstance(
+    WebView instance,
+    String javascriptString,
+    int fileSizeThreshold,
+  ) async {
+    final JavaScriptResultData result = await evaluateJavascriptToFile(
+      instanceManager.getIdentifier(instance)!,
+      javascriptString,
+      fileSizeThreshold,
+    );
+    return JavaScriptResult(value: result.value, filePath: result.filePath);
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
@@ -363,6 +377,23 @@ class WebViewHostApiImpl extends WebViewHostApi {
   Future<void> setBackgroundColorFromInstance(WebView instance, int color) {
     return setBackgroundColor(instanceManager.getIdentifier(instance)!, color);
   }
+
+  /// Helper method to convert the pool metrics to a [WebViewPoolMetrics].
+  Future<WebViewPoolMetrics> getWebViewPoolMetrics() async {
+    final WebViewPoolMetricsData metrics = await getPoolMetrics();
+    return WebViewPoolMetrics(
+      firstConstruction: Duration(
+        microseconds: metrics.firstConstructionMicros,
+      ),
+      lastConstruction: Duration(microseconds: metrics.lastConstructionMicros),
+      lastCreation: Duration(microseconds: metrics.lastObtainMicros),
+      poolHits: metrics.poolHits,
+      poolMisses: metrics.poolMisses,
+      poolSize: metrics.poolSize,
+      maxPoolSize: metrics.maxPoolSize,
+      trimCount: metrics.trimCount,
+    );
+  }
 }
 
 /// Flutter API implementation for [WebView].
@@ -562,6 +593,35 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
       );
     }
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setBatchingFromInstance(
+    JavaScriptChannel instance, {
+    required int maxBatchSize,
+    required Duration maxBatchDelay,
+    required int maxQueuedMessages,
+  }) {
+    return setBatching(
+      instanceManager.getIdentifier(instance)!,
+      maxBatchSize,
+      maxBatchDelay.inMilliseconds,
+      maxQueuedMessages,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<JavaScriptChannelMessageCounts> getMessageCountsFromInstance(
+    JavaScriptChannel instance,
+  ) async {
+    final JavaScriptChannelMessageCountsData counts = await getMessageCounts(
+      instanceManager.getIdentifier(instance)!,
+    );
+    return JavaScriptChannelMessageCounts(
+      queued: counts.queued,
+      flushed: counts.flushed,
+      dropped: counts.dropped,
+    );
+  }
 }
 
 /// Flutter api implementation for [JavaScriptChannel].
@@ -583,6 +643,28 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<Object?> messages) {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain a JavaScriptChannel with instanceId: $instanceId',
+    );
+    for (final Object? message in messages) {
+      if (message is String) {
+        instance!.postMessage(message);
+      } else if (message is Uint8List) {
+        if (instance!.postBinaryMessage != null) {
+          instance.postBinaryMessage!(message);
+        } else {
+          // Without a binary handler, the message is sent as it was posted.
+          instance.postMessage(String.fromCharCodes(message));
+        }
+      }
+    }
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -614,6 +696,36 @@ class WebViewClientHostApiImpl extends WebViewClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setRequestInterceptionFromInstance(
+    WebViewClient instance, {
+    required bool serveFlutterAssets,
+    required List<String> cachedUrlPatterns,
+    required int memoryCacheSize,
+    required int diskCacheSize,
+  }) {
+    return setRequestInterception(
+      instanceManager.getIdentifier(instance)!,
+      serveFlutterAssets,
+      cachedUrlPatterns,
+      memoryCacheSize,
+      diskCacheSize,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setEnabledCallbacksFromInstance(
+    WebViewClient instance,
+    Set<WebViewClientCallback> callbacks,
+  ) {
+    return setEnabledCallbacks(
+      instanceManager.getIdentifier(instance)!,
+      callbacks
+          .map<String>((WebViewClientCallback callback) => callback.name)
+          .toList(),
+    );
+  }
 }
 
 /// Flutter api implementation for [WebViewClient].
@@ -879,6 +991,19 @@ class WebChromeClientHostApiImpl extends WebChromeClientHostApi {
       value,
     );
   }
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setProgressUpdatesFromInstance(
+    WebChromeClient instance, {
+    required bool enabled,
+    required int granularity,
+  }) {
+    return setProgressUpdates(
+      instanceManager.getIdentifier(instance)!,
+      enabled,
+      granularity,
+    );
+  }
 }
 
 /// Flutter api implementation for [DownloadListener].
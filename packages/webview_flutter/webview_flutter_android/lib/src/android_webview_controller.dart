@@ -225,6 +225,50 @@ class AndroidWebViewController extends PlatformWebViewController {
     return webViewProxy.setWebContentsDebuggingEnabled(enabled);
   }
 
+  /// Sets how the loading progress of pages is sent to the callback set with
+  /// [PlatformNavigationDelegate.setOnProgress].
+  ///
+  /// When [enabled] is false, the progress isn't sent from the platform at
+  /// all. Otherwise, a progress is only sent once it changed by at least
+  /// [granularity] percent since the last one. The start and the end of each
+  /// page load are always sent.
+  ///
+  /// Defaults to sending every progress.
+  Future<void> setProgressUpdates({
+    required bool enabled,
+    int granularity = 0,
+  }) {
+    return _webChromeClient.setProgressUpdates(
+      enabled: enabled,
+      granularity: granularity,
+    );
+  }
+
+  /// Loads the WebView provider and constructs up to [maxPoolSize] WebViews
+  /// ahead of time, while the main thread is idle.
+  ///
+  /// Calling this at startup moves the cost of loading the WebView provider
+  /// out of the creation of the first [AndroidWebViewController]. The pooled
+  /// WebViews are used by the next created controllers, and are destroyed when
+  /// the system asks the app to trim its memory. A [maxPoolSize] of 0 only
+  /// loads the WebView provider.
+  static Future<void> prewarm({
+    int maxPoolSize = 1,
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.prewarm(maxPoolSize: maxPoolSize);
+  }
+
+  /// Returns the startup timings of the WebViews and the state of the pool of
+  /// WebViews created by [prewarm].
+  static Future<android_webview.WebViewPoolMetrics> getPoolMetrics({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.getPoolMetrics();
+  }
+
   /// Identifier used to retrieve the underlying native `WKWebView`.
   ///
   /// This is typically used by other plugins to retrieve the native `WebView`
@@ -365,10 +409,29 @@ class AndroidWebViewController extends PlatformWebViewController {
     return num.tryParse(result) ?? result;
   }
 
+  /// Runs the given JavaScript in the context of the current page, and
+  /// returns a large result as a file instead of a string.
+  ///
+  /// The result is JSON-encoded, and is written to a file when it is at least
+  /// [fileSizeThreshold] characters long, which avoids copying it into
+  /// messages and blocking the main thread. The caller should delete the file
+  /// once it's read.
+  ///
+  /// See [android_webview.WebView.evaluateJavascriptToFile].
+  Future<android_webview.JavaScriptResult> runJavaScriptReturningLargeResult(
+    String javaScript, {
+    int fileSizeThreshold = android_webview.WebView.defaultFileSizeThreshold,
+  }) {
+    return _webView.evaluateJavascriptToFile(
+      javaScript,
+      fileSizeThreshold: fileSizeThreshold,
+    );
+  }
+
   @override
   Future<void> addJavaScriptChannel(
     JavaScriptChannelParams javaScriptChannelParams,
-  ) {
+  ) async {
     final AndroidJavaScriptChannelParams androidJavaScriptParams =
         javaScriptChannelParams is AndroidJavaScriptChannelParams
             ? javaScriptChannelParams
@@ -385,6 +448,13 @@ class AndroidWebViewController extends PlatformWebViewController {
     _javaScriptChannelParams[androidJavaScriptParams.name] =
         androidJavaScriptParams;
 
+    if (androidJavaScriptParams.maxBatchSize > 0) {
+      await androidJavaScriptParams._javaScriptChannel.setBatching(
+        maxBatchSize: androidJavaScriptParams.maxBatchSize,
+        maxBatchDelay: androidJavaScriptParams.maxBatchDelay,
+        maxQueuedMessages: androidJavaScriptParams.maxQueuedMessages,
+      );
+    }
     return _webView
         .addJavaScriptChannel(androidJavaScriptParams._javaScriptChannel);
   }
@@ -640,9 +710,20 @@ class FileSelectorParams {
 @immutable
 class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
   /// Constructs a [AndroidJavaScriptChannelParams].
+  ///
+  /// When [maxBatchSize] is greater than 0, messages are sent to Dart in
+  /// batches. See [android_webview.JavaScriptChannel.setBatching].
+  ///
+  /// Messages posted with `postBinaryMessage` are sent to
+  /// [onBinaryMessageReceived], or to [onMessageReceived] as the string that
+  /// was posted if it is null.
   AndroidJavaScriptChannelParams({
     required super.name,
     required super.onMessageReceived,
+    this.onBinaryMessageReceived,
+    this.maxBatchSize = 0,
+    this.maxBatchDelay = const Duration(milliseconds: 16),
+    this.maxQueuedMessages = 10000,
     @visibleForTesting
     AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
   })  : assert(name.isNotEmpty),
@@ -662,6 +743,18 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
               };
             },
           ),
+          postBinaryMessage: onBinaryMessageReceived == null
+              ? null
+              : withWeakReferenceTo(
+                  onBinaryMessageReceived,
+                  (WeakReference<void Function(Uint8List)> weakReference) {
+                    return (Uint8List message) {
+                      if (weakReference.target != null) {
+                        weakReference.target!(message);
+                      }
+                    };
+                  },
+                ),
         );
 
   /// Constructs a [AndroidJavaScriptChannelParams] using a
@@ -676,7 +769,29 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
           webViewProxy: webViewProxy,
         );
 
+  /// Invoked when JavaScript calls `postBinaryMessage` on the channel.
+  ///
+  /// JavaScript passes the bytes as a string whose characters are all in the
+  /// range 0-255, e.g. `String.fromCharCode(...bytes)`.
+  final void Function(Uint8List message)? onBinaryMessageReceived;
+
+  /// The number of queued messages that are sent to Dart immediately, or 0 to
+  /// send each message as it is received.
+  final int maxBatchSize;
+
+  /// The maximum time a message is queued before it is sent to Dart.
+  final Duration maxBatchDelay;
+
+  /// The maximum number of queued messages, after which messages are dropped.
+  final int maxQueuedMessages;
+
   final android_webview.JavaScriptChannel _javaScriptChannel;
+
+  /// Returns the number of messages received, sent to Dart and dropped by
+  /// this channel.
+  Future<android_webview.JavaScriptChannelMessageCounts> getMessageCounts() {
+    return _javaScriptChannel.getMessageCounts();
+  }
 }
 
 /// Object specifying creation parameters for creating a [AndroidWebViewWidget].
@@ -1123,6 +1238,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     LoadRequestCallback onLoadRequest,
   ) async {
     _onLoadRequest = onLoadRequest;
+    return _updateEnabledCallbacks();
   }
 
   @override
@@ -1130,6 +1246,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     NavigationRequestCallback onNavigationRequest,
   ) async {
     _onNavigationRequest = onNavigationRequest;
+    await _updateEnabledCallbacks();
     return _webViewClient
         .setSynchronousReturnValueForShouldOverrideUrlLoading(true);
   }
@@ -1139,6 +1256,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     PageEventCallback onPageStarted,
   ) async {
     _onPageStarted = onPageStarted;
+    return _updateEnabledCallbacks();
   }
 
   @override
@@ -1146,6 +1264,7 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     PageEventCallback onPageFinished,
   ) async {
     _onPageFinished = onPageFinished;
+    return _updateEnabledCallbacks();
   }
 
   @override
@@ -1160,10 +1279,53 @@ class AndroidNavigationDelegate extends PlatformNavigationDelegate {
     WebResourceErrorCallback onWebResourceError,
   ) async {
     _onWebResourceError = onWebResourceError;
+    return _updateEnabledCallbacks();
   }
 
   @override
   Future<void> setOnUrlChange(UrlChangeCallback onUrlChange) async {
     _onUrlChange = onUrlChange;
+    return _updateEnabledCallbacks();
+  }
+
+  // Only the callbacks of the WebViewClient that are handled are sent from
+  // the native WebViewClient.
+  Future<void> _updateEnabledCallbacks() {
+    return _webViewClient.setEnabledCallbacks(
+      <android_webview.WebViewClientCallback>{
+        if (_onPageStarted != null)
+          android_webview.WebViewClientCallback.onPageStarted,
+        if (_onPageFinished != null)
+          android_webview.WebViewClientCallback.onPageFinished,
+        if (_onWebResourceError != null)
+          android_webview.WebViewClientCallback.onReceivedRequestError,
+        if (_onWebResourceError != null)
+          android_webview.WebViewClientCallback.onReceivedError,
+        if (_onNavigationRequest != null)
+          android_webview.WebViewClientCallback.requestLoading,
+        if (_onNavigationRequest != null)
+          android_webview.WebViewClientCallback.urlLoading,
+        if (_onUrlChange != null)
+          android_webview.WebViewClientCallback.doUpdateVisitedHistory,
+      },
+    );
+  }
+
+  /// Configures how the requests of the web view using this delegate are
+  /// served.
+  ///
+  /// See [android_webview.WebViewClient.setRequestInterception].
+  Future<void> setRequestInterception({
+    bool serveFlutterAssets = false,
+    List<String> cachedUrlPatterns = const <String>[],
+    int memoryCacheSize = 0,
+    int diskCacheSize = 0,
+  }) {
+    return _webViewClient.setRequestInterception(
+      serveFlutterAssets: serveFlutterAssets,
+      cachedUrlPatterns: cachedUrlPatterns,
+      memoryCacheSize: memoryCacheSize,
+      diskCacheSize: diskCacheSize,
+    );
   }
 }
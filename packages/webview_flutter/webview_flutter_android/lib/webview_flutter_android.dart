@@ -4,6 +4,7 @@
 
 library webview_flutter_android;
 
+export 'src/android_webview.dart' show JavaScriptChannelMessageCounts;
 export 'src/android_webview_controller.dart';
 export 'src/android_webview_cookie_manager.dart';
 export 'src/android_webview_platform.dart';
@@ -95,6 +95,43 @@ class WebViewPoint {
   int y;
 }
 
+class JavaScriptResultData {
+  JavaScriptResultData(this.value, this.filePath);
+
+  String? value;
+  String? filePath;
+}
+
+class JavaScriptChannelMessageCountsData {
+  JavaScriptChannelMessageCountsData(this.queued, this.flushed, this.dropped);
+
+  int queued;
+  int flushed;
+  int dropped;
+}
+
+class WebViewPoolMetricsData {
+  WebViewPoolMetricsData(
+    this.firstConstructionMicros,
+    this.lastConstructionMicros,
+    this.lastObtainMicros,
+    this.poolHits,
+    this.poolMisses,
+    this.poolSize,
+    this.maxPoolSize,
+    this.trimCount,
+  );
+
+  int firstConstructionMicros;
+  int lastConstructionMicros;
+  int lastObtainMicros;
+  int poolHits;
+  int poolMisses;
+  int poolSize;
+  int maxPoolSize;
+  int trimCount;
+}
+
 /// Handles methods calls to the native Java Object class.
 ///
 /// Also handles calls to remove the reference to an instance with `dispose`.
@@ -190,6 +227,13 @@ abstract class WebViewHostApi {
     String javascriptString,
   );
 
+  @async
+  JavaScriptResultData evaluateJavascriptToFile(
+    int instanceId,
+    String javascriptString,
+    int fileSizeThreshold,
+  );
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -215,6 +259,10 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  void prewarm(int maxPoolSize);
+
+  WebViewPoolMetricsData getPoolMetrics();
 }
 
 /// Flutter API for `WebView`.
@@ -264,11 +312,22 @@ abstract class WebSettingsHostApi {
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void setBatching(
+    int instanceId,
+    int maxBatchSize,
+    int maxBatchDelayMilliseconds,
+    int maxQueuedMessages,
+  );
+
+  JavaScriptChannelMessageCountsData getMessageCounts(int instanceId);
 }
 
 @FlutterApi()
 abstract class JavaScriptChannelFlutterApi {
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<Object> messages);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -279,6 +338,16 @@ abstract class WebViewClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setRequestInterception(
+    int instanceId,
+    bool serveFlutterAssets,
+    List<String> cachedUrlPatterns,
+    int memoryCacheSize,
+    int diskCacheSize,
+  );
+
+  void setEnabledCallbacks(int instanceId, List<String> callbackNames);
 }
 
 @FlutterApi()
@@ -343,6 +412,8 @@ abstract class WebChromeClientHostApi {
     int instanceId,
     bool value,
   );
+
+  void setProgressUpdates(int instanceId, bool enabled, int granularity);
 }
 
 @HostApi(dartHostTestHandler: 'TestAssetManagerHostApi')
@@ -448,6 +448,31 @@ void main() {
     });
   });
 
+  test('only the handled callbacks are enabled', () async {
+    final AndroidNavigationDelegate androidNavigationDelegate =
+        AndroidNavigationDelegate(_buildCreationParams());
+
+    await androidNavigationDelegate.setOnPageFinished((_) {});
+    expect(
+      CapturingWebViewClient.lastCreatedDelegate.enabledCallbacks,
+      <android_webview.WebViewClientCallback>{
+        android_webview.WebViewClientCallback.onPageFinished,
+      },
+    );
+
+    await androidNavigationDelegate.setOnNavigationRequest(
+      (_) => NavigationDecision.navigate,
+    );
+    expect(
+      CapturingWebViewClient.lastCreatedDelegate.enabledCallbacks,
+      <android_webview.WebViewClientCallback>{
+        android_webview.WebViewClientCallback.onPageFinished,
+        android_webview.WebViewClientCallback.requestLoading,
+        android_webview.WebViewClientCallback.urlLoading,
+      },
+    );
+  });
+
   test('onUrlChange', () {
     final AndroidNavigationDelegate androidNavigationDelegate =
         AndroidNavigationDelegate(_buildCreationParams());
@@ -508,6 +533,15 @@ class CapturingWebViewClient extends android_webview.WebViewClient {
       bool value) async {
     synchronousReturnValueForShouldOverrideUrlLoading = value;
   }
+
+  Set<android_webview.WebViewClientCallback>? enabledCallbacks;
+
+  @override
+  Future<void> setEnabledCallbacks(
+    Set<android_webview.WebViewClientCallback> callbacks,
+  ) async {
+    enabledCallbacks = callbacks;
+  }
 }
 
 // Records the last created instance of itself.
@@ -135,6 +135,7 @@ void main() {
               createJavaScriptChannel: (
                 String channelName, {
                 required void Function(String) postMessage,
+                void Function(Uint8List)? postBinaryMessage,
               }) =>
                   mockJavaScriptChannel ?? MockJavaScriptChannel(),
             ));
@@ -158,6 +159,7 @@ void main() {
             createJavaScriptChannel: (
               String channelName, {
               required void Function(String) postMessage,
+              void Function(Uint8List)? postBinaryMessage,
             }) =>
                 mockJavaScriptChannel ?? MockJavaScriptChannel(),
           ));
@@ -536,7 +538,7 @@ void main() {
             .fromPlatformNavigationDelegateCreationParams(
           const PlatformNavigationDelegateCreationParams(),
           androidWebViewProxy: const AndroidWebViewProxy(
-            createAndroidWebViewClient: android_webview.WebViewClient.detached,
+            createAndroidWebViewClient: CapturingWebViewClient.new,
             createAndroidWebChromeClient:
                 android_webview.WebChromeClient.detached,
             createDownloadListener: android_webview.DownloadListener.detached,
@@ -574,6 +576,27 @@ void main() {
       );
     });
 
+    test('setProgressUpdates', () async {
+      final MockWebChromeClient mockWebChromeClient = MockWebChromeClient();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        createWebChromeClient: ({
+          dynamic onProgressChanged,
+          dynamic onShowFileChooser,
+          dynamic onGeolocationPermissionsShowPrompt,
+          dynamic onGeolocationPermissionsHidePrompt,
+          dynamic onPermissionRequest,
+        }) =>
+            mockWebChromeClient,
+      );
+
+      await controller.setProgressUpdates(enabled: true, granularity: 10);
+
+      verify(mockWebChromeClient.setProgressUpdates(
+        enabled: true,
+        granularity: 10,
+      ));
+    });
+
     test('setOnShowFileSelector', () async {
       late final Future<List<String>> Function(
         android_webview.WebView webView,
@@ -829,6 +852,30 @@ void main() {
       expect(message, '');
     });
 
+    test('runJavaScriptReturningLargeResult', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      when(mockWebView.evaluateJavascriptToFile(
+        'document.body.innerHTML',
+        fileSizeThreshold: 1024,
+      )).thenAnswer(
+        (_) async => const android_webview.JavaScriptResult(
+          filePath: '/cache/result.json',
+        ),
+      );
+
+      final android_webview.JavaScriptResult result =
+          await controller.runJavaScriptReturningLargeResult(
+        'document.body.innerHTML',
+        fileSizeThreshold: 1024,
+      );
+
+      expect(result.filePath, '/cache/result.json');
+    });
+
     test('runJavaScriptReturningResult parses num', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -910,6 +957,32 @@ void main() {
       ]);
     });
 
+    test('AndroidJavaScriptChannelParams receives binary messages', () {
+      void Function(Uint8List)? channelPostBinaryMessage;
+      final List<Uint8List> messages = <Uint8List>[];
+      AndroidJavaScriptChannelParams(
+        name: 'test',
+        onMessageReceived: (JavaScriptMessage message) {},
+        onBinaryMessageReceived: messages.add,
+        webViewProxy: AndroidWebViewProxy(
+          createJavaScriptChannel: (
+            String channelName, {
+            required void Function(String) postMessage,
+            void Function(Uint8List)? postBinaryMessage,
+          }) {
+            channelPostBinaryMessage = postBinaryMessage;
+            return MockJavaScriptChannel();
+          },
+        ),
+      );
+
+      channelPostBinaryMessage!(Uint8List.fromList(<int>[1, 2]));
+
+      expect(messages, <Uint8List>[
+        Uint8List.fromList(<int>[1, 2]),
+      ]);
+    });
+
     test('removeJavaScriptChannel when channel is not registered', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -998,6 +1071,16 @@ void main() {
       verify(mockProxy.setWebContentsDebuggingEnabled(true)).called(1);
     });
 
+    test('prewarm', () async {
+      final MockAndroidWebViewProxy mockProxy = MockAndroidWebViewProxy();
+
+      await AndroidWebViewController.prewarm(
+        maxPoolSize: 2,
+        webViewProxy: mockProxy,
+      );
+      verify(mockProxy.prewarm(maxPoolSize: 2)).called(1);
+    });
+
     test('enableZoom', () async {
       final MockWebView mockWebView = MockWebView();
       final MockWebSettings mockSettings = MockWebSettings();
@@ -237,6 +237,28 @@ class _FakeWebStorage_18 extends _i1.SmartFake implements _i2.WebStorage {
         );
 }
 
+class _FakeWebViewPoolMetrics_19 extends _i1.SmartFake
+    implements _i2.WebViewPoolMetrics {
+  _FakeWebViewPoolMetrics_19(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeJavaScriptResult_20 extends _i1.SmartFake
+    implements _i2.JavaScriptResult {
+  _FakeJavaScriptResult_20(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [AndroidNavigationDelegate].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -1006,11 +1028,13 @@ class MockAndroidWebViewProxy extends _i1.Mock
   _i2.JavaScriptChannel Function(
     String, {
     required void Function(String) postMessage,
+    void Function(_i14.Uint8List)? postBinaryMessage,
   }) get createJavaScriptChannel => (super.noSuchMethod(
         Invocation.getter(#createJavaScriptChannel),
         returnValue: (
           String channelName, {
           required void Function(String) postMessage,
+          void Function(_i14.Uint8List)? postBinaryMessage,
         }) =>
             _FakeJavaScriptChannel_9(
           this,
@@ -1019,6 +1043,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
         returnValueForMissingStub: (
           String channelName, {
           required void Function(String) postMessage,
+          void Function(_i14.Uint8List)? postBinaryMessage,
         }) =>
             _FakeJavaScriptChannel_9(
           this,
@@ -1027,6 +1052,7 @@ class MockAndroidWebViewProxy extends _i1.Mock
       ) as _i2.JavaScriptChannel Function(
         String, {
         required void Function(String) postMessage,
+        void Function(_i14.Uint8List)? postBinaryMessage,
       }));
   @override
   _i2.DownloadListener Function(
@@ -1080,6 +1106,39 @@ class MockAndroidWebViewProxy extends _i1.Mock
         returnValue: _i9.Future<void>.value(),
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
+  @override
+  _i9.Future<void> prewarm({int? maxPoolSize = 1}) => (super.noSuchMethod(
+        Invocation.method(
+          #prewarm,
+          [],
+          {#maxPoolSize: maxPoolSize},
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
+  _i9.Future<_i2.WebViewPoolMetrics> getPoolMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getPoolMetrics,
+          [],
+        ),
+        returnValue:
+            _i9.Future<_i2.WebViewPoolMetrics>.value(_FakeWebViewPoolMetrics_19(
+          this,
+          Invocation.method(
+            #getPoolMetrics,
+            [],
+          ),
+        )),
+        returnValueForMissingStub:
+            _i9.Future<_i2.WebViewPoolMetrics>.value(_FakeWebViewPoolMetrics_19(
+          this,
+          Invocation.method(
+            #getPoolMetrics,
+            [],
+          ),
+        )),
+      ) as _i9.Future<_i2.WebViewPoolMetrics>);
 }
 
 /// A class which mocks [AndroidWebViewWidgetCreationParams].
@@ -1738,6 +1797,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setProgressUpdates({
+    required bool? enabled,
+    int? granularity = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressUpdates,
+          [],
+          {
+            #enabled: enabled,
+            #granularity: granularity,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -2073,6 +2149,36 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i9.Future<String?>.value(),
       ) as _i9.Future<String?>);
   @override
+  _i9.Future<_i2.JavaScriptResult> evaluateJavascriptToFile(
+    String? javascriptString, {
+    int? fileSizeThreshold = 1048576,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptToFile,
+          [javascriptString],
+          {#fileSizeThreshold: fileSizeThreshold},
+        ),
+        returnValue:
+            _i9.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_20(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+        returnValueForMissingStub:
+            _i9.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_20(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+      ) as _i9.Future<_i2.JavaScriptResult>);
+  @override
   _i9.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -2252,6 +2358,38 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i9.Future<void>.value(),
       ) as _i9.Future<void>);
   @override
+  _i9.Future<void> setRequestInterception({
+    bool? serveFlutterAssets = false,
+    List<String>? cachedUrlPatterns = const [],
+    int? memoryCacheSize = 0,
+    int? diskCacheSize = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setRequestInterception,
+          [],
+          {
+            #serveFlutterAssets: serveFlutterAssets,
+            #cachedUrlPatterns: cachedUrlPatterns,
+            #memoryCacheSize: memoryCacheSize,
+            #diskCacheSize: diskCacheSize,
+          },
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
+  _i9.Future<void> setEnabledCallbacks(
+          Set<_i2.WebViewClientCallback>? callbacks) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setEnabledCallbacks,
+          [callbacks],
+        ),
+        returnValue: _i9.Future<void>.value(),
+        returnValueForMissingStub: _i9.Future<void>.value(),
+      ) as _i9.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
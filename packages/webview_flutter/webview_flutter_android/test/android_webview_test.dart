@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -123,6 +125,32 @@ void main() {
         verify(mockPlatformHostApi.setWebContentsDebuggingEnabled(false));
       });
 
+      test('prewarm', () async {
+        await WebView.prewarm(maxPoolSize: 2);
+        verify(mockPlatformHostApi.prewarm(2));
+      });
+
+      test('getPoolMetrics', () async {
+        when(mockPlatformHostApi.getPoolMetrics()).thenReturn(
+          WebViewPoolMetricsData(
+            firstConstructionMicros: 250000,
+            lastConstructionMicros: 30000,
+            lastObtainMicros: 40,
+            poolHits: 1,
+            poolMisses: 0,
+            poolSize: 0,
+            maxPoolSize: 1,
+            trimCount: 0,
+          ),
+        );
+
+        final WebViewPoolMetrics metrics = await WebView.getPoolMetrics();
+        expect(metrics.firstConstruction, const Duration(milliseconds: 250));
+        expect(metrics.lastCreation, const Duration(microseconds: 40));
+        expect(metrics.poolHits, 1);
+        expect(metrics.maxPoolSize, 1);
+      });
+
       test('loadData', () {
         webView.loadData(
           data: 'hello',
@@ -230,6 +258,23 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptToFile', () async {
+        when(
+          mockPlatformHostApi.evaluateJavascriptToFile(
+              webViewInstanceId, 'runJavaScript', 1024),
+        ).thenAnswer(
+          (_) async => JavaScriptResultData(filePath: '/cache/result.json'),
+        );
+
+        final JavaScriptResult result = await webView.evaluateJavascriptToFile(
+          'runJavaScript',
+          fileSizeThreshold: 1024,
+        );
+
+        expect(result.value, isNull);
+        expect(result.filePath, '/cache/result.json');
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -564,6 +609,90 @@ void main() {
         expect(result, 'Hello, World!');
       });
 
+      test('postMessages', () {
+        final List<Object> result = <Object>[];
+        final JavaScriptChannel javaScriptChannel = JavaScriptChannel.detached(
+          'channel',
+          postMessage: result.add,
+          postBinaryMessage: result.add,
+        );
+        instanceManager.addHostCreatedInstance(javaScriptChannel, 2);
+
+        flutterApi.postMessages(2, <Object?>[
+          'Hello',
+          Uint8List.fromList(<int>[1, 2]),
+          'World',
+        ]);
+
+        expect(result, <Object>[
+          'Hello',
+          Uint8List.fromList(<int>[1, 2]),
+          'World',
+        ]);
+      });
+
+      test('postMessages without a binary handler', () {
+        final List<String> result = <String>[];
+        final JavaScriptChannel javaScriptChannel = JavaScriptChannel.detached(
+          'channel',
+          postMessage: result.add,
+        );
+        instanceManager.addHostCreatedInstance(javaScriptChannel, 2);
+
+        flutterApi.postMessages(2, <Object?>[
+          Uint8List.fromList(<int>[72, 105, 255]),
+        ]);
+
+        expect(result, <String>['Hi\u00ff']);
+      });
+
+      test('setBatching', () {
+        final MockTestJavaScriptChannelHostApi mockHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockHostApi);
+
+        JavaScriptChannel.api =
+            JavaScriptChannelHostApiImpl(instanceManager: instanceManager);
+
+        final JavaScriptChannel javaScriptChannel =
+            JavaScriptChannel.detached('channel', postMessage: (_) {});
+        instanceManager.addHostCreatedInstance(javaScriptChannel, 2);
+
+        javaScriptChannel.setBatching(
+          maxBatchSize: 50,
+          maxBatchDelay: const Duration(milliseconds: 100),
+          maxQueuedMessages: 1000,
+        );
+
+        verify(mockHostApi.setBatching(2, 50, 100, 1000));
+      });
+
+      test('getMessageCounts', () async {
+        final MockTestJavaScriptChannelHostApi mockHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockHostApi);
+        when(mockHostApi.getMessageCounts(2)).thenReturn(
+          JavaScriptChannelMessageCountsData(
+            queued: 3,
+            flushed: 2,
+            dropped: 1,
+          ),
+        );
+
+        JavaScriptChannel.api =
+            JavaScriptChannelHostApiImpl(instanceManager: instanceManager);
+
+        final JavaScriptChannel javaScriptChannel =
+            JavaScriptChannel.detached('channel', postMessage: (_) {});
+        instanceManager.addHostCreatedInstance(javaScriptChannel, 2);
+
+        final JavaScriptChannelMessageCounts counts =
+            await javaScriptChannel.getMessageCounts();
+        expect(counts.queued, 3);
+        expect(counts.flushed, 2);
+        expect(counts.dropped, 1);
+      });
+
       test('copy', () {
         expect(
           JavaScriptChannel.detached('channel', postMessage: (_) {}).copy(),
@@ -766,6 +895,55 @@ void main() {
         );
       });
 
+      test('setRequestInterception', () {
+        final MockTestWebViewClientHostApi mockHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockHostApi);
+
+        WebViewClient.api =
+            WebViewClientHostApiImpl(instanceManager: instanceManager);
+
+        final WebViewClient webViewClient = WebViewClient.detached();
+        instanceManager.addHostCreatedInstance(webViewClient, 2);
+
+        webViewClient.setRequestInterception(
+          serveFlutterAssets: true,
+          cachedUrlPatterns: <String>[r'\.js$'],
+          memoryCacheSize: 1024,
+          diskCacheSize: 4096,
+        );
+
+        verify(mockHostApi.setRequestInterception(
+          2,
+          true,
+          <String>[r'\.js$'],
+          1024,
+          4096,
+        ));
+      });
+
+      test('setEnabledCallbacks', () {
+        final MockTestWebViewClientHostApi mockHostApi =
+            MockTestWebViewClientHostApi();
+        TestWebViewClientHostApi.setup(mockHostApi);
+
+        WebViewClient.api =
+            WebViewClientHostApiImpl(instanceManager: instanceManager);
+
+        final WebViewClient webViewClient = WebViewClient.detached();
+        instanceManager.addHostCreatedInstance(webViewClient, 2);
+
+        webViewClient.setEnabledCallbacks(<WebViewClientCallback>{
+          WebViewClientCallback.onPageFinished,
+          WebViewClientCallback.urlLoading,
+        });
+
+        verify(mockHostApi.setEnabledCallbacks(
+          2,
+          <String>['onPageFinished', 'urlLoading'],
+        ));
+      });
+
       test('copy', () {
         expect(WebViewClient.detached().copy(), isA<WebViewClient>());
       });
@@ -958,6 +1136,22 @@ void main() {
         );
       });
 
+      test('setProgressUpdates', () {
+        final MockTestWebChromeClientHostApi mockHostApi =
+            MockTestWebChromeClientHostApi();
+        TestWebChromeClientHostApi.setup(mockHostApi);
+
+        WebChromeClient.api =
+            WebChromeClientHostApiImpl(instanceManager: instanceManager);
+
+        final WebChromeClient webChromeClient = WebChromeClient.detached();
+        instanceManager.addHostCreatedInstance(webChromeClient, 2);
+
+        webChromeClient.setProgressUpdates(enabled: true, granularity: 5);
+
+        verify(mockHostApi.setProgressUpdates(2, true, 5));
+      });
+
       test(
           'setSynchronousReturnValueForOnShowFileChooser throws StateError when onShowFileChooser is null',
           () {
@@ -107,6 +107,50 @@ class _FakeWebViewClient_7 extends _i1.SmartFake implements _i2.WebViewClient {
         );
 }
 
+class _FakeJavaScriptResultData_8 extends _i1.SmartFake
+    implements _i3.JavaScriptResultData {
+  _FakeJavaScriptResultData_8(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeJavaScriptResult_9 extends _i1.SmartFake
+    implements _i2.JavaScriptResult {
+  _FakeJavaScriptResult_9(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeJavaScriptChannelMessageCountsData_10 extends _i1.SmartFake
+    implements _i3.JavaScriptChannelMessageCountsData {
+  _FakeJavaScriptChannelMessageCountsData_10(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakeWebViewPoolMetricsData_11 extends _i1.SmartFake
+    implements _i3.WebViewPoolMetricsData {
+  _FakeWebViewPoolMetricsData_11(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CookieManagerHostApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -425,6 +469,40 @@ class MockTestJavaScriptChannelHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setBatching(
+    int? instanceId,
+    int? maxBatchSize,
+    int? maxBatchDelayMilliseconds,
+    int? maxQueuedMessages,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setBatching,
+          [
+            instanceId,
+            maxBatchSize,
+            maxBatchDelayMilliseconds,
+            maxQueuedMessages,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  _i3.JavaScriptChannelMessageCountsData getMessageCounts(int? instanceId) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getMessageCounts,
+          [instanceId],
+        ),
+        returnValue: _FakeJavaScriptChannelMessageCountsData_10(
+          this,
+          Invocation.method(
+            #getMessageCounts,
+            [instanceId],
+          ),
+        ),
+      ) as _i3.JavaScriptChannelMessageCountsData);
 }
 
 /// A class which mocks [TestWebChromeClientHostApi].
@@ -459,6 +537,23 @@ class MockTestWebChromeClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setProgressUpdates(
+    int? instanceId,
+    bool? enabled,
+    int? granularity,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setProgressUpdates,
+          [
+            instanceId,
+            enabled,
+            granularity,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebSettingsHostApi].
@@ -741,6 +836,42 @@ class MockTestWebViewClientHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void setRequestInterception(
+    int? instanceId,
+    bool? serveFlutterAssets,
+    List<String?>? cachedUrlPatterns,
+    int? memoryCacheSize,
+    int? diskCacheSize,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setRequestInterception,
+          [
+            instanceId,
+            serveFlutterAssets,
+            cachedUrlPatterns,
+            memoryCacheSize,
+            diskCacheSize,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  void setEnabledCallbacks(
+    int? instanceId,
+    List<String?>? callbackNames,
+  ) =>
+      super.noSuchMethod(
+        Invocation.method(
+          #setEnabledCallbacks,
+          [
+            instanceId,
+            callbackNames,
+          ],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestWebViewHostApi].
@@ -912,6 +1043,34 @@ class MockTestWebViewHostApi extends _i1.Mock
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<_i3.JavaScriptResultData> evaluateJavascriptToFile(
+    int? instanceId,
+    String? javascriptString,
+    int? fileSizeThreshold,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptToFile,
+          [
+            instanceId,
+            javascriptString,
+            fileSizeThreshold,
+          ],
+        ),
+        returnValue: _i5.Future<_i3.JavaScriptResultData>.value(
+            _FakeJavaScriptResultData_8(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [
+              instanceId,
+              javascriptString,
+              fileSizeThreshold,
+            ],
+          ),
+        )),
+      ) as _i5.Future<_i3.JavaScriptResultData>);
+  @override
   String? getTitle(int? instanceId) => (super.noSuchMethod(Invocation.method(
         #getTitle,
         [instanceId],
@@ -1078,6 +1237,28 @@ class MockTestWebViewHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+  @override
+  void prewarm(int? maxPoolSize) => super.noSuchMethod(
+        Invocation.method(
+          #prewarm,
+          [maxPoolSize],
+        ),
+        returnValueForMissingStub: null,
+      );
+  @override
+  _i3.WebViewPoolMetricsData getPoolMetrics() => (super.noSuchMethod(
+        Invocation.method(
+          #getPoolMetrics,
+          [],
+        ),
+        returnValue: _FakeWebViewPoolMetricsData_11(
+          this,
+          Invocation.method(
+            #getPoolMetrics,
+            [],
+          ),
+        ),
+      ) as _i3.WebViewPoolMetricsData);
 }
 
 /// A class which mocks [TestAssetManagerHostApi].
@@ -1160,6 +1341,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setProgressUpdates({
+    required bool? enabled,
+    int? granularity = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressUpdates,
+          [],
+          {
+            #enabled: enabled,
+            #granularity: granularity,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -1335,6 +1533,36 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<_i2.JavaScriptResult> evaluateJavascriptToFile(
+    String? javascriptString, {
+    int? fileSizeThreshold = 1048576,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptToFile,
+          [javascriptString],
+          {#fileSizeThreshold: fileSizeThreshold},
+        ),
+        returnValue:
+            _i5.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_9(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+        returnValueForMissingStub:
+            _i5.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_9(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+      ) as _i5.Future<_i2.JavaScriptResult>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -1501,6 +1729,38 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setRequestInterception({
+    bool? serveFlutterAssets = false,
+    List<String>? cachedUrlPatterns = const [],
+    int? memoryCacheSize = 0,
+    int? diskCacheSize = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setRequestInterception,
+          [],
+          {
+            #serveFlutterAssets: serveFlutterAssets,
+            #cachedUrlPatterns: cachedUrlPatterns,
+            #memoryCacheSize: memoryCacheSize,
+            #diskCacheSize: diskCacheSize,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<void> setEnabledCallbacks(
+          Set<_i2.WebViewClientCallback>? callbacks) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setEnabledCallbacks,
+          [callbacks],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -119,6 +119,17 @@ class _FakeWebViewClient_8 extends _i1.SmartFake implements _i2.WebViewClient {
         );
 }
 
+class _FakeJavaScriptResult_9 extends _i1.SmartFake
+    implements _i2.JavaScriptResult {
+  _FakeJavaScriptResult_9(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [FlutterAssetManager].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -486,6 +497,36 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValue: _i5.Future<String?>.value(),
       ) as _i5.Future<String?>);
   @override
+  _i5.Future<_i2.JavaScriptResult> evaluateJavascriptToFile(
+    String? javascriptString, {
+    int? fileSizeThreshold = 1048576,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #evaluateJavascriptToFile,
+          [javascriptString],
+          {#fileSizeThreshold: fileSizeThreshold},
+        ),
+        returnValue:
+            _i5.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_9(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+        returnValueForMissingStub:
+            _i5.Future<_i2.JavaScriptResult>.value(_FakeJavaScriptResult_9(
+          this,
+          Invocation.method(
+            #evaluateJavascriptToFile,
+            [javascriptString],
+            {#fileSizeThreshold: fileSizeThreshold},
+          ),
+        )),
+      ) as _i5.Future<_i2.JavaScriptResult>);
+  @override
   _i5.Future<String?> getTitle() => (super.noSuchMethod(
         Invocation.method(
           #getTitle,
@@ -778,6 +819,23 @@ class MockWebChromeClient extends _i1.Mock implements _i2.WebChromeClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setProgressUpdates({
+    required bool? enabled,
+    int? granularity = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setProgressUpdates,
+          [],
+          {
+            #enabled: enabled,
+            #granularity: granularity,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebChromeClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -813,6 +871,38 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
   @override
+  _i5.Future<void> setRequestInterception({
+    bool? serveFlutterAssets = false,
+    List<String>? cachedUrlPatterns = const [],
+    int? memoryCacheSize = 0,
+    int? diskCacheSize = 0,
+  }) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setRequestInterception,
+          [],
+          {
+            #serveFlutterAssets: serveFlutterAssets,
+            #cachedUrlPatterns: cachedUrlPatterns,
+            #memoryCacheSize: memoryCacheSize,
+            #diskCacheSize: diskCacheSize,
+          },
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
+  _i5.Future<void> setEnabledCallbacks(
+          Set<_i2.WebViewClientCallback>? callbacks) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setEnabledCallbacks,
+          [callbacks],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+  @override
   _i2.WebViewClient copy() => (super.noSuchMethod(
         Invocation.method(
           #copy,
@@ -220,9 +220,15 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
 
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is WebViewPoint) {
+    if (value is JavaScriptResultData) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
+    } else if (value is WebViewPoint) {
+      buffer.putUint8(129);
+      writeValue(buffer, value.encode());
+    } else if (value is WebViewPoolMetricsData) {
+      buffer.putUint8(130);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -232,7 +238,11 @@ class _TestWebViewHostApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
+        return JavaScriptResultData.decode(readValue(buffer)!);
+      case 129:
         return WebViewPoint.decode(readValue(buffer)!);
+      case 130:
+        return WebViewPoolMetricsData.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -272,6 +282,9 @@ abstract class TestWebViewHostApi {
 
   Future<String?> evaluateJavascript(int instanceId, String javascriptString);
 
+  Future<JavaScriptResultData> evaluateJavascriptToFile(
+      int instanceId, String javascriptString, int fileSizeThreshold);
+
   String? getTitle(int instanceId);
 
   void scrollTo(int instanceId, int x, int y);
@@ -298,6 +311,10 @@ abstract class TestWebViewHostApi {
 
   void setBackgroundColor(int instanceId, int color);
 
+  void prewarm(int maxPoolSize);
+
+  WebViewPoolMetricsData getPoolMetrics();
+
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -619,6 +636,36 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile was null, expected non-null int.');
+          final String? arg_javascriptString = (args[1] as String?);
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile was null, expected non-null String.');
+          final int? arg_fileSizeThreshold = (args[2] as int?);
+          assert(arg_fileSizeThreshold != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptToFile was null, expected non-null int.');
+          final JavaScriptResultData output =
+              await api.evaluateJavascriptToFile(arg_instanceId!,
+                  arg_javascriptString!, arg_fileSizeThreshold!);
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
           'dev.flutter.pigeon.WebViewHostApi.getTitle', codec,
@@ -934,6 +981,45 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.prewarm', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.prewarm was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxPoolSize = (args[0] as int?);
+          assert(arg_maxPoolSize != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.prewarm was null, expected non-null int.');
+          api.prewarm(arg_maxPoolSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.getPoolMetrics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          // ignore message
+          final WebViewPoolMetricsData output = api.getPoolMetrics();
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1329,13 +1415,43 @@ abstract class TestWebSettingsHostApi {
   }
 }
 
+class _TestJavaScriptChannelHostApiCodec extends StandardMessageCodec {
+  const _TestJavaScriptChannelHostApiCodec();
+
+  @override
+  void writeValue(WriteBuffer buffer, Object? value) {
+    if (value is JavaScriptChannelMessageCountsData) {
+      buffer.putUint8(128);
+      writeValue(buffer, value.encode());
+    } else {
+      super.writeValue(buffer, value);
+    }
+  }
+
+  @override
+  Object? readValueOfType(int type, ReadBuffer buffer) {
+    switch (type) {
+      case 128:
+        return JavaScriptChannelMessageCountsData.decode(readValue(buffer)!);
+      default:
+        return super.readValueOfType(type, buffer);
+    }
+  }
+}
+
 abstract class TestJavaScriptChannelHostApi {
   static TestDefaultBinaryMessengerBinding? get _testBinaryMessengerBinding =>
       TestDefaultBinaryMessengerBinding.instance;
-  static const MessageCodec<Object?> codec = StandardMessageCodec();
+  static const MessageCodec<Object?> codec =
+      _TestJavaScriptChannelHostApiCodec();
 
   void create(int instanceId, String channelName);
 
+  void setBatching(int instanceId, int maxBatchSize,
+      int maxBatchDelayMilliseconds, int maxQueuedMessages);
+
+  JavaScriptChannelMessageCountsData getMessageCounts(int instanceId);
+
   static void setup(TestJavaScriptChannelHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1363,6 +1479,61 @@ abstract class TestJavaScriptChannelHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final int? arg_maxBatchSize = (args[1] as int?);
+          assert(arg_maxBatchSize != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final int? arg_maxBatchDelayMilliseconds = (args[2] as int?);
+          assert(arg_maxBatchDelayMilliseconds != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          final int? arg_maxQueuedMessages = (args[3] as int?);
+          assert(arg_maxQueuedMessages != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.setBatching was null, expected non-null int.');
+          api.setBatching(arg_instanceId!, arg_maxBatchSize!,
+              arg_maxBatchDelayMilliseconds!, arg_maxQueuedMessages!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.getMessageCounts', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getMessageCounts was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.getMessageCounts was null, expected non-null int.');
+          final JavaScriptChannelMessageCountsData output =
+              api.getMessageCounts(arg_instanceId!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
@@ -1376,6 +1547,15 @@ abstract class TestWebViewClientHostApi {
   void setSynchronousReturnValueForShouldOverrideUrlLoading(
       int instanceId, bool value);
 
+  void setRequestInterception(
+      int instanceId,
+      bool serveFlutterAssets,
+      List<String?> cachedUrlPatterns,
+      int memoryCacheSize,
+      int diskCacheSize);
+
+  void setEnabledCallbacks(int instanceId, List<String?> callbackNames);
+
   static void setup(TestWebViewClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1427,6 +1607,72 @@ abstract class TestWebViewClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null, expected non-null int.');
+          final bool? arg_serveFlutterAssets = (args[1] as bool?);
+          assert(arg_serveFlutterAssets != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null, expected non-null bool.');
+          final List<String?>? arg_cachedUrlPatterns =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(arg_cachedUrlPatterns != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null, expected non-null List<String?>.');
+          final int? arg_memoryCacheSize = (args[3] as int?);
+          assert(arg_memoryCacheSize != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null, expected non-null int.');
+          final int? arg_diskCacheSize = (args[4] as int?);
+          assert(arg_diskCacheSize != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setRequestInterception was null, expected non-null int.');
+          api.setRequestInterception(
+              arg_instanceId!,
+              arg_serveFlutterAssets!,
+              arg_cachedUrlPatterns!,
+              arg_memoryCacheSize!,
+              arg_diskCacheSize!);
+          return <Object?>[];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks was null, expected non-null int.');
+          final List<String?>? arg_callbackNames =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_callbackNames != null,
+              'Argument for dev.flutter.pigeon.WebViewClientHostApi.setEnabledCallbacks was null, expected non-null List<String?>.');
+          api.setEnabledCallbacks(arg_instanceId!, arg_callbackNames!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
@@ -1474,6 +1720,8 @@ abstract class TestWebChromeClientHostApi {
   void setSynchronousReturnValueForOnShowFileChooser(
       int instanceId, bool value);
 
+  void setProgressUpdates(int instanceId, bool enabled, int granularity);
+
   static void setup(TestWebChromeClientHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1525,6 +1773,35 @@ abstract class TestWebChromeClientHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates was null, expected non-null bool.');
+          final int? arg_granularity = (args[2] as int?);
+          assert(arg_granularity != null,
+              'Argument for dev.flutter.pigeon.WebChromeClientHostApi.setProgressUpdates was null, expected non-null int.');
+          api.setProgressUpdates(
+              arg_instanceId!, arg_enabled!, arg_granularity!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 